@@ -13,8 +13,11 @@ import org.apache.spark.sql.Row;
 import org.apache.spark.sql.SQLContext;
 import org.apache.spark.sql.SparkSession;
 
+import tree.Dictionary;
 import tree.JoinTree;
+import tree.Namespaces;
 import tree.ProtobufJoinTree;
+import tree.Utils;
 
 /**
  * This class parses the JoinTree,
@@ -44,14 +47,6 @@ public class Executor {
 		this.inputFile = inputFile;
 		this.outputDB = outputFile;
 		this.databaseName = databaseName;
-		
-
-		// initialize the Spark environment 
-		spark = SparkSession
-				  .builder()
-				  .appName("SparkVP-Executor")
-				  .getOrCreate();
-		sqlContext = spark.sqlContext();
 	}
 	
 	/*
@@ -69,9 +64,39 @@ public class Executor {
 	 * execute performs the Spark computation and measure the time required
 	 */
 	public void execute() {
+		// the query has no results, as proven by the translator with the Bloom filters:
+		// no Spark job is launched
+		if (convertedTree.isEmptyResult()) {
+			logger.info("The query has no results, it is not executed");
+			try (PrintWriter out = new PrintWriter(new BufferedWriter(new FileWriter("RESULTS.txt", true)))) {
+				out.write(inputFile + " 0\n");
+			} catch (IOException e) {
+				logger.error("Cannot write results file");
+			}
+			return;
+		}
+		
+		// initialize the Spark environment 
+		spark = SparkSession
+				  .builder()
+				  .appName("SparkVP-Executor")
+				  .getOrCreate();
+		sqlContext = spark.sqlContext();
+		
 		// use the selected Database
 		sqlContext.sql("USE "+ this.databaseName);
 		logger.info("USE "+ this.databaseName);
+		Utils.loadTableNames(sqlContext);
+		
+		// if the loader created the dictionary, the tables contain ids
+		if (Dictionary.isAvailable(sqlContext)) {
+			convertedTree.setDictionary(new Dictionary(sqlContext));
+			logger.info("Using the dictionary encoded tables");
+		} else if (Namespaces.isAvailable(sqlContext)) {
+			// the IRIs of the tables are compacted with the namespaces
+			convertedTree.setNamespaces(new Namespaces(sqlContext));
+			logger.info("Using the tables with compacted namespaces");
+		}
 		
 		PrintWriter out;
 		try {
@@ -0,0 +1,104 @@
+package tree;
+
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * Bloom filter of the subjects or of the objects of a table, as built by the loader.
+ * A term can be in the set only if the bits (h1 + i * h2) mod m are set for every
+ * i lower than the number of hashes, where m is the number of bits and h1, h2 are
+ * the lower and upper 32 bits of the hash of the term: a negative answer is exact.
+ */
+public class BloomFilter implements Serializable {
+	private static final long serialVersionUID = 1L;
+
+	private int hashes;
+	private byte[] bits;
+
+	public BloomFilter(ProtobufStats.BloomFilter filter){
+		this.hashes = filter.getHashes();
+		this.bits = filter.getBits().toByteArray();
+	}
+
+	/**
+	 * hash returns the 64-bit hash of a term, the first bytes of its MD5 as in the loader
+	 */
+	public static long hash(String term){
+		try {
+			byte[] digest = MessageDigest.getInstance("MD5").digest(term.getBytes(StandardCharsets.UTF_8));
+			long value = 0;
+			for (int i = 7; i >= 0; i--)
+				value = (value << 8) | (digest[i] & 0xff);
+			return value;
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * mightContain returns false if the term is surely not in the set
+	 */
+	public boolean mightContain(String term){
+		long value = hash(term);
+		long h1 = value & 0xffffffffL;
+		long h2 = value >>> 32;
+		long m = bits.length * 8L;
+		for (int i = 0; i < hashes; i++) {
+			long position = (h1 + i * h2) % m;
+			if ((bits[(int) (position >>> 3)] & (1 << (position & 7))) == 0)
+				return false;
+		}
+		return true;
+	}
+
+	/**
+	 * mayIntersect returns false if the two sets have surely no term in common.
+	 * The sizes are powers of two: the bigger filter is folded to the size of the
+	 * smaller one, where a common term sets at least the bit h1 mod m in both.
+	 */
+	public boolean mayIntersect(BloomFilter other){
+		int length = Math.min(bits.length, other.bits.length);
+		if (bits.length % length != 0 || other.bits.length % length != 0)
+			return true;
+		byte[] folded = fold(length);
+		byte[] otherFolded = other.fold(length);
+		for (int i = 0; i < length; i++)
+			if ((folded[i] & otherFolded[i]) != 0)
+				return true;
+		return false;
+	}
+
+	// the filter with the bits of the positions modulo 8 * length
+	private byte[] fold(int length){
+		byte[] folded = new byte[length];
+		for (int i = 0; i < bits.length; i++)
+			folded[i % length] |= bits[i];
+		return folded;
+	}
+
+	/**
+	 * estimateCount returns the approximate number of terms in the set,
+	 * from the fraction of the bits that are set
+	 */
+	public long estimateCount(){
+		double m = bits.length * 8.0;
+		double ones = 0;
+		for (byte b : bits)
+			ones += Integer.bitCount(b & 0xff);
+		if (ones == m)
+			return Long.MAX_VALUE;
+		return Math.round(-m / hashes * Math.log(1 - ones / m));
+	}
+
+	/**
+	 * falsePositiveRate returns the probability that a term not in the set is accepted
+	 */
+	public double falsePositiveRate(){
+		double ones = 0;
+		for (byte b : bits)
+			ones += Integer.bitCount(b & 0xff);
+		return Math.pow(ones / (bits.length * 8.0), hashes);
+	}
+}
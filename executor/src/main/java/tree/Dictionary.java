@@ -0,0 +1,100 @@
+package tree;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+
+import org.apache.spark.sql.Column;
+import org.apache.spark.sql.Dataset;
+import org.apache.spark.sql.Row;
+import org.apache.spark.sql.SQLContext;
+import org.apache.spark.sql.functions;
+
+/**
+ * Dictionary gives access to the global dictionary created by the loader,
+ * when subjects and objects are stored as 64-bit ids.
+ * The constants of the query are encoded once at the beginning
+ * and only the projected columns of the final result are decoded.
+ */
+public class Dictionary {
+	public static final String TABLE_NAME = "dictionary";
+	// id used for the constants that do not appear in the graph
+	public static final long MISSING_ID = -1;
+	// the dictionary is broadcast to the decoding joins when its files are not larger than this
+	private static final long MAX_BROADCAST_BYTES = 64L * 1024 * 1024;
+
+	private SQLContext sqlContext;
+	private HashMap<String, Long> ids = new HashMap<String, Long>();
+
+	public Dictionary(SQLContext sqlContext){
+		this.sqlContext = sqlContext;
+	}
+
+	/**
+	 * isAvailable checks if the current database has been loaded with the dictionary
+	 */
+	public static boolean isAvailable(SQLContext sqlContext){
+		return Utils.tableExists(sqlContext, TABLE_NAME);
+	}
+
+	/**
+	 * lookup retrieves, with a single scan of the dictionary, the ids of the terms
+	 */
+	public void lookup(Collection<String> terms){
+		List<String> missingTerms = new ArrayList<String>();
+		for(String term : terms)
+			if(!ids.containsKey(term))
+				missingTerms.add(term);
+		if(missingTerms.isEmpty()) return;
+
+		// the terms are passed as literals, they can contain any character
+		List<Row> encoded = sqlContext.table(TABLE_NAME)
+				.where(functions.col("term").isin(missingTerms.toArray()))
+				.select("term", "id").collectAsList();
+		for(Row row : encoded)
+			ids.put(row.getString(0), row.getLong(1));
+	}
+
+	public long getId(String term){
+		if(!ids.containsKey(term))
+			lookup(Arrays.asList(term));
+		return ids.containsKey(term) ? ids.get(term) : MISSING_ID;
+	}
+
+	/**
+	 * decode replaces the ids in the given columns with the original terms
+	 */
+	public Dataset<Row> decode(Dataset<Row> data, List<String> columns){
+		Dataset<Row> dictionary = sqlContext.table(TABLE_NAME);
+		boolean broadcast = isSmall(dictionary);
+		Dataset<Row> decoded = data;
+		for(String column : columns){
+			Dataset<Row> terms = dictionary.select(dictionary.col("id").as(column + "_id"),
+					dictionary.col("term").as(column + "_term"));
+			if(broadcast)
+				terms = functions.broadcast(terms);
+			decoded = decoded.join(terms, decoded.col(column).equalTo(terms.col(column + "_id")))
+					.drop(column).drop(column + "_id")
+					.withColumnRenamed(column + "_term", column);
+		}
+
+		// restore the original order of the columns
+		Column[] orderedColumns = new Column[data.columns().length];
+		for (int i = 0; i < orderedColumns.length; i++)
+			orderedColumns[i] = decoded.col(data.columns()[i]);
+		return decoded.select(orderedColumns);
+	}
+
+	/**
+	 * isSmall checks, with the size that Spark estimates from the files without reading them,
+	 * if the table can be broadcast
+	 */
+	private static boolean isSmall(Dataset<Row> table){
+		BigInteger size = table.queryExecution().optimizedPlan().statistics().sizeInBytes().bigInteger();
+		return size.compareTo(BigInteger.valueOf(MAX_BROADCAST_BYTES)) <= 0;
+	}
+
+}
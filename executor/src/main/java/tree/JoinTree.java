@@ -1,5 +1,8 @@
 package tree;
 
+import java.util.HashSet;
+import java.util.Set;
+
 import org.apache.spark.sql.Column;
 import org.apache.spark.sql.Dataset;
 import org.apache.spark.sql.Row;
@@ -14,14 +17,44 @@ import org.apache.spark.sql.SQLContext;
 public class JoinTree {
 	
 	private Node node;
+	private Dictionary dictionary;
+	private Namespaces namespaces;
+	// the translator proved that the query has no results
+	private boolean emptyResult = false;
 	
 	public Node getNode() {
 		return node;
 	}
+	
+	public boolean isEmptyResult() {
+		return emptyResult;
+	}
 
 	
 	public JoinTree(ProtobufJoinTree.Node node){
 		this.node = new Node(node);
+		this.emptyResult = node.getEmptyResult();
+	}
+	
+	/**
+	 * setDictionary is used when the tables are dictionary encoded:
+	 * all the constants of the query (and the heavy join keys) are encoded at once
+	 */
+	public void setDictionary(Dictionary dictionary){
+		this.dictionary = dictionary;
+		Set<String> constants = new HashSet<String>();
+		node.collectConstants(constants);
+		dictionary.lookup(constants);
+		node.setDictionary(dictionary);
+	}
+	
+	/**
+	 * setNamespaces is used when the IRIs of the tables are compacted with the namespaces:
+	 * the constants of the query are compacted as well
+	 */
+	public void setNamespaces(Namespaces namespaces){
+		this.namespaces = namespaces;
+		node.setNamespaces(namespaces);
 	}
 	
 	public void computeSingularNodeData(SQLContext sqlContext){
@@ -37,7 +70,14 @@ public class JoinTree {
 			selectedColumns[i]= new Column(node.projection.get(i));
 		}
 		//results.select(selectedColumns).distinct().explain();
-		return results.select(selectedColumns).distinct();
+		Dataset<Row> selectedResults = results.select(selectedColumns).distinct();
+		
+		// only the final projected columns are decoded
+		if (dictionary != null)
+			return dictionary.decode(selectedResults, node.projection);
+		if (namespaces != null)
+			return namespaces.expand(selectedResults, node.projection);
+		return selectedResults;
 		
 	}
 	
@@ -0,0 +1,71 @@
+package tree;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.apache.spark.sql.Column;
+import org.apache.spark.sql.Dataset;
+import org.apache.spark.sql.Row;
+import org.apache.spark.sql.SQLContext;
+import org.apache.spark.sql.functions;
+
+/**
+ * Namespaces gives access to the namespaces table created by the loader, when the
+ * IRIs of subjects and objects are stored as ~id:local, where id is the id of their
+ * namespace (up to the last / or #). The namespaces are few and they are read once:
+ * the constants of the query are compacted in the same way and only the projected
+ * columns of the final result are expanded.
+ */
+public class Namespaces {
+	public static final String TABLE_NAME = "namespaces";
+	
+	private static final Pattern IRI_PATTERN = Pattern.compile("^<(.*[/#])([^/#]*)>$");
+	
+	private SQLContext sqlContext;
+	private HashMap<String, Integer> ids = new HashMap<String, Integer>();
+	
+	public Namespaces(SQLContext sqlContext){
+		this.sqlContext = sqlContext;
+		for (Row row : sqlContext.table(TABLE_NAME).collectAsList())
+			ids.put(row.getString(1), row.getInt(0));
+	}
+	
+	/**
+	 * isAvailable checks if the current database has been loaded with the namespace compression
+	 */
+	public static boolean isAvailable(SQLContext sqlContext){
+		return Utils.tableExists(sqlContext, TABLE_NAME);
+	}
+	
+	/**
+	 * compact returns the term as it is stored in the tables
+	 */
+	public String compact(String term){
+		Matcher matcher = IRI_PATTERN.matcher(term);
+		if (!matcher.matches() || !ids.containsKey(matcher.group(1)))
+			return term;
+		return "~" + ids.get(matcher.group(1)) + ":" + matcher.group(2);
+	}
+	
+	/**
+	 * expand replaces the compacted IRIs in the given columns with the original ones
+	 */
+	public Dataset<Row> expand(Dataset<Row> data, List<String> columns){
+		Dataset<Row> namespaces = sqlContext.table(TABLE_NAME);
+		Dataset<Row> expanded = data;
+		for (String column : columns) {
+			Dataset<Row> columnNamespaces = namespaces.select(namespaces.col("id").as(column + "_ns_id"),
+					namespaces.col("namespace").as(column + "_ns"));
+			Column id = functions.regexp_extract(expanded.col(column), "^~([0-9]+):", 1).cast("int");
+			expanded = expanded.join(functions.broadcast(columnNamespaces), id.equalTo(columnNamespaces.col(column + "_ns_id")),
+					"left_outer");
+			Column iri = functions.concat(functions.lit("<"), expanded.col(column + "_ns"),
+					functions.regexp_extract(expanded.col(column), "^~[0-9]+:(.*)$", 1), functions.lit(">"));
+			expanded = expanded.withColumn(column, functions.when(expanded.col(column + "_ns").isNull(), expanded.col(column))
+					.otherwise(iri)).drop(column + "_ns_id").drop(column + "_ns");
+		}
+		return expanded;
+	}
+}
@@ -1,12 +1,21 @@
 package tree;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
+import org.apache.spark.api.java.function.FilterFunction;
+import org.apache.spark.sql.Column;
 import org.apache.spark.sql.Dataset;
 import org.apache.spark.sql.Row;
 import org.apache.spark.sql.SQLContext;
+import org.apache.spark.sql.functions;
+import org.apache.spark.sql.types.ArrayType;
+import org.apache.spark.sql.types.StructType;
 
+import tree.ProtobufJoinTree.Filter;
 import tree.ProtobufStats.Table;
 import tree.Utils;
 
@@ -15,12 +24,40 @@ public class Node {
 	public List<Node> children;
 	public List<String> projection;
 	public List<Triple> tripleGroup;
+	// the triples of the group share the object instead of the subject
+	public boolean isObjectGroup = false;
 	// the spark dataset containing the data relative to this node
 	public Dataset<Row> sparkNodeData;
+	// for a single triple, the same data with the original columns (s, o) of its table
+	public Dataset<Row> tableData;
+	// the table read by the table data
+	private String tableName;
 	
 	// determine if is it worth to compute semi-joins for this node
 	public boolean isReducible = false;
 	
+	// if not null, subjects and objects are stored as ids of this dictionary
+	private Dictionary dictionary;
+	// if not null, the IRIs of subjects and objects are stored compacted with these namespaces
+	private Namespaces namespaces;
+	
+	// the variable used to join this node with its parent
+	private String parentJoinVariable;
+	private Node parent;
+	
+	// the Bloom filters used to pre-filter the joins must accept few terms not in their set
+	private static final double MAX_FALSE_POSITIVE_RATE = 0.1;
+	
+	private static final String INVERSE_PROPERTY_TABLE = "inverse_property_table";
+	private static final String PROPERTY_TABLE = "property_table";
+	private static final String OVERFLOW_TABLE = "property_table_overflow";
+	private static final String PARTITION_COLUMN = "cs_partition";
+	
+	// the property table with the columns of the group, when the properties are clustered in more tables
+	private String propertyTable = PROPERTY_TABLE;
+	// if not null, the triple group is a chain read from this materialized table (s, m, o)
+	private String pathTable;
+	
 	
 	/*
 	 * The constructor recursively build the subTree 
@@ -34,6 +71,11 @@ public class Node {
 			for(ProtobufJoinTree.Triple t: node.getTripleGroupList()){
 				tripleGroup.add(new Triple(t));
 			}
+			this.isObjectGroup = node.getObjectGroup();
+			if(node.hasPropertyTable())
+				this.propertyTable = node.getPropertyTable();
+			if(node.hasPathTable())
+				this.pathTable = node.getPathTable();
 		} else {
 			// set the triple
 			this.triple = new Triple(node.getTriple());
@@ -46,6 +88,10 @@ public class Node {
 			 JoinTree subtreeChild = new JoinTree(child);
 			 children.add(subtreeChild.getNode());
 		}
+		for(Node child : children){
+			child.parentJoinVariable = Utils.findCommonVariable(triple, tripleGroup, child.triple, child.tripleGroup);
+			child.parent = this;
+		}
 		
 		// decide if it is worth to use semi-joins reductions
 		if (node.getTriple().hasStats()) {
@@ -62,36 +108,275 @@ public class Node {
 	 * computeNodeData sets the Dataset<Row> to the data referring to this node
 	 */
 	public void computeNodeData(SQLContext sqlContext){
-		if(!tripleGroup.isEmpty()){
+		if(pathTable != null)
+			computePathNodeData(sqlContext);
+		else if(isObjectGroup)
+			computeInversePropertyTableNodeData(sqlContext);
+		else if(!tripleGroup.isEmpty())
 			computePropertyTableNodeData(sqlContext);
-			return;
-		}
-		StringBuilder query = new StringBuilder("SELECT ");
-		
-		// SELECT
-		if (triple.subjectType == ElementType.VARIABLE &&
-				triple.objectType == ElementType.VARIABLE)
-			query.append("s AS " + Utils.removeQuestionMark(triple.subject) + 
-					", o AS " + Utils.removeQuestionMark(triple.object) + " ");
-		else if (triple.subjectType == ElementType.VARIABLE)
-			query.append("s AS " + Utils.removeQuestionMark(triple.subject) );
-		else if (triple.objectType == ElementType.VARIABLE) 
-			query.append("o AS " + Utils.removeQuestionMark(triple.object));
+		else
+			computeTripleNodeData(sqlContext);
+		applyJoinFilters();
+	}
+	
+	// computeTripleNodeData reads the data of a single triple from its VP table
+	private void computeTripleNodeData(SQLContext sqlContext){
+		// the columns are renamed only after the table data is selected,
+		// otherwise Spark loses the bucketing of the table
+		StringBuilder query = new StringBuilder("SELECT s, o");
 	
 		// FROM
 		query.append(" FROM ");
-		query.append("vp_" + tree.Utils.toMetastoreName(triple.predicate));
+		tableName = "vp_" + tree.Utils.toMetastoreName(triple.predicate);
+		String objectOrderedTableName = "vpo_" + tree.Utils.toMetastoreName(triple.predicate);
+		if (triple.extVPTable != null && Utils.tableExists(sqlContext, triple.extVPTable))
+			tableName = triple.extVPTable;
+		else if (!triple.isPartitionedByObject && isObjectOrderPreferred()
+				&& Utils.tableExists(sqlContext, objectOrderedTableName))
+			tableName = objectOrderedTableName;
+		query.append(tableName);
+		
+		// the typed values of the filters are read from the typed columns of the table,
+		// otherwise they are computed from the lexical form of the objects
+		String objectTerm = null;
+		if (!triple.objectFilters.isEmpty() && !Utils.hasTypedColumns(sqlContext, tableName)) {
+			objectTerm = "o";
+			if (dictionary != null) {
+				query.append(" JOIN " + Dictionary.TABLE_NAME + " ON o = id");
+				objectTerm = "term";
+			}
+		}
 		
 		// WHERE
-		if( triple.objectType == ElementType.CONSTANT || triple.subjectType == ElementType.CONSTANT)
-			query.append(" WHERE ");
+		ArrayList<String> whereConditions = new ArrayList<String>();
+		// on a table partitioned by object, Spark reads only the partition of the constant
 		if (triple.objectType == ElementType.CONSTANT)
-			query.append(" o='" + triple.object +"' ");
-		
+			whereConditions.add("o=" + toConstant(triple.object));
 		if (triple.subjectType == ElementType.CONSTANT)
-			query.append(" o='" + triple.subject +"' ");
+			whereConditions.add("s=" + toConstant(triple.subject));
+		for (Filter filter : triple.objectFilters)
+			whereConditions.add(Utils.toFilterCondition(filter, objectTerm));
+		if (!whereConditions.isEmpty()) {
+			query.append(" WHERE ");
+			query.append(String.join(" AND ", whereConditions));
+		}
 		
-		this.sparkNodeData = sqlContext.sql(query.toString());
+		this.tableData = sqlContext.sql(query.toString());
+		this.sparkNodeData = selectVariables(tableData);
+	}
+	
+	/*
+	 * applyJoinFilters removes, before the joins are shuffled, the rows whose join keys
+	 * are surely not in the tables of the neighbour nodes, using their Bloom filters.
+	 * A filter is used only if it is selective: it accepts few false positives and its set
+	 * is smaller than the triples of this node. With the dictionary or the namespaces the
+	 * tables do not contain the original terms, so they are not filtered.
+	 */
+	private void applyJoinFilters(){
+		if (dictionary != null || namespaces != null) return;
+		List<Node> neighbours = new ArrayList<Node>(children);
+		if (parent != null) neighbours.add(parent);
+		for (Node neighbour : neighbours) {
+			String variable = neighbour == parent ? parentJoinVariable : neighbour.parentJoinVariable;
+			BloomFilter filter = neighbour.getBloomFilter(variable);
+			if (filter == null || filter.falsePositiveRate() > MAX_FALSE_POSITIVE_RATE
+					|| 2 * filter.estimateCount() > estimateSize())
+				continue;
+			String column = getTableColumn(variable);
+			if (column != null) {
+				tableData = filterTerms(tableData, column, filter);
+				sparkNodeData = selectVariables(tableData);
+			} else {
+				sparkNodeData = filterTerms(sparkNodeData, variable, filter);
+			}
+		}
+	}
+	
+	// the most selective Bloom filter of the terms of the variable in the tables of this node
+	private BloomFilter getBloomFilter(String variable){
+		BloomFilter best = null;
+		if (variable == null) return best;
+		List<Triple> triples = tripleGroup.isEmpty() ? Collections.singletonList(triple) : tripleGroup;
+		for (Triple t : triples) {
+			BloomFilter filter = null;
+			if (t.subjectType == ElementType.VARIABLE && Utils.removeQuestionMark(t.subject).equals(variable))
+				filter = t.subjectsFilter;
+			else if (t.objectType == ElementType.VARIABLE && Utils.removeQuestionMark(t.object).equals(variable))
+				filter = t.objectsFilter;
+			if (filter != null && (best == null || filter.estimateCount() < best.estimateCount()))
+				best = filter;
+		}
+		return best;
+	}
+	
+	// the triples of the smallest table of this node, an upper bound of its rows for a triple group
+	private long estimateSize(){
+		long size = Long.MAX_VALUE;
+		List<Triple> triples = tripleGroup.isEmpty() ? Collections.singletonList(triple) : tripleGroup;
+		for (Triple t : triples)
+			if (t.size >= 0)
+				size = Math.min(size, t.size);
+		return size;
+	}
+	
+	// keep the rows whose term in the column can be in the set of the filter
+	private static Dataset<Row> filterTerms(Dataset<Row> data, String column, BloomFilter filter){
+		return data.filter((FilterFunction<Row>) row -> row.isNullAt(row.fieldIndex(column))
+				|| filter.mightContain(row.<String> getAs(column)));
+	}
+	
+	/*
+	 * isObjectOrderPreferred decides if the copy of the table ordered by object
+	 * is the best access path: when only the object is a constant or when the object
+	 * is the variable joined with the parent (for the root, with all the children)
+	 */
+	private boolean isObjectOrderPreferred(){
+		if (triple.objectType == ElementType.CONSTANT)
+			return triple.subjectType == ElementType.VARIABLE;
+		if (triple.subjectType == ElementType.CONSTANT)
+			return false;
+		String objectVariable = Utils.removeQuestionMark(triple.object);
+		if (parentJoinVariable != null)
+			return objectVariable.equals(parentJoinVariable);
+		if (children.isEmpty())
+			return false;
+		for (Node child : children)
+			if (!objectVariable.equals(child.parentJoinVariable))
+				return false;
+		return true;
+	}
+	
+	// rename the columns of the table data with the variables of the triple
+	private Dataset<Row> selectVariables(Dataset<Row> data){
+		List<Column> columns = new ArrayList<Column>();
+		if (triple.subjectType == ElementType.VARIABLE)
+			columns.add(data.col("s").as(Utils.removeQuestionMark(triple.subject)));
+		if (triple.objectType == ElementType.VARIABLE)
+			columns.add(data.col("o").as(Utils.removeQuestionMark(triple.object)));
+		return data.select(columns.toArray(new Column[columns.size()]));
+	}
+	
+	// return the column of the table data containing the variable, if any
+	private String getTableColumn(String variable){
+		if (tableData == null || variable == null)
+			return null;
+		if (triple.subjectType == ElementType.VARIABLE && Utils.removeQuestionMark(triple.subject).equals(variable))
+			return "s";
+		if (triple.objectType == ElementType.VARIABLE && Utils.removeQuestionMark(triple.object).equals(variable))
+			return "o";
+		return null;
+	}
+	
+	/*
+	 * two single triples are joined on the original columns of their tables:
+	 * if both tables are bucketed on those columns, the join needs no exchange
+	 */
+	private Column getTableJoinCondition(Node other, String variable){
+		String column = getTableColumn(variable);
+		String otherColumn = other.getTableColumn(variable);
+		if (column == null || otherColumn == null || readsSameTable(other))
+			return null;
+		return tableData.col(column).equalTo(other.tableData.col(otherColumn));
+	}
+	
+	/*
+	 * the table data of two scans of the same table have the same columns for Spark,
+	 * so they cannot be told apart in a join condition and must be joined on the renamed columns
+	 */
+	private boolean readsSameTable(Node other){
+		return tableName != null && tableName.equalsIgnoreCase(other.tableName);
+	}
+	
+	// the terms of the variable that are heavy hitters in the triples of this node
+	private Set<String> getHeavyTerms(String variable){
+		Set<String> terms = new HashSet<String>();
+		if (variable == null) return terms;
+		List<Triple> triples = tripleGroup.isEmpty() ? Collections.singletonList(triple) : tripleGroup;
+		for (Triple t : triples) {
+			if (t.subjectType == ElementType.VARIABLE && Utils.removeQuestionMark(t.subject).equals(variable))
+				terms.addAll(t.heavySubjects);
+			if (t.objectType == ElementType.VARIABLE && Utils.removeQuestionMark(t.object).equals(variable))
+				terms.addAll(t.heavyObjects);
+		}
+		return terms;
+	}
+	
+	// the heavy keys of the join with the other node, as they are stored in the tables
+	private List<Object> getHeavyKeys(Node other, String variable){
+		Set<String> terms = getHeavyTerms(variable);
+		terms.addAll(other.getHeavyTerms(variable));
+		List<Object> keys = new ArrayList<Object>();
+		for (String term : terms) {
+			if (namespaces != null)
+				keys.add(namespaces.compact(term));
+			else if (dictionary == null)
+				keys.add(term);
+			else if (dictionary.getId(term) != Dictionary.MISSING_ID)
+				keys.add(dictionary.getId(term));
+		}
+		return keys;
+	}
+	
+	/*
+	 * skewAwareJoin joins the datasets on the variable, splitting the heavy keys:
+	 * the rows with a heavy key are joined with the broadcast rows of the other side
+	 * with the same key, so that they are not shuffled in a few straggler tasks
+	 */
+	private static Dataset<Row> skewAwareJoin(Dataset<Row> left, Dataset<Row> right, String variable,
+			List<Object> heavyKeys, boolean broadcastRight){
+		Column leftHeavy = left.col(variable).isin(heavyKeys.toArray());
+		Column rightHeavy = right.col(variable).isin(heavyKeys.toArray());
+		Dataset<Row> lightJoin = left.filter(functions.not(leftHeavy)).join(right.filter(functions.not(rightHeavy)), variable);
+		Dataset<Row> heavyJoin;
+		if (broadcastRight)
+			heavyJoin = left.filter(leftHeavy).join(functions.broadcast(right.filter(rightHeavy)), variable);
+		else
+			heavyJoin = functions.broadcast(left.filter(leftHeavy)).join(right.filter(rightHeavy), variable);
+		return lightJoin.union(heavyJoin);
+	}
+	
+	/*
+	 * skewAwareSemiJoin reduces the data with the other dataset, splitting the heavy keys:
+	 * the rows with a heavy key are reduced with the broadcast set of the heavy keys of the other side
+	 */
+	private static Dataset<Row> skewAwareSemiJoin(Dataset<Row> data, String column, Dataset<Row> other, String otherColumn,
+			List<Object> heavyKeys){
+		Column heavy = data.col(column).isin(heavyKeys.toArray());
+		Column otherHeavy = other.col(otherColumn).isin(heavyKeys.toArray());
+		Dataset<Row> lightSemiJoin = data.filter(functions.not(heavy)).join(other.filter(functions.not(otherHeavy)),
+				data.col(column).equalTo(other.col(otherColumn)), "left_semi");
+		Dataset<Row> otherKeys = other.filter(otherHeavy).select(other.col(otherColumn).as("heavy_key")).distinct();
+		Dataset<Row> heavySemiJoin = data.filter(heavy).join(functions.broadcast(otherKeys),
+				data.col(column).equalTo(otherKeys.col("heavy_key")), "left_semi");
+		return lightSemiJoin.union(heavySemiJoin);
+	}
+	
+	// reduce the data of this node with a semi-join on the variable in common with the other node
+	private void semiJoin(Node other, String variable){
+		List<Object> heavyKeys = getHeavyKeys(other, variable);
+		if (!heavyKeys.isEmpty()) {
+			String column = getTableColumn(variable);
+			String otherColumn = other.getTableColumn(variable);
+			if (column != null && otherColumn != null && !readsSameTable(other)) {
+				tableData = skewAwareSemiJoin(tableData, column, other.tableData, otherColumn, heavyKeys);
+				sparkNodeData = selectVariables(tableData);
+			} else {
+				sparkNodeData = skewAwareSemiJoin(sparkNodeData, variable, other.sparkNodeData, variable, heavyKeys);
+				tableData = null;
+			}
+			return;
+		}
+		Column tableJoinCondition = getTableJoinCondition(other, variable);
+		if (tableJoinCondition != null) {
+			tableData = tableData.join(other.tableData, tableJoinCondition, "left_semi");
+			sparkNodeData = selectVariables(tableData);
+		} else {
+			sparkNodeData = sparkNodeData.join(other.sparkNodeData,
+					sparkNodeData.col(variable).equalTo(other.sparkNodeData.col(variable)),
+					"left_semi");
+			// the table data is not reduced
+			tableData = null;
+		}
 	}
 	
 	public void computePropertyTableNodeData(SQLContext sqlContext){
@@ -107,9 +392,9 @@ public class Node {
 		for(Triple t : tripleGroup){
 			if (t.objectType == ElementType.CONSTANT){
 				if (t.isComplex)
-					whereConditions.add("array_contains(" + Utils.toMetastoreName(t.predicate) + ", '" + t.object + "')");
+					whereConditions.add("array_contains(" + Utils.toMetastoreName(t.predicate) + ", " + toConstant(t.object) + ")");
 				else
-					whereConditions.add(Utils.toMetastoreName(t.predicate) + "='" + t.object + "'");
+					whereConditions.add(Utils.toMetastoreName(t.predicate) + "=" + toConstant(t.object));
 			} else if (t.isComplex){
 				String columnName = Utils.toMetastoreName(t.predicate);
 				query.append(" P" + columnName +" AS " +
@@ -127,14 +412,171 @@ public class Node {
 		// delete last comma
 		query.deleteCharAt(query.length() - 1);
 		
-		// TODO: parameterize the name of the table
-		query.append(" FROM property_table ");
+		// read only the partitions that can contain all the properties of the group
+		if (Utils.tableExists(sqlContext, propertyTable + "_partitions"))
+			whereConditions.add(getPartitionsCondition(sqlContext));
+		
+		query.append(" FROM " + propertyTable + " ");
 		for(String explodedColumn : explodedColumns){
 			query.append("\n lateral view explode(" + explodedColumn +") exploded" + explodedColumn +
 					" AS P" + explodedColumn);
 		}
 		
 		
+		if(!whereConditions.isEmpty()){
+			query.append(" WHERE ");
+			query.append(String.join(" AND ", whereConditions));
+		}
+		
+		this.sparkNodeData = sqlContext.sql(query.toString());
+		if (Utils.tableExists(sqlContext, OVERFLOW_TABLE))
+			sparkNodeData = sparkNodeData.union(computeOverflowNodeData(sqlContext));
+	}
+	
+	/*
+	 * getPartitionsCondition selects the partitions of the property table, one for each
+	 * characteristic set, whose subjects have values for all the properties of the group
+	 */
+	private String getPartitionsCondition(SQLContext sqlContext){
+		List<String> partitions = new ArrayList<String>();
+		for (Row row : sqlContext.table(propertyTable + "_partitions").collectAsList()) {
+			List<String> properties = row.getList(1);
+			boolean containsGroup = true;
+			for (Triple t : tripleGroup)
+				containsGroup &= properties.contains(Utils.toMetastoreName(t.predicate));
+			if (containsGroup)
+				partitions.add(String.valueOf(row.getInt(0)));
+		}
+		if (partitions.isEmpty())
+			return "FALSE";
+		return PARTITION_COLUMN + " IN (" + String.join(",", partitions) + ")";
+	}
+	
+	/*
+	 * computeOverflowNodeData computes the results of the triple group for the hub subjects,
+	 * the ones with the values of a property of the group in the overflow table.
+	 * Those values are not in the property table, where their column is NULL,
+	 * so these results are disjoint from the ones read from the property table.
+	 */
+	private Dataset<Row> computeOverflowNodeData(SQLContext sqlContext){
+		Dataset<Row> overflowTable = sqlContext.table(OVERFLOW_TABLE);
+		List<String> groupProperties = new ArrayList<String>();
+		for(Triple t : tripleGroup)
+			groupProperties.add(Utils.toMetastoreName(t.predicate));
+		Dataset<Row> hubSubjects = overflowTable
+				.where(overflowTable.col("p").isin(groupProperties.toArray()))
+				.select("s").distinct();
+		Dataset<Row> hubRows = sqlContext.table(propertyTable).join(hubSubjects, "s");
+		
+		// the values of every triple are the ones in the property table plus the ones in the overflow table
+		Dataset<Row> result = hubSubjects;
+		List<Column> selectedColumns = new ArrayList<Column>();
+		selectedColumns.add(functions.col("s").as(Utils.removeQuestionMark(tripleGroup.get(0).subject)));
+		for(int i = 0; i < tripleGroup.size(); i++){
+			Triple t = tripleGroup.get(i);
+			String columnName = Utils.toMetastoreName(t.predicate);
+			Column tableValues = t.isComplex ? functions.explode(hubRows.col(columnName)) : hubRows.col(columnName);
+			Dataset<Row> values = hubRows.select(hubRows.col("s"), tableValues.as("o")).where("o IS NOT NULL")
+					.union(overflowTable.where(overflowTable.col("p").equalTo(columnName)).select("s", "o"));
+			if (t.objectType == ElementType.CONSTANT) {
+				values = values.where("o=" + toConstant(t.object)).select("s");
+			} else {
+				String valueColumn = "o" + i;
+				values = values.withColumnRenamed("o", valueColumn);
+				selectedColumns.add(functions.col(valueColumn).as(Utils.removeQuestionMark(t.object)));
+			}
+			result = result.join(values, "s");
+		}
+		return result.select(selectedColumns.toArray(new Column[selectedColumns.size()]));
+	}
+	
+	/**
+	 * computePathNodeData reads the chain of the two triples of the group, where the object
+	 * of the first is the subject of the second, from the table materializing their join:
+	 * the columns s, m and o are the subject, the shared term and the object of the chain
+	 */
+	public void computePathNodeData(SQLContext sqlContext){
+		Triple first = tripleGroup.get(0);
+		Triple second = tripleGroup.get(1);
+		String[] columns = {"s", "m", "o"};
+		String[] terms = {first.subject, first.object, second.object};
+		ElementType[] types = {first.subjectType, first.objectType, second.objectType};
+		
+		ArrayList<String> selectedColumns = new ArrayList<String>();
+		ArrayList<String> whereConditions = new ArrayList<String>();
+		HashMap<String, String> variableColumns = new HashMap<String, String>();
+		for (int i = 0; i < columns.length; i++) {
+			if (types[i] == ElementType.CONSTANT) {
+				whereConditions.add(columns[i] + "=" + toConstant(terms[i]));
+				continue;
+			}
+			// a variable repeated in the chain
+			String variable = Utils.removeQuestionMark(terms[i]);
+			if (variableColumns.containsKey(variable)) {
+				whereConditions.add(columns[i] + "=" + variableColumns.get(variable));
+			} else {
+				variableColumns.put(variable, columns[i]);
+				selectedColumns.add(columns[i] + " AS " + variable);
+			}
+		}
+		
+		StringBuilder query = new StringBuilder("SELECT " + String.join(", ", selectedColumns));
+		query.append(" FROM " + pathTable);
+		if (!whereConditions.isEmpty()) {
+			query.append(" WHERE ");
+			query.append(String.join(" AND ", whereConditions));
+		}
+		this.sparkNodeData = sqlContext.sql(query.toString());
+	}
+	
+	/**
+	 * computeInversePropertyTableNodeData reads with a single scan of the inverse
+	 * property table, where every row contains the subjects of an object, all the
+	 * triples of the group sharing the same object
+	 */
+	public void computeInversePropertyTableNodeData(SQLContext sqlContext){
+		
+		StringBuilder query = new StringBuilder("SELECT ");
+		ArrayList<String> whereConditions = new ArrayList<String>();
+		ArrayList<String> explodedColumns = new ArrayList<String>();
+		
+		// a property is complex if an object has more than one subject
+		StructType schema = sqlContext.table(INVERSE_PROPERTY_TABLE).schema();
+		
+		// object
+		Triple first = tripleGroup.get(0);
+		if (first.objectType == ElementType.CONSTANT)
+			whereConditions.add("o=" + toConstant(first.object));
+		else
+			query.append("o AS " + Utils.removeQuestionMark(first.object) + ",");
+		
+		// subjects
+		for(Triple t : tripleGroup){
+			String columnName = Utils.toMetastoreName(t.predicate);
+			boolean isComplex = schema.apply(columnName).dataType() instanceof ArrayType;
+			if (t.subjectType == ElementType.CONSTANT){
+				if (isComplex)
+					whereConditions.add("array_contains(" + columnName + ", " + toConstant(t.subject) + ")");
+				else
+					whereConditions.add(columnName + "=" + toConstant(t.subject));
+			} else if (isComplex){
+				query.append(" P" + columnName + " AS " + Utils.removeQuestionMark(t.subject) + ",");
+				explodedColumns.add(columnName);
+			} else {
+				query.append(" " + columnName + " AS " + Utils.removeQuestionMark(t.subject) + ",");
+				whereConditions.add(columnName + " IS NOT NULL");
+			}
+		}
+		
+		// delete last comma
+		query.deleteCharAt(query.length() - 1);
+		
+		query.append(" FROM " + INVERSE_PROPERTY_TABLE + " ");
+		for(String explodedColumn : explodedColumns){
+			query.append("\n lateral view explode(" + explodedColumn +") exploded" + explodedColumn +
+					" AS P" + explodedColumn);
+		}
+		
 		if(!whereConditions.isEmpty()){
 			query.append(" WHERE ");
 			query.append(String.join(" AND ", whereConditions));
@@ -143,6 +585,47 @@ public class Node {
 		this.sparkNodeData = sqlContext.sql(query.toString());
 	}
 	
+	/**
+	 * toConstant returns the SQL literal of a constant of the query,
+	 * the string itself, compacted with the namespaces, or its dictionary id
+	 */
+	private String toConstant(String term){
+		if (dictionary != null)
+			return String.valueOf(dictionary.getId(term));
+		if (namespaces != null)
+			return "'" + namespaces.compact(term) + "'";
+		return "'" + term + "'";
+	}
+	
+	// add to the set all the constants of the subtree, with the heavy join keys
+	public void collectConstants(Set<String> constants){
+		List<Triple> triples = tripleGroup.isEmpty() ? Collections.singletonList(triple) : tripleGroup;
+		for (Triple t : triples) {
+			if (t.subjectType == ElementType.CONSTANT)
+				constants.add(t.subject);
+			if (t.objectType == ElementType.CONSTANT)
+				constants.add(t.object);
+			constants.addAll(t.heavySubjects);
+			constants.addAll(t.heavyObjects);
+		}
+		for (Node child : children)
+			child.collectConstants(constants);
+	}
+	
+	// set the dictionary on the whole subtree
+	public void setDictionary(Dictionary dictionary){
+		this.dictionary = dictionary;
+		for (Node child : children)
+			child.setDictionary(dictionary);
+	}
+	
+	// set the namespaces on the whole subtree
+	public void setNamespaces(Namespaces namespaces){
+		this.namespaces = namespaces;
+		for (Node child : children)
+			child.setNamespaces(namespaces);
+	}
+	
 	// call computeNodeData recursively on the whole subtree
 	public void computeSubTreeData(SQLContext sqlContext){
 		this.computeNodeData(sqlContext);
@@ -155,16 +638,68 @@ public class Node {
 		if (sparkNodeData == null)
 			this.computeNodeData(sqlContext);
 		Dataset<Row> currentResult = this.sparkNodeData;
+		
+		// the leaves which are single triples are joined directly on the table data
+		List<Node> tableJoinedChildren = new ArrayList<Node>();
+		if (tableData != null) {
+			Dataset<Row> joinedTableData = tableData;
+			List<Column> selectedColumns = new ArrayList<Column>();
+			List<String> selectedVariables = new ArrayList<String>();
+			addVariableColumns(this, selectedColumns, selectedVariables);
+			// a table is scanned at most once in the join of the table data
+			Set<String> joinedTables = new HashSet<String>();
+			joinedTables.add(tableName.toLowerCase());
+			for (Node child : children) {
+				// the skewed joins are computed separately
+				if (!child.children.isEmpty() || !getHeavyKeys(child, child.parentJoinVariable).isEmpty()) continue;
+				if (child.sparkNodeData == null)
+					child.computeNodeData(sqlContext);
+				String joinVariable = Utils.findCommonVariable(triple, tripleGroup, child.triple, child.tripleGroup);
+				Column tableJoinCondition = getTableJoinCondition(child, joinVariable);
+				if (tableJoinCondition == null || !joinedTables.add(child.tableName.toLowerCase())) continue;
+				joinedTableData = joinedTableData.join(child.tableData, tableJoinCondition);
+				addVariableColumns(child, selectedColumns, selectedVariables);
+				tableJoinedChildren.add(child);
+			}
+			if (!tableJoinedChildren.isEmpty())
+				currentResult = joinedTableData.select(selectedColumns.toArray(new Column[selectedColumns.size()]));
+		}
+		
 		for (Node child: children){
+			if (tableJoinedChildren.contains(child)) continue;
 			Dataset<Row> childResult = child.computeJoinWithChildren(sqlContext);
 			String joinVariable = Utils.findCommonVariable(triple, tripleGroup, child.triple, child.tripleGroup);
-			if (joinVariable != null)
+			if (joinVariable == null) continue;
+			List<Object> heavyKeys = getHeavyKeys(child, joinVariable);
+			if (heavyKeys.isEmpty())
 				currentResult = currentResult.join(childResult, joinVariable);
+			else
+				// the rows of the child with the heavy keys are broadcast, unless the keys are heavy only in the child
+				currentResult = skewAwareJoin(currentResult, childResult, joinVariable, heavyKeys,
+						!getHeavyTerms(joinVariable).isEmpty());
 			
 		}
 		return currentResult;
 	}
 	
+	// add the columns of the node table data, renamed with the variables not yet selected
+	private static void addVariableColumns(Node node, List<Column> columns, List<String> variables){
+		if (node.triple.subjectType == ElementType.VARIABLE) {
+			String variable = Utils.removeQuestionMark(node.triple.subject);
+			if (!variables.contains(variable)) {
+				columns.add(node.tableData.col("s").as(variable));
+				variables.add(variable);
+			}
+		}
+		if (node.triple.objectType == ElementType.VARIABLE) {
+			String variable = Utils.removeQuestionMark(node.triple.object);
+			if (!variables.contains(variable)) {
+				columns.add(node.tableData.col("o").as(variable));
+				variables.add(variable);
+			}
+		}
+	}
+	
 	// reduce every father data by computing semi-joins with children
 	public void computeUpwardSemiJoin(SQLContext sqlContext){
 		for(Node child: children){
@@ -174,11 +709,7 @@ public class Node {
 		if (isReducible) {
 			for (Node child : children) {
 				String commonVariable = Utils.findCommonVariable(triple, tripleGroup, child.triple, child.tripleGroup);
-				this.sparkNodeData = this.sparkNodeData.join(
-						child.sparkNodeData,
-						this.sparkNodeData.col(commonVariable).equalTo(
-								child.sparkNodeData.col(commonVariable)),
-						"left_semi");
+				this.semiJoin(child, commonVariable);
 			}
 		}
 	}
@@ -189,11 +720,7 @@ public class Node {
 		if (isReducible) {
 			for (Node child : children) {
 				String commonVariable = Utils.findCommonVariable(triple, tripleGroup, child.triple, child.tripleGroup);
-				child.sparkNodeData = child.sparkNodeData.join(
-						this.sparkNodeData,
-						this.sparkNodeData.col(commonVariable).equalTo(
-								child.sparkNodeData.col(commonVariable)),
-						"left_semi");
+				child.semiJoin(this, commonVariable);
 			}
 		}
 		for(Node child: children){
@@ -25,9 +25,9 @@ public final class ProtobufStats {
     com.google.protobuf.ByteString
         getNameBytes();
 
-    // optional int32 size = 2;
+    // optional int64 size = 2;
     /**
-     * <code>optional int32 size = 2;</code>
+     * <code>optional int64 size = 2;</code>
      *
      * <pre>
      * number of elements
@@ -35,13 +35,13 @@ public final class ProtobufStats {
      */
     boolean hasSize();
     /**
-     * <code>optional int32 size = 2;</code>
+     * <code>optional int64 size = 2;</code>
      *
      * <pre>
      * number of elements
      * </pre>
      */
-    int getSize();
+    long getSize();
 
     // optional bool isComplex = 3;
     /**
@@ -61,9 +61,9 @@ public final class ProtobufStats {
      */
     boolean getIsComplex();
 
-    // optional int32 distinctSubjects = 4;
+    // optional int64 distinctSubjects = 4;
     /**
-     * <code>optional int32 distinctSubjects = 4;</code>
+     * <code>optional int64 distinctSubjects = 4;</code>
      *
      * <pre>
      * distinct subjects in that table
@@ -71,37 +71,14395 @@ public final class ProtobufStats {
      */
     boolean hasDistinctSubjects();
     /**
-     * <code>optional int32 distinctSubjects = 4;</code>
+     * <code>optional int64 distinctSubjects = 4;</code>
      *
      * <pre>
      * distinct subjects in that table
      * </pre>
      */
-    int getDistinctSubjects();
+    long getDistinctSubjects();
+
+    // repeated .ExtVPTable extVPTables = 5;
+    /**
+     * <code>repeated .ExtVPTable extVPTables = 5;</code>
+     *
+     * <pre>
+     * selective semi-join reductions of this table
+     * </pre>
+     */
+    java.util.List<ProtobufStats.ExtVPTable> 
+        getExtVPTablesList();
+    /**
+     * <code>repeated .ExtVPTable extVPTables = 5;</code>
+     *
+     * <pre>
+     * selective semi-join reductions of this table
+     * </pre>
+     */
+    ProtobufStats.ExtVPTable getExtVPTables(int index);
+    /**
+     * <code>repeated .ExtVPTable extVPTables = 5;</code>
+     *
+     * <pre>
+     * selective semi-join reductions of this table
+     * </pre>
+     */
+    int getExtVPTablesCount();
+    /**
+     * <code>repeated .ExtVPTable extVPTables = 5;</code>
+     *
+     * <pre>
+     * selective semi-join reductions of this table
+     * </pre>
+     */
+    java.util.List<? extends ProtobufStats.ExtVPTableOrBuilder> 
+        getExtVPTablesOrBuilderList();
+    /**
+     * <code>repeated .ExtVPTable extVPTables = 5;</code>
+     *
+     * <pre>
+     * selective semi-join reductions of this table
+     * </pre>
+     */
+    ProtobufStats.ExtVPTableOrBuilder getExtVPTablesOrBuilder(
+        int index);
+
+    // optional int64 distinctObjects = 6;
+    /**
+     * <code>optional int64 distinctObjects = 6;</code>
+     *
+     * <pre>
+     * distinct objects in that table
+     * </pre>
+     */
+    boolean hasDistinctObjects();
+    /**
+     * <code>optional int64 distinctObjects = 6;</code>
+     *
+     * <pre>
+     * distinct objects in that table
+     * </pre>
+     */
+    long getDistinctObjects();
+
+    // optional float avgObjectsPerSubject = 7;
+    /**
+     * <code>optional float avgObjectsPerSubject = 7;</code>
+     */
+    boolean hasAvgObjectsPerSubject();
+    /**
+     * <code>optional float avgObjectsPerSubject = 7;</code>
+     */
+    float getAvgObjectsPerSubject();
+
+    // optional int64 maxObjectsPerSubject = 8;
+    /**
+     * <code>optional int64 maxObjectsPerSubject = 8;</code>
+     */
+    boolean hasMaxObjectsPerSubject();
+    /**
+     * <code>optional int64 maxObjectsPerSubject = 8;</code>
+     */
+    long getMaxObjectsPerSubject();
+
+    // optional float avgSubjectsPerObject = 9;
+    /**
+     * <code>optional float avgSubjectsPerObject = 9;</code>
+     */
+    boolean hasAvgSubjectsPerObject();
+    /**
+     * <code>optional float avgSubjectsPerObject = 9;</code>
+     */
+    float getAvgSubjectsPerObject();
+
+    // optional int64 maxSubjectsPerObject = 10;
+    /**
+     * <code>optional int64 maxSubjectsPerObject = 10;</code>
+     */
+    boolean hasMaxSubjectsPerObject();
+    /**
+     * <code>optional int64 maxSubjectsPerObject = 10;</code>
+     */
+    long getMaxSubjectsPerObject();
+
+    // repeated .TermFrequency topSubjects = 11;
+    /**
+     * <code>repeated .TermFrequency topSubjects = 11;</code>
+     *
+     * <pre>
+     * most frequent subjects, in decreasing order
+     * </pre>
+     */
+    java.util.List<ProtobufStats.TermFrequency> 
+        getTopSubjectsList();
+    /**
+     * <code>repeated .TermFrequency topSubjects = 11;</code>
+     *
+     * <pre>
+     * most frequent subjects, in decreasing order
+     * </pre>
+     */
+    ProtobufStats.TermFrequency getTopSubjects(int index);
+    /**
+     * <code>repeated .TermFrequency topSubjects = 11;</code>
+     *
+     * <pre>
+     * most frequent subjects, in decreasing order
+     * </pre>
+     */
+    int getTopSubjectsCount();
+    /**
+     * <code>repeated .TermFrequency topSubjects = 11;</code>
+     *
+     * <pre>
+     * most frequent subjects, in decreasing order
+     * </pre>
+     */
+    java.util.List<? extends ProtobufStats.TermFrequencyOrBuilder> 
+        getTopSubjectsOrBuilderList();
+    /**
+     * <code>repeated .TermFrequency topSubjects = 11;</code>
+     *
+     * <pre>
+     * most frequent subjects, in decreasing order
+     * </pre>
+     */
+    ProtobufStats.TermFrequencyOrBuilder getTopSubjectsOrBuilder(
+        int index);
+
+    // repeated .TermFrequency topObjects = 12;
+    /**
+     * <code>repeated .TermFrequency topObjects = 12;</code>
+     *
+     * <pre>
+     * most frequent objects, in decreasing order
+     * </pre>
+     */
+    java.util.List<ProtobufStats.TermFrequency> 
+        getTopObjectsList();
+    /**
+     * <code>repeated .TermFrequency topObjects = 12;</code>
+     *
+     * <pre>
+     * most frequent objects, in decreasing order
+     * </pre>
+     */
+    ProtobufStats.TermFrequency getTopObjects(int index);
+    /**
+     * <code>repeated .TermFrequency topObjects = 12;</code>
+     *
+     * <pre>
+     * most frequent objects, in decreasing order
+     * </pre>
+     */
+    int getTopObjectsCount();
+    /**
+     * <code>repeated .TermFrequency topObjects = 12;</code>
+     *
+     * <pre>
+     * most frequent objects, in decreasing order
+     * </pre>
+     */
+    java.util.List<? extends ProtobufStats.TermFrequencyOrBuilder> 
+        getTopObjectsOrBuilderList();
+    /**
+     * <code>repeated .TermFrequency topObjects = 12;</code>
+     *
+     * <pre>
+     * most frequent objects, in decreasing order
+     * </pre>
+     */
+    ProtobufStats.TermFrequencyOrBuilder getTopObjectsOrBuilder(
+        int index);
+
+    // optional .Sketch subjectsSketch = 13;
+    /**
+     * <code>optional .Sketch subjectsSketch = 13;</code>
+     *
+     * <pre>
+     * approximate set of the subjects
+     * </pre>
+     */
+    boolean hasSubjectsSketch();
+    /**
+     * <code>optional .Sketch subjectsSketch = 13;</code>
+     *
+     * <pre>
+     * approximate set of the subjects
+     * </pre>
+     */
+    ProtobufStats.Sketch getSubjectsSketch();
+    /**
+     * <code>optional .Sketch subjectsSketch = 13;</code>
+     *
+     * <pre>
+     * approximate set of the subjects
+     * </pre>
+     */
+    ProtobufStats.SketchOrBuilder getSubjectsSketchOrBuilder();
+
+    // optional .Sketch objectsSketch = 14;
+    /**
+     * <code>optional .Sketch objectsSketch = 14;</code>
+     *
+     * <pre>
+     * approximate set of the objects
+     * </pre>
+     */
+    boolean hasObjectsSketch();
+    /**
+     * <code>optional .Sketch objectsSketch = 14;</code>
+     *
+     * <pre>
+     * approximate set of the objects
+     * </pre>
+     */
+    ProtobufStats.Sketch getObjectsSketch();
+    /**
+     * <code>optional .Sketch objectsSketch = 14;</code>
+     *
+     * <pre>
+     * approximate set of the objects
+     * </pre>
+     */
+    ProtobufStats.SketchOrBuilder getObjectsSketchOrBuilder();
+
+    // repeated .JoinStat joinStats = 15;
+    /**
+     * <code>repeated .JoinStat joinStats = 15;</code>
+     *
+     * <pre>
+     * cardinality of the joins with other tables
+     * </pre>
+     */
+    java.util.List<ProtobufStats.JoinStat> 
+        getJoinStatsList();
+    /**
+     * <code>repeated .JoinStat joinStats = 15;</code>
+     *
+     * <pre>
+     * cardinality of the joins with other tables
+     * </pre>
+     */
+    ProtobufStats.JoinStat getJoinStats(int index);
+    /**
+     * <code>repeated .JoinStat joinStats = 15;</code>
+     *
+     * <pre>
+     * cardinality of the joins with other tables
+     * </pre>
+     */
+    int getJoinStatsCount();
+    /**
+     * <code>repeated .JoinStat joinStats = 15;</code>
+     *
+     * <pre>
+     * cardinality of the joins with other tables
+     * </pre>
+     */
+    java.util.List<? extends ProtobufStats.JoinStatOrBuilder> 
+        getJoinStatsOrBuilderList();
+    /**
+     * <code>repeated .JoinStat joinStats = 15;</code>
+     *
+     * <pre>
+     * cardinality of the joins with other tables
+     * </pre>
+     */
+    ProtobufStats.JoinStatOrBuilder getJoinStatsOrBuilder(
+        int index);
+
+    // repeated .TermFrequency heavySubjects = 16;
+    /**
+     * <code>repeated .TermFrequency heavySubjects = 16;</code>
+     *
+     * <pre>
+     * subjects above the heavy hitters frequency (skewed join keys)
+     * </pre>
+     */
+    java.util.List<ProtobufStats.TermFrequency> 
+        getHeavySubjectsList();
+    /**
+     * <code>repeated .TermFrequency heavySubjects = 16;</code>
+     *
+     * <pre>
+     * subjects above the heavy hitters frequency (skewed join keys)
+     * </pre>
+     */
+    ProtobufStats.TermFrequency getHeavySubjects(int index);
+    /**
+     * <code>repeated .TermFrequency heavySubjects = 16;</code>
+     *
+     * <pre>
+     * subjects above the heavy hitters frequency (skewed join keys)
+     * </pre>
+     */
+    int getHeavySubjectsCount();
+    /**
+     * <code>repeated .TermFrequency heavySubjects = 16;</code>
+     *
+     * <pre>
+     * subjects above the heavy hitters frequency (skewed join keys)
+     * </pre>
+     */
+    java.util.List<? extends ProtobufStats.TermFrequencyOrBuilder> 
+        getHeavySubjectsOrBuilderList();
+    /**
+     * <code>repeated .TermFrequency heavySubjects = 16;</code>
+     *
+     * <pre>
+     * subjects above the heavy hitters frequency (skewed join keys)
+     * </pre>
+     */
+    ProtobufStats.TermFrequencyOrBuilder getHeavySubjectsOrBuilder(
+        int index);
+
+    // repeated .TermFrequency heavyObjects = 17;
+    /**
+     * <code>repeated .TermFrequency heavyObjects = 17;</code>
+     *
+     * <pre>
+     * objects above the heavy hitters frequency (skewed join keys)
+     * </pre>
+     */
+    java.util.List<ProtobufStats.TermFrequency> 
+        getHeavyObjectsList();
+    /**
+     * <code>repeated .TermFrequency heavyObjects = 17;</code>
+     *
+     * <pre>
+     * objects above the heavy hitters frequency (skewed join keys)
+     * </pre>
+     */
+    ProtobufStats.TermFrequency getHeavyObjects(int index);
+    /**
+     * <code>repeated .TermFrequency heavyObjects = 17;</code>
+     *
+     * <pre>
+     * objects above the heavy hitters frequency (skewed join keys)
+     * </pre>
+     */
+    int getHeavyObjectsCount();
+    /**
+     * <code>repeated .TermFrequency heavyObjects = 17;</code>
+     *
+     * <pre>
+     * objects above the heavy hitters frequency (skewed join keys)
+     * </pre>
+     */
+    java.util.List<? extends ProtobufStats.TermFrequencyOrBuilder> 
+        getHeavyObjectsOrBuilderList();
+    /**
+     * <code>repeated .TermFrequency heavyObjects = 17;</code>
+     *
+     * <pre>
+     * objects above the heavy hitters frequency (skewed join keys)
+     * </pre>
+     */
+    ProtobufStats.TermFrequencyOrBuilder getHeavyObjectsOrBuilder(
+        int index);
+
+    // optional string propertyTable = 18;
+    /**
+     * <code>optional string propertyTable = 18;</code>
+     *
+     * <pre>
+     * property table with the column of this property, if they are more than one
+     * </pre>
+     */
+    boolean hasPropertyTable();
+    /**
+     * <code>optional string propertyTable = 18;</code>
+     *
+     * <pre>
+     * property table with the column of this property, if they are more than one
+     * </pre>
+     */
+    java.lang.String getPropertyTable();
+    /**
+     * <code>optional string propertyTable = 18;</code>
+     *
+     * <pre>
+     * property table with the column of this property, if they are more than one
+     * </pre>
+     */
+    com.google.protobuf.ByteString
+        getPropertyTableBytes();
+
+    // repeated .TermFrequency classes = 19;
+    /**
+     * <code>repeated .TermFrequency classes = 19;</code>
+     *
+     * <pre>
+     * triples of every object, if the table is partitioned by object (rdf:type by class)
+     * </pre>
+     */
+    java.util.List<ProtobufStats.TermFrequency> 
+        getClassesList();
+    /**
+     * <code>repeated .TermFrequency classes = 19;</code>
+     *
+     * <pre>
+     * triples of every object, if the table is partitioned by object (rdf:type by class)
+     * </pre>
+     */
+    ProtobufStats.TermFrequency getClasses(int index);
+    /**
+     * <code>repeated .TermFrequency classes = 19;</code>
+     *
+     * <pre>
+     * triples of every object, if the table is partitioned by object (rdf:type by class)
+     * </pre>
+     */
+    int getClassesCount();
+    /**
+     * <code>repeated .TermFrequency classes = 19;</code>
+     *
+     * <pre>
+     * triples of every object, if the table is partitioned by object (rdf:type by class)
+     * </pre>
+     */
+    java.util.List<? extends ProtobufStats.TermFrequencyOrBuilder> 
+        getClassesOrBuilderList();
+    /**
+     * <code>repeated .TermFrequency classes = 19;</code>
+     *
+     * <pre>
+     * triples of every object, if the table is partitioned by object (rdf:type by class)
+     * </pre>
+     */
+    ProtobufStats.TermFrequencyOrBuilder getClassesOrBuilder(
+        int index);
+  }
+  /**
+   * Protobuf type {@code Table}
+   *
+   * <pre>
+   * describe a single table (belonging to particular property)
+   * </pre>
+   */
+  public static final class Table extends
+      com.google.protobuf.GeneratedMessage
+      implements TableOrBuilder {
+    // Use Table.newBuilder() to construct.
+    private Table(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private Table(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final Table defaultInstance;
+    public static Table getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public Table getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private Table(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 10: {
+              bitField0_ |= 0x00000001;
+              name_ = input.readBytes();
+              break;
+            }
+            case 16: {
+              bitField0_ |= 0x00000002;
+              size_ = input.readInt64();
+              break;
+            }
+            case 24: {
+              bitField0_ |= 0x00000004;
+              isComplex_ = input.readBool();
+              break;
+            }
+            case 32: {
+              bitField0_ |= 0x00000008;
+              distinctSubjects_ = input.readInt64();
+              break;
+            }
+            case 42: {
+              if (!((mutable_bitField0_ & 0x00000010) == 0x00000010)) {
+                extVPTables_ = new java.util.ArrayList<ProtobufStats.ExtVPTable>();
+                mutable_bitField0_ |= 0x00000010;
+              }
+              extVPTables_.add(input.readMessage(ProtobufStats.ExtVPTable.PARSER, extensionRegistry));
+              break;
+            }
+            case 48: {
+              bitField0_ |= 0x00000010;
+              distinctObjects_ = input.readInt64();
+              break;
+            }
+            case 61: {
+              bitField0_ |= 0x00000020;
+              avgObjectsPerSubject_ = input.readFloat();
+              break;
+            }
+            case 64: {
+              bitField0_ |= 0x00000040;
+              maxObjectsPerSubject_ = input.readInt64();
+              break;
+            }
+            case 77: {
+              bitField0_ |= 0x00000080;
+              avgSubjectsPerObject_ = input.readFloat();
+              break;
+            }
+            case 80: {
+              bitField0_ |= 0x00000100;
+              maxSubjectsPerObject_ = input.readInt64();
+              break;
+            }
+            case 90: {
+              if (!((mutable_bitField0_ & 0x00000400) == 0x00000400)) {
+                topSubjects_ = new java.util.ArrayList<ProtobufStats.TermFrequency>();
+                mutable_bitField0_ |= 0x00000400;
+              }
+              topSubjects_.add(input.readMessage(ProtobufStats.TermFrequency.PARSER, extensionRegistry));
+              break;
+            }
+            case 98: {
+              if (!((mutable_bitField0_ & 0x00000800) == 0x00000800)) {
+                topObjects_ = new java.util.ArrayList<ProtobufStats.TermFrequency>();
+                mutable_bitField0_ |= 0x00000800;
+              }
+              topObjects_.add(input.readMessage(ProtobufStats.TermFrequency.PARSER, extensionRegistry));
+              break;
+            }
+            case 106: {
+              ProtobufStats.Sketch.Builder subBuilder = null;
+              if (((bitField0_ & 0x00000200) == 0x00000200)) {
+                subBuilder = subjectsSketch_.toBuilder();
+              }
+              subjectsSketch_ = input.readMessage(ProtobufStats.Sketch.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(subjectsSketch_);
+                subjectsSketch_ = subBuilder.buildPartial();
+              }
+              bitField0_ |= 0x00000200;
+              break;
+            }
+            case 114: {
+              ProtobufStats.Sketch.Builder subBuilder = null;
+              if (((bitField0_ & 0x00000400) == 0x00000400)) {
+                subBuilder = objectsSketch_.toBuilder();
+              }
+              objectsSketch_ = input.readMessage(ProtobufStats.Sketch.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(objectsSketch_);
+                objectsSketch_ = subBuilder.buildPartial();
+              }
+              bitField0_ |= 0x00000400;
+              break;
+            }
+            case 122: {
+              if (!((mutable_bitField0_ & 0x00004000) == 0x00004000)) {
+                joinStats_ = new java.util.ArrayList<ProtobufStats.JoinStat>();
+                mutable_bitField0_ |= 0x00004000;
+              }
+              joinStats_.add(input.readMessage(ProtobufStats.JoinStat.PARSER, extensionRegistry));
+              break;
+            }
+            case 130: {
+              if (!((mutable_bitField0_ & 0x00008000) == 0x00008000)) {
+                heavySubjects_ = new java.util.ArrayList<ProtobufStats.TermFrequency>();
+                mutable_bitField0_ |= 0x00008000;
+              }
+              heavySubjects_.add(input.readMessage(ProtobufStats.TermFrequency.PARSER, extensionRegistry));
+              break;
+            }
+            case 138: {
+              if (!((mutable_bitField0_ & 0x00010000) == 0x00010000)) {
+                heavyObjects_ = new java.util.ArrayList<ProtobufStats.TermFrequency>();
+                mutable_bitField0_ |= 0x00010000;
+              }
+              heavyObjects_.add(input.readMessage(ProtobufStats.TermFrequency.PARSER, extensionRegistry));
+              break;
+            }
+            case 146: {
+              bitField0_ |= 0x00000800;
+              propertyTable_ = input.readBytes();
+              break;
+            }
+            case 154: {
+              if (!((mutable_bitField0_ & 0x00040000) == 0x00040000)) {
+                classes_ = new java.util.ArrayList<ProtobufStats.TermFrequency>();
+                mutable_bitField0_ |= 0x00040000;
+              }
+              classes_.add(input.readMessage(ProtobufStats.TermFrequency.PARSER, extensionRegistry));
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000010) == 0x00000010)) {
+          extVPTables_ = java.util.Collections.unmodifiableList(extVPTables_);
+        }
+        if (((mutable_bitField0_ & 0x00000400) == 0x00000400)) {
+          topSubjects_ = java.util.Collections.unmodifiableList(topSubjects_);
+        }
+        if (((mutable_bitField0_ & 0x00000800) == 0x00000800)) {
+          topObjects_ = java.util.Collections.unmodifiableList(topObjects_);
+        }
+        if (((mutable_bitField0_ & 0x00004000) == 0x00004000)) {
+          joinStats_ = java.util.Collections.unmodifiableList(joinStats_);
+        }
+        if (((mutable_bitField0_ & 0x00008000) == 0x00008000)) {
+          heavySubjects_ = java.util.Collections.unmodifiableList(heavySubjects_);
+        }
+        if (((mutable_bitField0_ & 0x00010000) == 0x00010000)) {
+          heavyObjects_ = java.util.Collections.unmodifiableList(heavyObjects_);
+        }
+        if (((mutable_bitField0_ & 0x00040000) == 0x00040000)) {
+          classes_ = java.util.Collections.unmodifiableList(classes_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return ProtobufStats.internal_static_Table_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return ProtobufStats.internal_static_Table_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              ProtobufStats.Table.class, ProtobufStats.Table.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<Table> PARSER =
+        new com.google.protobuf.AbstractParser<Table>() {
+      public Table parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new Table(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<Table> getParserForType() {
+      return PARSER;
+    }
+
+    private int bitField0_;
+    // required string name = 1;
+    public static final int NAME_FIELD_NUMBER = 1;
+    private java.lang.Object name_;
+    /**
+     * <code>required string name = 1;</code>
+     */
+    public boolean hasName() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>required string name = 1;</code>
+     */
+    public java.lang.String getName() {
+      java.lang.Object ref = name_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          name_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>required string name = 1;</code>
+     */
+    public com.google.protobuf.ByteString
+        getNameBytes() {
+      java.lang.Object ref = name_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        name_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    // optional int64 size = 2;
+    public static final int SIZE_FIELD_NUMBER = 2;
+    private long size_;
+    /**
+     * <code>optional int64 size = 2;</code>
+     *
+     * <pre>
+     * number of elements
+     * </pre>
+     */
+    public boolean hasSize() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>optional int64 size = 2;</code>
+     *
+     * <pre>
+     * number of elements
+     * </pre>
+     */
+    public long getSize() {
+      return size_;
+    }
+
+    // optional bool isComplex = 3;
+    public static final int ISCOMPLEX_FIELD_NUMBER = 3;
+    private boolean isComplex_;
+    /**
+     * <code>optional bool isComplex = 3;</code>
+     *
+     * <pre>
+     * if for the same subject exist more values
+     * </pre>
+     */
+    public boolean hasIsComplex() {
+      return ((bitField0_ & 0x00000004) == 0x00000004);
+    }
+    /**
+     * <code>optional bool isComplex = 3;</code>
+     *
+     * <pre>
+     * if for the same subject exist more values
+     * </pre>
+     */
+    public boolean getIsComplex() {
+      return isComplex_;
+    }
+
+    // optional int64 distinctSubjects = 4;
+    public static final int DISTINCTSUBJECTS_FIELD_NUMBER = 4;
+    private long distinctSubjects_;
+    /**
+     * <code>optional int64 distinctSubjects = 4;</code>
+     *
+     * <pre>
+     * distinct subjects in that table
+     * </pre>
+     */
+    public boolean hasDistinctSubjects() {
+      return ((bitField0_ & 0x00000008) == 0x00000008);
+    }
+    /**
+     * <code>optional int64 distinctSubjects = 4;</code>
+     *
+     * <pre>
+     * distinct subjects in that table
+     * </pre>
+     */
+    public long getDistinctSubjects() {
+      return distinctSubjects_;
+    }
+
+    // repeated .ExtVPTable extVPTables = 5;
+    public static final int EXTVPTABLES_FIELD_NUMBER = 5;
+    private java.util.List<ProtobufStats.ExtVPTable> extVPTables_;
+    /**
+     * <code>repeated .ExtVPTable extVPTables = 5;</code>
+     *
+     * <pre>
+     * selective semi-join reductions of this table
+     * </pre>
+     */
+    public java.util.List<ProtobufStats.ExtVPTable> getExtVPTablesList() {
+      return extVPTables_;
+    }
+    /**
+     * <code>repeated .ExtVPTable extVPTables = 5;</code>
+     *
+     * <pre>
+     * selective semi-join reductions of this table
+     * </pre>
+     */
+    public java.util.List<? extends ProtobufStats.ExtVPTableOrBuilder> 
+        getExtVPTablesOrBuilderList() {
+      return extVPTables_;
+    }
+    /**
+     * <code>repeated .ExtVPTable extVPTables = 5;</code>
+     *
+     * <pre>
+     * selective semi-join reductions of this table
+     * </pre>
+     */
+    public int getExtVPTablesCount() {
+      return extVPTables_.size();
+    }
+    /**
+     * <code>repeated .ExtVPTable extVPTables = 5;</code>
+     *
+     * <pre>
+     * selective semi-join reductions of this table
+     * </pre>
+     */
+    public ProtobufStats.ExtVPTable getExtVPTables(int index) {
+      return extVPTables_.get(index);
+    }
+    /**
+     * <code>repeated .ExtVPTable extVPTables = 5;</code>
+     *
+     * <pre>
+     * selective semi-join reductions of this table
+     * </pre>
+     */
+    public ProtobufStats.ExtVPTableOrBuilder getExtVPTablesOrBuilder(
+        int index) {
+      return extVPTables_.get(index);
+    }
+
+    // optional int64 distinctObjects = 6;
+    public static final int DISTINCTOBJECTS_FIELD_NUMBER = 6;
+    private long distinctObjects_;
+    /**
+     * <code>optional int64 distinctObjects = 6;</code>
+     *
+     * <pre>
+     * distinct objects in that table
+     * </pre>
+     */
+    public boolean hasDistinctObjects() {
+      return ((bitField0_ & 0x00000010) == 0x00000010);
+    }
+    /**
+     * <code>optional int64 distinctObjects = 6;</code>
+     *
+     * <pre>
+     * distinct objects in that table
+     * </pre>
+     */
+    public long getDistinctObjects() {
+      return distinctObjects_;
+    }
+
+    // optional float avgObjectsPerSubject = 7;
+    public static final int AVGOBJECTSPERSUBJECT_FIELD_NUMBER = 7;
+    private float avgObjectsPerSubject_;
+    /**
+     * <code>optional float avgObjectsPerSubject = 7;</code>
+     */
+    public boolean hasAvgObjectsPerSubject() {
+      return ((bitField0_ & 0x00000020) == 0x00000020);
+    }
+    /**
+     * <code>optional float avgObjectsPerSubject = 7;</code>
+     */
+    public float getAvgObjectsPerSubject() {
+      return avgObjectsPerSubject_;
+    }
+
+    // optional int64 maxObjectsPerSubject = 8;
+    public static final int MAXOBJECTSPERSUBJECT_FIELD_NUMBER = 8;
+    private long maxObjectsPerSubject_;
+    /**
+     * <code>optional int64 maxObjectsPerSubject = 8;</code>
+     */
+    public boolean hasMaxObjectsPerSubject() {
+      return ((bitField0_ & 0x00000040) == 0x00000040);
+    }
+    /**
+     * <code>optional int64 maxObjectsPerSubject = 8;</code>
+     */
+    public long getMaxObjectsPerSubject() {
+      return maxObjectsPerSubject_;
+    }
+
+    // optional float avgSubjectsPerObject = 9;
+    public static final int AVGSUBJECTSPEROBJECT_FIELD_NUMBER = 9;
+    private float avgSubjectsPerObject_;
+    /**
+     * <code>optional float avgSubjectsPerObject = 9;</code>
+     */
+    public boolean hasAvgSubjectsPerObject() {
+      return ((bitField0_ & 0x00000080) == 0x00000080);
+    }
+    /**
+     * <code>optional float avgSubjectsPerObject = 9;</code>
+     */
+    public float getAvgSubjectsPerObject() {
+      return avgSubjectsPerObject_;
+    }
+
+    // optional int64 maxSubjectsPerObject = 10;
+    public static final int MAXSUBJECTSPEROBJECT_FIELD_NUMBER = 10;
+    private long maxSubjectsPerObject_;
+    /**
+     * <code>optional int64 maxSubjectsPerObject = 10;</code>
+     */
+    public boolean hasMaxSubjectsPerObject() {
+      return ((bitField0_ & 0x00000100) == 0x00000100);
+    }
+    /**
+     * <code>optional int64 maxSubjectsPerObject = 10;</code>
+     */
+    public long getMaxSubjectsPerObject() {
+      return maxSubjectsPerObject_;
+    }
+
+    // repeated .TermFrequency topSubjects = 11;
+    public static final int TOPSUBJECTS_FIELD_NUMBER = 11;
+    private java.util.List<ProtobufStats.TermFrequency> topSubjects_;
+    /**
+     * <code>repeated .TermFrequency topSubjects = 11;</code>
+     *
+     * <pre>
+     * most frequent subjects, in decreasing order
+     * </pre>
+     */
+    public java.util.List<ProtobufStats.TermFrequency> getTopSubjectsList() {
+      return topSubjects_;
+    }
+    /**
+     * <code>repeated .TermFrequency topSubjects = 11;</code>
+     *
+     * <pre>
+     * most frequent subjects, in decreasing order
+     * </pre>
+     */
+    public java.util.List<? extends ProtobufStats.TermFrequencyOrBuilder> 
+        getTopSubjectsOrBuilderList() {
+      return topSubjects_;
+    }
+    /**
+     * <code>repeated .TermFrequency topSubjects = 11;</code>
+     *
+     * <pre>
+     * most frequent subjects, in decreasing order
+     * </pre>
+     */
+    public int getTopSubjectsCount() {
+      return topSubjects_.size();
+    }
+    /**
+     * <code>repeated .TermFrequency topSubjects = 11;</code>
+     *
+     * <pre>
+     * most frequent subjects, in decreasing order
+     * </pre>
+     */
+    public ProtobufStats.TermFrequency getTopSubjects(int index) {
+      return topSubjects_.get(index);
+    }
+    /**
+     * <code>repeated .TermFrequency topSubjects = 11;</code>
+     *
+     * <pre>
+     * most frequent subjects, in decreasing order
+     * </pre>
+     */
+    public ProtobufStats.TermFrequencyOrBuilder getTopSubjectsOrBuilder(
+        int index) {
+      return topSubjects_.get(index);
+    }
+
+    // repeated .TermFrequency topObjects = 12;
+    public static final int TOPOBJECTS_FIELD_NUMBER = 12;
+    private java.util.List<ProtobufStats.TermFrequency> topObjects_;
+    /**
+     * <code>repeated .TermFrequency topObjects = 12;</code>
+     *
+     * <pre>
+     * most frequent objects, in decreasing order
+     * </pre>
+     */
+    public java.util.List<ProtobufStats.TermFrequency> getTopObjectsList() {
+      return topObjects_;
+    }
+    /**
+     * <code>repeated .TermFrequency topObjects = 12;</code>
+     *
+     * <pre>
+     * most frequent objects, in decreasing order
+     * </pre>
+     */
+    public java.util.List<? extends ProtobufStats.TermFrequencyOrBuilder> 
+        getTopObjectsOrBuilderList() {
+      return topObjects_;
+    }
+    /**
+     * <code>repeated .TermFrequency topObjects = 12;</code>
+     *
+     * <pre>
+     * most frequent objects, in decreasing order
+     * </pre>
+     */
+    public int getTopObjectsCount() {
+      return topObjects_.size();
+    }
+    /**
+     * <code>repeated .TermFrequency topObjects = 12;</code>
+     *
+     * <pre>
+     * most frequent objects, in decreasing order
+     * </pre>
+     */
+    public ProtobufStats.TermFrequency getTopObjects(int index) {
+      return topObjects_.get(index);
+    }
+    /**
+     * <code>repeated .TermFrequency topObjects = 12;</code>
+     *
+     * <pre>
+     * most frequent objects, in decreasing order
+     * </pre>
+     */
+    public ProtobufStats.TermFrequencyOrBuilder getTopObjectsOrBuilder(
+        int index) {
+      return topObjects_.get(index);
+    }
+
+    // optional .Sketch subjectsSketch = 13;
+    public static final int SUBJECTSSKETCH_FIELD_NUMBER = 13;
+    private ProtobufStats.Sketch subjectsSketch_;
+    /**
+     * <code>optional .Sketch subjectsSketch = 13;</code>
+     *
+     * <pre>
+     * approximate set of the subjects
+     * </pre>
+     */
+    public boolean hasSubjectsSketch() {
+      return ((bitField0_ & 0x00000200) == 0x00000200);
+    }
+    /**
+     * <code>optional .Sketch subjectsSketch = 13;</code>
+     *
+     * <pre>
+     * approximate set of the subjects
+     * </pre>
+     */
+    public ProtobufStats.Sketch getSubjectsSketch() {
+      return subjectsSketch_;
+    }
+    /**
+     * <code>optional .Sketch subjectsSketch = 13;</code>
+     *
+     * <pre>
+     * approximate set of the subjects
+     * </pre>
+     */
+    public ProtobufStats.SketchOrBuilder getSubjectsSketchOrBuilder() {
+      return subjectsSketch_;
+    }
+
+    // optional .Sketch objectsSketch = 14;
+    public static final int OBJECTSSKETCH_FIELD_NUMBER = 14;
+    private ProtobufStats.Sketch objectsSketch_;
+    /**
+     * <code>optional .Sketch objectsSketch = 14;</code>
+     *
+     * <pre>
+     * approximate set of the objects
+     * </pre>
+     */
+    public boolean hasObjectsSketch() {
+      return ((bitField0_ & 0x00000400) == 0x00000400);
+    }
+    /**
+     * <code>optional .Sketch objectsSketch = 14;</code>
+     *
+     * <pre>
+     * approximate set of the objects
+     * </pre>
+     */
+    public ProtobufStats.Sketch getObjectsSketch() {
+      return objectsSketch_;
+    }
+    /**
+     * <code>optional .Sketch objectsSketch = 14;</code>
+     *
+     * <pre>
+     * approximate set of the objects
+     * </pre>
+     */
+    public ProtobufStats.SketchOrBuilder getObjectsSketchOrBuilder() {
+      return objectsSketch_;
+    }
+
+    // repeated .JoinStat joinStats = 15;
+    public static final int JOINSTATS_FIELD_NUMBER = 15;
+    private java.util.List<ProtobufStats.JoinStat> joinStats_;
+    /**
+     * <code>repeated .JoinStat joinStats = 15;</code>
+     *
+     * <pre>
+     * cardinality of the joins with other tables
+     * </pre>
+     */
+    public java.util.List<ProtobufStats.JoinStat> getJoinStatsList() {
+      return joinStats_;
+    }
+    /**
+     * <code>repeated .JoinStat joinStats = 15;</code>
+     *
+     * <pre>
+     * cardinality of the joins with other tables
+     * </pre>
+     */
+    public java.util.List<? extends ProtobufStats.JoinStatOrBuilder> 
+        getJoinStatsOrBuilderList() {
+      return joinStats_;
+    }
+    /**
+     * <code>repeated .JoinStat joinStats = 15;</code>
+     *
+     * <pre>
+     * cardinality of the joins with other tables
+     * </pre>
+     */
+    public int getJoinStatsCount() {
+      return joinStats_.size();
+    }
+    /**
+     * <code>repeated .JoinStat joinStats = 15;</code>
+     *
+     * <pre>
+     * cardinality of the joins with other tables
+     * </pre>
+     */
+    public ProtobufStats.JoinStat getJoinStats(int index) {
+      return joinStats_.get(index);
+    }
+    /**
+     * <code>repeated .JoinStat joinStats = 15;</code>
+     *
+     * <pre>
+     * cardinality of the joins with other tables
+     * </pre>
+     */
+    public ProtobufStats.JoinStatOrBuilder getJoinStatsOrBuilder(
+        int index) {
+      return joinStats_.get(index);
+    }
+
+    // repeated .TermFrequency heavySubjects = 16;
+    public static final int HEAVYSUBJECTS_FIELD_NUMBER = 16;
+    private java.util.List<ProtobufStats.TermFrequency> heavySubjects_;
+    /**
+     * <code>repeated .TermFrequency heavySubjects = 16;</code>
+     *
+     * <pre>
+     * subjects above the heavy hitters frequency (skewed join keys)
+     * </pre>
+     */
+    public java.util.List<ProtobufStats.TermFrequency> getHeavySubjectsList() {
+      return heavySubjects_;
+    }
+    /**
+     * <code>repeated .TermFrequency heavySubjects = 16;</code>
+     *
+     * <pre>
+     * subjects above the heavy hitters frequency (skewed join keys)
+     * </pre>
+     */
+    public java.util.List<? extends ProtobufStats.TermFrequencyOrBuilder> 
+        getHeavySubjectsOrBuilderList() {
+      return heavySubjects_;
+    }
+    /**
+     * <code>repeated .TermFrequency heavySubjects = 16;</code>
+     *
+     * <pre>
+     * subjects above the heavy hitters frequency (skewed join keys)
+     * </pre>
+     */
+    public int getHeavySubjectsCount() {
+      return heavySubjects_.size();
+    }
+    /**
+     * <code>repeated .TermFrequency heavySubjects = 16;</code>
+     *
+     * <pre>
+     * subjects above the heavy hitters frequency (skewed join keys)
+     * </pre>
+     */
+    public ProtobufStats.TermFrequency getHeavySubjects(int index) {
+      return heavySubjects_.get(index);
+    }
+    /**
+     * <code>repeated .TermFrequency heavySubjects = 16;</code>
+     *
+     * <pre>
+     * subjects above the heavy hitters frequency (skewed join keys)
+     * </pre>
+     */
+    public ProtobufStats.TermFrequencyOrBuilder getHeavySubjectsOrBuilder(
+        int index) {
+      return heavySubjects_.get(index);
+    }
+
+    // repeated .TermFrequency heavyObjects = 17;
+    public static final int HEAVYOBJECTS_FIELD_NUMBER = 17;
+    private java.util.List<ProtobufStats.TermFrequency> heavyObjects_;
+    /**
+     * <code>repeated .TermFrequency heavyObjects = 17;</code>
+     *
+     * <pre>
+     * objects above the heavy hitters frequency (skewed join keys)
+     * </pre>
+     */
+    public java.util.List<ProtobufStats.TermFrequency> getHeavyObjectsList() {
+      return heavyObjects_;
+    }
+    /**
+     * <code>repeated .TermFrequency heavyObjects = 17;</code>
+     *
+     * <pre>
+     * objects above the heavy hitters frequency (skewed join keys)
+     * </pre>
+     */
+    public java.util.List<? extends ProtobufStats.TermFrequencyOrBuilder> 
+        getHeavyObjectsOrBuilderList() {
+      return heavyObjects_;
+    }
+    /**
+     * <code>repeated .TermFrequency heavyObjects = 17;</code>
+     *
+     * <pre>
+     * objects above the heavy hitters frequency (skewed join keys)
+     * </pre>
+     */
+    public int getHeavyObjectsCount() {
+      return heavyObjects_.size();
+    }
+    /**
+     * <code>repeated .TermFrequency heavyObjects = 17;</code>
+     *
+     * <pre>
+     * objects above the heavy hitters frequency (skewed join keys)
+     * </pre>
+     */
+    public ProtobufStats.TermFrequency getHeavyObjects(int index) {
+      return heavyObjects_.get(index);
+    }
+    /**
+     * <code>repeated .TermFrequency heavyObjects = 17;</code>
+     *
+     * <pre>
+     * objects above the heavy hitters frequency (skewed join keys)
+     * </pre>
+     */
+    public ProtobufStats.TermFrequencyOrBuilder getHeavyObjectsOrBuilder(
+        int index) {
+      return heavyObjects_.get(index);
+    }
+
+    // optional string propertyTable = 18;
+    public static final int PROPERTYTABLE_FIELD_NUMBER = 18;
+    private java.lang.Object propertyTable_;
+    /**
+     * <code>optional string propertyTable = 18;</code>
+     *
+     * <pre>
+     * property table with the column of this property, if they are more than one
+     * </pre>
+     */
+    public boolean hasPropertyTable() {
+      return ((bitField0_ & 0x00000800) == 0x00000800);
+    }
+    /**
+     * <code>optional string propertyTable = 18;</code>
+     *
+     * <pre>
+     * property table with the column of this property, if they are more than one
+     * </pre>
+     */
+    public java.lang.String getPropertyTable() {
+      java.lang.Object ref = propertyTable_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          propertyTable_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string propertyTable = 18;</code>
+     *
+     * <pre>
+     * property table with the column of this property, if they are more than one
+     * </pre>
+     */
+    public com.google.protobuf.ByteString
+        getPropertyTableBytes() {
+      java.lang.Object ref = propertyTable_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        propertyTable_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    // repeated .TermFrequency classes = 19;
+    public static final int CLASSES_FIELD_NUMBER = 19;
+    private java.util.List<ProtobufStats.TermFrequency> classes_;
+    /**
+     * <code>repeated .TermFrequency classes = 19;</code>
+     *
+     * <pre>
+     * triples of every object, if the table is partitioned by object (rdf:type by class)
+     * </pre>
+     */
+    public java.util.List<ProtobufStats.TermFrequency> getClassesList() {
+      return classes_;
+    }
+    /**
+     * <code>repeated .TermFrequency classes = 19;</code>
+     *
+     * <pre>
+     * triples of every object, if the table is partitioned by object (rdf:type by class)
+     * </pre>
+     */
+    public java.util.List<? extends ProtobufStats.TermFrequencyOrBuilder> 
+        getClassesOrBuilderList() {
+      return classes_;
+    }
+    /**
+     * <code>repeated .TermFrequency classes = 19;</code>
+     *
+     * <pre>
+     * triples of every object, if the table is partitioned by object (rdf:type by class)
+     * </pre>
+     */
+    public int getClassesCount() {
+      return classes_.size();
+    }
+    /**
+     * <code>repeated .TermFrequency classes = 19;</code>
+     *
+     * <pre>
+     * triples of every object, if the table is partitioned by object (rdf:type by class)
+     * </pre>
+     */
+    public ProtobufStats.TermFrequency getClasses(int index) {
+      return classes_.get(index);
+    }
+    /**
+     * <code>repeated .TermFrequency classes = 19;</code>
+     *
+     * <pre>
+     * triples of every object, if the table is partitioned by object (rdf:type by class)
+     * </pre>
+     */
+    public ProtobufStats.TermFrequencyOrBuilder getClassesOrBuilder(
+        int index) {
+      return classes_.get(index);
+    }
+
+    private void initFields() {
+      name_ = "";
+      size_ = 0L;
+      isComplex_ = false;
+      distinctSubjects_ = 0L;
+      extVPTables_ = java.util.Collections.emptyList();
+      distinctObjects_ = 0L;
+      avgObjectsPerSubject_ = 0F;
+      maxObjectsPerSubject_ = 0L;
+      avgSubjectsPerObject_ = 0F;
+      maxSubjectsPerObject_ = 0L;
+      topSubjects_ = java.util.Collections.emptyList();
+      topObjects_ = java.util.Collections.emptyList();
+      subjectsSketch_ = ProtobufStats.Sketch.getDefaultInstance();
+      objectsSketch_ = ProtobufStats.Sketch.getDefaultInstance();
+      joinStats_ = java.util.Collections.emptyList();
+      heavySubjects_ = java.util.Collections.emptyList();
+      heavyObjects_ = java.util.Collections.emptyList();
+      propertyTable_ = "";
+      classes_ = java.util.Collections.emptyList();
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized != -1) return isInitialized == 1;
+
+      if (!hasName()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      for (int i = 0; i < getExtVPTablesCount(); i++) {
+        if (!getExtVPTables(i).isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+      }
+      for (int i = 0; i < getTopSubjectsCount(); i++) {
+        if (!getTopSubjects(i).isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+      }
+      for (int i = 0; i < getTopObjectsCount(); i++) {
+        if (!getTopObjects(i).isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+      }
+      if (hasSubjectsSketch()) {
+        if (!getSubjectsSketch().isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+      }
+      if (hasObjectsSketch()) {
+        if (!getObjectsSketch().isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+      }
+      for (int i = 0; i < getJoinStatsCount(); i++) {
+        if (!getJoinStats(i).isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+      }
+      for (int i = 0; i < getHeavySubjectsCount(); i++) {
+        if (!getHeavySubjects(i).isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+      }
+      for (int i = 0; i < getHeavyObjectsCount(); i++) {
+        if (!getHeavyObjects(i).isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+      }
+      for (int i = 0; i < getClassesCount(); i++) {
+        if (!getClasses(i).isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeBytes(1, getNameBytes());
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeInt64(2, size_);
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        output.writeBool(3, isComplex_);
+      }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        output.writeInt64(4, distinctSubjects_);
+      }
+      for (int i = 0; i < extVPTables_.size(); i++) {
+        output.writeMessage(5, extVPTables_.get(i));
+      }
+      if (((bitField0_ & 0x00000010) == 0x00000010)) {
+        output.writeInt64(6, distinctObjects_);
+      }
+      if (((bitField0_ & 0x00000020) == 0x00000020)) {
+        output.writeFloat(7, avgObjectsPerSubject_);
+      }
+      if (((bitField0_ & 0x00000040) == 0x00000040)) {
+        output.writeInt64(8, maxObjectsPerSubject_);
+      }
+      if (((bitField0_ & 0x00000080) == 0x00000080)) {
+        output.writeFloat(9, avgSubjectsPerObject_);
+      }
+      if (((bitField0_ & 0x00000100) == 0x00000100)) {
+        output.writeInt64(10, maxSubjectsPerObject_);
+      }
+      for (int i = 0; i < topSubjects_.size(); i++) {
+        output.writeMessage(11, topSubjects_.get(i));
+      }
+      for (int i = 0; i < topObjects_.size(); i++) {
+        output.writeMessage(12, topObjects_.get(i));
+      }
+      if (((bitField0_ & 0x00000200) == 0x00000200)) {
+        output.writeMessage(13, subjectsSketch_);
+      }
+      if (((bitField0_ & 0x00000400) == 0x00000400)) {
+        output.writeMessage(14, objectsSketch_);
+      }
+      for (int i = 0; i < joinStats_.size(); i++) {
+        output.writeMessage(15, joinStats_.get(i));
+      }
+      for (int i = 0; i < heavySubjects_.size(); i++) {
+        output.writeMessage(16, heavySubjects_.get(i));
+      }
+      for (int i = 0; i < heavyObjects_.size(); i++) {
+        output.writeMessage(17, heavyObjects_.get(i));
+      }
+      if (((bitField0_ & 0x00000800) == 0x00000800)) {
+        output.writeBytes(18, getPropertyTableBytes());
+      }
+      for (int i = 0; i < classes_.size(); i++) {
+        output.writeMessage(19, classes_.get(i));
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(1, getNameBytes());
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(2, size_);
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(3, isComplex_);
+      }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(4, distinctSubjects_);
+      }
+      for (int i = 0; i < extVPTables_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(5, extVPTables_.get(i));
+      }
+      if (((bitField0_ & 0x00000010) == 0x00000010)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(6, distinctObjects_);
+      }
+      if (((bitField0_ & 0x00000020) == 0x00000020)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeFloatSize(7, avgObjectsPerSubject_);
+      }
+      if (((bitField0_ & 0x00000040) == 0x00000040)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(8, maxObjectsPerSubject_);
+      }
+      if (((bitField0_ & 0x00000080) == 0x00000080)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeFloatSize(9, avgSubjectsPerObject_);
+      }
+      if (((bitField0_ & 0x00000100) == 0x00000100)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(10, maxSubjectsPerObject_);
+      }
+      for (int i = 0; i < topSubjects_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(11, topSubjects_.get(i));
+      }
+      for (int i = 0; i < topObjects_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(12, topObjects_.get(i));
+      }
+      if (((bitField0_ & 0x00000200) == 0x00000200)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(13, subjectsSketch_);
+      }
+      if (((bitField0_ & 0x00000400) == 0x00000400)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(14, objectsSketch_);
+      }
+      for (int i = 0; i < joinStats_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(15, joinStats_.get(i));
+      }
+      for (int i = 0; i < heavySubjects_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(16, heavySubjects_.get(i));
+      }
+      for (int i = 0; i < heavyObjects_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(17, heavyObjects_.get(i));
+      }
+      if (((bitField0_ & 0x00000800) == 0x00000800)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(18, getPropertyTableBytes());
+      }
+      for (int i = 0; i < classes_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(19, classes_.get(i));
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static ProtobufStats.Table parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static ProtobufStats.Table parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static ProtobufStats.Table parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static ProtobufStats.Table parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static ProtobufStats.Table parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static ProtobufStats.Table parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static ProtobufStats.Table parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static ProtobufStats.Table parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static ProtobufStats.Table parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static ProtobufStats.Table parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(ProtobufStats.Table prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code Table}
+     *
+     * <pre>
+     * describe a single table (belonging to particular property)
+     * </pre>
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder>
+       implements ProtobufStats.TableOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return ProtobufStats.internal_static_Table_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return ProtobufStats.internal_static_Table_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                ProtobufStats.Table.class, ProtobufStats.Table.Builder.class);
+      }
+
+      // Construct using ProtobufStats.Table.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+          getExtVPTablesFieldBuilder();
+          getTopSubjectsFieldBuilder();
+          getTopObjectsFieldBuilder();
+          getSubjectsSketchFieldBuilder();
+          getObjectsSketchFieldBuilder();
+          getJoinStatsFieldBuilder();
+          getHeavySubjectsFieldBuilder();
+          getHeavyObjectsFieldBuilder();
+          getClassesFieldBuilder();
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        name_ = "";
+        bitField0_ = (bitField0_ & ~0x00000001);
+        size_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000002);
+        isComplex_ = false;
+        bitField0_ = (bitField0_ & ~0x00000004);
+        distinctSubjects_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000008);
+        if (extVPTablesBuilder_ == null) {
+          extVPTables_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000010);
+        } else {
+          extVPTablesBuilder_.clear();
+        }
+        distinctObjects_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000020);
+        avgObjectsPerSubject_ = 0F;
+        bitField0_ = (bitField0_ & ~0x00000040);
+        maxObjectsPerSubject_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000080);
+        avgSubjectsPerObject_ = 0F;
+        bitField0_ = (bitField0_ & ~0x00000100);
+        maxSubjectsPerObject_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000200);
+        if (topSubjectsBuilder_ == null) {
+          topSubjects_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000400);
+        } else {
+          topSubjectsBuilder_.clear();
+        }
+        if (topObjectsBuilder_ == null) {
+          topObjects_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000800);
+        } else {
+          topObjectsBuilder_.clear();
+        }
+        if (subjectsSketchBuilder_ == null) {
+          subjectsSketch_ = ProtobufStats.Sketch.getDefaultInstance();
+        } else {
+          subjectsSketchBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00001000);
+        if (objectsSketchBuilder_ == null) {
+          objectsSketch_ = ProtobufStats.Sketch.getDefaultInstance();
+        } else {
+          objectsSketchBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00002000);
+        if (joinStatsBuilder_ == null) {
+          joinStats_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00004000);
+        } else {
+          joinStatsBuilder_.clear();
+        }
+        if (heavySubjectsBuilder_ == null) {
+          heavySubjects_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00008000);
+        } else {
+          heavySubjectsBuilder_.clear();
+        }
+        if (heavyObjectsBuilder_ == null) {
+          heavyObjects_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00010000);
+        } else {
+          heavyObjectsBuilder_.clear();
+        }
+        propertyTable_ = "";
+        bitField0_ = (bitField0_ & ~0x00020000);
+        if (classesBuilder_ == null) {
+          classes_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00040000);
+        } else {
+          classesBuilder_.clear();
+        }
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return ProtobufStats.internal_static_Table_descriptor;
+      }
+
+      public ProtobufStats.Table getDefaultInstanceForType() {
+        return ProtobufStats.Table.getDefaultInstance();
+      }
+
+      public ProtobufStats.Table build() {
+        ProtobufStats.Table result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public ProtobufStats.Table buildPartial() {
+        ProtobufStats.Table result = new ProtobufStats.Table(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.name_ = name_;
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.size_ = size_;
+        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+          to_bitField0_ |= 0x00000004;
+        }
+        result.isComplex_ = isComplex_;
+        if (((from_bitField0_ & 0x00000008) == 0x00000008)) {
+          to_bitField0_ |= 0x00000008;
+        }
+        result.distinctSubjects_ = distinctSubjects_;
+        if (extVPTablesBuilder_ == null) {
+          if (((bitField0_ & 0x00000010) == 0x00000010)) {
+            extVPTables_ = java.util.Collections.unmodifiableList(extVPTables_);
+            bitField0_ = (bitField0_ & ~0x00000010);
+          }
+          result.extVPTables_ = extVPTables_;
+        } else {
+          result.extVPTables_ = extVPTablesBuilder_.build();
+        }
+        if (((from_bitField0_ & 0x00000020) == 0x00000020)) {
+          to_bitField0_ |= 0x00000010;
+        }
+        result.distinctObjects_ = distinctObjects_;
+        if (((from_bitField0_ & 0x00000040) == 0x00000040)) {
+          to_bitField0_ |= 0x00000020;
+        }
+        result.avgObjectsPerSubject_ = avgObjectsPerSubject_;
+        if (((from_bitField0_ & 0x00000080) == 0x00000080)) {
+          to_bitField0_ |= 0x00000040;
+        }
+        result.maxObjectsPerSubject_ = maxObjectsPerSubject_;
+        if (((from_bitField0_ & 0x00000100) == 0x00000100)) {
+          to_bitField0_ |= 0x00000080;
+        }
+        result.avgSubjectsPerObject_ = avgSubjectsPerObject_;
+        if (((from_bitField0_ & 0x00000200) == 0x00000200)) {
+          to_bitField0_ |= 0x00000100;
+        }
+        result.maxSubjectsPerObject_ = maxSubjectsPerObject_;
+        if (topSubjectsBuilder_ == null) {
+          if (((bitField0_ & 0x00000400) == 0x00000400)) {
+            topSubjects_ = java.util.Collections.unmodifiableList(topSubjects_);
+            bitField0_ = (bitField0_ & ~0x00000400);
+          }
+          result.topSubjects_ = topSubjects_;
+        } else {
+          result.topSubjects_ = topSubjectsBuilder_.build();
+        }
+        if (topObjectsBuilder_ == null) {
+          if (((bitField0_ & 0x00000800) == 0x00000800)) {
+            topObjects_ = java.util.Collections.unmodifiableList(topObjects_);
+            bitField0_ = (bitField0_ & ~0x00000800);
+          }
+          result.topObjects_ = topObjects_;
+        } else {
+          result.topObjects_ = topObjectsBuilder_.build();
+        }
+        if (((from_bitField0_ & 0x00001000) == 0x00001000)) {
+          to_bitField0_ |= 0x00000200;
+        }
+        if (subjectsSketchBuilder_ == null) {
+          result.subjectsSketch_ = subjectsSketch_;
+        } else {
+          result.subjectsSketch_ = subjectsSketchBuilder_.build();
+        }
+        if (((from_bitField0_ & 0x00002000) == 0x00002000)) {
+          to_bitField0_ |= 0x00000400;
+        }
+        if (objectsSketchBuilder_ == null) {
+          result.objectsSketch_ = objectsSketch_;
+        } else {
+          result.objectsSketch_ = objectsSketchBuilder_.build();
+        }
+        if (joinStatsBuilder_ == null) {
+          if (((bitField0_ & 0x00004000) == 0x00004000)) {
+            joinStats_ = java.util.Collections.unmodifiableList(joinStats_);
+            bitField0_ = (bitField0_ & ~0x00004000);
+          }
+          result.joinStats_ = joinStats_;
+        } else {
+          result.joinStats_ = joinStatsBuilder_.build();
+        }
+        if (heavySubjectsBuilder_ == null) {
+          if (((bitField0_ & 0x00008000) == 0x00008000)) {
+            heavySubjects_ = java.util.Collections.unmodifiableList(heavySubjects_);
+            bitField0_ = (bitField0_ & ~0x00008000);
+          }
+          result.heavySubjects_ = heavySubjects_;
+        } else {
+          result.heavySubjects_ = heavySubjectsBuilder_.build();
+        }
+        if (heavyObjectsBuilder_ == null) {
+          if (((bitField0_ & 0x00010000) == 0x00010000)) {
+            heavyObjects_ = java.util.Collections.unmodifiableList(heavyObjects_);
+            bitField0_ = (bitField0_ & ~0x00010000);
+          }
+          result.heavyObjects_ = heavyObjects_;
+        } else {
+          result.heavyObjects_ = heavyObjectsBuilder_.build();
+        }
+        if (((from_bitField0_ & 0x00020000) == 0x00020000)) {
+          to_bitField0_ |= 0x00000800;
+        }
+        result.propertyTable_ = propertyTable_;
+        if (classesBuilder_ == null) {
+          if (((bitField0_ & 0x00040000) == 0x00040000)) {
+            classes_ = java.util.Collections.unmodifiableList(classes_);
+            bitField0_ = (bitField0_ & ~0x00040000);
+          }
+          result.classes_ = classes_;
+        } else {
+          result.classes_ = classesBuilder_.build();
+        }
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof ProtobufStats.Table) {
+          return mergeFrom((ProtobufStats.Table)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(ProtobufStats.Table other) {
+        if (other == ProtobufStats.Table.getDefaultInstance()) return this;
+        if (other.hasName()) {
+          bitField0_ |= 0x00000001;
+          name_ = other.name_;
+          onChanged();
+        }
+        if (other.hasSize()) {
+          setSize(other.getSize());
+        }
+        if (other.hasIsComplex()) {
+          setIsComplex(other.getIsComplex());
+        }
+        if (other.hasDistinctSubjects()) {
+          setDistinctSubjects(other.getDistinctSubjects());
+        }
+        if (extVPTablesBuilder_ == null) {
+          if (!other.extVPTables_.isEmpty()) {
+            if (extVPTables_.isEmpty()) {
+              extVPTables_ = other.extVPTables_;
+              bitField0_ = (bitField0_ & ~0x00000010);
+            } else {
+              ensureExtVPTablesIsMutable();
+              extVPTables_.addAll(other.extVPTables_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.extVPTables_.isEmpty()) {
+            if (extVPTablesBuilder_.isEmpty()) {
+              extVPTablesBuilder_.dispose();
+              extVPTablesBuilder_ = null;
+              extVPTables_ = other.extVPTables_;
+              bitField0_ = (bitField0_ & ~0x00000010);
+              extVPTablesBuilder_ = 
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getExtVPTablesFieldBuilder() : null;
+            } else {
+              extVPTablesBuilder_.addAllMessages(other.extVPTables_);
+            }
+          }
+        }
+        if (other.hasDistinctObjects()) {
+          setDistinctObjects(other.getDistinctObjects());
+        }
+        if (other.hasAvgObjectsPerSubject()) {
+          setAvgObjectsPerSubject(other.getAvgObjectsPerSubject());
+        }
+        if (other.hasMaxObjectsPerSubject()) {
+          setMaxObjectsPerSubject(other.getMaxObjectsPerSubject());
+        }
+        if (other.hasAvgSubjectsPerObject()) {
+          setAvgSubjectsPerObject(other.getAvgSubjectsPerObject());
+        }
+        if (other.hasMaxSubjectsPerObject()) {
+          setMaxSubjectsPerObject(other.getMaxSubjectsPerObject());
+        }
+        if (topSubjectsBuilder_ == null) {
+          if (!other.topSubjects_.isEmpty()) {
+            if (topSubjects_.isEmpty()) {
+              topSubjects_ = other.topSubjects_;
+              bitField0_ = (bitField0_ & ~0x00000400);
+            } else {
+              ensureTopSubjectsIsMutable();
+              topSubjects_.addAll(other.topSubjects_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.topSubjects_.isEmpty()) {
+            if (topSubjectsBuilder_.isEmpty()) {
+              topSubjectsBuilder_.dispose();
+              topSubjectsBuilder_ = null;
+              topSubjects_ = other.topSubjects_;
+              bitField0_ = (bitField0_ & ~0x00000400);
+              topSubjectsBuilder_ = 
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getTopSubjectsFieldBuilder() : null;
+            } else {
+              topSubjectsBuilder_.addAllMessages(other.topSubjects_);
+            }
+          }
+        }
+        if (topObjectsBuilder_ == null) {
+          if (!other.topObjects_.isEmpty()) {
+            if (topObjects_.isEmpty()) {
+              topObjects_ = other.topObjects_;
+              bitField0_ = (bitField0_ & ~0x00000800);
+            } else {
+              ensureTopObjectsIsMutable();
+              topObjects_.addAll(other.topObjects_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.topObjects_.isEmpty()) {
+            if (topObjectsBuilder_.isEmpty()) {
+              topObjectsBuilder_.dispose();
+              topObjectsBuilder_ = null;
+              topObjects_ = other.topObjects_;
+              bitField0_ = (bitField0_ & ~0x00000800);
+              topObjectsBuilder_ = 
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getTopObjectsFieldBuilder() : null;
+            } else {
+              topObjectsBuilder_.addAllMessages(other.topObjects_);
+            }
+          }
+        }
+        if (other.hasSubjectsSketch()) {
+          mergeSubjectsSketch(other.getSubjectsSketch());
+        }
+        if (other.hasObjectsSketch()) {
+          mergeObjectsSketch(other.getObjectsSketch());
+        }
+        if (joinStatsBuilder_ == null) {
+          if (!other.joinStats_.isEmpty()) {
+            if (joinStats_.isEmpty()) {
+              joinStats_ = other.joinStats_;
+              bitField0_ = (bitField0_ & ~0x00004000);
+            } else {
+              ensureJoinStatsIsMutable();
+              joinStats_.addAll(other.joinStats_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.joinStats_.isEmpty()) {
+            if (joinStatsBuilder_.isEmpty()) {
+              joinStatsBuilder_.dispose();
+              joinStatsBuilder_ = null;
+              joinStats_ = other.joinStats_;
+              bitField0_ = (bitField0_ & ~0x00004000);
+              joinStatsBuilder_ = 
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getJoinStatsFieldBuilder() : null;
+            } else {
+              joinStatsBuilder_.addAllMessages(other.joinStats_);
+            }
+          }
+        }
+        if (heavySubjectsBuilder_ == null) {
+          if (!other.heavySubjects_.isEmpty()) {
+            if (heavySubjects_.isEmpty()) {
+              heavySubjects_ = other.heavySubjects_;
+              bitField0_ = (bitField0_ & ~0x00008000);
+            } else {
+              ensureHeavySubjectsIsMutable();
+              heavySubjects_.addAll(other.heavySubjects_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.heavySubjects_.isEmpty()) {
+            if (heavySubjectsBuilder_.isEmpty()) {
+              heavySubjectsBuilder_.dispose();
+              heavySubjectsBuilder_ = null;
+              heavySubjects_ = other.heavySubjects_;
+              bitField0_ = (bitField0_ & ~0x00008000);
+              heavySubjectsBuilder_ = 
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getHeavySubjectsFieldBuilder() : null;
+            } else {
+              heavySubjectsBuilder_.addAllMessages(other.heavySubjects_);
+            }
+          }
+        }
+        if (heavyObjectsBuilder_ == null) {
+          if (!other.heavyObjects_.isEmpty()) {
+            if (heavyObjects_.isEmpty()) {
+              heavyObjects_ = other.heavyObjects_;
+              bitField0_ = (bitField0_ & ~0x00010000);
+            } else {
+              ensureHeavyObjectsIsMutable();
+              heavyObjects_.addAll(other.heavyObjects_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.heavyObjects_.isEmpty()) {
+            if (heavyObjectsBuilder_.isEmpty()) {
+              heavyObjectsBuilder_.dispose();
+              heavyObjectsBuilder_ = null;
+              heavyObjects_ = other.heavyObjects_;
+              bitField0_ = (bitField0_ & ~0x00010000);
+              heavyObjectsBuilder_ = 
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getHeavyObjectsFieldBuilder() : null;
+            } else {
+              heavyObjectsBuilder_.addAllMessages(other.heavyObjects_);
+            }
+          }
+        }
+        if (other.hasPropertyTable()) {
+          bitField0_ |= 0x00020000;
+          propertyTable_ = other.propertyTable_;
+          onChanged();
+        }
+        if (classesBuilder_ == null) {
+          if (!other.classes_.isEmpty()) {
+            if (classes_.isEmpty()) {
+              classes_ = other.classes_;
+              bitField0_ = (bitField0_ & ~0x00040000);
+            } else {
+              ensureClassesIsMutable();
+              classes_.addAll(other.classes_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.classes_.isEmpty()) {
+            if (classesBuilder_.isEmpty()) {
+              classesBuilder_.dispose();
+              classesBuilder_ = null;
+              classes_ = other.classes_;
+              bitField0_ = (bitField0_ & ~0x00040000);
+              classesBuilder_ = 
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getClassesFieldBuilder() : null;
+            } else {
+              classesBuilder_.addAllMessages(other.classes_);
+            }
+          }
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        if (!hasName()) {
+          
+          return false;
+        }
+        for (int i = 0; i < getExtVPTablesCount(); i++) {
+          if (!getExtVPTables(i).isInitialized()) {
+            
+            return false;
+          }
+        }
+        for (int i = 0; i < getTopSubjectsCount(); i++) {
+          if (!getTopSubjects(i).isInitialized()) {
+            
+            return false;
+          }
+        }
+        for (int i = 0; i < getTopObjectsCount(); i++) {
+          if (!getTopObjects(i).isInitialized()) {
+            
+            return false;
+          }
+        }
+        if (hasSubjectsSketch()) {
+          if (!getSubjectsSketch().isInitialized()) {
+            
+            return false;
+          }
+        }
+        if (hasObjectsSketch()) {
+          if (!getObjectsSketch().isInitialized()) {
+            
+            return false;
+          }
+        }
+        for (int i = 0; i < getJoinStatsCount(); i++) {
+          if (!getJoinStats(i).isInitialized()) {
+            
+            return false;
+          }
+        }
+        for (int i = 0; i < getHeavySubjectsCount(); i++) {
+          if (!getHeavySubjects(i).isInitialized()) {
+            
+            return false;
+          }
+        }
+        for (int i = 0; i < getHeavyObjectsCount(); i++) {
+          if (!getHeavyObjects(i).isInitialized()) {
+            
+            return false;
+          }
+        }
+        for (int i = 0; i < getClassesCount(); i++) {
+          if (!getClasses(i).isInitialized()) {
+            
+            return false;
+          }
+        }
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        ProtobufStats.Table parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (ProtobufStats.Table) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      // required string name = 1;
+      private java.lang.Object name_ = "";
+      /**
+       * <code>required string name = 1;</code>
+       */
+      public boolean hasName() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>required string name = 1;</code>
+       */
+      public java.lang.String getName() {
+        java.lang.Object ref = name_;
+        if (!(ref instanceof java.lang.String)) {
+          java.lang.String s = ((com.google.protobuf.ByteString) ref)
+              .toStringUtf8();
+          name_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>required string name = 1;</code>
+       */
+      public com.google.protobuf.ByteString
+          getNameBytes() {
+        java.lang.Object ref = name_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          name_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>required string name = 1;</code>
+       */
+      public Builder setName(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        name_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required string name = 1;</code>
+       */
+      public Builder clearName() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        name_ = getDefaultInstance().getName();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required string name = 1;</code>
+       */
+      public Builder setNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        name_ = value;
+        onChanged();
+        return this;
+      }
+
+      // optional int64 size = 2;
+      private long size_ ;
+      /**
+       * <code>optional int64 size = 2;</code>
+       *
+       * <pre>
+       * number of elements
+       * </pre>
+       */
+      public boolean hasSize() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>optional int64 size = 2;</code>
+       *
+       * <pre>
+       * number of elements
+       * </pre>
+       */
+      public long getSize() {
+        return size_;
+      }
+      /**
+       * <code>optional int64 size = 2;</code>
+       *
+       * <pre>
+       * number of elements
+       * </pre>
+       */
+      public Builder setSize(long value) {
+        bitField0_ |= 0x00000002;
+        size_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int64 size = 2;</code>
+       *
+       * <pre>
+       * number of elements
+       * </pre>
+       */
+      public Builder clearSize() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        size_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      // optional bool isComplex = 3;
+      private boolean isComplex_ ;
+      /**
+       * <code>optional bool isComplex = 3;</code>
+       *
+       * <pre>
+       * if for the same subject exist more values
+       * </pre>
+       */
+      public boolean hasIsComplex() {
+        return ((bitField0_ & 0x00000004) == 0x00000004);
+      }
+      /**
+       * <code>optional bool isComplex = 3;</code>
+       *
+       * <pre>
+       * if for the same subject exist more values
+       * </pre>
+       */
+      public boolean getIsComplex() {
+        return isComplex_;
+      }
+      /**
+       * <code>optional bool isComplex = 3;</code>
+       *
+       * <pre>
+       * if for the same subject exist more values
+       * </pre>
+       */
+      public Builder setIsComplex(boolean value) {
+        bitField0_ |= 0x00000004;
+        isComplex_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional bool isComplex = 3;</code>
+       *
+       * <pre>
+       * if for the same subject exist more values
+       * </pre>
+       */
+      public Builder clearIsComplex() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        isComplex_ = false;
+        onChanged();
+        return this;
+      }
+
+      // optional int64 distinctSubjects = 4;
+      private long distinctSubjects_ ;
+      /**
+       * <code>optional int64 distinctSubjects = 4;</code>
+       *
+       * <pre>
+       * distinct subjects in that table
+       * </pre>
+       */
+      public boolean hasDistinctSubjects() {
+        return ((bitField0_ & 0x00000008) == 0x00000008);
+      }
+      /**
+       * <code>optional int64 distinctSubjects = 4;</code>
+       *
+       * <pre>
+       * distinct subjects in that table
+       * </pre>
+       */
+      public long getDistinctSubjects() {
+        return distinctSubjects_;
+      }
+      /**
+       * <code>optional int64 distinctSubjects = 4;</code>
+       *
+       * <pre>
+       * distinct subjects in that table
+       * </pre>
+       */
+      public Builder setDistinctSubjects(long value) {
+        bitField0_ |= 0x00000008;
+        distinctSubjects_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int64 distinctSubjects = 4;</code>
+       *
+       * <pre>
+       * distinct subjects in that table
+       * </pre>
+       */
+      public Builder clearDistinctSubjects() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        distinctSubjects_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      // repeated .ExtVPTable extVPTables = 5;
+      private java.util.List<ProtobufStats.ExtVPTable> extVPTables_ =
+        java.util.Collections.emptyList();
+      private void ensureExtVPTablesIsMutable() {
+        if (!((bitField0_ & 0x00000010) == 0x00000010)) {
+          extVPTables_ = new java.util.ArrayList<ProtobufStats.ExtVPTable>(extVPTables_);
+          bitField0_ |= 0x00000010;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilder<
+          ProtobufStats.ExtVPTable, ProtobufStats.ExtVPTable.Builder, ProtobufStats.ExtVPTableOrBuilder> extVPTablesBuilder_;
+
+      /**
+       * <code>repeated .ExtVPTable extVPTables = 5;</code>
+       *
+       * <pre>
+       * selective semi-join reductions of this table
+       * </pre>
+       */
+      public java.util.List<ProtobufStats.ExtVPTable> getExtVPTablesList() {
+        if (extVPTablesBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(extVPTables_);
+        } else {
+          return extVPTablesBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .ExtVPTable extVPTables = 5;</code>
+       *
+       * <pre>
+       * selective semi-join reductions of this table
+       * </pre>
+       */
+      public int getExtVPTablesCount() {
+        if (extVPTablesBuilder_ == null) {
+          return extVPTables_.size();
+        } else {
+          return extVPTablesBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .ExtVPTable extVPTables = 5;</code>
+       *
+       * <pre>
+       * selective semi-join reductions of this table
+       * </pre>
+       */
+      public ProtobufStats.ExtVPTable getExtVPTables(int index) {
+        if (extVPTablesBuilder_ == null) {
+          return extVPTables_.get(index);
+        } else {
+          return extVPTablesBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .ExtVPTable extVPTables = 5;</code>
+       *
+       * <pre>
+       * selective semi-join reductions of this table
+       * </pre>
+       */
+      public Builder setExtVPTables(
+          int index, ProtobufStats.ExtVPTable value) {
+        if (extVPTablesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureExtVPTablesIsMutable();
+          extVPTables_.set(index, value);
+          onChanged();
+        } else {
+          extVPTablesBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ExtVPTable extVPTables = 5;</code>
+       *
+       * <pre>
+       * selective semi-join reductions of this table
+       * </pre>
+       */
+      public Builder setExtVPTables(
+          int index, ProtobufStats.ExtVPTable.Builder builderForValue) {
+        if (extVPTablesBuilder_ == null) {
+          ensureExtVPTablesIsMutable();
+          extVPTables_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          extVPTablesBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ExtVPTable extVPTables = 5;</code>
+       *
+       * <pre>
+       * selective semi-join reductions of this table
+       * </pre>
+       */
+      public Builder addExtVPTables(ProtobufStats.ExtVPTable value) {
+        if (extVPTablesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureExtVPTablesIsMutable();
+          extVPTables_.add(value);
+          onChanged();
+        } else {
+          extVPTablesBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ExtVPTable extVPTables = 5;</code>
+       *
+       * <pre>
+       * selective semi-join reductions of this table
+       * </pre>
+       */
+      public Builder addExtVPTables(
+          int index, ProtobufStats.ExtVPTable value) {
+        if (extVPTablesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureExtVPTablesIsMutable();
+          extVPTables_.add(index, value);
+          onChanged();
+        } else {
+          extVPTablesBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ExtVPTable extVPTables = 5;</code>
+       *
+       * <pre>
+       * selective semi-join reductions of this table
+       * </pre>
+       */
+      public Builder addExtVPTables(
+          ProtobufStats.ExtVPTable.Builder builderForValue) {
+        if (extVPTablesBuilder_ == null) {
+          ensureExtVPTablesIsMutable();
+          extVPTables_.add(builderForValue.build());
+          onChanged();
+        } else {
+          extVPTablesBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ExtVPTable extVPTables = 5;</code>
+       *
+       * <pre>
+       * selective semi-join reductions of this table
+       * </pre>
+       */
+      public Builder addExtVPTables(
+          int index, ProtobufStats.ExtVPTable.Builder builderForValue) {
+        if (extVPTablesBuilder_ == null) {
+          ensureExtVPTablesIsMutable();
+          extVPTables_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          extVPTablesBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ExtVPTable extVPTables = 5;</code>
+       *
+       * <pre>
+       * selective semi-join reductions of this table
+       * </pre>
+       */
+      public Builder addAllExtVPTables(
+          java.lang.Iterable<? extends ProtobufStats.ExtVPTable> values) {
+        if (extVPTablesBuilder_ == null) {
+          ensureExtVPTablesIsMutable();
+          super.addAll(values, extVPTables_);
+          onChanged();
+        } else {
+          extVPTablesBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ExtVPTable extVPTables = 5;</code>
+       *
+       * <pre>
+       * selective semi-join reductions of this table
+       * </pre>
+       */
+      public Builder clearExtVPTables() {
+        if (extVPTablesBuilder_ == null) {
+          extVPTables_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000010);
+          onChanged();
+        } else {
+          extVPTablesBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ExtVPTable extVPTables = 5;</code>
+       *
+       * <pre>
+       * selective semi-join reductions of this table
+       * </pre>
+       */
+      public Builder removeExtVPTables(int index) {
+        if (extVPTablesBuilder_ == null) {
+          ensureExtVPTablesIsMutable();
+          extVPTables_.remove(index);
+          onChanged();
+        } else {
+          extVPTablesBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ExtVPTable extVPTables = 5;</code>
+       *
+       * <pre>
+       * selective semi-join reductions of this table
+       * </pre>
+       */
+      public ProtobufStats.ExtVPTable.Builder getExtVPTablesBuilder(
+          int index) {
+        return getExtVPTablesFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .ExtVPTable extVPTables = 5;</code>
+       *
+       * <pre>
+       * selective semi-join reductions of this table
+       * </pre>
+       */
+      public ProtobufStats.ExtVPTableOrBuilder getExtVPTablesOrBuilder(
+          int index) {
+        if (extVPTablesBuilder_ == null) {
+          return extVPTables_.get(index);  } else {
+          return extVPTablesBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .ExtVPTable extVPTables = 5;</code>
+       *
+       * <pre>
+       * selective semi-join reductions of this table
+       * </pre>
+       */
+      public java.util.List<? extends ProtobufStats.ExtVPTableOrBuilder> 
+           getExtVPTablesOrBuilderList() {
+        if (extVPTablesBuilder_ != null) {
+          return extVPTablesBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(extVPTables_);
+        }
+      }
+      /**
+       * <code>repeated .ExtVPTable extVPTables = 5;</code>
+       *
+       * <pre>
+       * selective semi-join reductions of this table
+       * </pre>
+       */
+      public ProtobufStats.ExtVPTable.Builder addExtVPTablesBuilder() {
+        return getExtVPTablesFieldBuilder().addBuilder(
+            ProtobufStats.ExtVPTable.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .ExtVPTable extVPTables = 5;</code>
+       *
+       * <pre>
+       * selective semi-join reductions of this table
+       * </pre>
+       */
+      public ProtobufStats.ExtVPTable.Builder addExtVPTablesBuilder(
+          int index) {
+        return getExtVPTablesFieldBuilder().addBuilder(
+            index, ProtobufStats.ExtVPTable.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .ExtVPTable extVPTables = 5;</code>
+       *
+       * <pre>
+       * selective semi-join reductions of this table
+       * </pre>
+       */
+      public java.util.List<ProtobufStats.ExtVPTable.Builder> 
+           getExtVPTablesBuilderList() {
+        return getExtVPTablesFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          ProtobufStats.ExtVPTable, ProtobufStats.ExtVPTable.Builder, ProtobufStats.ExtVPTableOrBuilder> 
+          getExtVPTablesFieldBuilder() {
+        if (extVPTablesBuilder_ == null) {
+          extVPTablesBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              ProtobufStats.ExtVPTable, ProtobufStats.ExtVPTable.Builder, ProtobufStats.ExtVPTableOrBuilder>(
+                  extVPTables_,
+                  ((bitField0_ & 0x00000010) == 0x00000010),
+                  getParentForChildren(),
+                  isClean());
+          extVPTables_ = null;
+        }
+        return extVPTablesBuilder_;
+      }
+
+      // optional int64 distinctObjects = 6;
+      private long distinctObjects_ ;
+      /**
+       * <code>optional int64 distinctObjects = 6;</code>
+       *
+       * <pre>
+       * distinct objects in that table
+       * </pre>
+       */
+      public boolean hasDistinctObjects() {
+        return ((bitField0_ & 0x00000020) == 0x00000020);
+      }
+      /**
+       * <code>optional int64 distinctObjects = 6;</code>
+       *
+       * <pre>
+       * distinct objects in that table
+       * </pre>
+       */
+      public long getDistinctObjects() {
+        return distinctObjects_;
+      }
+      /**
+       * <code>optional int64 distinctObjects = 6;</code>
+       *
+       * <pre>
+       * distinct objects in that table
+       * </pre>
+       */
+      public Builder setDistinctObjects(long value) {
+        bitField0_ |= 0x00000020;
+        distinctObjects_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int64 distinctObjects = 6;</code>
+       *
+       * <pre>
+       * distinct objects in that table
+       * </pre>
+       */
+      public Builder clearDistinctObjects() {
+        bitField0_ = (bitField0_ & ~0x00000020);
+        distinctObjects_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      // optional float avgObjectsPerSubject = 7;
+      private float avgObjectsPerSubject_ ;
+      /**
+       * <code>optional float avgObjectsPerSubject = 7;</code>
+       */
+      public boolean hasAvgObjectsPerSubject() {
+        return ((bitField0_ & 0x00000040) == 0x00000040);
+      }
+      /**
+       * <code>optional float avgObjectsPerSubject = 7;</code>
+       */
+      public float getAvgObjectsPerSubject() {
+        return avgObjectsPerSubject_;
+      }
+      /**
+       * <code>optional float avgObjectsPerSubject = 7;</code>
+       */
+      public Builder setAvgObjectsPerSubject(float value) {
+        bitField0_ |= 0x00000040;
+        avgObjectsPerSubject_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional float avgObjectsPerSubject = 7;</code>
+       */
+      public Builder clearAvgObjectsPerSubject() {
+        bitField0_ = (bitField0_ & ~0x00000040);
+        avgObjectsPerSubject_ = 0F;
+        onChanged();
+        return this;
+      }
+
+      // optional int64 maxObjectsPerSubject = 8;
+      private long maxObjectsPerSubject_ ;
+      /**
+       * <code>optional int64 maxObjectsPerSubject = 8;</code>
+       */
+      public boolean hasMaxObjectsPerSubject() {
+        return ((bitField0_ & 0x00000080) == 0x00000080);
+      }
+      /**
+       * <code>optional int64 maxObjectsPerSubject = 8;</code>
+       */
+      public long getMaxObjectsPerSubject() {
+        return maxObjectsPerSubject_;
+      }
+      /**
+       * <code>optional int64 maxObjectsPerSubject = 8;</code>
+       */
+      public Builder setMaxObjectsPerSubject(long value) {
+        bitField0_ |= 0x00000080;
+        maxObjectsPerSubject_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int64 maxObjectsPerSubject = 8;</code>
+       */
+      public Builder clearMaxObjectsPerSubject() {
+        bitField0_ = (bitField0_ & ~0x00000080);
+        maxObjectsPerSubject_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      // optional float avgSubjectsPerObject = 9;
+      private float avgSubjectsPerObject_ ;
+      /**
+       * <code>optional float avgSubjectsPerObject = 9;</code>
+       */
+      public boolean hasAvgSubjectsPerObject() {
+        return ((bitField0_ & 0x00000100) == 0x00000100);
+      }
+      /**
+       * <code>optional float avgSubjectsPerObject = 9;</code>
+       */
+      public float getAvgSubjectsPerObject() {
+        return avgSubjectsPerObject_;
+      }
+      /**
+       * <code>optional float avgSubjectsPerObject = 9;</code>
+       */
+      public Builder setAvgSubjectsPerObject(float value) {
+        bitField0_ |= 0x00000100;
+        avgSubjectsPerObject_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional float avgSubjectsPerObject = 9;</code>
+       */
+      public Builder clearAvgSubjectsPerObject() {
+        bitField0_ = (bitField0_ & ~0x00000100);
+        avgSubjectsPerObject_ = 0F;
+        onChanged();
+        return this;
+      }
+
+      // optional int64 maxSubjectsPerObject = 10;
+      private long maxSubjectsPerObject_ ;
+      /**
+       * <code>optional int64 maxSubjectsPerObject = 10;</code>
+       */
+      public boolean hasMaxSubjectsPerObject() {
+        return ((bitField0_ & 0x00000200) == 0x00000200);
+      }
+      /**
+       * <code>optional int64 maxSubjectsPerObject = 10;</code>
+       */
+      public long getMaxSubjectsPerObject() {
+        return maxSubjectsPerObject_;
+      }
+      /**
+       * <code>optional int64 maxSubjectsPerObject = 10;</code>
+       */
+      public Builder setMaxSubjectsPerObject(long value) {
+        bitField0_ |= 0x00000200;
+        maxSubjectsPerObject_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int64 maxSubjectsPerObject = 10;</code>
+       */
+      public Builder clearMaxSubjectsPerObject() {
+        bitField0_ = (bitField0_ & ~0x00000200);
+        maxSubjectsPerObject_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      // repeated .TermFrequency topSubjects = 11;
+      private java.util.List<ProtobufStats.TermFrequency> topSubjects_ =
+        java.util.Collections.emptyList();
+      private void ensureTopSubjectsIsMutable() {
+        if (!((bitField0_ & 0x00000400) == 0x00000400)) {
+          topSubjects_ = new java.util.ArrayList<ProtobufStats.TermFrequency>(topSubjects_);
+          bitField0_ |= 0x00000400;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilder<
+          ProtobufStats.TermFrequency, ProtobufStats.TermFrequency.Builder, ProtobufStats.TermFrequencyOrBuilder> topSubjectsBuilder_;
+
+      /**
+       * <code>repeated .TermFrequency topSubjects = 11;</code>
+       *
+       * <pre>
+       * most frequent subjects, in decreasing order
+       * </pre>
+       */
+      public java.util.List<ProtobufStats.TermFrequency> getTopSubjectsList() {
+        if (topSubjectsBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(topSubjects_);
+        } else {
+          return topSubjectsBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .TermFrequency topSubjects = 11;</code>
+       *
+       * <pre>
+       * most frequent subjects, in decreasing order
+       * </pre>
+       */
+      public int getTopSubjectsCount() {
+        if (topSubjectsBuilder_ == null) {
+          return topSubjects_.size();
+        } else {
+          return topSubjectsBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .TermFrequency topSubjects = 11;</code>
+       *
+       * <pre>
+       * most frequent subjects, in decreasing order
+       * </pre>
+       */
+      public ProtobufStats.TermFrequency getTopSubjects(int index) {
+        if (topSubjectsBuilder_ == null) {
+          return topSubjects_.get(index);
+        } else {
+          return topSubjectsBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .TermFrequency topSubjects = 11;</code>
+       *
+       * <pre>
+       * most frequent subjects, in decreasing order
+       * </pre>
+       */
+      public Builder setTopSubjects(
+          int index, ProtobufStats.TermFrequency value) {
+        if (topSubjectsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureTopSubjectsIsMutable();
+          topSubjects_.set(index, value);
+          onChanged();
+        } else {
+          topSubjectsBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .TermFrequency topSubjects = 11;</code>
+       *
+       * <pre>
+       * most frequent subjects, in decreasing order
+       * </pre>
+       */
+      public Builder setTopSubjects(
+          int index, ProtobufStats.TermFrequency.Builder builderForValue) {
+        if (topSubjectsBuilder_ == null) {
+          ensureTopSubjectsIsMutable();
+          topSubjects_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          topSubjectsBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .TermFrequency topSubjects = 11;</code>
+       *
+       * <pre>
+       * most frequent subjects, in decreasing order
+       * </pre>
+       */
+      public Builder addTopSubjects(ProtobufStats.TermFrequency value) {
+        if (topSubjectsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureTopSubjectsIsMutable();
+          topSubjects_.add(value);
+          onChanged();
+        } else {
+          topSubjectsBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .TermFrequency topSubjects = 11;</code>
+       *
+       * <pre>
+       * most frequent subjects, in decreasing order
+       * </pre>
+       */
+      public Builder addTopSubjects(
+          int index, ProtobufStats.TermFrequency value) {
+        if (topSubjectsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureTopSubjectsIsMutable();
+          topSubjects_.add(index, value);
+          onChanged();
+        } else {
+          topSubjectsBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .TermFrequency topSubjects = 11;</code>
+       *
+       * <pre>
+       * most frequent subjects, in decreasing order
+       * </pre>
+       */
+      public Builder addTopSubjects(
+          ProtobufStats.TermFrequency.Builder builderForValue) {
+        if (topSubjectsBuilder_ == null) {
+          ensureTopSubjectsIsMutable();
+          topSubjects_.add(builderForValue.build());
+          onChanged();
+        } else {
+          topSubjectsBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .TermFrequency topSubjects = 11;</code>
+       *
+       * <pre>
+       * most frequent subjects, in decreasing order
+       * </pre>
+       */
+      public Builder addTopSubjects(
+          int index, ProtobufStats.TermFrequency.Builder builderForValue) {
+        if (topSubjectsBuilder_ == null) {
+          ensureTopSubjectsIsMutable();
+          topSubjects_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          topSubjectsBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .TermFrequency topSubjects = 11;</code>
+       *
+       * <pre>
+       * most frequent subjects, in decreasing order
+       * </pre>
+       */
+      public Builder addAllTopSubjects(
+          java.lang.Iterable<? extends ProtobufStats.TermFrequency> values) {
+        if (topSubjectsBuilder_ == null) {
+          ensureTopSubjectsIsMutable();
+          super.addAll(values, topSubjects_);
+          onChanged();
+        } else {
+          topSubjectsBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .TermFrequency topSubjects = 11;</code>
+       *
+       * <pre>
+       * most frequent subjects, in decreasing order
+       * </pre>
+       */
+      public Builder clearTopSubjects() {
+        if (topSubjectsBuilder_ == null) {
+          topSubjects_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000400);
+          onChanged();
+        } else {
+          topSubjectsBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .TermFrequency topSubjects = 11;</code>
+       *
+       * <pre>
+       * most frequent subjects, in decreasing order
+       * </pre>
+       */
+      public Builder removeTopSubjects(int index) {
+        if (topSubjectsBuilder_ == null) {
+          ensureTopSubjectsIsMutable();
+          topSubjects_.remove(index);
+          onChanged();
+        } else {
+          topSubjectsBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .TermFrequency topSubjects = 11;</code>
+       *
+       * <pre>
+       * most frequent subjects, in decreasing order
+       * </pre>
+       */
+      public ProtobufStats.TermFrequency.Builder getTopSubjectsBuilder(
+          int index) {
+        return getTopSubjectsFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .TermFrequency topSubjects = 11;</code>
+       *
+       * <pre>
+       * most frequent subjects, in decreasing order
+       * </pre>
+       */
+      public ProtobufStats.TermFrequencyOrBuilder getTopSubjectsOrBuilder(
+          int index) {
+        if (topSubjectsBuilder_ == null) {
+          return topSubjects_.get(index);  } else {
+          return topSubjectsBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .TermFrequency topSubjects = 11;</code>
+       *
+       * <pre>
+       * most frequent subjects, in decreasing order
+       * </pre>
+       */
+      public java.util.List<? extends ProtobufStats.TermFrequencyOrBuilder> 
+           getTopSubjectsOrBuilderList() {
+        if (topSubjectsBuilder_ != null) {
+          return topSubjectsBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(topSubjects_);
+        }
+      }
+      /**
+       * <code>repeated .TermFrequency topSubjects = 11;</code>
+       *
+       * <pre>
+       * most frequent subjects, in decreasing order
+       * </pre>
+       */
+      public ProtobufStats.TermFrequency.Builder addTopSubjectsBuilder() {
+        return getTopSubjectsFieldBuilder().addBuilder(
+            ProtobufStats.TermFrequency.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .TermFrequency topSubjects = 11;</code>
+       *
+       * <pre>
+       * most frequent subjects, in decreasing order
+       * </pre>
+       */
+      public ProtobufStats.TermFrequency.Builder addTopSubjectsBuilder(
+          int index) {
+        return getTopSubjectsFieldBuilder().addBuilder(
+            index, ProtobufStats.TermFrequency.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .TermFrequency topSubjects = 11;</code>
+       *
+       * <pre>
+       * most frequent subjects, in decreasing order
+       * </pre>
+       */
+      public java.util.List<ProtobufStats.TermFrequency.Builder> 
+           getTopSubjectsBuilderList() {
+        return getTopSubjectsFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          ProtobufStats.TermFrequency, ProtobufStats.TermFrequency.Builder, ProtobufStats.TermFrequencyOrBuilder> 
+          getTopSubjectsFieldBuilder() {
+        if (topSubjectsBuilder_ == null) {
+          topSubjectsBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              ProtobufStats.TermFrequency, ProtobufStats.TermFrequency.Builder, ProtobufStats.TermFrequencyOrBuilder>(
+                  topSubjects_,
+                  ((bitField0_ & 0x00000400) == 0x00000400),
+                  getParentForChildren(),
+                  isClean());
+          topSubjects_ = null;
+        }
+        return topSubjectsBuilder_;
+      }
+
+      // repeated .TermFrequency topObjects = 12;
+      private java.util.List<ProtobufStats.TermFrequency> topObjects_ =
+        java.util.Collections.emptyList();
+      private void ensureTopObjectsIsMutable() {
+        if (!((bitField0_ & 0x00000800) == 0x00000800)) {
+          topObjects_ = new java.util.ArrayList<ProtobufStats.TermFrequency>(topObjects_);
+          bitField0_ |= 0x00000800;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilder<
+          ProtobufStats.TermFrequency, ProtobufStats.TermFrequency.Builder, ProtobufStats.TermFrequencyOrBuilder> topObjectsBuilder_;
+
+      /**
+       * <code>repeated .TermFrequency topObjects = 12;</code>
+       *
+       * <pre>
+       * most frequent objects, in decreasing order
+       * </pre>
+       */
+      public java.util.List<ProtobufStats.TermFrequency> getTopObjectsList() {
+        if (topObjectsBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(topObjects_);
+        } else {
+          return topObjectsBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .TermFrequency topObjects = 12;</code>
+       *
+       * <pre>
+       * most frequent objects, in decreasing order
+       * </pre>
+       */
+      public int getTopObjectsCount() {
+        if (topObjectsBuilder_ == null) {
+          return topObjects_.size();
+        } else {
+          return topObjectsBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .TermFrequency topObjects = 12;</code>
+       *
+       * <pre>
+       * most frequent objects, in decreasing order
+       * </pre>
+       */
+      public ProtobufStats.TermFrequency getTopObjects(int index) {
+        if (topObjectsBuilder_ == null) {
+          return topObjects_.get(index);
+        } else {
+          return topObjectsBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .TermFrequency topObjects = 12;</code>
+       *
+       * <pre>
+       * most frequent objects, in decreasing order
+       * </pre>
+       */
+      public Builder setTopObjects(
+          int index, ProtobufStats.TermFrequency value) {
+        if (topObjectsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureTopObjectsIsMutable();
+          topObjects_.set(index, value);
+          onChanged();
+        } else {
+          topObjectsBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .TermFrequency topObjects = 12;</code>
+       *
+       * <pre>
+       * most frequent objects, in decreasing order
+       * </pre>
+       */
+      public Builder setTopObjects(
+          int index, ProtobufStats.TermFrequency.Builder builderForValue) {
+        if (topObjectsBuilder_ == null) {
+          ensureTopObjectsIsMutable();
+          topObjects_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          topObjectsBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .TermFrequency topObjects = 12;</code>
+       *
+       * <pre>
+       * most frequent objects, in decreasing order
+       * </pre>
+       */
+      public Builder addTopObjects(ProtobufStats.TermFrequency value) {
+        if (topObjectsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureTopObjectsIsMutable();
+          topObjects_.add(value);
+          onChanged();
+        } else {
+          topObjectsBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .TermFrequency topObjects = 12;</code>
+       *
+       * <pre>
+       * most frequent objects, in decreasing order
+       * </pre>
+       */
+      public Builder addTopObjects(
+          int index, ProtobufStats.TermFrequency value) {
+        if (topObjectsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureTopObjectsIsMutable();
+          topObjects_.add(index, value);
+          onChanged();
+        } else {
+          topObjectsBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .TermFrequency topObjects = 12;</code>
+       *
+       * <pre>
+       * most frequent objects, in decreasing order
+       * </pre>
+       */
+      public Builder addTopObjects(
+          ProtobufStats.TermFrequency.Builder builderForValue) {
+        if (topObjectsBuilder_ == null) {
+          ensureTopObjectsIsMutable();
+          topObjects_.add(builderForValue.build());
+          onChanged();
+        } else {
+          topObjectsBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .TermFrequency topObjects = 12;</code>
+       *
+       * <pre>
+       * most frequent objects, in decreasing order
+       * </pre>
+       */
+      public Builder addTopObjects(
+          int index, ProtobufStats.TermFrequency.Builder builderForValue) {
+        if (topObjectsBuilder_ == null) {
+          ensureTopObjectsIsMutable();
+          topObjects_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          topObjectsBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .TermFrequency topObjects = 12;</code>
+       *
+       * <pre>
+       * most frequent objects, in decreasing order
+       * </pre>
+       */
+      public Builder addAllTopObjects(
+          java.lang.Iterable<? extends ProtobufStats.TermFrequency> values) {
+        if (topObjectsBuilder_ == null) {
+          ensureTopObjectsIsMutable();
+          super.addAll(values, topObjects_);
+          onChanged();
+        } else {
+          topObjectsBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .TermFrequency topObjects = 12;</code>
+       *
+       * <pre>
+       * most frequent objects, in decreasing order
+       * </pre>
+       */
+      public Builder clearTopObjects() {
+        if (topObjectsBuilder_ == null) {
+          topObjects_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000800);
+          onChanged();
+        } else {
+          topObjectsBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .TermFrequency topObjects = 12;</code>
+       *
+       * <pre>
+       * most frequent objects, in decreasing order
+       * </pre>
+       */
+      public Builder removeTopObjects(int index) {
+        if (topObjectsBuilder_ == null) {
+          ensureTopObjectsIsMutable();
+          topObjects_.remove(index);
+          onChanged();
+        } else {
+          topObjectsBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .TermFrequency topObjects = 12;</code>
+       *
+       * <pre>
+       * most frequent objects, in decreasing order
+       * </pre>
+       */
+      public ProtobufStats.TermFrequency.Builder getTopObjectsBuilder(
+          int index) {
+        return getTopObjectsFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .TermFrequency topObjects = 12;</code>
+       *
+       * <pre>
+       * most frequent objects, in decreasing order
+       * </pre>
+       */
+      public ProtobufStats.TermFrequencyOrBuilder getTopObjectsOrBuilder(
+          int index) {
+        if (topObjectsBuilder_ == null) {
+          return topObjects_.get(index);  } else {
+          return topObjectsBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .TermFrequency topObjects = 12;</code>
+       *
+       * <pre>
+       * most frequent objects, in decreasing order
+       * </pre>
+       */
+      public java.util.List<? extends ProtobufStats.TermFrequencyOrBuilder> 
+           getTopObjectsOrBuilderList() {
+        if (topObjectsBuilder_ != null) {
+          return topObjectsBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(topObjects_);
+        }
+      }
+      /**
+       * <code>repeated .TermFrequency topObjects = 12;</code>
+       *
+       * <pre>
+       * most frequent objects, in decreasing order
+       * </pre>
+       */
+      public ProtobufStats.TermFrequency.Builder addTopObjectsBuilder() {
+        return getTopObjectsFieldBuilder().addBuilder(
+            ProtobufStats.TermFrequency.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .TermFrequency topObjects = 12;</code>
+       *
+       * <pre>
+       * most frequent objects, in decreasing order
+       * </pre>
+       */
+      public ProtobufStats.TermFrequency.Builder addTopObjectsBuilder(
+          int index) {
+        return getTopObjectsFieldBuilder().addBuilder(
+            index, ProtobufStats.TermFrequency.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .TermFrequency topObjects = 12;</code>
+       *
+       * <pre>
+       * most frequent objects, in decreasing order
+       * </pre>
+       */
+      public java.util.List<ProtobufStats.TermFrequency.Builder> 
+           getTopObjectsBuilderList() {
+        return getTopObjectsFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          ProtobufStats.TermFrequency, ProtobufStats.TermFrequency.Builder, ProtobufStats.TermFrequencyOrBuilder> 
+          getTopObjectsFieldBuilder() {
+        if (topObjectsBuilder_ == null) {
+          topObjectsBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              ProtobufStats.TermFrequency, ProtobufStats.TermFrequency.Builder, ProtobufStats.TermFrequencyOrBuilder>(
+                  topObjects_,
+                  ((bitField0_ & 0x00000800) == 0x00000800),
+                  getParentForChildren(),
+                  isClean());
+          topObjects_ = null;
+        }
+        return topObjectsBuilder_;
+      }
+
+      // optional .Sketch subjectsSketch = 13;
+      private ProtobufStats.Sketch subjectsSketch_ = ProtobufStats.Sketch.getDefaultInstance();
+      private com.google.protobuf.SingleFieldBuilder<
+          ProtobufStats.Sketch, ProtobufStats.Sketch.Builder, ProtobufStats.SketchOrBuilder> subjectsSketchBuilder_;
+      /**
+       * <code>optional .Sketch subjectsSketch = 13;</code>
+       *
+       * <pre>
+       * approximate set of the subjects
+       * </pre>
+       */
+      public boolean hasSubjectsSketch() {
+        return ((bitField0_ & 0x00001000) == 0x00001000);
+      }
+      /**
+       * <code>optional .Sketch subjectsSketch = 13;</code>
+       *
+       * <pre>
+       * approximate set of the subjects
+       * </pre>
+       */
+      public ProtobufStats.Sketch getSubjectsSketch() {
+        if (subjectsSketchBuilder_ == null) {
+          return subjectsSketch_;
+        } else {
+          return subjectsSketchBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>optional .Sketch subjectsSketch = 13;</code>
+       *
+       * <pre>
+       * approximate set of the subjects
+       * </pre>
+       */
+      public Builder setSubjectsSketch(ProtobufStats.Sketch value) {
+        if (subjectsSketchBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          subjectsSketch_ = value;
+          onChanged();
+        } else {
+          subjectsSketchBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00001000;
+        return this;
+      }
+      /**
+       * <code>optional .Sketch subjectsSketch = 13;</code>
+       *
+       * <pre>
+       * approximate set of the subjects
+       * </pre>
+       */
+      public Builder setSubjectsSketch(
+          ProtobufStats.Sketch.Builder builderForValue) {
+        if (subjectsSketchBuilder_ == null) {
+          subjectsSketch_ = builderForValue.build();
+          onChanged();
+        } else {
+          subjectsSketchBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00001000;
+        return this;
+      }
+      /**
+       * <code>optional .Sketch subjectsSketch = 13;</code>
+       *
+       * <pre>
+       * approximate set of the subjects
+       * </pre>
+       */
+      public Builder mergeSubjectsSketch(ProtobufStats.Sketch value) {
+        if (subjectsSketchBuilder_ == null) {
+          if (((bitField0_ & 0x00001000) == 0x00001000) &&
+              subjectsSketch_ != ProtobufStats.Sketch.getDefaultInstance()) {
+            subjectsSketch_ =
+              ProtobufStats.Sketch.newBuilder(subjectsSketch_).mergeFrom(value).buildPartial();
+          } else {
+            subjectsSketch_ = value;
+          }
+          onChanged();
+        } else {
+          subjectsSketchBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00001000;
+        return this;
+      }
+      /**
+       * <code>optional .Sketch subjectsSketch = 13;</code>
+       *
+       * <pre>
+       * approximate set of the subjects
+       * </pre>
+       */
+      public Builder clearSubjectsSketch() {
+        if (subjectsSketchBuilder_ == null) {
+          subjectsSketch_ = ProtobufStats.Sketch.getDefaultInstance();
+          onChanged();
+        } else {
+          subjectsSketchBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00001000);
+        return this;
+      }
+      /**
+       * <code>optional .Sketch subjectsSketch = 13;</code>
+       *
+       * <pre>
+       * approximate set of the subjects
+       * </pre>
+       */
+      public ProtobufStats.Sketch.Builder getSubjectsSketchBuilder() {
+        bitField0_ |= 0x00001000;
+        onChanged();
+        return getSubjectsSketchFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .Sketch subjectsSketch = 13;</code>
+       *
+       * <pre>
+       * approximate set of the subjects
+       * </pre>
+       */
+      public ProtobufStats.SketchOrBuilder getSubjectsSketchOrBuilder() {
+        if (subjectsSketchBuilder_ != null) {
+          return subjectsSketchBuilder_.getMessageOrBuilder();
+        } else {
+          return subjectsSketch_;
+        }
+      }
+      /**
+       * <code>optional .Sketch subjectsSketch = 13;</code>
+       *
+       * <pre>
+       * approximate set of the subjects
+       * </pre>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          ProtobufStats.Sketch, ProtobufStats.Sketch.Builder, ProtobufStats.SketchOrBuilder> 
+          getSubjectsSketchFieldBuilder() {
+        if (subjectsSketchBuilder_ == null) {
+          subjectsSketchBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              ProtobufStats.Sketch, ProtobufStats.Sketch.Builder, ProtobufStats.SketchOrBuilder>(
+                  subjectsSketch_,
+                  getParentForChildren(),
+                  isClean());
+          subjectsSketch_ = null;
+        }
+        return subjectsSketchBuilder_;
+      }
+
+      // optional .Sketch objectsSketch = 14;
+      private ProtobufStats.Sketch objectsSketch_ = ProtobufStats.Sketch.getDefaultInstance();
+      private com.google.protobuf.SingleFieldBuilder<
+          ProtobufStats.Sketch, ProtobufStats.Sketch.Builder, ProtobufStats.SketchOrBuilder> objectsSketchBuilder_;
+      /**
+       * <code>optional .Sketch objectsSketch = 14;</code>
+       *
+       * <pre>
+       * approximate set of the objects
+       * </pre>
+       */
+      public boolean hasObjectsSketch() {
+        return ((bitField0_ & 0x00002000) == 0x00002000);
+      }
+      /**
+       * <code>optional .Sketch objectsSketch = 14;</code>
+       *
+       * <pre>
+       * approximate set of the objects
+       * </pre>
+       */
+      public ProtobufStats.Sketch getObjectsSketch() {
+        if (objectsSketchBuilder_ == null) {
+          return objectsSketch_;
+        } else {
+          return objectsSketchBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>optional .Sketch objectsSketch = 14;</code>
+       *
+       * <pre>
+       * approximate set of the objects
+       * </pre>
+       */
+      public Builder setObjectsSketch(ProtobufStats.Sketch value) {
+        if (objectsSketchBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          objectsSketch_ = value;
+          onChanged();
+        } else {
+          objectsSketchBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00002000;
+        return this;
+      }
+      /**
+       * <code>optional .Sketch objectsSketch = 14;</code>
+       *
+       * <pre>
+       * approximate set of the objects
+       * </pre>
+       */
+      public Builder setObjectsSketch(
+          ProtobufStats.Sketch.Builder builderForValue) {
+        if (objectsSketchBuilder_ == null) {
+          objectsSketch_ = builderForValue.build();
+          onChanged();
+        } else {
+          objectsSketchBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00002000;
+        return this;
+      }
+      /**
+       * <code>optional .Sketch objectsSketch = 14;</code>
+       *
+       * <pre>
+       * approximate set of the objects
+       * </pre>
+       */
+      public Builder mergeObjectsSketch(ProtobufStats.Sketch value) {
+        if (objectsSketchBuilder_ == null) {
+          if (((bitField0_ & 0x00002000) == 0x00002000) &&
+              objectsSketch_ != ProtobufStats.Sketch.getDefaultInstance()) {
+            objectsSketch_ =
+              ProtobufStats.Sketch.newBuilder(objectsSketch_).mergeFrom(value).buildPartial();
+          } else {
+            objectsSketch_ = value;
+          }
+          onChanged();
+        } else {
+          objectsSketchBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00002000;
+        return this;
+      }
+      /**
+       * <code>optional .Sketch objectsSketch = 14;</code>
+       *
+       * <pre>
+       * approximate set of the objects
+       * </pre>
+       */
+      public Builder clearObjectsSketch() {
+        if (objectsSketchBuilder_ == null) {
+          objectsSketch_ = ProtobufStats.Sketch.getDefaultInstance();
+          onChanged();
+        } else {
+          objectsSketchBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00002000);
+        return this;
+      }
+      /**
+       * <code>optional .Sketch objectsSketch = 14;</code>
+       *
+       * <pre>
+       * approximate set of the objects
+       * </pre>
+       */
+      public ProtobufStats.Sketch.Builder getObjectsSketchBuilder() {
+        bitField0_ |= 0x00002000;
+        onChanged();
+        return getObjectsSketchFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .Sketch objectsSketch = 14;</code>
+       *
+       * <pre>
+       * approximate set of the objects
+       * </pre>
+       */
+      public ProtobufStats.SketchOrBuilder getObjectsSketchOrBuilder() {
+        if (objectsSketchBuilder_ != null) {
+          return objectsSketchBuilder_.getMessageOrBuilder();
+        } else {
+          return objectsSketch_;
+        }
+      }
+      /**
+       * <code>optional .Sketch objectsSketch = 14;</code>
+       *
+       * <pre>
+       * approximate set of the objects
+       * </pre>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          ProtobufStats.Sketch, ProtobufStats.Sketch.Builder, ProtobufStats.SketchOrBuilder> 
+          getObjectsSketchFieldBuilder() {
+        if (objectsSketchBuilder_ == null) {
+          objectsSketchBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              ProtobufStats.Sketch, ProtobufStats.Sketch.Builder, ProtobufStats.SketchOrBuilder>(
+                  objectsSketch_,
+                  getParentForChildren(),
+                  isClean());
+          objectsSketch_ = null;
+        }
+        return objectsSketchBuilder_;
+      }
+
+      // repeated .JoinStat joinStats = 15;
+      private java.util.List<ProtobufStats.JoinStat> joinStats_ =
+        java.util.Collections.emptyList();
+      private void ensureJoinStatsIsMutable() {
+        if (!((bitField0_ & 0x00004000) == 0x00004000)) {
+          joinStats_ = new java.util.ArrayList<ProtobufStats.JoinStat>(joinStats_);
+          bitField0_ |= 0x00004000;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilder<
+          ProtobufStats.JoinStat, ProtobufStats.JoinStat.Builder, ProtobufStats.JoinStatOrBuilder> joinStatsBuilder_;
+
+      /**
+       * <code>repeated .JoinStat joinStats = 15;</code>
+       *
+       * <pre>
+       * cardinality of the joins with other tables
+       * </pre>
+       */
+      public java.util.List<ProtobufStats.JoinStat> getJoinStatsList() {
+        if (joinStatsBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(joinStats_);
+        } else {
+          return joinStatsBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .JoinStat joinStats = 15;</code>
+       *
+       * <pre>
+       * cardinality of the joins with other tables
+       * </pre>
+       */
+      public int getJoinStatsCount() {
+        if (joinStatsBuilder_ == null) {
+          return joinStats_.size();
+        } else {
+          return joinStatsBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .JoinStat joinStats = 15;</code>
+       *
+       * <pre>
+       * cardinality of the joins with other tables
+       * </pre>
+       */
+      public ProtobufStats.JoinStat getJoinStats(int index) {
+        if (joinStatsBuilder_ == null) {
+          return joinStats_.get(index);
+        } else {
+          return joinStatsBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .JoinStat joinStats = 15;</code>
+       *
+       * <pre>
+       * cardinality of the joins with other tables
+       * </pre>
+       */
+      public Builder setJoinStats(
+          int index, ProtobufStats.JoinStat value) {
+        if (joinStatsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureJoinStatsIsMutable();
+          joinStats_.set(index, value);
+          onChanged();
+        } else {
+          joinStatsBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .JoinStat joinStats = 15;</code>
+       *
+       * <pre>
+       * cardinality of the joins with other tables
+       * </pre>
+       */
+      public Builder setJoinStats(
+          int index, ProtobufStats.JoinStat.Builder builderForValue) {
+        if (joinStatsBuilder_ == null) {
+          ensureJoinStatsIsMutable();
+          joinStats_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          joinStatsBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .JoinStat joinStats = 15;</code>
+       *
+       * <pre>
+       * cardinality of the joins with other tables
+       * </pre>
+       */
+      public Builder addJoinStats(ProtobufStats.JoinStat value) {
+        if (joinStatsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureJoinStatsIsMutable();
+          joinStats_.add(value);
+          onChanged();
+        } else {
+          joinStatsBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .JoinStat joinStats = 15;</code>
+       *
+       * <pre>
+       * cardinality of the joins with other tables
+       * </pre>
+       */
+      public Builder addJoinStats(
+          int index, ProtobufStats.JoinStat value) {
+        if (joinStatsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureJoinStatsIsMutable();
+          joinStats_.add(index, value);
+          onChanged();
+        } else {
+          joinStatsBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .JoinStat joinStats = 15;</code>
+       *
+       * <pre>
+       * cardinality of the joins with other tables
+       * </pre>
+       */
+      public Builder addJoinStats(
+          ProtobufStats.JoinStat.Builder builderForValue) {
+        if (joinStatsBuilder_ == null) {
+          ensureJoinStatsIsMutable();
+          joinStats_.add(builderForValue.build());
+          onChanged();
+        } else {
+          joinStatsBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .JoinStat joinStats = 15;</code>
+       *
+       * <pre>
+       * cardinality of the joins with other tables
+       * </pre>
+       */
+      public Builder addJoinStats(
+          int index, ProtobufStats.JoinStat.Builder builderForValue) {
+        if (joinStatsBuilder_ == null) {
+          ensureJoinStatsIsMutable();
+          joinStats_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          joinStatsBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .JoinStat joinStats = 15;</code>
+       *
+       * <pre>
+       * cardinality of the joins with other tables
+       * </pre>
+       */
+      public Builder addAllJoinStats(
+          java.lang.Iterable<? extends ProtobufStats.JoinStat> values) {
+        if (joinStatsBuilder_ == null) {
+          ensureJoinStatsIsMutable();
+          super.addAll(values, joinStats_);
+          onChanged();
+        } else {
+          joinStatsBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .JoinStat joinStats = 15;</code>
+       *
+       * <pre>
+       * cardinality of the joins with other tables
+       * </pre>
+       */
+      public Builder clearJoinStats() {
+        if (joinStatsBuilder_ == null) {
+          joinStats_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00004000);
+          onChanged();
+        } else {
+          joinStatsBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .JoinStat joinStats = 15;</code>
+       *
+       * <pre>
+       * cardinality of the joins with other tables
+       * </pre>
+       */
+      public Builder removeJoinStats(int index) {
+        if (joinStatsBuilder_ == null) {
+          ensureJoinStatsIsMutable();
+          joinStats_.remove(index);
+          onChanged();
+        } else {
+          joinStatsBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .JoinStat joinStats = 15;</code>
+       *
+       * <pre>
+       * cardinality of the joins with other tables
+       * </pre>
+       */
+      public ProtobufStats.JoinStat.Builder getJoinStatsBuilder(
+          int index) {
+        return getJoinStatsFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .JoinStat joinStats = 15;</code>
+       *
+       * <pre>
+       * cardinality of the joins with other tables
+       * </pre>
+       */
+      public ProtobufStats.JoinStatOrBuilder getJoinStatsOrBuilder(
+          int index) {
+        if (joinStatsBuilder_ == null) {
+          return joinStats_.get(index);  } else {
+          return joinStatsBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .JoinStat joinStats = 15;</code>
+       *
+       * <pre>
+       * cardinality of the joins with other tables
+       * </pre>
+       */
+      public java.util.List<? extends ProtobufStats.JoinStatOrBuilder> 
+           getJoinStatsOrBuilderList() {
+        if (joinStatsBuilder_ != null) {
+          return joinStatsBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(joinStats_);
+        }
+      }
+      /**
+       * <code>repeated .JoinStat joinStats = 15;</code>
+       *
+       * <pre>
+       * cardinality of the joins with other tables
+       * </pre>
+       */
+      public ProtobufStats.JoinStat.Builder addJoinStatsBuilder() {
+        return getJoinStatsFieldBuilder().addBuilder(
+            ProtobufStats.JoinStat.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .JoinStat joinStats = 15;</code>
+       *
+       * <pre>
+       * cardinality of the joins with other tables
+       * </pre>
+       */
+      public ProtobufStats.JoinStat.Builder addJoinStatsBuilder(
+          int index) {
+        return getJoinStatsFieldBuilder().addBuilder(
+            index, ProtobufStats.JoinStat.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .JoinStat joinStats = 15;</code>
+       *
+       * <pre>
+       * cardinality of the joins with other tables
+       * </pre>
+       */
+      public java.util.List<ProtobufStats.JoinStat.Builder> 
+           getJoinStatsBuilderList() {
+        return getJoinStatsFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          ProtobufStats.JoinStat, ProtobufStats.JoinStat.Builder, ProtobufStats.JoinStatOrBuilder> 
+          getJoinStatsFieldBuilder() {
+        if (joinStatsBuilder_ == null) {
+          joinStatsBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              ProtobufStats.JoinStat, ProtobufStats.JoinStat.Builder, ProtobufStats.JoinStatOrBuilder>(
+                  joinStats_,
+                  ((bitField0_ & 0x00004000) == 0x00004000),
+                  getParentForChildren(),
+                  isClean());
+          joinStats_ = null;
+        }
+        return joinStatsBuilder_;
+      }
+
+      // repeated .TermFrequency heavySubjects = 16;
+      private java.util.List<ProtobufStats.TermFrequency> heavySubjects_ =
+        java.util.Collections.emptyList();
+      private void ensureHeavySubjectsIsMutable() {
+        if (!((bitField0_ & 0x00008000) == 0x00008000)) {
+          heavySubjects_ = new java.util.ArrayList<ProtobufStats.TermFrequency>(heavySubjects_);
+          bitField0_ |= 0x00008000;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilder<
+          ProtobufStats.TermFrequency, ProtobufStats.TermFrequency.Builder, ProtobufStats.TermFrequencyOrBuilder> heavySubjectsBuilder_;
+
+      /**
+       * <code>repeated .TermFrequency heavySubjects = 16;</code>
+       *
+       * <pre>
+       * subjects above the heavy hitters frequency (skewed join keys)
+       * </pre>
+       */
+      public java.util.List<ProtobufStats.TermFrequency> getHeavySubjectsList() {
+        if (heavySubjectsBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(heavySubjects_);
+        } else {
+          return heavySubjectsBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .TermFrequency heavySubjects = 16;</code>
+       *
+       * <pre>
+       * subjects above the heavy hitters frequency (skewed join keys)
+       * </pre>
+       */
+      public int getHeavySubjectsCount() {
+        if (heavySubjectsBuilder_ == null) {
+          return heavySubjects_.size();
+        } else {
+          return heavySubjectsBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .TermFrequency heavySubjects = 16;</code>
+       *
+       * <pre>
+       * subjects above the heavy hitters frequency (skewed join keys)
+       * </pre>
+       */
+      public ProtobufStats.TermFrequency getHeavySubjects(int index) {
+        if (heavySubjectsBuilder_ == null) {
+          return heavySubjects_.get(index);
+        } else {
+          return heavySubjectsBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .TermFrequency heavySubjects = 16;</code>
+       *
+       * <pre>
+       * subjects above the heavy hitters frequency (skewed join keys)
+       * </pre>
+       */
+      public Builder setHeavySubjects(
+          int index, ProtobufStats.TermFrequency value) {
+        if (heavySubjectsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureHeavySubjectsIsMutable();
+          heavySubjects_.set(index, value);
+          onChanged();
+        } else {
+          heavySubjectsBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .TermFrequency heavySubjects = 16;</code>
+       *
+       * <pre>
+       * subjects above the heavy hitters frequency (skewed join keys)
+       * </pre>
+       */
+      public Builder setHeavySubjects(
+          int index, ProtobufStats.TermFrequency.Builder builderForValue) {
+        if (heavySubjectsBuilder_ == null) {
+          ensureHeavySubjectsIsMutable();
+          heavySubjects_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          heavySubjectsBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .TermFrequency heavySubjects = 16;</code>
+       *
+       * <pre>
+       * subjects above the heavy hitters frequency (skewed join keys)
+       * </pre>
+       */
+      public Builder addHeavySubjects(ProtobufStats.TermFrequency value) {
+        if (heavySubjectsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureHeavySubjectsIsMutable();
+          heavySubjects_.add(value);
+          onChanged();
+        } else {
+          heavySubjectsBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .TermFrequency heavySubjects = 16;</code>
+       *
+       * <pre>
+       * subjects above the heavy hitters frequency (skewed join keys)
+       * </pre>
+       */
+      public Builder addHeavySubjects(
+          int index, ProtobufStats.TermFrequency value) {
+        if (heavySubjectsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureHeavySubjectsIsMutable();
+          heavySubjects_.add(index, value);
+          onChanged();
+        } else {
+          heavySubjectsBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .TermFrequency heavySubjects = 16;</code>
+       *
+       * <pre>
+       * subjects above the heavy hitters frequency (skewed join keys)
+       * </pre>
+       */
+      public Builder addHeavySubjects(
+          ProtobufStats.TermFrequency.Builder builderForValue) {
+        if (heavySubjectsBuilder_ == null) {
+          ensureHeavySubjectsIsMutable();
+          heavySubjects_.add(builderForValue.build());
+          onChanged();
+        } else {
+          heavySubjectsBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .TermFrequency heavySubjects = 16;</code>
+       *
+       * <pre>
+       * subjects above the heavy hitters frequency (skewed join keys)
+       * </pre>
+       */
+      public Builder addHeavySubjects(
+          int index, ProtobufStats.TermFrequency.Builder builderForValue) {
+        if (heavySubjectsBuilder_ == null) {
+          ensureHeavySubjectsIsMutable();
+          heavySubjects_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          heavySubjectsBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .TermFrequency heavySubjects = 16;</code>
+       *
+       * <pre>
+       * subjects above the heavy hitters frequency (skewed join keys)
+       * </pre>
+       */
+      public Builder addAllHeavySubjects(
+          java.lang.Iterable<? extends ProtobufStats.TermFrequency> values) {
+        if (heavySubjectsBuilder_ == null) {
+          ensureHeavySubjectsIsMutable();
+          super.addAll(values, heavySubjects_);
+          onChanged();
+        } else {
+          heavySubjectsBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .TermFrequency heavySubjects = 16;</code>
+       *
+       * <pre>
+       * subjects above the heavy hitters frequency (skewed join keys)
+       * </pre>
+       */
+      public Builder clearHeavySubjects() {
+        if (heavySubjectsBuilder_ == null) {
+          heavySubjects_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00008000);
+          onChanged();
+        } else {
+          heavySubjectsBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .TermFrequency heavySubjects = 16;</code>
+       *
+       * <pre>
+       * subjects above the heavy hitters frequency (skewed join keys)
+       * </pre>
+       */
+      public Builder removeHeavySubjects(int index) {
+        if (heavySubjectsBuilder_ == null) {
+          ensureHeavySubjectsIsMutable();
+          heavySubjects_.remove(index);
+          onChanged();
+        } else {
+          heavySubjectsBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .TermFrequency heavySubjects = 16;</code>
+       *
+       * <pre>
+       * subjects above the heavy hitters frequency (skewed join keys)
+       * </pre>
+       */
+      public ProtobufStats.TermFrequency.Builder getHeavySubjectsBuilder(
+          int index) {
+        return getHeavySubjectsFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .TermFrequency heavySubjects = 16;</code>
+       *
+       * <pre>
+       * subjects above the heavy hitters frequency (skewed join keys)
+       * </pre>
+       */
+      public ProtobufStats.TermFrequencyOrBuilder getHeavySubjectsOrBuilder(
+          int index) {
+        if (heavySubjectsBuilder_ == null) {
+          return heavySubjects_.get(index);  } else {
+          return heavySubjectsBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .TermFrequency heavySubjects = 16;</code>
+       *
+       * <pre>
+       * subjects above the heavy hitters frequency (skewed join keys)
+       * </pre>
+       */
+      public java.util.List<? extends ProtobufStats.TermFrequencyOrBuilder> 
+           getHeavySubjectsOrBuilderList() {
+        if (heavySubjectsBuilder_ != null) {
+          return heavySubjectsBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(heavySubjects_);
+        }
+      }
+      /**
+       * <code>repeated .TermFrequency heavySubjects = 16;</code>
+       *
+       * <pre>
+       * subjects above the heavy hitters frequency (skewed join keys)
+       * </pre>
+       */
+      public ProtobufStats.TermFrequency.Builder addHeavySubjectsBuilder() {
+        return getHeavySubjectsFieldBuilder().addBuilder(
+            ProtobufStats.TermFrequency.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .TermFrequency heavySubjects = 16;</code>
+       *
+       * <pre>
+       * subjects above the heavy hitters frequency (skewed join keys)
+       * </pre>
+       */
+      public ProtobufStats.TermFrequency.Builder addHeavySubjectsBuilder(
+          int index) {
+        return getHeavySubjectsFieldBuilder().addBuilder(
+            index, ProtobufStats.TermFrequency.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .TermFrequency heavySubjects = 16;</code>
+       *
+       * <pre>
+       * subjects above the heavy hitters frequency (skewed join keys)
+       * </pre>
+       */
+      public java.util.List<ProtobufStats.TermFrequency.Builder> 
+           getHeavySubjectsBuilderList() {
+        return getHeavySubjectsFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          ProtobufStats.TermFrequency, ProtobufStats.TermFrequency.Builder, ProtobufStats.TermFrequencyOrBuilder> 
+          getHeavySubjectsFieldBuilder() {
+        if (heavySubjectsBuilder_ == null) {
+          heavySubjectsBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              ProtobufStats.TermFrequency, ProtobufStats.TermFrequency.Builder, ProtobufStats.TermFrequencyOrBuilder>(
+                  heavySubjects_,
+                  ((bitField0_ & 0x00008000) == 0x00008000),
+                  getParentForChildren(),
+                  isClean());
+          heavySubjects_ = null;
+        }
+        return heavySubjectsBuilder_;
+      }
+
+      // repeated .TermFrequency heavyObjects = 17;
+      private java.util.List<ProtobufStats.TermFrequency> heavyObjects_ =
+        java.util.Collections.emptyList();
+      private void ensureHeavyObjectsIsMutable() {
+        if (!((bitField0_ & 0x00010000) == 0x00010000)) {
+          heavyObjects_ = new java.util.ArrayList<ProtobufStats.TermFrequency>(heavyObjects_);
+          bitField0_ |= 0x00010000;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilder<
+          ProtobufStats.TermFrequency, ProtobufStats.TermFrequency.Builder, ProtobufStats.TermFrequencyOrBuilder> heavyObjectsBuilder_;
+
+      /**
+       * <code>repeated .TermFrequency heavyObjects = 17;</code>
+       *
+       * <pre>
+       * objects above the heavy hitters frequency (skewed join keys)
+       * </pre>
+       */
+      public java.util.List<ProtobufStats.TermFrequency> getHeavyObjectsList() {
+        if (heavyObjectsBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(heavyObjects_);
+        } else {
+          return heavyObjectsBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .TermFrequency heavyObjects = 17;</code>
+       *
+       * <pre>
+       * objects above the heavy hitters frequency (skewed join keys)
+       * </pre>
+       */
+      public int getHeavyObjectsCount() {
+        if (heavyObjectsBuilder_ == null) {
+          return heavyObjects_.size();
+        } else {
+          return heavyObjectsBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .TermFrequency heavyObjects = 17;</code>
+       *
+       * <pre>
+       * objects above the heavy hitters frequency (skewed join keys)
+       * </pre>
+       */
+      public ProtobufStats.TermFrequency getHeavyObjects(int index) {
+        if (heavyObjectsBuilder_ == null) {
+          return heavyObjects_.get(index);
+        } else {
+          return heavyObjectsBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .TermFrequency heavyObjects = 17;</code>
+       *
+       * <pre>
+       * objects above the heavy hitters frequency (skewed join keys)
+       * </pre>
+       */
+      public Builder setHeavyObjects(
+          int index, ProtobufStats.TermFrequency value) {
+        if (heavyObjectsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureHeavyObjectsIsMutable();
+          heavyObjects_.set(index, value);
+          onChanged();
+        } else {
+          heavyObjectsBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .TermFrequency heavyObjects = 17;</code>
+       *
+       * <pre>
+       * objects above the heavy hitters frequency (skewed join keys)
+       * </pre>
+       */
+      public Builder setHeavyObjects(
+          int index, ProtobufStats.TermFrequency.Builder builderForValue) {
+        if (heavyObjectsBuilder_ == null) {
+          ensureHeavyObjectsIsMutable();
+          heavyObjects_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          heavyObjectsBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .TermFrequency heavyObjects = 17;</code>
+       *
+       * <pre>
+       * objects above the heavy hitters frequency (skewed join keys)
+       * </pre>
+       */
+      public Builder addHeavyObjects(ProtobufStats.TermFrequency value) {
+        if (heavyObjectsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureHeavyObjectsIsMutable();
+          heavyObjects_.add(value);
+          onChanged();
+        } else {
+          heavyObjectsBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .TermFrequency heavyObjects = 17;</code>
+       *
+       * <pre>
+       * objects above the heavy hitters frequency (skewed join keys)
+       * </pre>
+       */
+      public Builder addHeavyObjects(
+          int index, ProtobufStats.TermFrequency value) {
+        if (heavyObjectsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureHeavyObjectsIsMutable();
+          heavyObjects_.add(index, value);
+          onChanged();
+        } else {
+          heavyObjectsBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .TermFrequency heavyObjects = 17;</code>
+       *
+       * <pre>
+       * objects above the heavy hitters frequency (skewed join keys)
+       * </pre>
+       */
+      public Builder addHeavyObjects(
+          ProtobufStats.TermFrequency.Builder builderForValue) {
+        if (heavyObjectsBuilder_ == null) {
+          ensureHeavyObjectsIsMutable();
+          heavyObjects_.add(builderForValue.build());
+          onChanged();
+        } else {
+          heavyObjectsBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .TermFrequency heavyObjects = 17;</code>
+       *
+       * <pre>
+       * objects above the heavy hitters frequency (skewed join keys)
+       * </pre>
+       */
+      public Builder addHeavyObjects(
+          int index, ProtobufStats.TermFrequency.Builder builderForValue) {
+        if (heavyObjectsBuilder_ == null) {
+          ensureHeavyObjectsIsMutable();
+          heavyObjects_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          heavyObjectsBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .TermFrequency heavyObjects = 17;</code>
+       *
+       * <pre>
+       * objects above the heavy hitters frequency (skewed join keys)
+       * </pre>
+       */
+      public Builder addAllHeavyObjects(
+          java.lang.Iterable<? extends ProtobufStats.TermFrequency> values) {
+        if (heavyObjectsBuilder_ == null) {
+          ensureHeavyObjectsIsMutable();
+          super.addAll(values, heavyObjects_);
+          onChanged();
+        } else {
+          heavyObjectsBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .TermFrequency heavyObjects = 17;</code>
+       *
+       * <pre>
+       * objects above the heavy hitters frequency (skewed join keys)
+       * </pre>
+       */
+      public Builder clearHeavyObjects() {
+        if (heavyObjectsBuilder_ == null) {
+          heavyObjects_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00010000);
+          onChanged();
+        } else {
+          heavyObjectsBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .TermFrequency heavyObjects = 17;</code>
+       *
+       * <pre>
+       * objects above the heavy hitters frequency (skewed join keys)
+       * </pre>
+       */
+      public Builder removeHeavyObjects(int index) {
+        if (heavyObjectsBuilder_ == null) {
+          ensureHeavyObjectsIsMutable();
+          heavyObjects_.remove(index);
+          onChanged();
+        } else {
+          heavyObjectsBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .TermFrequency heavyObjects = 17;</code>
+       *
+       * <pre>
+       * objects above the heavy hitters frequency (skewed join keys)
+       * </pre>
+       */
+      public ProtobufStats.TermFrequency.Builder getHeavyObjectsBuilder(
+          int index) {
+        return getHeavyObjectsFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .TermFrequency heavyObjects = 17;</code>
+       *
+       * <pre>
+       * objects above the heavy hitters frequency (skewed join keys)
+       * </pre>
+       */
+      public ProtobufStats.TermFrequencyOrBuilder getHeavyObjectsOrBuilder(
+          int index) {
+        if (heavyObjectsBuilder_ == null) {
+          return heavyObjects_.get(index);  } else {
+          return heavyObjectsBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .TermFrequency heavyObjects = 17;</code>
+       *
+       * <pre>
+       * objects above the heavy hitters frequency (skewed join keys)
+       * </pre>
+       */
+      public java.util.List<? extends ProtobufStats.TermFrequencyOrBuilder> 
+           getHeavyObjectsOrBuilderList() {
+        if (heavyObjectsBuilder_ != null) {
+          return heavyObjectsBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(heavyObjects_);
+        }
+      }
+      /**
+       * <code>repeated .TermFrequency heavyObjects = 17;</code>
+       *
+       * <pre>
+       * objects above the heavy hitters frequency (skewed join keys)
+       * </pre>
+       */
+      public ProtobufStats.TermFrequency.Builder addHeavyObjectsBuilder() {
+        return getHeavyObjectsFieldBuilder().addBuilder(
+            ProtobufStats.TermFrequency.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .TermFrequency heavyObjects = 17;</code>
+       *
+       * <pre>
+       * objects above the heavy hitters frequency (skewed join keys)
+       * </pre>
+       */
+      public ProtobufStats.TermFrequency.Builder addHeavyObjectsBuilder(
+          int index) {
+        return getHeavyObjectsFieldBuilder().addBuilder(
+            index, ProtobufStats.TermFrequency.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .TermFrequency heavyObjects = 17;</code>
+       *
+       * <pre>
+       * objects above the heavy hitters frequency (skewed join keys)
+       * </pre>
+       */
+      public java.util.List<ProtobufStats.TermFrequency.Builder> 
+           getHeavyObjectsBuilderList() {
+        return getHeavyObjectsFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          ProtobufStats.TermFrequency, ProtobufStats.TermFrequency.Builder, ProtobufStats.TermFrequencyOrBuilder> 
+          getHeavyObjectsFieldBuilder() {
+        if (heavyObjectsBuilder_ == null) {
+          heavyObjectsBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              ProtobufStats.TermFrequency, ProtobufStats.TermFrequency.Builder, ProtobufStats.TermFrequencyOrBuilder>(
+                  heavyObjects_,
+                  ((bitField0_ & 0x00010000) == 0x00010000),
+                  getParentForChildren(),
+                  isClean());
+          heavyObjects_ = null;
+        }
+        return heavyObjectsBuilder_;
+      }
+
+      // optional string propertyTable = 18;
+      private java.lang.Object propertyTable_ = "";
+      /**
+       * <code>optional string propertyTable = 18;</code>
+       *
+       * <pre>
+       * property table with the column of this property, if they are more than one
+       * </pre>
+       */
+      public boolean hasPropertyTable() {
+        return ((bitField0_ & 0x00020000) == 0x00020000);
+      }
+      /**
+       * <code>optional string propertyTable = 18;</code>
+       *
+       * <pre>
+       * property table with the column of this property, if they are more than one
+       * </pre>
+       */
+      public java.lang.String getPropertyTable() {
+        java.lang.Object ref = propertyTable_;
+        if (!(ref instanceof java.lang.String)) {
+          java.lang.String s = ((com.google.protobuf.ByteString) ref)
+              .toStringUtf8();
+          propertyTable_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string propertyTable = 18;</code>
+       *
+       * <pre>
+       * property table with the column of this property, if they are more than one
+       * </pre>
+       */
+      public com.google.protobuf.ByteString
+          getPropertyTableBytes() {
+        java.lang.Object ref = propertyTable_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          propertyTable_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string propertyTable = 18;</code>
+       *
+       * <pre>
+       * property table with the column of this property, if they are more than one
+       * </pre>
+       */
+      public Builder setPropertyTable(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00020000;
+        propertyTable_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string propertyTable = 18;</code>
+       *
+       * <pre>
+       * property table with the column of this property, if they are more than one
+       * </pre>
+       */
+      public Builder clearPropertyTable() {
+        bitField0_ = (bitField0_ & ~0x00020000);
+        propertyTable_ = getDefaultInstance().getPropertyTable();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string propertyTable = 18;</code>
+       *
+       * <pre>
+       * property table with the column of this property, if they are more than one
+       * </pre>
+       */
+      public Builder setPropertyTableBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00020000;
+        propertyTable_ = value;
+        onChanged();
+        return this;
+      }
+
+      // repeated .TermFrequency classes = 19;
+      private java.util.List<ProtobufStats.TermFrequency> classes_ =
+        java.util.Collections.emptyList();
+      private void ensureClassesIsMutable() {
+        if (!((bitField0_ & 0x00040000) == 0x00040000)) {
+          classes_ = new java.util.ArrayList<ProtobufStats.TermFrequency>(classes_);
+          bitField0_ |= 0x00040000;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilder<
+          ProtobufStats.TermFrequency, ProtobufStats.TermFrequency.Builder, ProtobufStats.TermFrequencyOrBuilder> classesBuilder_;
+
+      /**
+       * <code>repeated .TermFrequency classes = 19;</code>
+       *
+       * <pre>
+       * triples of every object, if the table is partitioned by object (rdf:type by class)
+       * </pre>
+       */
+      public java.util.List<ProtobufStats.TermFrequency> getClassesList() {
+        if (classesBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(classes_);
+        } else {
+          return classesBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .TermFrequency classes = 19;</code>
+       *
+       * <pre>
+       * triples of every object, if the table is partitioned by object (rdf:type by class)
+       * </pre>
+       */
+      public int getClassesCount() {
+        if (classesBuilder_ == null) {
+          return classes_.size();
+        } else {
+          return classesBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .TermFrequency classes = 19;</code>
+       *
+       * <pre>
+       * triples of every object, if the table is partitioned by object (rdf:type by class)
+       * </pre>
+       */
+      public ProtobufStats.TermFrequency getClasses(int index) {
+        if (classesBuilder_ == null) {
+          return classes_.get(index);
+        } else {
+          return classesBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .TermFrequency classes = 19;</code>
+       *
+       * <pre>
+       * triples of every object, if the table is partitioned by object (rdf:type by class)
+       * </pre>
+       */
+      public Builder setClasses(
+          int index, ProtobufStats.TermFrequency value) {
+        if (classesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureClassesIsMutable();
+          classes_.set(index, value);
+          onChanged();
+        } else {
+          classesBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .TermFrequency classes = 19;</code>
+       *
+       * <pre>
+       * triples of every object, if the table is partitioned by object (rdf:type by class)
+       * </pre>
+       */
+      public Builder setClasses(
+          int index, ProtobufStats.TermFrequency.Builder builderForValue) {
+        if (classesBuilder_ == null) {
+          ensureClassesIsMutable();
+          classes_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          classesBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .TermFrequency classes = 19;</code>
+       *
+       * <pre>
+       * triples of every object, if the table is partitioned by object (rdf:type by class)
+       * </pre>
+       */
+      public Builder addClasses(ProtobufStats.TermFrequency value) {
+        if (classesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureClassesIsMutable();
+          classes_.add(value);
+          onChanged();
+        } else {
+          classesBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .TermFrequency classes = 19;</code>
+       *
+       * <pre>
+       * triples of every object, if the table is partitioned by object (rdf:type by class)
+       * </pre>
+       */
+      public Builder addClasses(
+          int index, ProtobufStats.TermFrequency value) {
+        if (classesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureClassesIsMutable();
+          classes_.add(index, value);
+          onChanged();
+        } else {
+          classesBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .TermFrequency classes = 19;</code>
+       *
+       * <pre>
+       * triples of every object, if the table is partitioned by object (rdf:type by class)
+       * </pre>
+       */
+      public Builder addClasses(
+          ProtobufStats.TermFrequency.Builder builderForValue) {
+        if (classesBuilder_ == null) {
+          ensureClassesIsMutable();
+          classes_.add(builderForValue.build());
+          onChanged();
+        } else {
+          classesBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .TermFrequency classes = 19;</code>
+       *
+       * <pre>
+       * triples of every object, if the table is partitioned by object (rdf:type by class)
+       * </pre>
+       */
+      public Builder addClasses(
+          int index, ProtobufStats.TermFrequency.Builder builderForValue) {
+        if (classesBuilder_ == null) {
+          ensureClassesIsMutable();
+          classes_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          classesBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .TermFrequency classes = 19;</code>
+       *
+       * <pre>
+       * triples of every object, if the table is partitioned by object (rdf:type by class)
+       * </pre>
+       */
+      public Builder addAllClasses(
+          java.lang.Iterable<? extends ProtobufStats.TermFrequency> values) {
+        if (classesBuilder_ == null) {
+          ensureClassesIsMutable();
+          super.addAll(values, classes_);
+          onChanged();
+        } else {
+          classesBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .TermFrequency classes = 19;</code>
+       *
+       * <pre>
+       * triples of every object, if the table is partitioned by object (rdf:type by class)
+       * </pre>
+       */
+      public Builder clearClasses() {
+        if (classesBuilder_ == null) {
+          classes_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00040000);
+          onChanged();
+        } else {
+          classesBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .TermFrequency classes = 19;</code>
+       *
+       * <pre>
+       * triples of every object, if the table is partitioned by object (rdf:type by class)
+       * </pre>
+       */
+      public Builder removeClasses(int index) {
+        if (classesBuilder_ == null) {
+          ensureClassesIsMutable();
+          classes_.remove(index);
+          onChanged();
+        } else {
+          classesBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .TermFrequency classes = 19;</code>
+       *
+       * <pre>
+       * triples of every object, if the table is partitioned by object (rdf:type by class)
+       * </pre>
+       */
+      public ProtobufStats.TermFrequency.Builder getClassesBuilder(
+          int index) {
+        return getClassesFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .TermFrequency classes = 19;</code>
+       *
+       * <pre>
+       * triples of every object, if the table is partitioned by object (rdf:type by class)
+       * </pre>
+       */
+      public ProtobufStats.TermFrequencyOrBuilder getClassesOrBuilder(
+          int index) {
+        if (classesBuilder_ == null) {
+          return classes_.get(index);  } else {
+          return classesBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .TermFrequency classes = 19;</code>
+       *
+       * <pre>
+       * triples of every object, if the table is partitioned by object (rdf:type by class)
+       * </pre>
+       */
+      public java.util.List<? extends ProtobufStats.TermFrequencyOrBuilder> 
+           getClassesOrBuilderList() {
+        if (classesBuilder_ != null) {
+          return classesBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(classes_);
+        }
+      }
+      /**
+       * <code>repeated .TermFrequency classes = 19;</code>
+       *
+       * <pre>
+       * triples of every object, if the table is partitioned by object (rdf:type by class)
+       * </pre>
+       */
+      public ProtobufStats.TermFrequency.Builder addClassesBuilder() {
+        return getClassesFieldBuilder().addBuilder(
+            ProtobufStats.TermFrequency.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .TermFrequency classes = 19;</code>
+       *
+       * <pre>
+       * triples of every object, if the table is partitioned by object (rdf:type by class)
+       * </pre>
+       */
+      public ProtobufStats.TermFrequency.Builder addClassesBuilder(
+          int index) {
+        return getClassesFieldBuilder().addBuilder(
+            index, ProtobufStats.TermFrequency.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .TermFrequency classes = 19;</code>
+       *
+       * <pre>
+       * triples of every object, if the table is partitioned by object (rdf:type by class)
+       * </pre>
+       */
+      public java.util.List<ProtobufStats.TermFrequency.Builder> 
+           getClassesBuilderList() {
+        return getClassesFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          ProtobufStats.TermFrequency, ProtobufStats.TermFrequency.Builder, ProtobufStats.TermFrequencyOrBuilder> 
+          getClassesFieldBuilder() {
+        if (classesBuilder_ == null) {
+          classesBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              ProtobufStats.TermFrequency, ProtobufStats.TermFrequency.Builder, ProtobufStats.TermFrequencyOrBuilder>(
+                  classes_,
+                  ((bitField0_ & 0x00040000) == 0x00040000),
+                  getParentForChildren(),
+                  isClean());
+          classes_ = null;
+        }
+        return classesBuilder_;
+      }
+
+      // @@protoc_insertion_point(builder_scope:Table)
+    }
+
+    static {
+      defaultInstance = new Table(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:Table)
+  }
+
+  public interface JoinStatOrBuilder
+      extends com.google.protobuf.MessageOrBuilder {
+
+    // required string otherProperty = 1;
+    /**
+     * <code>required string otherProperty = 1;</code>
+     */
+    boolean hasOtherProperty();
+    /**
+     * <code>required string otherProperty = 1;</code>
+     */
+    java.lang.String getOtherProperty();
+    /**
+     * <code>required string otherProperty = 1;</code>
+     */
+    com.google.protobuf.ByteString
+        getOtherPropertyBytes();
+
+    // required .ExtVPTable.JoinType type = 2;
+    /**
+     * <code>required .ExtVPTable.JoinType type = 2;</code>
+     */
+    boolean hasType();
+    /**
+     * <code>required .ExtVPTable.JoinType type = 2;</code>
+     */
+    ProtobufStats.ExtVPTable.JoinType getType();
+
+    // optional int64 size = 3;
+    /**
+     * <code>optional int64 size = 3;</code>
+     */
+    boolean hasSize();
+    /**
+     * <code>optional int64 size = 3;</code>
+     */
+    long getSize();
+  }
+  /**
+   * Protobuf type {@code JoinStat}
+   *
+   * <pre>
+   * number of results of the join of a table with the table of another property
+   * </pre>
+   */
+  public static final class JoinStat extends
+      com.google.protobuf.GeneratedMessage
+      implements JoinStatOrBuilder {
+    // Use JoinStat.newBuilder() to construct.
+    private JoinStat(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private JoinStat(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final JoinStat defaultInstance;
+    public static JoinStat getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public JoinStat getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private JoinStat(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 10: {
+              bitField0_ |= 0x00000001;
+              otherProperty_ = input.readBytes();
+              break;
+            }
+            case 16: {
+              int rawValue = input.readEnum();
+              ProtobufStats.ExtVPTable.JoinType value = ProtobufStats.ExtVPTable.JoinType.valueOf(rawValue);
+              if (value == null) {
+                unknownFields.mergeVarintField(2, rawValue);
+              } else {
+                bitField0_ |= 0x00000002;
+                type_ = value;
+              }
+              break;
+            }
+            case 24: {
+              bitField0_ |= 0x00000004;
+              size_ = input.readInt64();
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return ProtobufStats.internal_static_JoinStat_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return ProtobufStats.internal_static_JoinStat_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              ProtobufStats.JoinStat.class, ProtobufStats.JoinStat.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<JoinStat> PARSER =
+        new com.google.protobuf.AbstractParser<JoinStat>() {
+      public JoinStat parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new JoinStat(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<JoinStat> getParserForType() {
+      return PARSER;
+    }
+
+    private int bitField0_;
+    // required string otherProperty = 1;
+    public static final int OTHERPROPERTY_FIELD_NUMBER = 1;
+    private java.lang.Object otherProperty_;
+    /**
+     * <code>required string otherProperty = 1;</code>
+     */
+    public boolean hasOtherProperty() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>required string otherProperty = 1;</code>
+     */
+    public java.lang.String getOtherProperty() {
+      java.lang.Object ref = otherProperty_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          otherProperty_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>required string otherProperty = 1;</code>
+     */
+    public com.google.protobuf.ByteString
+        getOtherPropertyBytes() {
+      java.lang.Object ref = otherProperty_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        otherProperty_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    // required .ExtVPTable.JoinType type = 2;
+    public static final int TYPE_FIELD_NUMBER = 2;
+    private ProtobufStats.ExtVPTable.JoinType type_;
+    /**
+     * <code>required .ExtVPTable.JoinType type = 2;</code>
+     */
+    public boolean hasType() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>required .ExtVPTable.JoinType type = 2;</code>
+     */
+    public ProtobufStats.ExtVPTable.JoinType getType() {
+      return type_;
+    }
+
+    // optional int64 size = 3;
+    public static final int SIZE_FIELD_NUMBER = 3;
+    private long size_;
+    /**
+     * <code>optional int64 size = 3;</code>
+     */
+    public boolean hasSize() {
+      return ((bitField0_ & 0x00000004) == 0x00000004);
+    }
+    /**
+     * <code>optional int64 size = 3;</code>
+     */
+    public long getSize() {
+      return size_;
+    }
+
+    private void initFields() {
+      otherProperty_ = "";
+      type_ = ProtobufStats.ExtVPTable.JoinType.SS;
+      size_ = 0L;
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized != -1) return isInitialized == 1;
+
+      if (!hasOtherProperty()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasType()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeBytes(1, getOtherPropertyBytes());
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeEnum(2, type_.getNumber());
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        output.writeInt64(3, size_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(1, getOtherPropertyBytes());
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeEnumSize(2, type_.getNumber());
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(3, size_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static ProtobufStats.JoinStat parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static ProtobufStats.JoinStat parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static ProtobufStats.JoinStat parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static ProtobufStats.JoinStat parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static ProtobufStats.JoinStat parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static ProtobufStats.JoinStat parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static ProtobufStats.JoinStat parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static ProtobufStats.JoinStat parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static ProtobufStats.JoinStat parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static ProtobufStats.JoinStat parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(ProtobufStats.JoinStat prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code JoinStat}
+     *
+     * <pre>
+     * number of results of the join of a table with the table of another property
+     * </pre>
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder>
+       implements ProtobufStats.JoinStatOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return ProtobufStats.internal_static_JoinStat_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return ProtobufStats.internal_static_JoinStat_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                ProtobufStats.JoinStat.class, ProtobufStats.JoinStat.Builder.class);
+      }
+
+      // Construct using ProtobufStats.JoinStat.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        otherProperty_ = "";
+        bitField0_ = (bitField0_ & ~0x00000001);
+        type_ = ProtobufStats.ExtVPTable.JoinType.SS;
+        bitField0_ = (bitField0_ & ~0x00000002);
+        size_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000004);
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return ProtobufStats.internal_static_JoinStat_descriptor;
+      }
+
+      public ProtobufStats.JoinStat getDefaultInstanceForType() {
+        return ProtobufStats.JoinStat.getDefaultInstance();
+      }
+
+      public ProtobufStats.JoinStat build() {
+        ProtobufStats.JoinStat result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public ProtobufStats.JoinStat buildPartial() {
+        ProtobufStats.JoinStat result = new ProtobufStats.JoinStat(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.otherProperty_ = otherProperty_;
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.type_ = type_;
+        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+          to_bitField0_ |= 0x00000004;
+        }
+        result.size_ = size_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof ProtobufStats.JoinStat) {
+          return mergeFrom((ProtobufStats.JoinStat)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(ProtobufStats.JoinStat other) {
+        if (other == ProtobufStats.JoinStat.getDefaultInstance()) return this;
+        if (other.hasOtherProperty()) {
+          bitField0_ |= 0x00000001;
+          otherProperty_ = other.otherProperty_;
+          onChanged();
+        }
+        if (other.hasType()) {
+          setType(other.getType());
+        }
+        if (other.hasSize()) {
+          setSize(other.getSize());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        if (!hasOtherProperty()) {
+          
+          return false;
+        }
+        if (!hasType()) {
+          
+          return false;
+        }
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        ProtobufStats.JoinStat parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (ProtobufStats.JoinStat) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      // required string otherProperty = 1;
+      private java.lang.Object otherProperty_ = "";
+      /**
+       * <code>required string otherProperty = 1;</code>
+       */
+      public boolean hasOtherProperty() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>required string otherProperty = 1;</code>
+       */
+      public java.lang.String getOtherProperty() {
+        java.lang.Object ref = otherProperty_;
+        if (!(ref instanceof java.lang.String)) {
+          java.lang.String s = ((com.google.protobuf.ByteString) ref)
+              .toStringUtf8();
+          otherProperty_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>required string otherProperty = 1;</code>
+       */
+      public com.google.protobuf.ByteString
+          getOtherPropertyBytes() {
+        java.lang.Object ref = otherProperty_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          otherProperty_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>required string otherProperty = 1;</code>
+       */
+      public Builder setOtherProperty(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        otherProperty_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required string otherProperty = 1;</code>
+       */
+      public Builder clearOtherProperty() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        otherProperty_ = getDefaultInstance().getOtherProperty();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required string otherProperty = 1;</code>
+       */
+      public Builder setOtherPropertyBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        otherProperty_ = value;
+        onChanged();
+        return this;
+      }
+
+      // required .ExtVPTable.JoinType type = 2;
+      private ProtobufStats.ExtVPTable.JoinType type_ = ProtobufStats.ExtVPTable.JoinType.SS;
+      /**
+       * <code>required .ExtVPTable.JoinType type = 2;</code>
+       */
+      public boolean hasType() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>required .ExtVPTable.JoinType type = 2;</code>
+       */
+      public ProtobufStats.ExtVPTable.JoinType getType() {
+        return type_;
+      }
+      /**
+       * <code>required .ExtVPTable.JoinType type = 2;</code>
+       */
+      public Builder setType(ProtobufStats.ExtVPTable.JoinType value) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        bitField0_ |= 0x00000002;
+        type_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required .ExtVPTable.JoinType type = 2;</code>
+       */
+      public Builder clearType() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        type_ = ProtobufStats.ExtVPTable.JoinType.SS;
+        onChanged();
+        return this;
+      }
+
+      // optional int64 size = 3;
+      private long size_ ;
+      /**
+       * <code>optional int64 size = 3;</code>
+       */
+      public boolean hasSize() {
+        return ((bitField0_ & 0x00000004) == 0x00000004);
+      }
+      /**
+       * <code>optional int64 size = 3;</code>
+       */
+      public long getSize() {
+        return size_;
+      }
+      /**
+       * <code>optional int64 size = 3;</code>
+       */
+      public Builder setSize(long value) {
+        bitField0_ |= 0x00000004;
+        size_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int64 size = 3;</code>
+       */
+      public Builder clearSize() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        size_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:JoinStat)
+    }
+
+    static {
+      defaultInstance = new JoinStat(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:JoinStat)
+  }
+
+  public interface SketchOrBuilder
+      extends com.google.protobuf.MessageOrBuilder {
+
+    // required int32 precision = 1;
+    /**
+     * <code>required int32 precision = 1;</code>
+     *
+     * <pre>
+     * the sketch has 2^precision registers
+     * </pre>
+     */
+    boolean hasPrecision();
+    /**
+     * <code>required int32 precision = 1;</code>
+     *
+     * <pre>
+     * the sketch has 2^precision registers
+     * </pre>
+     */
+    int getPrecision();
+
+    // required bytes registers = 2;
+    /**
+     * <code>required bytes registers = 2;</code>
+     *
+     * <pre>
+     * one byte per register
+     * </pre>
+     */
+    boolean hasRegisters();
+    /**
+     * <code>required bytes registers = 2;</code>
+     *
+     * <pre>
+     * one byte per register
+     * </pre>
+     */
+    com.google.protobuf.ByteString getRegisters();
+  }
+  /**
+   * Protobuf type {@code Sketch}
+   *
+   * <pre>
+   * HyperLogLog sketch, mergeable with other sketches of the same precision
+   * </pre>
+   */
+  public static final class Sketch extends
+      com.google.protobuf.GeneratedMessage
+      implements SketchOrBuilder {
+    // Use Sketch.newBuilder() to construct.
+    private Sketch(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private Sketch(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final Sketch defaultInstance;
+    public static Sketch getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public Sketch getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private Sketch(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 8: {
+              bitField0_ |= 0x00000001;
+              precision_ = input.readInt32();
+              break;
+            }
+            case 18: {
+              bitField0_ |= 0x00000002;
+              registers_ = input.readBytes();
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return ProtobufStats.internal_static_Sketch_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return ProtobufStats.internal_static_Sketch_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              ProtobufStats.Sketch.class, ProtobufStats.Sketch.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<Sketch> PARSER =
+        new com.google.protobuf.AbstractParser<Sketch>() {
+      public Sketch parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new Sketch(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<Sketch> getParserForType() {
+      return PARSER;
+    }
+
+    private int bitField0_;
+    // required int32 precision = 1;
+    public static final int PRECISION_FIELD_NUMBER = 1;
+    private int precision_;
+    /**
+     * <code>required int32 precision = 1;</code>
+     *
+     * <pre>
+     * the sketch has 2^precision registers
+     * </pre>
+     */
+    public boolean hasPrecision() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>required int32 precision = 1;</code>
+     *
+     * <pre>
+     * the sketch has 2^precision registers
+     * </pre>
+     */
+    public int getPrecision() {
+      return precision_;
+    }
+
+    // required bytes registers = 2;
+    public static final int REGISTERS_FIELD_NUMBER = 2;
+    private com.google.protobuf.ByteString registers_;
+    /**
+     * <code>required bytes registers = 2;</code>
+     *
+     * <pre>
+     * one byte per register
+     * </pre>
+     */
+    public boolean hasRegisters() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>required bytes registers = 2;</code>
+     *
+     * <pre>
+     * one byte per register
+     * </pre>
+     */
+    public com.google.protobuf.ByteString getRegisters() {
+      return registers_;
+    }
+
+    private void initFields() {
+      precision_ = 0;
+      registers_ = com.google.protobuf.ByteString.EMPTY;
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized != -1) return isInitialized == 1;
+
+      if (!hasPrecision()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasRegisters()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeInt32(1, precision_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeBytes(2, registers_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(1, precision_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(2, registers_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static ProtobufStats.Sketch parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static ProtobufStats.Sketch parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static ProtobufStats.Sketch parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static ProtobufStats.Sketch parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static ProtobufStats.Sketch parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static ProtobufStats.Sketch parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static ProtobufStats.Sketch parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static ProtobufStats.Sketch parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static ProtobufStats.Sketch parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static ProtobufStats.Sketch parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(ProtobufStats.Sketch prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code Sketch}
+     *
+     * <pre>
+     * HyperLogLog sketch, mergeable with other sketches of the same precision
+     * </pre>
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder>
+       implements ProtobufStats.SketchOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return ProtobufStats.internal_static_Sketch_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return ProtobufStats.internal_static_Sketch_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                ProtobufStats.Sketch.class, ProtobufStats.Sketch.Builder.class);
+      }
+
+      // Construct using ProtobufStats.Sketch.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        precision_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        registers_ = com.google.protobuf.ByteString.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000002);
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return ProtobufStats.internal_static_Sketch_descriptor;
+      }
+
+      public ProtobufStats.Sketch getDefaultInstanceForType() {
+        return ProtobufStats.Sketch.getDefaultInstance();
+      }
+
+      public ProtobufStats.Sketch build() {
+        ProtobufStats.Sketch result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public ProtobufStats.Sketch buildPartial() {
+        ProtobufStats.Sketch result = new ProtobufStats.Sketch(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.precision_ = precision_;
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.registers_ = registers_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof ProtobufStats.Sketch) {
+          return mergeFrom((ProtobufStats.Sketch)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(ProtobufStats.Sketch other) {
+        if (other == ProtobufStats.Sketch.getDefaultInstance()) return this;
+        if (other.hasPrecision()) {
+          setPrecision(other.getPrecision());
+        }
+        if (other.hasRegisters()) {
+          setRegisters(other.getRegisters());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        if (!hasPrecision()) {
+          
+          return false;
+        }
+        if (!hasRegisters()) {
+          
+          return false;
+        }
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        ProtobufStats.Sketch parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (ProtobufStats.Sketch) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      // required int32 precision = 1;
+      private int precision_ ;
+      /**
+       * <code>required int32 precision = 1;</code>
+       *
+       * <pre>
+       * the sketch has 2^precision registers
+       * </pre>
+       */
+      public boolean hasPrecision() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>required int32 precision = 1;</code>
+       *
+       * <pre>
+       * the sketch has 2^precision registers
+       * </pre>
+       */
+      public int getPrecision() {
+        return precision_;
+      }
+      /**
+       * <code>required int32 precision = 1;</code>
+       *
+       * <pre>
+       * the sketch has 2^precision registers
+       * </pre>
+       */
+      public Builder setPrecision(int value) {
+        bitField0_ |= 0x00000001;
+        precision_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required int32 precision = 1;</code>
+       *
+       * <pre>
+       * the sketch has 2^precision registers
+       * </pre>
+       */
+      public Builder clearPrecision() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        precision_ = 0;
+        onChanged();
+        return this;
+      }
+
+      // required bytes registers = 2;
+      private com.google.protobuf.ByteString registers_ = com.google.protobuf.ByteString.EMPTY;
+      /**
+       * <code>required bytes registers = 2;</code>
+       *
+       * <pre>
+       * one byte per register
+       * </pre>
+       */
+      public boolean hasRegisters() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>required bytes registers = 2;</code>
+       *
+       * <pre>
+       * one byte per register
+       * </pre>
+       */
+      public com.google.protobuf.ByteString getRegisters() {
+        return registers_;
+      }
+      /**
+       * <code>required bytes registers = 2;</code>
+       *
+       * <pre>
+       * one byte per register
+       * </pre>
+       */
+      public Builder setRegisters(com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+        registers_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required bytes registers = 2;</code>
+       *
+       * <pre>
+       * one byte per register
+       * </pre>
+       */
+      public Builder clearRegisters() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        registers_ = getDefaultInstance().getRegisters();
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:Sketch)
+    }
+
+    static {
+      defaultInstance = new Sketch(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:Sketch)
+  }
+
+  public interface TermFrequencyOrBuilder
+      extends com.google.protobuf.MessageOrBuilder {
+
+    // required string term = 1;
+    /**
+     * <code>required string term = 1;</code>
+     */
+    boolean hasTerm();
+    /**
+     * <code>required string term = 1;</code>
+     */
+    java.lang.String getTerm();
+    /**
+     * <code>required string term = 1;</code>
+     */
+    com.google.protobuf.ByteString
+        getTermBytes();
+
+    // optional int64 count = 2;
+    /**
+     * <code>optional int64 count = 2;</code>
+     */
+    boolean hasCount();
+    /**
+     * <code>optional int64 count = 2;</code>
+     */
+    long getCount();
+  }
+  /**
+   * Protobuf type {@code TermFrequency}
+   *
+   * <pre>
+   * number of triples of a table containing a term
+   * </pre>
+   */
+  public static final class TermFrequency extends
+      com.google.protobuf.GeneratedMessage
+      implements TermFrequencyOrBuilder {
+    // Use TermFrequency.newBuilder() to construct.
+    private TermFrequency(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private TermFrequency(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final TermFrequency defaultInstance;
+    public static TermFrequency getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public TermFrequency getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private TermFrequency(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 10: {
+              bitField0_ |= 0x00000001;
+              term_ = input.readBytes();
+              break;
+            }
+            case 16: {
+              bitField0_ |= 0x00000002;
+              count_ = input.readInt64();
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return ProtobufStats.internal_static_TermFrequency_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return ProtobufStats.internal_static_TermFrequency_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              ProtobufStats.TermFrequency.class, ProtobufStats.TermFrequency.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<TermFrequency> PARSER =
+        new com.google.protobuf.AbstractParser<TermFrequency>() {
+      public TermFrequency parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new TermFrequency(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<TermFrequency> getParserForType() {
+      return PARSER;
+    }
+
+    private int bitField0_;
+    // required string term = 1;
+    public static final int TERM_FIELD_NUMBER = 1;
+    private java.lang.Object term_;
+    /**
+     * <code>required string term = 1;</code>
+     */
+    public boolean hasTerm() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>required string term = 1;</code>
+     */
+    public java.lang.String getTerm() {
+      java.lang.Object ref = term_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          term_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>required string term = 1;</code>
+     */
+    public com.google.protobuf.ByteString
+        getTermBytes() {
+      java.lang.Object ref = term_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        term_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    // optional int64 count = 2;
+    public static final int COUNT_FIELD_NUMBER = 2;
+    private long count_;
+    /**
+     * <code>optional int64 count = 2;</code>
+     */
+    public boolean hasCount() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>optional int64 count = 2;</code>
+     */
+    public long getCount() {
+      return count_;
+    }
+
+    private void initFields() {
+      term_ = "";
+      count_ = 0L;
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized != -1) return isInitialized == 1;
+
+      if (!hasTerm()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeBytes(1, getTermBytes());
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeInt64(2, count_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(1, getTermBytes());
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(2, count_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static ProtobufStats.TermFrequency parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static ProtobufStats.TermFrequency parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static ProtobufStats.TermFrequency parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static ProtobufStats.TermFrequency parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static ProtobufStats.TermFrequency parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static ProtobufStats.TermFrequency parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static ProtobufStats.TermFrequency parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static ProtobufStats.TermFrequency parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static ProtobufStats.TermFrequency parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static ProtobufStats.TermFrequency parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(ProtobufStats.TermFrequency prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code TermFrequency}
+     *
+     * <pre>
+     * number of triples of a table containing a term
+     * </pre>
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder>
+       implements ProtobufStats.TermFrequencyOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return ProtobufStats.internal_static_TermFrequency_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return ProtobufStats.internal_static_TermFrequency_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                ProtobufStats.TermFrequency.class, ProtobufStats.TermFrequency.Builder.class);
+      }
+
+      // Construct using ProtobufStats.TermFrequency.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        term_ = "";
+        bitField0_ = (bitField0_ & ~0x00000001);
+        count_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000002);
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return ProtobufStats.internal_static_TermFrequency_descriptor;
+      }
+
+      public ProtobufStats.TermFrequency getDefaultInstanceForType() {
+        return ProtobufStats.TermFrequency.getDefaultInstance();
+      }
+
+      public ProtobufStats.TermFrequency build() {
+        ProtobufStats.TermFrequency result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public ProtobufStats.TermFrequency buildPartial() {
+        ProtobufStats.TermFrequency result = new ProtobufStats.TermFrequency(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.term_ = term_;
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.count_ = count_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof ProtobufStats.TermFrequency) {
+          return mergeFrom((ProtobufStats.TermFrequency)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(ProtobufStats.TermFrequency other) {
+        if (other == ProtobufStats.TermFrequency.getDefaultInstance()) return this;
+        if (other.hasTerm()) {
+          bitField0_ |= 0x00000001;
+          term_ = other.term_;
+          onChanged();
+        }
+        if (other.hasCount()) {
+          setCount(other.getCount());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        if (!hasTerm()) {
+          
+          return false;
+        }
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        ProtobufStats.TermFrequency parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (ProtobufStats.TermFrequency) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      // required string term = 1;
+      private java.lang.Object term_ = "";
+      /**
+       * <code>required string term = 1;</code>
+       */
+      public boolean hasTerm() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>required string term = 1;</code>
+       */
+      public java.lang.String getTerm() {
+        java.lang.Object ref = term_;
+        if (!(ref instanceof java.lang.String)) {
+          java.lang.String s = ((com.google.protobuf.ByteString) ref)
+              .toStringUtf8();
+          term_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>required string term = 1;</code>
+       */
+      public com.google.protobuf.ByteString
+          getTermBytes() {
+        java.lang.Object ref = term_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          term_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>required string term = 1;</code>
+       */
+      public Builder setTerm(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        term_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required string term = 1;</code>
+       */
+      public Builder clearTerm() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        term_ = getDefaultInstance().getTerm();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required string term = 1;</code>
+       */
+      public Builder setTermBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        term_ = value;
+        onChanged();
+        return this;
+      }
+
+      // optional int64 count = 2;
+      private long count_ ;
+      /**
+       * <code>optional int64 count = 2;</code>
+       */
+      public boolean hasCount() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>optional int64 count = 2;</code>
+       */
+      public long getCount() {
+        return count_;
+      }
+      /**
+       * <code>optional int64 count = 2;</code>
+       */
+      public Builder setCount(long value) {
+        bitField0_ |= 0x00000002;
+        count_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int64 count = 2;</code>
+       */
+      public Builder clearCount() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        count_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:TermFrequency)
+    }
+
+    static {
+      defaultInstance = new TermFrequency(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:TermFrequency)
+  }
+
+  public interface ExtVPTableOrBuilder
+      extends com.google.protobuf.MessageOrBuilder {
+
+    // required string name = 1;
+    /**
+     * <code>required string name = 1;</code>
+     *
+     * <pre>
+     * name of the stored table
+     * </pre>
+     */
+    boolean hasName();
+    /**
+     * <code>required string name = 1;</code>
+     *
+     * <pre>
+     * name of the stored table
+     * </pre>
+     */
+    java.lang.String getName();
+    /**
+     * <code>required string name = 1;</code>
+     *
+     * <pre>
+     * name of the stored table
+     * </pre>
+     */
+    com.google.protobuf.ByteString
+        getNameBytes();
+
+    // required string otherProperty = 2;
+    /**
+     * <code>required string otherProperty = 2;</code>
+     */
+    boolean hasOtherProperty();
+    /**
+     * <code>required string otherProperty = 2;</code>
+     */
+    java.lang.String getOtherProperty();
+    /**
+     * <code>required string otherProperty = 2;</code>
+     */
+    com.google.protobuf.ByteString
+        getOtherPropertyBytes();
+
+    // required .ExtVPTable.JoinType type = 3;
+    /**
+     * <code>required .ExtVPTable.JoinType type = 3;</code>
+     */
+    boolean hasType();
+    /**
+     * <code>required .ExtVPTable.JoinType type = 3;</code>
+     */
+    ProtobufStats.ExtVPTable.JoinType getType();
+
+    // optional int64 size = 4;
+    /**
+     * <code>optional int64 size = 4;</code>
+     *
+     * <pre>
+     * number of elements
+     * </pre>
+     */
+    boolean hasSize();
+    /**
+     * <code>optional int64 size = 4;</code>
+     *
+     * <pre>
+     * number of elements
+     * </pre>
+     */
+    long getSize();
+  }
+  /**
+   * Protobuf type {@code ExtVPTable}
+   *
+   * <pre>
+   * semi-join reduction of a table with the table of another property (Extended Vertical Partitioning)
+   * </pre>
+   */
+  public static final class ExtVPTable extends
+      com.google.protobuf.GeneratedMessage
+      implements ExtVPTableOrBuilder {
+    // Use ExtVPTable.newBuilder() to construct.
+    private ExtVPTable(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private ExtVPTable(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final ExtVPTable defaultInstance;
+    public static ExtVPTable getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public ExtVPTable getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private ExtVPTable(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 10: {
+              bitField0_ |= 0x00000001;
+              name_ = input.readBytes();
+              break;
+            }
+            case 18: {
+              bitField0_ |= 0x00000002;
+              otherProperty_ = input.readBytes();
+              break;
+            }
+            case 24: {
+              int rawValue = input.readEnum();
+              ProtobufStats.ExtVPTable.JoinType value = ProtobufStats.ExtVPTable.JoinType.valueOf(rawValue);
+              if (value == null) {
+                unknownFields.mergeVarintField(3, rawValue);
+              } else {
+                bitField0_ |= 0x00000004;
+                type_ = value;
+              }
+              break;
+            }
+            case 32: {
+              bitField0_ |= 0x00000008;
+              size_ = input.readInt64();
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return ProtobufStats.internal_static_ExtVPTable_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return ProtobufStats.internal_static_ExtVPTable_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              ProtobufStats.ExtVPTable.class, ProtobufStats.ExtVPTable.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<ExtVPTable> PARSER =
+        new com.google.protobuf.AbstractParser<ExtVPTable>() {
+      public ExtVPTable parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new ExtVPTable(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<ExtVPTable> getParserForType() {
+      return PARSER;
+    }
+
+    /**
+     * Protobuf enum {@code ExtVPTable.JoinType}
+     */
+    public enum JoinType
+        implements com.google.protobuf.ProtocolMessageEnum {
+      /**
+       * <code>SS = 0;</code>
+       *
+       * <pre>
+       * subject of this table with subject of the other
+       * </pre>
+       */
+      SS(0, 0),
+      /**
+       * <code>SO = 1;</code>
+       *
+       * <pre>
+       * subject of this table with object of the other
+       * </pre>
+       */
+      SO(1, 1),
+      /**
+       * <code>OS = 2;</code>
+       *
+       * <pre>
+       * object of this table with subject of the other
+       * </pre>
+       */
+      OS(2, 2),
+      /**
+       * <code>OO = 3;</code>
+       *
+       * <pre>
+       * object of this table with object of the other
+       * </pre>
+       */
+      OO(3, 3),
+      ;
+
+      /**
+       * <code>SS = 0;</code>
+       *
+       * <pre>
+       * subject of this table with subject of the other
+       * </pre>
+       */
+      public static final int SS_VALUE = 0;
+      /**
+       * <code>SO = 1;</code>
+       *
+       * <pre>
+       * subject of this table with object of the other
+       * </pre>
+       */
+      public static final int SO_VALUE = 1;
+      /**
+       * <code>OS = 2;</code>
+       *
+       * <pre>
+       * object of this table with subject of the other
+       * </pre>
+       */
+      public static final int OS_VALUE = 2;
+      /**
+       * <code>OO = 3;</code>
+       *
+       * <pre>
+       * object of this table with object of the other
+       * </pre>
+       */
+      public static final int OO_VALUE = 3;
+
+
+      public final int getNumber() { return value; }
+
+      public static JoinType valueOf(int value) {
+        switch (value) {
+          case 0: return SS;
+          case 1: return SO;
+          case 2: return OS;
+          case 3: return OO;
+          default: return null;
+        }
+      }
+
+      public static com.google.protobuf.Internal.EnumLiteMap<JoinType>
+          internalGetValueMap() {
+        return internalValueMap;
+      }
+      private static com.google.protobuf.Internal.EnumLiteMap<JoinType>
+          internalValueMap =
+            new com.google.protobuf.Internal.EnumLiteMap<JoinType>() {
+              public JoinType findValueByNumber(int number) {
+                return JoinType.valueOf(number);
+              }
+            };
+
+      public final com.google.protobuf.Descriptors.EnumValueDescriptor
+          getValueDescriptor() {
+        return getDescriptor().getValues().get(index);
+      }
+      public final com.google.protobuf.Descriptors.EnumDescriptor
+          getDescriptorForType() {
+        return getDescriptor();
+      }
+      public static final com.google.protobuf.Descriptors.EnumDescriptor
+          getDescriptor() {
+        return ProtobufStats.ExtVPTable.getDescriptor().getEnumTypes().get(0);
+      }
+
+      private static final JoinType[] VALUES = values();
+
+      public static JoinType valueOf(
+          com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
+        if (desc.getType() != getDescriptor()) {
+          throw new java.lang.IllegalArgumentException(
+            "EnumValueDescriptor is not for this type.");
+        }
+        return VALUES[desc.getIndex()];
+      }
+
+      private final int index;
+      private final int value;
+
+      private JoinType(int index, int value) {
+        this.index = index;
+        this.value = value;
+      }
+
+      // @@protoc_insertion_point(enum_scope:ExtVPTable.JoinType)
+    }
+
+    private int bitField0_;
+    // required string name = 1;
+    public static final int NAME_FIELD_NUMBER = 1;
+    private java.lang.Object name_;
+    /**
+     * <code>required string name = 1;</code>
+     *
+     * <pre>
+     * name of the stored table
+     * </pre>
+     */
+    public boolean hasName() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>required string name = 1;</code>
+     *
+     * <pre>
+     * name of the stored table
+     * </pre>
+     */
+    public java.lang.String getName() {
+      java.lang.Object ref = name_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          name_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>required string name = 1;</code>
+     *
+     * <pre>
+     * name of the stored table
+     * </pre>
+     */
+    public com.google.protobuf.ByteString
+        getNameBytes() {
+      java.lang.Object ref = name_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        name_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    // required string otherProperty = 2;
+    public static final int OTHERPROPERTY_FIELD_NUMBER = 2;
+    private java.lang.Object otherProperty_;
+    /**
+     * <code>required string otherProperty = 2;</code>
+     */
+    public boolean hasOtherProperty() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>required string otherProperty = 2;</code>
+     */
+    public java.lang.String getOtherProperty() {
+      java.lang.Object ref = otherProperty_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          otherProperty_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>required string otherProperty = 2;</code>
+     */
+    public com.google.protobuf.ByteString
+        getOtherPropertyBytes() {
+      java.lang.Object ref = otherProperty_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        otherProperty_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    // required .ExtVPTable.JoinType type = 3;
+    public static final int TYPE_FIELD_NUMBER = 3;
+    private ProtobufStats.ExtVPTable.JoinType type_;
+    /**
+     * <code>required .ExtVPTable.JoinType type = 3;</code>
+     */
+    public boolean hasType() {
+      return ((bitField0_ & 0x00000004) == 0x00000004);
+    }
+    /**
+     * <code>required .ExtVPTable.JoinType type = 3;</code>
+     */
+    public ProtobufStats.ExtVPTable.JoinType getType() {
+      return type_;
+    }
+
+    // optional int64 size = 4;
+    public static final int SIZE_FIELD_NUMBER = 4;
+    private long size_;
+    /**
+     * <code>optional int64 size = 4;</code>
+     *
+     * <pre>
+     * number of elements
+     * </pre>
+     */
+    public boolean hasSize() {
+      return ((bitField0_ & 0x00000008) == 0x00000008);
+    }
+    /**
+     * <code>optional int64 size = 4;</code>
+     *
+     * <pre>
+     * number of elements
+     * </pre>
+     */
+    public long getSize() {
+      return size_;
+    }
+
+    private void initFields() {
+      name_ = "";
+      otherProperty_ = "";
+      type_ = ProtobufStats.ExtVPTable.JoinType.SS;
+      size_ = 0L;
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized != -1) return isInitialized == 1;
+
+      if (!hasName()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasOtherProperty()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasType()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeBytes(1, getNameBytes());
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeBytes(2, getOtherPropertyBytes());
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        output.writeEnum(3, type_.getNumber());
+      }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        output.writeInt64(4, size_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(1, getNameBytes());
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(2, getOtherPropertyBytes());
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeEnumSize(3, type_.getNumber());
+      }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(4, size_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static ProtobufStats.ExtVPTable parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static ProtobufStats.ExtVPTable parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static ProtobufStats.ExtVPTable parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static ProtobufStats.ExtVPTable parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static ProtobufStats.ExtVPTable parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static ProtobufStats.ExtVPTable parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static ProtobufStats.ExtVPTable parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static ProtobufStats.ExtVPTable parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static ProtobufStats.ExtVPTable parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static ProtobufStats.ExtVPTable parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(ProtobufStats.ExtVPTable prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code ExtVPTable}
+     *
+     * <pre>
+     * semi-join reduction of a table with the table of another property (Extended Vertical Partitioning)
+     * </pre>
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder>
+       implements ProtobufStats.ExtVPTableOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return ProtobufStats.internal_static_ExtVPTable_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return ProtobufStats.internal_static_ExtVPTable_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                ProtobufStats.ExtVPTable.class, ProtobufStats.ExtVPTable.Builder.class);
+      }
+
+      // Construct using ProtobufStats.ExtVPTable.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        name_ = "";
+        bitField0_ = (bitField0_ & ~0x00000001);
+        otherProperty_ = "";
+        bitField0_ = (bitField0_ & ~0x00000002);
+        type_ = ProtobufStats.ExtVPTable.JoinType.SS;
+        bitField0_ = (bitField0_ & ~0x00000004);
+        size_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000008);
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return ProtobufStats.internal_static_ExtVPTable_descriptor;
+      }
+
+      public ProtobufStats.ExtVPTable getDefaultInstanceForType() {
+        return ProtobufStats.ExtVPTable.getDefaultInstance();
+      }
+
+      public ProtobufStats.ExtVPTable build() {
+        ProtobufStats.ExtVPTable result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public ProtobufStats.ExtVPTable buildPartial() {
+        ProtobufStats.ExtVPTable result = new ProtobufStats.ExtVPTable(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.name_ = name_;
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.otherProperty_ = otherProperty_;
+        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+          to_bitField0_ |= 0x00000004;
+        }
+        result.type_ = type_;
+        if (((from_bitField0_ & 0x00000008) == 0x00000008)) {
+          to_bitField0_ |= 0x00000008;
+        }
+        result.size_ = size_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof ProtobufStats.ExtVPTable) {
+          return mergeFrom((ProtobufStats.ExtVPTable)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(ProtobufStats.ExtVPTable other) {
+        if (other == ProtobufStats.ExtVPTable.getDefaultInstance()) return this;
+        if (other.hasName()) {
+          bitField0_ |= 0x00000001;
+          name_ = other.name_;
+          onChanged();
+        }
+        if (other.hasOtherProperty()) {
+          bitField0_ |= 0x00000002;
+          otherProperty_ = other.otherProperty_;
+          onChanged();
+        }
+        if (other.hasType()) {
+          setType(other.getType());
+        }
+        if (other.hasSize()) {
+          setSize(other.getSize());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        if (!hasName()) {
+          
+          return false;
+        }
+        if (!hasOtherProperty()) {
+          
+          return false;
+        }
+        if (!hasType()) {
+          
+          return false;
+        }
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        ProtobufStats.ExtVPTable parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (ProtobufStats.ExtVPTable) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      // required string name = 1;
+      private java.lang.Object name_ = "";
+      /**
+       * <code>required string name = 1;</code>
+       *
+       * <pre>
+       * name of the stored table
+       * </pre>
+       */
+      public boolean hasName() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>required string name = 1;</code>
+       *
+       * <pre>
+       * name of the stored table
+       * </pre>
+       */
+      public java.lang.String getName() {
+        java.lang.Object ref = name_;
+        if (!(ref instanceof java.lang.String)) {
+          java.lang.String s = ((com.google.protobuf.ByteString) ref)
+              .toStringUtf8();
+          name_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>required string name = 1;</code>
+       *
+       * <pre>
+       * name of the stored table
+       * </pre>
+       */
+      public com.google.protobuf.ByteString
+          getNameBytes() {
+        java.lang.Object ref = name_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          name_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>required string name = 1;</code>
+       *
+       * <pre>
+       * name of the stored table
+       * </pre>
+       */
+      public Builder setName(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        name_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required string name = 1;</code>
+       *
+       * <pre>
+       * name of the stored table
+       * </pre>
+       */
+      public Builder clearName() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        name_ = getDefaultInstance().getName();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required string name = 1;</code>
+       *
+       * <pre>
+       * name of the stored table
+       * </pre>
+       */
+      public Builder setNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        name_ = value;
+        onChanged();
+        return this;
+      }
+
+      // required string otherProperty = 2;
+      private java.lang.Object otherProperty_ = "";
+      /**
+       * <code>required string otherProperty = 2;</code>
+       */
+      public boolean hasOtherProperty() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>required string otherProperty = 2;</code>
+       */
+      public java.lang.String getOtherProperty() {
+        java.lang.Object ref = otherProperty_;
+        if (!(ref instanceof java.lang.String)) {
+          java.lang.String s = ((com.google.protobuf.ByteString) ref)
+              .toStringUtf8();
+          otherProperty_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>required string otherProperty = 2;</code>
+       */
+      public com.google.protobuf.ByteString
+          getOtherPropertyBytes() {
+        java.lang.Object ref = otherProperty_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          otherProperty_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>required string otherProperty = 2;</code>
+       */
+      public Builder setOtherProperty(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+        otherProperty_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required string otherProperty = 2;</code>
+       */
+      public Builder clearOtherProperty() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        otherProperty_ = getDefaultInstance().getOtherProperty();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required string otherProperty = 2;</code>
+       */
+      public Builder setOtherPropertyBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+        otherProperty_ = value;
+        onChanged();
+        return this;
+      }
+
+      // required .ExtVPTable.JoinType type = 3;
+      private ProtobufStats.ExtVPTable.JoinType type_ = ProtobufStats.ExtVPTable.JoinType.SS;
+      /**
+       * <code>required .ExtVPTable.JoinType type = 3;</code>
+       */
+      public boolean hasType() {
+        return ((bitField0_ & 0x00000004) == 0x00000004);
+      }
+      /**
+       * <code>required .ExtVPTable.JoinType type = 3;</code>
+       */
+      public ProtobufStats.ExtVPTable.JoinType getType() {
+        return type_;
+      }
+      /**
+       * <code>required .ExtVPTable.JoinType type = 3;</code>
+       */
+      public Builder setType(ProtobufStats.ExtVPTable.JoinType value) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        bitField0_ |= 0x00000004;
+        type_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required .ExtVPTable.JoinType type = 3;</code>
+       */
+      public Builder clearType() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        type_ = ProtobufStats.ExtVPTable.JoinType.SS;
+        onChanged();
+        return this;
+      }
+
+      // optional int64 size = 4;
+      private long size_ ;
+      /**
+       * <code>optional int64 size = 4;</code>
+       *
+       * <pre>
+       * number of elements
+       * </pre>
+       */
+      public boolean hasSize() {
+        return ((bitField0_ & 0x00000008) == 0x00000008);
+      }
+      /**
+       * <code>optional int64 size = 4;</code>
+       *
+       * <pre>
+       * number of elements
+       * </pre>
+       */
+      public long getSize() {
+        return size_;
+      }
+      /**
+       * <code>optional int64 size = 4;</code>
+       *
+       * <pre>
+       * number of elements
+       * </pre>
+       */
+      public Builder setSize(long value) {
+        bitField0_ |= 0x00000008;
+        size_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int64 size = 4;</code>
+       *
+       * <pre>
+       * number of elements
+       * </pre>
+       */
+      public Builder clearSize() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        size_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:ExtVPTable)
+    }
+
+    static {
+      defaultInstance = new ExtVPTable(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:ExtVPTable)
+  }
+
+  public interface SampleOrBuilder
+      extends com.google.protobuf.MessageOrBuilder {
+
+    // required string property = 1;
+    /**
+     * <code>required string property = 1;</code>
+     */
+    boolean hasProperty();
+    /**
+     * <code>required string property = 1;</code>
+     */
+    java.lang.String getProperty();
+    /**
+     * <code>required string property = 1;</code>
+     */
+    com.google.protobuf.ByteString
+        getPropertyBytes();
+
+    // required double rate = 2;
+    /**
+     * <code>required double rate = 2;</code>
+     */
+    boolean hasRate();
+    /**
+     * <code>required double rate = 2;</code>
+     */
+    double getRate();
+
+    // repeated string subjects = 3;
+    /**
+     * <code>repeated string subjects = 3;</code>
+     */
+    java.util.List<java.lang.String>
+    getSubjectsList();
+    /**
+     * <code>repeated string subjects = 3;</code>
+     */
+    int getSubjectsCount();
+    /**
+     * <code>repeated string subjects = 3;</code>
+     */
+    java.lang.String getSubjects(int index);
+    /**
+     * <code>repeated string subjects = 3;</code>
+     */
+    com.google.protobuf.ByteString
+        getSubjectsBytes(int index);
+
+    // repeated string objects = 4;
+    /**
+     * <code>repeated string objects = 4;</code>
+     *
+     * <pre>
+     * the object of every subject
+     * </pre>
+     */
+    java.util.List<java.lang.String>
+    getObjectsList();
+    /**
+     * <code>repeated string objects = 4;</code>
+     *
+     * <pre>
+     * the object of every subject
+     * </pre>
+     */
+    int getObjectsCount();
+    /**
+     * <code>repeated string objects = 4;</code>
+     *
+     * <pre>
+     * the object of every subject
+     * </pre>
+     */
+    java.lang.String getObjects(int index);
+    /**
+     * <code>repeated string objects = 4;</code>
+     *
+     * <pre>
+     * the object of every subject
+     * </pre>
+     */
+    com.google.protobuf.ByteString
+        getObjectsBytes(int index);
+  }
+  /**
+   * Protobuf type {@code Sample}
+   *
+   * <pre>
+   * sample of the table of a property, taken on the subjects: a subject is in the
+   * sample, with all its triples, if the hash of its name is lower than the rate
+   * </pre>
+   */
+  public static final class Sample extends
+      com.google.protobuf.GeneratedMessage
+      implements SampleOrBuilder {
+    // Use Sample.newBuilder() to construct.
+    private Sample(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private Sample(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final Sample defaultInstance;
+    public static Sample getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public Sample getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private Sample(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 10: {
+              bitField0_ |= 0x00000001;
+              property_ = input.readBytes();
+              break;
+            }
+            case 17: {
+              bitField0_ |= 0x00000002;
+              rate_ = input.readDouble();
+              break;
+            }
+            case 26: {
+              if (!((mutable_bitField0_ & 0x00000004) == 0x00000004)) {
+                subjects_ = new com.google.protobuf.LazyStringArrayList();
+                mutable_bitField0_ |= 0x00000004;
+              }
+              subjects_.add(input.readBytes());
+              break;
+            }
+            case 34: {
+              if (!((mutable_bitField0_ & 0x00000008) == 0x00000008)) {
+                objects_ = new com.google.protobuf.LazyStringArrayList();
+                mutable_bitField0_ |= 0x00000008;
+              }
+              objects_.add(input.readBytes());
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000004) == 0x00000004)) {
+          subjects_ = new com.google.protobuf.UnmodifiableLazyStringList(subjects_);
+        }
+        if (((mutable_bitField0_ & 0x00000008) == 0x00000008)) {
+          objects_ = new com.google.protobuf.UnmodifiableLazyStringList(objects_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return ProtobufStats.internal_static_Sample_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return ProtobufStats.internal_static_Sample_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              ProtobufStats.Sample.class, ProtobufStats.Sample.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<Sample> PARSER =
+        new com.google.protobuf.AbstractParser<Sample>() {
+      public Sample parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new Sample(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<Sample> getParserForType() {
+      return PARSER;
+    }
+
+    private int bitField0_;
+    // required string property = 1;
+    public static final int PROPERTY_FIELD_NUMBER = 1;
+    private java.lang.Object property_;
+    /**
+     * <code>required string property = 1;</code>
+     */
+    public boolean hasProperty() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>required string property = 1;</code>
+     */
+    public java.lang.String getProperty() {
+      java.lang.Object ref = property_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          property_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>required string property = 1;</code>
+     */
+    public com.google.protobuf.ByteString
+        getPropertyBytes() {
+      java.lang.Object ref = property_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        property_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    // required double rate = 2;
+    public static final int RATE_FIELD_NUMBER = 2;
+    private double rate_;
+    /**
+     * <code>required double rate = 2;</code>
+     */
+    public boolean hasRate() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>required double rate = 2;</code>
+     */
+    public double getRate() {
+      return rate_;
+    }
+
+    // repeated string subjects = 3;
+    public static final int SUBJECTS_FIELD_NUMBER = 3;
+    private com.google.protobuf.LazyStringList subjects_;
+    /**
+     * <code>repeated string subjects = 3;</code>
+     */
+    public java.util.List<java.lang.String>
+        getSubjectsList() {
+      return subjects_;
+    }
+    /**
+     * <code>repeated string subjects = 3;</code>
+     */
+    public int getSubjectsCount() {
+      return subjects_.size();
+    }
+    /**
+     * <code>repeated string subjects = 3;</code>
+     */
+    public java.lang.String getSubjects(int index) {
+      return subjects_.get(index);
+    }
+    /**
+     * <code>repeated string subjects = 3;</code>
+     */
+    public com.google.protobuf.ByteString
+        getSubjectsBytes(int index) {
+      return subjects_.getByteString(index);
+    }
+
+    // repeated string objects = 4;
+    public static final int OBJECTS_FIELD_NUMBER = 4;
+    private com.google.protobuf.LazyStringList objects_;
+    /**
+     * <code>repeated string objects = 4;</code>
+     *
+     * <pre>
+     * the object of every subject
+     * </pre>
+     */
+    public java.util.List<java.lang.String>
+        getObjectsList() {
+      return objects_;
+    }
+    /**
+     * <code>repeated string objects = 4;</code>
+     *
+     * <pre>
+     * the object of every subject
+     * </pre>
+     */
+    public int getObjectsCount() {
+      return objects_.size();
+    }
+    /**
+     * <code>repeated string objects = 4;</code>
+     *
+     * <pre>
+     * the object of every subject
+     * </pre>
+     */
+    public java.lang.String getObjects(int index) {
+      return objects_.get(index);
+    }
+    /**
+     * <code>repeated string objects = 4;</code>
+     *
+     * <pre>
+     * the object of every subject
+     * </pre>
+     */
+    public com.google.protobuf.ByteString
+        getObjectsBytes(int index) {
+      return objects_.getByteString(index);
+    }
+
+    private void initFields() {
+      property_ = "";
+      rate_ = 0D;
+      subjects_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+      objects_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized != -1) return isInitialized == 1;
+
+      if (!hasProperty()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasRate()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeBytes(1, getPropertyBytes());
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeDouble(2, rate_);
+      }
+      for (int i = 0; i < subjects_.size(); i++) {
+        output.writeBytes(3, subjects_.getByteString(i));
+      }
+      for (int i = 0; i < objects_.size(); i++) {
+        output.writeBytes(4, objects_.getByteString(i));
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(1, getPropertyBytes());
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeDoubleSize(2, rate_);
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < subjects_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeBytesSizeNoTag(subjects_.getByteString(i));
+        }
+        size += dataSize;
+        size += 1 * getSubjectsList().size();
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < objects_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeBytesSizeNoTag(objects_.getByteString(i));
+        }
+        size += dataSize;
+        size += 1 * getObjectsList().size();
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static ProtobufStats.Sample parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static ProtobufStats.Sample parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static ProtobufStats.Sample parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static ProtobufStats.Sample parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static ProtobufStats.Sample parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static ProtobufStats.Sample parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static ProtobufStats.Sample parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static ProtobufStats.Sample parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static ProtobufStats.Sample parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static ProtobufStats.Sample parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(ProtobufStats.Sample prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code Sample}
+     *
+     * <pre>
+     * sample of the table of a property, taken on the subjects: a subject is in the
+     * sample, with all its triples, if the hash of its name is lower than the rate
+     * </pre>
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder>
+       implements ProtobufStats.SampleOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return ProtobufStats.internal_static_Sample_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return ProtobufStats.internal_static_Sample_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                ProtobufStats.Sample.class, ProtobufStats.Sample.Builder.class);
+      }
+
+      // Construct using ProtobufStats.Sample.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        property_ = "";
+        bitField0_ = (bitField0_ & ~0x00000001);
+        rate_ = 0D;
+        bitField0_ = (bitField0_ & ~0x00000002);
+        subjects_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000004);
+        objects_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000008);
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return ProtobufStats.internal_static_Sample_descriptor;
+      }
+
+      public ProtobufStats.Sample getDefaultInstanceForType() {
+        return ProtobufStats.Sample.getDefaultInstance();
+      }
+
+      public ProtobufStats.Sample build() {
+        ProtobufStats.Sample result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public ProtobufStats.Sample buildPartial() {
+        ProtobufStats.Sample result = new ProtobufStats.Sample(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.property_ = property_;
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.rate_ = rate_;
+        if (((bitField0_ & 0x00000004) == 0x00000004)) {
+          subjects_ = new com.google.protobuf.UnmodifiableLazyStringList(
+              subjects_);
+          bitField0_ = (bitField0_ & ~0x00000004);
+        }
+        result.subjects_ = subjects_;
+        if (((bitField0_ & 0x00000008) == 0x00000008)) {
+          objects_ = new com.google.protobuf.UnmodifiableLazyStringList(
+              objects_);
+          bitField0_ = (bitField0_ & ~0x00000008);
+        }
+        result.objects_ = objects_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof ProtobufStats.Sample) {
+          return mergeFrom((ProtobufStats.Sample)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(ProtobufStats.Sample other) {
+        if (other == ProtobufStats.Sample.getDefaultInstance()) return this;
+        if (other.hasProperty()) {
+          bitField0_ |= 0x00000001;
+          property_ = other.property_;
+          onChanged();
+        }
+        if (other.hasRate()) {
+          setRate(other.getRate());
+        }
+        if (!other.subjects_.isEmpty()) {
+          if (subjects_.isEmpty()) {
+            subjects_ = other.subjects_;
+            bitField0_ = (bitField0_ & ~0x00000004);
+          } else {
+            ensureSubjectsIsMutable();
+            subjects_.addAll(other.subjects_);
+          }
+          onChanged();
+        }
+        if (!other.objects_.isEmpty()) {
+          if (objects_.isEmpty()) {
+            objects_ = other.objects_;
+            bitField0_ = (bitField0_ & ~0x00000008);
+          } else {
+            ensureObjectsIsMutable();
+            objects_.addAll(other.objects_);
+          }
+          onChanged();
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        if (!hasProperty()) {
+          
+          return false;
+        }
+        if (!hasRate()) {
+          
+          return false;
+        }
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        ProtobufStats.Sample parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (ProtobufStats.Sample) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      // required string property = 1;
+      private java.lang.Object property_ = "";
+      /**
+       * <code>required string property = 1;</code>
+       */
+      public boolean hasProperty() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>required string property = 1;</code>
+       */
+      public java.lang.String getProperty() {
+        java.lang.Object ref = property_;
+        if (!(ref instanceof java.lang.String)) {
+          java.lang.String s = ((com.google.protobuf.ByteString) ref)
+              .toStringUtf8();
+          property_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>required string property = 1;</code>
+       */
+      public com.google.protobuf.ByteString
+          getPropertyBytes() {
+        java.lang.Object ref = property_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          property_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>required string property = 1;</code>
+       */
+      public Builder setProperty(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        property_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required string property = 1;</code>
+       */
+      public Builder clearProperty() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        property_ = getDefaultInstance().getProperty();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required string property = 1;</code>
+       */
+      public Builder setPropertyBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        property_ = value;
+        onChanged();
+        return this;
+      }
+
+      // required double rate = 2;
+      private double rate_ ;
+      /**
+       * <code>required double rate = 2;</code>
+       */
+      public boolean hasRate() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>required double rate = 2;</code>
+       */
+      public double getRate() {
+        return rate_;
+      }
+      /**
+       * <code>required double rate = 2;</code>
+       */
+      public Builder setRate(double value) {
+        bitField0_ |= 0x00000002;
+        rate_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required double rate = 2;</code>
+       */
+      public Builder clearRate() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        rate_ = 0D;
+        onChanged();
+        return this;
+      }
+
+      // repeated string subjects = 3;
+      private com.google.protobuf.LazyStringList subjects_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+      private void ensureSubjectsIsMutable() {
+        if (!((bitField0_ & 0x00000004) == 0x00000004)) {
+          subjects_ = new com.google.protobuf.LazyStringArrayList(subjects_);
+          bitField0_ |= 0x00000004;
+         }
+      }
+      /**
+       * <code>repeated string subjects = 3;</code>
+       */
+      public java.util.List<java.lang.String>
+          getSubjectsList() {
+        return java.util.Collections.unmodifiableList(subjects_);
+      }
+      /**
+       * <code>repeated string subjects = 3;</code>
+       */
+      public int getSubjectsCount() {
+        return subjects_.size();
+      }
+      /**
+       * <code>repeated string subjects = 3;</code>
+       */
+      public java.lang.String getSubjects(int index) {
+        return subjects_.get(index);
+      }
+      /**
+       * <code>repeated string subjects = 3;</code>
+       */
+      public com.google.protobuf.ByteString
+          getSubjectsBytes(int index) {
+        return subjects_.getByteString(index);
+      }
+      /**
+       * <code>repeated string subjects = 3;</code>
+       */
+      public Builder setSubjects(
+          int index, java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureSubjectsIsMutable();
+        subjects_.set(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string subjects = 3;</code>
+       */
+      public Builder addSubjects(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureSubjectsIsMutable();
+        subjects_.add(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string subjects = 3;</code>
+       */
+      public Builder addAllSubjects(
+          java.lang.Iterable<java.lang.String> values) {
+        ensureSubjectsIsMutable();
+        super.addAll(values, subjects_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string subjects = 3;</code>
+       */
+      public Builder clearSubjects() {
+        subjects_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000004);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string subjects = 3;</code>
+       */
+      public Builder addSubjectsBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureSubjectsIsMutable();
+        subjects_.add(value);
+        onChanged();
+        return this;
+      }
+
+      // repeated string objects = 4;
+      private com.google.protobuf.LazyStringList objects_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+      private void ensureObjectsIsMutable() {
+        if (!((bitField0_ & 0x00000008) == 0x00000008)) {
+          objects_ = new com.google.protobuf.LazyStringArrayList(objects_);
+          bitField0_ |= 0x00000008;
+         }
+      }
+      /**
+       * <code>repeated string objects = 4;</code>
+       *
+       * <pre>
+       * the object of every subject
+       * </pre>
+       */
+      public java.util.List<java.lang.String>
+          getObjectsList() {
+        return java.util.Collections.unmodifiableList(objects_);
+      }
+      /**
+       * <code>repeated string objects = 4;</code>
+       *
+       * <pre>
+       * the object of every subject
+       * </pre>
+       */
+      public int getObjectsCount() {
+        return objects_.size();
+      }
+      /**
+       * <code>repeated string objects = 4;</code>
+       *
+       * <pre>
+       * the object of every subject
+       * </pre>
+       */
+      public java.lang.String getObjects(int index) {
+        return objects_.get(index);
+      }
+      /**
+       * <code>repeated string objects = 4;</code>
+       *
+       * <pre>
+       * the object of every subject
+       * </pre>
+       */
+      public com.google.protobuf.ByteString
+          getObjectsBytes(int index) {
+        return objects_.getByteString(index);
+      }
+      /**
+       * <code>repeated string objects = 4;</code>
+       *
+       * <pre>
+       * the object of every subject
+       * </pre>
+       */
+      public Builder setObjects(
+          int index, java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureObjectsIsMutable();
+        objects_.set(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string objects = 4;</code>
+       *
+       * <pre>
+       * the object of every subject
+       * </pre>
+       */
+      public Builder addObjects(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureObjectsIsMutable();
+        objects_.add(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string objects = 4;</code>
+       *
+       * <pre>
+       * the object of every subject
+       * </pre>
+       */
+      public Builder addAllObjects(
+          java.lang.Iterable<java.lang.String> values) {
+        ensureObjectsIsMutable();
+        super.addAll(values, objects_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string objects = 4;</code>
+       *
+       * <pre>
+       * the object of every subject
+       * </pre>
+       */
+      public Builder clearObjects() {
+        objects_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000008);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string objects = 4;</code>
+       *
+       * <pre>
+       * the object of every subject
+       * </pre>
+       */
+      public Builder addObjectsBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureObjectsIsMutable();
+        objects_.add(value);
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:Sample)
+    }
+
+    static {
+      defaultInstance = new Sample(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:Sample)
+  }
+
+  public interface SamplesOrBuilder
+      extends com.google.protobuf.MessageOrBuilder {
+
+    // repeated .Sample samples = 1;
+    /**
+     * <code>repeated .Sample samples = 1;</code>
+     */
+    java.util.List<ProtobufStats.Sample> 
+        getSamplesList();
+    /**
+     * <code>repeated .Sample samples = 1;</code>
+     */
+    ProtobufStats.Sample getSamples(int index);
+    /**
+     * <code>repeated .Sample samples = 1;</code>
+     */
+    int getSamplesCount();
+    /**
+     * <code>repeated .Sample samples = 1;</code>
+     */
+    java.util.List<? extends ProtobufStats.SampleOrBuilder> 
+        getSamplesOrBuilderList();
+    /**
+     * <code>repeated .Sample samples = 1;</code>
+     */
+    ProtobufStats.SampleOrBuilder getSamplesOrBuilder(
+        int index);
+  }
+  /**
+   * Protobuf type {@code Samples}
+   *
+   * <pre>
+   * all the samples, stored in a separate file next to the statistics
+   * </pre>
+   */
+  public static final class Samples extends
+      com.google.protobuf.GeneratedMessage
+      implements SamplesOrBuilder {
+    // Use Samples.newBuilder() to construct.
+    private Samples(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private Samples(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final Samples defaultInstance;
+    public static Samples getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public Samples getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private Samples(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 10: {
+              if (!((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+                samples_ = new java.util.ArrayList<ProtobufStats.Sample>();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              samples_.add(input.readMessage(ProtobufStats.Sample.PARSER, extensionRegistry));
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+          samples_ = java.util.Collections.unmodifiableList(samples_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return ProtobufStats.internal_static_Samples_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return ProtobufStats.internal_static_Samples_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              ProtobufStats.Samples.class, ProtobufStats.Samples.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<Samples> PARSER =
+        new com.google.protobuf.AbstractParser<Samples>() {
+      public Samples parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new Samples(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<Samples> getParserForType() {
+      return PARSER;
+    }
+
+    // repeated .Sample samples = 1;
+    public static final int SAMPLES_FIELD_NUMBER = 1;
+    private java.util.List<ProtobufStats.Sample> samples_;
+    /**
+     * <code>repeated .Sample samples = 1;</code>
+     */
+    public java.util.List<ProtobufStats.Sample> getSamplesList() {
+      return samples_;
+    }
+    /**
+     * <code>repeated .Sample samples = 1;</code>
+     */
+    public java.util.List<? extends ProtobufStats.SampleOrBuilder> 
+        getSamplesOrBuilderList() {
+      return samples_;
+    }
+    /**
+     * <code>repeated .Sample samples = 1;</code>
+     */
+    public int getSamplesCount() {
+      return samples_.size();
+    }
+    /**
+     * <code>repeated .Sample samples = 1;</code>
+     */
+    public ProtobufStats.Sample getSamples(int index) {
+      return samples_.get(index);
+    }
+    /**
+     * <code>repeated .Sample samples = 1;</code>
+     */
+    public ProtobufStats.SampleOrBuilder getSamplesOrBuilder(
+        int index) {
+      return samples_.get(index);
+    }
+
+    private void initFields() {
+      samples_ = java.util.Collections.emptyList();
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized != -1) return isInitialized == 1;
+
+      for (int i = 0; i < getSamplesCount(); i++) {
+        if (!getSamples(i).isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      for (int i = 0; i < samples_.size(); i++) {
+        output.writeMessage(1, samples_.get(i));
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      for (int i = 0; i < samples_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, samples_.get(i));
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static ProtobufStats.Samples parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static ProtobufStats.Samples parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static ProtobufStats.Samples parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static ProtobufStats.Samples parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static ProtobufStats.Samples parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static ProtobufStats.Samples parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static ProtobufStats.Samples parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static ProtobufStats.Samples parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static ProtobufStats.Samples parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static ProtobufStats.Samples parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(ProtobufStats.Samples prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code Samples}
+     *
+     * <pre>
+     * all the samples, stored in a separate file next to the statistics
+     * </pre>
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder>
+       implements ProtobufStats.SamplesOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return ProtobufStats.internal_static_Samples_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return ProtobufStats.internal_static_Samples_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                ProtobufStats.Samples.class, ProtobufStats.Samples.Builder.class);
+      }
+
+      // Construct using ProtobufStats.Samples.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+          getSamplesFieldBuilder();
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        if (samplesBuilder_ == null) {
+          samples_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+        } else {
+          samplesBuilder_.clear();
+        }
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return ProtobufStats.internal_static_Samples_descriptor;
+      }
+
+      public ProtobufStats.Samples getDefaultInstanceForType() {
+        return ProtobufStats.Samples.getDefaultInstance();
+      }
+
+      public ProtobufStats.Samples build() {
+        ProtobufStats.Samples result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public ProtobufStats.Samples buildPartial() {
+        ProtobufStats.Samples result = new ProtobufStats.Samples(this);
+        int from_bitField0_ = bitField0_;
+        if (samplesBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) == 0x00000001)) {
+            samples_ = java.util.Collections.unmodifiableList(samples_);
+            bitField0_ = (bitField0_ & ~0x00000001);
+          }
+          result.samples_ = samples_;
+        } else {
+          result.samples_ = samplesBuilder_.build();
+        }
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof ProtobufStats.Samples) {
+          return mergeFrom((ProtobufStats.Samples)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(ProtobufStats.Samples other) {
+        if (other == ProtobufStats.Samples.getDefaultInstance()) return this;
+        if (samplesBuilder_ == null) {
+          if (!other.samples_.isEmpty()) {
+            if (samples_.isEmpty()) {
+              samples_ = other.samples_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+            } else {
+              ensureSamplesIsMutable();
+              samples_.addAll(other.samples_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.samples_.isEmpty()) {
+            if (samplesBuilder_.isEmpty()) {
+              samplesBuilder_.dispose();
+              samplesBuilder_ = null;
+              samples_ = other.samples_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+              samplesBuilder_ = 
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getSamplesFieldBuilder() : null;
+            } else {
+              samplesBuilder_.addAllMessages(other.samples_);
+            }
+          }
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        for (int i = 0; i < getSamplesCount(); i++) {
+          if (!getSamples(i).isInitialized()) {
+            
+            return false;
+          }
+        }
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        ProtobufStats.Samples parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (ProtobufStats.Samples) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      // repeated .Sample samples = 1;
+      private java.util.List<ProtobufStats.Sample> samples_ =
+        java.util.Collections.emptyList();
+      private void ensureSamplesIsMutable() {
+        if (!((bitField0_ & 0x00000001) == 0x00000001)) {
+          samples_ = new java.util.ArrayList<ProtobufStats.Sample>(samples_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilder<
+          ProtobufStats.Sample, ProtobufStats.Sample.Builder, ProtobufStats.SampleOrBuilder> samplesBuilder_;
+
+      /**
+       * <code>repeated .Sample samples = 1;</code>
+       */
+      public java.util.List<ProtobufStats.Sample> getSamplesList() {
+        if (samplesBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(samples_);
+        } else {
+          return samplesBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .Sample samples = 1;</code>
+       */
+      public int getSamplesCount() {
+        if (samplesBuilder_ == null) {
+          return samples_.size();
+        } else {
+          return samplesBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .Sample samples = 1;</code>
+       */
+      public ProtobufStats.Sample getSamples(int index) {
+        if (samplesBuilder_ == null) {
+          return samples_.get(index);
+        } else {
+          return samplesBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .Sample samples = 1;</code>
+       */
+      public Builder setSamples(
+          int index, ProtobufStats.Sample value) {
+        if (samplesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureSamplesIsMutable();
+          samples_.set(index, value);
+          onChanged();
+        } else {
+          samplesBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Sample samples = 1;</code>
+       */
+      public Builder setSamples(
+          int index, ProtobufStats.Sample.Builder builderForValue) {
+        if (samplesBuilder_ == null) {
+          ensureSamplesIsMutable();
+          samples_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          samplesBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Sample samples = 1;</code>
+       */
+      public Builder addSamples(ProtobufStats.Sample value) {
+        if (samplesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureSamplesIsMutable();
+          samples_.add(value);
+          onChanged();
+        } else {
+          samplesBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Sample samples = 1;</code>
+       */
+      public Builder addSamples(
+          int index, ProtobufStats.Sample value) {
+        if (samplesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureSamplesIsMutable();
+          samples_.add(index, value);
+          onChanged();
+        } else {
+          samplesBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Sample samples = 1;</code>
+       */
+      public Builder addSamples(
+          ProtobufStats.Sample.Builder builderForValue) {
+        if (samplesBuilder_ == null) {
+          ensureSamplesIsMutable();
+          samples_.add(builderForValue.build());
+          onChanged();
+        } else {
+          samplesBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Sample samples = 1;</code>
+       */
+      public Builder addSamples(
+          int index, ProtobufStats.Sample.Builder builderForValue) {
+        if (samplesBuilder_ == null) {
+          ensureSamplesIsMutable();
+          samples_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          samplesBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Sample samples = 1;</code>
+       */
+      public Builder addAllSamples(
+          java.lang.Iterable<? extends ProtobufStats.Sample> values) {
+        if (samplesBuilder_ == null) {
+          ensureSamplesIsMutable();
+          super.addAll(values, samples_);
+          onChanged();
+        } else {
+          samplesBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Sample samples = 1;</code>
+       */
+      public Builder clearSamples() {
+        if (samplesBuilder_ == null) {
+          samples_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+          onChanged();
+        } else {
+          samplesBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Sample samples = 1;</code>
+       */
+      public Builder removeSamples(int index) {
+        if (samplesBuilder_ == null) {
+          ensureSamplesIsMutable();
+          samples_.remove(index);
+          onChanged();
+        } else {
+          samplesBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Sample samples = 1;</code>
+       */
+      public ProtobufStats.Sample.Builder getSamplesBuilder(
+          int index) {
+        return getSamplesFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .Sample samples = 1;</code>
+       */
+      public ProtobufStats.SampleOrBuilder getSamplesOrBuilder(
+          int index) {
+        if (samplesBuilder_ == null) {
+          return samples_.get(index);  } else {
+          return samplesBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .Sample samples = 1;</code>
+       */
+      public java.util.List<? extends ProtobufStats.SampleOrBuilder> 
+           getSamplesOrBuilderList() {
+        if (samplesBuilder_ != null) {
+          return samplesBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(samples_);
+        }
+      }
+      /**
+       * <code>repeated .Sample samples = 1;</code>
+       */
+      public ProtobufStats.Sample.Builder addSamplesBuilder() {
+        return getSamplesFieldBuilder().addBuilder(
+            ProtobufStats.Sample.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .Sample samples = 1;</code>
+       */
+      public ProtobufStats.Sample.Builder addSamplesBuilder(
+          int index) {
+        return getSamplesFieldBuilder().addBuilder(
+            index, ProtobufStats.Sample.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .Sample samples = 1;</code>
+       */
+      public java.util.List<ProtobufStats.Sample.Builder> 
+           getSamplesBuilderList() {
+        return getSamplesFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          ProtobufStats.Sample, ProtobufStats.Sample.Builder, ProtobufStats.SampleOrBuilder> 
+          getSamplesFieldBuilder() {
+        if (samplesBuilder_ == null) {
+          samplesBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              ProtobufStats.Sample, ProtobufStats.Sample.Builder, ProtobufStats.SampleOrBuilder>(
+                  samples_,
+                  ((bitField0_ & 0x00000001) == 0x00000001),
+                  getParentForChildren(),
+                  isClean());
+          samples_ = null;
+        }
+        return samplesBuilder_;
+      }
+
+      // @@protoc_insertion_point(builder_scope:Samples)
+    }
+
+    static {
+      defaultInstance = new Samples(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:Samples)
+  }
+
+  public interface BloomFilterOrBuilder
+      extends com.google.protobuf.MessageOrBuilder {
+
+    // required int32 hashes = 1;
+    /**
+     * <code>required int32 hashes = 1;</code>
+     */
+    boolean hasHashes();
+    /**
+     * <code>required int32 hashes = 1;</code>
+     */
+    int getHashes();
+
+    // required bytes bits = 2;
+    /**
+     * <code>required bytes bits = 2;</code>
+     *
+     * <pre>
+     * the bit j is (bits[j / 8] &gt;&gt; (j % 8)) &amp; 1
+     * </pre>
+     */
+    boolean hasBits();
+    /**
+     * <code>required bytes bits = 2;</code>
+     *
+     * <pre>
+     * the bit j is (bits[j / 8] &gt;&gt; (j % 8)) &amp; 1
+     * </pre>
+     */
+    com.google.protobuf.ByteString getBits();
+  }
+  /**
+   * Protobuf type {@code BloomFilter}
+   *
+   * <pre>
+   * Bloom filter of a set of terms: a term can be in the set only if the bits (h1 + i * h2) mod m
+   * are set for every i &lt; hashes, where m is the number of bits and h1, h2 are the lower and
+   * upper 32 bits of the 64-bit hash of the term
+   * </pre>
+   */
+  public static final class BloomFilter extends
+      com.google.protobuf.GeneratedMessage
+      implements BloomFilterOrBuilder {
+    // Use BloomFilter.newBuilder() to construct.
+    private BloomFilter(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private BloomFilter(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final BloomFilter defaultInstance;
+    public static BloomFilter getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public BloomFilter getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private BloomFilter(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 8: {
+              bitField0_ |= 0x00000001;
+              hashes_ = input.readInt32();
+              break;
+            }
+            case 18: {
+              bitField0_ |= 0x00000002;
+              bits_ = input.readBytes();
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return ProtobufStats.internal_static_BloomFilter_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return ProtobufStats.internal_static_BloomFilter_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              ProtobufStats.BloomFilter.class, ProtobufStats.BloomFilter.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<BloomFilter> PARSER =
+        new com.google.protobuf.AbstractParser<BloomFilter>() {
+      public BloomFilter parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new BloomFilter(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<BloomFilter> getParserForType() {
+      return PARSER;
+    }
+
+    private int bitField0_;
+    // required int32 hashes = 1;
+    public static final int HASHES_FIELD_NUMBER = 1;
+    private int hashes_;
+    /**
+     * <code>required int32 hashes = 1;</code>
+     */
+    public boolean hasHashes() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>required int32 hashes = 1;</code>
+     */
+    public int getHashes() {
+      return hashes_;
+    }
+
+    // required bytes bits = 2;
+    public static final int BITS_FIELD_NUMBER = 2;
+    private com.google.protobuf.ByteString bits_;
+    /**
+     * <code>required bytes bits = 2;</code>
+     *
+     * <pre>
+     * the bit j is (bits[j / 8] &gt;&gt; (j % 8)) &amp; 1
+     * </pre>
+     */
+    public boolean hasBits() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>required bytes bits = 2;</code>
+     *
+     * <pre>
+     * the bit j is (bits[j / 8] &gt;&gt; (j % 8)) &amp; 1
+     * </pre>
+     */
+    public com.google.protobuf.ByteString getBits() {
+      return bits_;
+    }
+
+    private void initFields() {
+      hashes_ = 0;
+      bits_ = com.google.protobuf.ByteString.EMPTY;
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized != -1) return isInitialized == 1;
+
+      if (!hasHashes()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasBits()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeInt32(1, hashes_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeBytes(2, bits_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(1, hashes_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(2, bits_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static ProtobufStats.BloomFilter parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static ProtobufStats.BloomFilter parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static ProtobufStats.BloomFilter parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static ProtobufStats.BloomFilter parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static ProtobufStats.BloomFilter parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static ProtobufStats.BloomFilter parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static ProtobufStats.BloomFilter parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static ProtobufStats.BloomFilter parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static ProtobufStats.BloomFilter parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static ProtobufStats.BloomFilter parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(ProtobufStats.BloomFilter prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code BloomFilter}
+     *
+     * <pre>
+     * Bloom filter of a set of terms: a term can be in the set only if the bits (h1 + i * h2) mod m
+     * are set for every i &lt; hashes, where m is the number of bits and h1, h2 are the lower and
+     * upper 32 bits of the 64-bit hash of the term
+     * </pre>
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder>
+       implements ProtobufStats.BloomFilterOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return ProtobufStats.internal_static_BloomFilter_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return ProtobufStats.internal_static_BloomFilter_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                ProtobufStats.BloomFilter.class, ProtobufStats.BloomFilter.Builder.class);
+      }
+
+      // Construct using ProtobufStats.BloomFilter.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        hashes_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        bits_ = com.google.protobuf.ByteString.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000002);
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return ProtobufStats.internal_static_BloomFilter_descriptor;
+      }
+
+      public ProtobufStats.BloomFilter getDefaultInstanceForType() {
+        return ProtobufStats.BloomFilter.getDefaultInstance();
+      }
+
+      public ProtobufStats.BloomFilter build() {
+        ProtobufStats.BloomFilter result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public ProtobufStats.BloomFilter buildPartial() {
+        ProtobufStats.BloomFilter result = new ProtobufStats.BloomFilter(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.hashes_ = hashes_;
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.bits_ = bits_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof ProtobufStats.BloomFilter) {
+          return mergeFrom((ProtobufStats.BloomFilter)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(ProtobufStats.BloomFilter other) {
+        if (other == ProtobufStats.BloomFilter.getDefaultInstance()) return this;
+        if (other.hasHashes()) {
+          setHashes(other.getHashes());
+        }
+        if (other.hasBits()) {
+          setBits(other.getBits());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        if (!hasHashes()) {
+          
+          return false;
+        }
+        if (!hasBits()) {
+          
+          return false;
+        }
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        ProtobufStats.BloomFilter parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (ProtobufStats.BloomFilter) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      // required int32 hashes = 1;
+      private int hashes_ ;
+      /**
+       * <code>required int32 hashes = 1;</code>
+       */
+      public boolean hasHashes() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>required int32 hashes = 1;</code>
+       */
+      public int getHashes() {
+        return hashes_;
+      }
+      /**
+       * <code>required int32 hashes = 1;</code>
+       */
+      public Builder setHashes(int value) {
+        bitField0_ |= 0x00000001;
+        hashes_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required int32 hashes = 1;</code>
+       */
+      public Builder clearHashes() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        hashes_ = 0;
+        onChanged();
+        return this;
+      }
+
+      // required bytes bits = 2;
+      private com.google.protobuf.ByteString bits_ = com.google.protobuf.ByteString.EMPTY;
+      /**
+       * <code>required bytes bits = 2;</code>
+       *
+       * <pre>
+       * the bit j is (bits[j / 8] &gt;&gt; (j % 8)) &amp; 1
+       * </pre>
+       */
+      public boolean hasBits() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>required bytes bits = 2;</code>
+       *
+       * <pre>
+       * the bit j is (bits[j / 8] &gt;&gt; (j % 8)) &amp; 1
+       * </pre>
+       */
+      public com.google.protobuf.ByteString getBits() {
+        return bits_;
+      }
+      /**
+       * <code>required bytes bits = 2;</code>
+       *
+       * <pre>
+       * the bit j is (bits[j / 8] &gt;&gt; (j % 8)) &amp; 1
+       * </pre>
+       */
+      public Builder setBits(com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+        bits_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required bytes bits = 2;</code>
+       *
+       * <pre>
+       * the bit j is (bits[j / 8] &gt;&gt; (j % 8)) &amp; 1
+       * </pre>
+       */
+      public Builder clearBits() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        bits_ = getDefaultInstance().getBits();
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:BloomFilter)
+    }
+
+    static {
+      defaultInstance = new BloomFilter(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:BloomFilter)
+  }
+
+  public interface TableBloomFiltersOrBuilder
+      extends com.google.protobuf.MessageOrBuilder {
+
+    // required string property = 1;
+    /**
+     * <code>required string property = 1;</code>
+     */
+    boolean hasProperty();
+    /**
+     * <code>required string property = 1;</code>
+     */
+    java.lang.String getProperty();
+    /**
+     * <code>required string property = 1;</code>
+     */
+    com.google.protobuf.ByteString
+        getPropertyBytes();
+
+    // optional .BloomFilter subjects = 2;
+    /**
+     * <code>optional .BloomFilter subjects = 2;</code>
+     */
+    boolean hasSubjects();
+    /**
+     * <code>optional .BloomFilter subjects = 2;</code>
+     */
+    ProtobufStats.BloomFilter getSubjects();
+    /**
+     * <code>optional .BloomFilter subjects = 2;</code>
+     */
+    ProtobufStats.BloomFilterOrBuilder getSubjectsOrBuilder();
+
+    // optional .BloomFilter objects = 3;
+    /**
+     * <code>optional .BloomFilter objects = 3;</code>
+     */
+    boolean hasObjects();
+    /**
+     * <code>optional .BloomFilter objects = 3;</code>
+     */
+    ProtobufStats.BloomFilter getObjects();
+    /**
+     * <code>optional .BloomFilter objects = 3;</code>
+     */
+    ProtobufStats.BloomFilterOrBuilder getObjectsOrBuilder();
+  }
+  /**
+   * Protobuf type {@code TableBloomFilters}
+   *
+   * <pre>
+   * Bloom filters of the subjects and of the objects of the table of a property
+   * </pre>
+   */
+  public static final class TableBloomFilters extends
+      com.google.protobuf.GeneratedMessage
+      implements TableBloomFiltersOrBuilder {
+    // Use TableBloomFilters.newBuilder() to construct.
+    private TableBloomFilters(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private TableBloomFilters(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final TableBloomFilters defaultInstance;
+    public static TableBloomFilters getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public TableBloomFilters getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private TableBloomFilters(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 10: {
+              bitField0_ |= 0x00000001;
+              property_ = input.readBytes();
+              break;
+            }
+            case 18: {
+              ProtobufStats.BloomFilter.Builder subBuilder = null;
+              if (((bitField0_ & 0x00000002) == 0x00000002)) {
+                subBuilder = subjects_.toBuilder();
+              }
+              subjects_ = input.readMessage(ProtobufStats.BloomFilter.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(subjects_);
+                subjects_ = subBuilder.buildPartial();
+              }
+              bitField0_ |= 0x00000002;
+              break;
+            }
+            case 26: {
+              ProtobufStats.BloomFilter.Builder subBuilder = null;
+              if (((bitField0_ & 0x00000004) == 0x00000004)) {
+                subBuilder = objects_.toBuilder();
+              }
+              objects_ = input.readMessage(ProtobufStats.BloomFilter.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(objects_);
+                objects_ = subBuilder.buildPartial();
+              }
+              bitField0_ |= 0x00000004;
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return ProtobufStats.internal_static_TableBloomFilters_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return ProtobufStats.internal_static_TableBloomFilters_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              ProtobufStats.TableBloomFilters.class, ProtobufStats.TableBloomFilters.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<TableBloomFilters> PARSER =
+        new com.google.protobuf.AbstractParser<TableBloomFilters>() {
+      public TableBloomFilters parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new TableBloomFilters(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<TableBloomFilters> getParserForType() {
+      return PARSER;
+    }
+
+    private int bitField0_;
+    // required string property = 1;
+    public static final int PROPERTY_FIELD_NUMBER = 1;
+    private java.lang.Object property_;
+    /**
+     * <code>required string property = 1;</code>
+     */
+    public boolean hasProperty() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>required string property = 1;</code>
+     */
+    public java.lang.String getProperty() {
+      java.lang.Object ref = property_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          property_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>required string property = 1;</code>
+     */
+    public com.google.protobuf.ByteString
+        getPropertyBytes() {
+      java.lang.Object ref = property_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        property_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    // optional .BloomFilter subjects = 2;
+    public static final int SUBJECTS_FIELD_NUMBER = 2;
+    private ProtobufStats.BloomFilter subjects_;
+    /**
+     * <code>optional .BloomFilter subjects = 2;</code>
+     */
+    public boolean hasSubjects() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>optional .BloomFilter subjects = 2;</code>
+     */
+    public ProtobufStats.BloomFilter getSubjects() {
+      return subjects_;
+    }
+    /**
+     * <code>optional .BloomFilter subjects = 2;</code>
+     */
+    public ProtobufStats.BloomFilterOrBuilder getSubjectsOrBuilder() {
+      return subjects_;
+    }
+
+    // optional .BloomFilter objects = 3;
+    public static final int OBJECTS_FIELD_NUMBER = 3;
+    private ProtobufStats.BloomFilter objects_;
+    /**
+     * <code>optional .BloomFilter objects = 3;</code>
+     */
+    public boolean hasObjects() {
+      return ((bitField0_ & 0x00000004) == 0x00000004);
+    }
+    /**
+     * <code>optional .BloomFilter objects = 3;</code>
+     */
+    public ProtobufStats.BloomFilter getObjects() {
+      return objects_;
+    }
+    /**
+     * <code>optional .BloomFilter objects = 3;</code>
+     */
+    public ProtobufStats.BloomFilterOrBuilder getObjectsOrBuilder() {
+      return objects_;
+    }
+
+    private void initFields() {
+      property_ = "";
+      subjects_ = ProtobufStats.BloomFilter.getDefaultInstance();
+      objects_ = ProtobufStats.BloomFilter.getDefaultInstance();
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized != -1) return isInitialized == 1;
+
+      if (!hasProperty()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (hasSubjects()) {
+        if (!getSubjects().isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+      }
+      if (hasObjects()) {
+        if (!getObjects().isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeBytes(1, getPropertyBytes());
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeMessage(2, subjects_);
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        output.writeMessage(3, objects_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(1, getPropertyBytes());
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, subjects_);
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(3, objects_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static ProtobufStats.TableBloomFilters parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static ProtobufStats.TableBloomFilters parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static ProtobufStats.TableBloomFilters parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static ProtobufStats.TableBloomFilters parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static ProtobufStats.TableBloomFilters parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static ProtobufStats.TableBloomFilters parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static ProtobufStats.TableBloomFilters parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static ProtobufStats.TableBloomFilters parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static ProtobufStats.TableBloomFilters parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static ProtobufStats.TableBloomFilters parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(ProtobufStats.TableBloomFilters prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code TableBloomFilters}
+     *
+     * <pre>
+     * Bloom filters of the subjects and of the objects of the table of a property
+     * </pre>
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder>
+       implements ProtobufStats.TableBloomFiltersOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return ProtobufStats.internal_static_TableBloomFilters_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return ProtobufStats.internal_static_TableBloomFilters_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                ProtobufStats.TableBloomFilters.class, ProtobufStats.TableBloomFilters.Builder.class);
+      }
+
+      // Construct using ProtobufStats.TableBloomFilters.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+          getSubjectsFieldBuilder();
+          getObjectsFieldBuilder();
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        property_ = "";
+        bitField0_ = (bitField0_ & ~0x00000001);
+        if (subjectsBuilder_ == null) {
+          subjects_ = ProtobufStats.BloomFilter.getDefaultInstance();
+        } else {
+          subjectsBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000002);
+        if (objectsBuilder_ == null) {
+          objects_ = ProtobufStats.BloomFilter.getDefaultInstance();
+        } else {
+          objectsBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000004);
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return ProtobufStats.internal_static_TableBloomFilters_descriptor;
+      }
+
+      public ProtobufStats.TableBloomFilters getDefaultInstanceForType() {
+        return ProtobufStats.TableBloomFilters.getDefaultInstance();
+      }
+
+      public ProtobufStats.TableBloomFilters build() {
+        ProtobufStats.TableBloomFilters result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public ProtobufStats.TableBloomFilters buildPartial() {
+        ProtobufStats.TableBloomFilters result = new ProtobufStats.TableBloomFilters(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.property_ = property_;
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        if (subjectsBuilder_ == null) {
+          result.subjects_ = subjects_;
+        } else {
+          result.subjects_ = subjectsBuilder_.build();
+        }
+        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+          to_bitField0_ |= 0x00000004;
+        }
+        if (objectsBuilder_ == null) {
+          result.objects_ = objects_;
+        } else {
+          result.objects_ = objectsBuilder_.build();
+        }
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof ProtobufStats.TableBloomFilters) {
+          return mergeFrom((ProtobufStats.TableBloomFilters)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(ProtobufStats.TableBloomFilters other) {
+        if (other == ProtobufStats.TableBloomFilters.getDefaultInstance()) return this;
+        if (other.hasProperty()) {
+          bitField0_ |= 0x00000001;
+          property_ = other.property_;
+          onChanged();
+        }
+        if (other.hasSubjects()) {
+          mergeSubjects(other.getSubjects());
+        }
+        if (other.hasObjects()) {
+          mergeObjects(other.getObjects());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        if (!hasProperty()) {
+          
+          return false;
+        }
+        if (hasSubjects()) {
+          if (!getSubjects().isInitialized()) {
+            
+            return false;
+          }
+        }
+        if (hasObjects()) {
+          if (!getObjects().isInitialized()) {
+            
+            return false;
+          }
+        }
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        ProtobufStats.TableBloomFilters parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (ProtobufStats.TableBloomFilters) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      // required string property = 1;
+      private java.lang.Object property_ = "";
+      /**
+       * <code>required string property = 1;</code>
+       */
+      public boolean hasProperty() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>required string property = 1;</code>
+       */
+      public java.lang.String getProperty() {
+        java.lang.Object ref = property_;
+        if (!(ref instanceof java.lang.String)) {
+          java.lang.String s = ((com.google.protobuf.ByteString) ref)
+              .toStringUtf8();
+          property_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>required string property = 1;</code>
+       */
+      public com.google.protobuf.ByteString
+          getPropertyBytes() {
+        java.lang.Object ref = property_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          property_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>required string property = 1;</code>
+       */
+      public Builder setProperty(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        property_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required string property = 1;</code>
+       */
+      public Builder clearProperty() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        property_ = getDefaultInstance().getProperty();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required string property = 1;</code>
+       */
+      public Builder setPropertyBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        property_ = value;
+        onChanged();
+        return this;
+      }
+
+      // optional .BloomFilter subjects = 2;
+      private ProtobufStats.BloomFilter subjects_ = ProtobufStats.BloomFilter.getDefaultInstance();
+      private com.google.protobuf.SingleFieldBuilder<
+          ProtobufStats.BloomFilter, ProtobufStats.BloomFilter.Builder, ProtobufStats.BloomFilterOrBuilder> subjectsBuilder_;
+      /**
+       * <code>optional .BloomFilter subjects = 2;</code>
+       */
+      public boolean hasSubjects() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>optional .BloomFilter subjects = 2;</code>
+       */
+      public ProtobufStats.BloomFilter getSubjects() {
+        if (subjectsBuilder_ == null) {
+          return subjects_;
+        } else {
+          return subjectsBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>optional .BloomFilter subjects = 2;</code>
+       */
+      public Builder setSubjects(ProtobufStats.BloomFilter value) {
+        if (subjectsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          subjects_ = value;
+          onChanged();
+        } else {
+          subjectsBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000002;
+        return this;
+      }
+      /**
+       * <code>optional .BloomFilter subjects = 2;</code>
+       */
+      public Builder setSubjects(
+          ProtobufStats.BloomFilter.Builder builderForValue) {
+        if (subjectsBuilder_ == null) {
+          subjects_ = builderForValue.build();
+          onChanged();
+        } else {
+          subjectsBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000002;
+        return this;
+      }
+      /**
+       * <code>optional .BloomFilter subjects = 2;</code>
+       */
+      public Builder mergeSubjects(ProtobufStats.BloomFilter value) {
+        if (subjectsBuilder_ == null) {
+          if (((bitField0_ & 0x00000002) == 0x00000002) &&
+              subjects_ != ProtobufStats.BloomFilter.getDefaultInstance()) {
+            subjects_ =
+              ProtobufStats.BloomFilter.newBuilder(subjects_).mergeFrom(value).buildPartial();
+          } else {
+            subjects_ = value;
+          }
+          onChanged();
+        } else {
+          subjectsBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000002;
+        return this;
+      }
+      /**
+       * <code>optional .BloomFilter subjects = 2;</code>
+       */
+      public Builder clearSubjects() {
+        if (subjectsBuilder_ == null) {
+          subjects_ = ProtobufStats.BloomFilter.getDefaultInstance();
+          onChanged();
+        } else {
+          subjectsBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000002);
+        return this;
+      }
+      /**
+       * <code>optional .BloomFilter subjects = 2;</code>
+       */
+      public ProtobufStats.BloomFilter.Builder getSubjectsBuilder() {
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return getSubjectsFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .BloomFilter subjects = 2;</code>
+       */
+      public ProtobufStats.BloomFilterOrBuilder getSubjectsOrBuilder() {
+        if (subjectsBuilder_ != null) {
+          return subjectsBuilder_.getMessageOrBuilder();
+        } else {
+          return subjects_;
+        }
+      }
+      /**
+       * <code>optional .BloomFilter subjects = 2;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          ProtobufStats.BloomFilter, ProtobufStats.BloomFilter.Builder, ProtobufStats.BloomFilterOrBuilder> 
+          getSubjectsFieldBuilder() {
+        if (subjectsBuilder_ == null) {
+          subjectsBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              ProtobufStats.BloomFilter, ProtobufStats.BloomFilter.Builder, ProtobufStats.BloomFilterOrBuilder>(
+                  subjects_,
+                  getParentForChildren(),
+                  isClean());
+          subjects_ = null;
+        }
+        return subjectsBuilder_;
+      }
+
+      // optional .BloomFilter objects = 3;
+      private ProtobufStats.BloomFilter objects_ = ProtobufStats.BloomFilter.getDefaultInstance();
+      private com.google.protobuf.SingleFieldBuilder<
+          ProtobufStats.BloomFilter, ProtobufStats.BloomFilter.Builder, ProtobufStats.BloomFilterOrBuilder> objectsBuilder_;
+      /**
+       * <code>optional .BloomFilter objects = 3;</code>
+       */
+      public boolean hasObjects() {
+        return ((bitField0_ & 0x00000004) == 0x00000004);
+      }
+      /**
+       * <code>optional .BloomFilter objects = 3;</code>
+       */
+      public ProtobufStats.BloomFilter getObjects() {
+        if (objectsBuilder_ == null) {
+          return objects_;
+        } else {
+          return objectsBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>optional .BloomFilter objects = 3;</code>
+       */
+      public Builder setObjects(ProtobufStats.BloomFilter value) {
+        if (objectsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          objects_ = value;
+          onChanged();
+        } else {
+          objectsBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000004;
+        return this;
+      }
+      /**
+       * <code>optional .BloomFilter objects = 3;</code>
+       */
+      public Builder setObjects(
+          ProtobufStats.BloomFilter.Builder builderForValue) {
+        if (objectsBuilder_ == null) {
+          objects_ = builderForValue.build();
+          onChanged();
+        } else {
+          objectsBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000004;
+        return this;
+      }
+      /**
+       * <code>optional .BloomFilter objects = 3;</code>
+       */
+      public Builder mergeObjects(ProtobufStats.BloomFilter value) {
+        if (objectsBuilder_ == null) {
+          if (((bitField0_ & 0x00000004) == 0x00000004) &&
+              objects_ != ProtobufStats.BloomFilter.getDefaultInstance()) {
+            objects_ =
+              ProtobufStats.BloomFilter.newBuilder(objects_).mergeFrom(value).buildPartial();
+          } else {
+            objects_ = value;
+          }
+          onChanged();
+        } else {
+          objectsBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000004;
+        return this;
+      }
+      /**
+       * <code>optional .BloomFilter objects = 3;</code>
+       */
+      public Builder clearObjects() {
+        if (objectsBuilder_ == null) {
+          objects_ = ProtobufStats.BloomFilter.getDefaultInstance();
+          onChanged();
+        } else {
+          objectsBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000004);
+        return this;
+      }
+      /**
+       * <code>optional .BloomFilter objects = 3;</code>
+       */
+      public ProtobufStats.BloomFilter.Builder getObjectsBuilder() {
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return getObjectsFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .BloomFilter objects = 3;</code>
+       */
+      public ProtobufStats.BloomFilterOrBuilder getObjectsOrBuilder() {
+        if (objectsBuilder_ != null) {
+          return objectsBuilder_.getMessageOrBuilder();
+        } else {
+          return objects_;
+        }
+      }
+      /**
+       * <code>optional .BloomFilter objects = 3;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          ProtobufStats.BloomFilter, ProtobufStats.BloomFilter.Builder, ProtobufStats.BloomFilterOrBuilder> 
+          getObjectsFieldBuilder() {
+        if (objectsBuilder_ == null) {
+          objectsBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              ProtobufStats.BloomFilter, ProtobufStats.BloomFilter.Builder, ProtobufStats.BloomFilterOrBuilder>(
+                  objects_,
+                  getParentForChildren(),
+                  isClean());
+          objects_ = null;
+        }
+        return objectsBuilder_;
+      }
+
+      // @@protoc_insertion_point(builder_scope:TableBloomFilters)
+    }
+
+    static {
+      defaultInstance = new TableBloomFilters(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:TableBloomFilters)
+  }
+
+  public interface BloomFiltersOrBuilder
+      extends com.google.protobuf.MessageOrBuilder {
+
+    // repeated .TableBloomFilters tables = 1;
+    /**
+     * <code>repeated .TableBloomFilters tables = 1;</code>
+     */
+    java.util.List<ProtobufStats.TableBloomFilters> 
+        getTablesList();
+    /**
+     * <code>repeated .TableBloomFilters tables = 1;</code>
+     */
+    ProtobufStats.TableBloomFilters getTables(int index);
+    /**
+     * <code>repeated .TableBloomFilters tables = 1;</code>
+     */
+    int getTablesCount();
+    /**
+     * <code>repeated .TableBloomFilters tables = 1;</code>
+     */
+    java.util.List<? extends ProtobufStats.TableBloomFiltersOrBuilder> 
+        getTablesOrBuilderList();
+    /**
+     * <code>repeated .TableBloomFilters tables = 1;</code>
+     */
+    ProtobufStats.TableBloomFiltersOrBuilder getTablesOrBuilder(
+        int index);
+  }
+  /**
+   * Protobuf type {@code BloomFilters}
+   *
+   * <pre>
+   * all the Bloom filters, stored in a separate file next to the statistics
+   * </pre>
+   */
+  public static final class BloomFilters extends
+      com.google.protobuf.GeneratedMessage
+      implements BloomFiltersOrBuilder {
+    // Use BloomFilters.newBuilder() to construct.
+    private BloomFilters(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private BloomFilters(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final BloomFilters defaultInstance;
+    public static BloomFilters getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public BloomFilters getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private BloomFilters(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 10: {
+              if (!((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+                tables_ = new java.util.ArrayList<ProtobufStats.TableBloomFilters>();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              tables_.add(input.readMessage(ProtobufStats.TableBloomFilters.PARSER, extensionRegistry));
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+          tables_ = java.util.Collections.unmodifiableList(tables_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return ProtobufStats.internal_static_BloomFilters_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return ProtobufStats.internal_static_BloomFilters_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              ProtobufStats.BloomFilters.class, ProtobufStats.BloomFilters.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<BloomFilters> PARSER =
+        new com.google.protobuf.AbstractParser<BloomFilters>() {
+      public BloomFilters parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new BloomFilters(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<BloomFilters> getParserForType() {
+      return PARSER;
+    }
+
+    // repeated .TableBloomFilters tables = 1;
+    public static final int TABLES_FIELD_NUMBER = 1;
+    private java.util.List<ProtobufStats.TableBloomFilters> tables_;
+    /**
+     * <code>repeated .TableBloomFilters tables = 1;</code>
+     */
+    public java.util.List<ProtobufStats.TableBloomFilters> getTablesList() {
+      return tables_;
+    }
+    /**
+     * <code>repeated .TableBloomFilters tables = 1;</code>
+     */
+    public java.util.List<? extends ProtobufStats.TableBloomFiltersOrBuilder> 
+        getTablesOrBuilderList() {
+      return tables_;
+    }
+    /**
+     * <code>repeated .TableBloomFilters tables = 1;</code>
+     */
+    public int getTablesCount() {
+      return tables_.size();
+    }
+    /**
+     * <code>repeated .TableBloomFilters tables = 1;</code>
+     */
+    public ProtobufStats.TableBloomFilters getTables(int index) {
+      return tables_.get(index);
+    }
+    /**
+     * <code>repeated .TableBloomFilters tables = 1;</code>
+     */
+    public ProtobufStats.TableBloomFiltersOrBuilder getTablesOrBuilder(
+        int index) {
+      return tables_.get(index);
+    }
+
+    private void initFields() {
+      tables_ = java.util.Collections.emptyList();
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized != -1) return isInitialized == 1;
+
+      for (int i = 0; i < getTablesCount(); i++) {
+        if (!getTables(i).isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      for (int i = 0; i < tables_.size(); i++) {
+        output.writeMessage(1, tables_.get(i));
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      for (int i = 0; i < tables_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, tables_.get(i));
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static ProtobufStats.BloomFilters parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static ProtobufStats.BloomFilters parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static ProtobufStats.BloomFilters parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static ProtobufStats.BloomFilters parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static ProtobufStats.BloomFilters parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static ProtobufStats.BloomFilters parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static ProtobufStats.BloomFilters parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static ProtobufStats.BloomFilters parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static ProtobufStats.BloomFilters parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static ProtobufStats.BloomFilters parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(ProtobufStats.BloomFilters prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code BloomFilters}
+     *
+     * <pre>
+     * all the Bloom filters, stored in a separate file next to the statistics
+     * </pre>
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder>
+       implements ProtobufStats.BloomFiltersOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return ProtobufStats.internal_static_BloomFilters_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return ProtobufStats.internal_static_BloomFilters_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                ProtobufStats.BloomFilters.class, ProtobufStats.BloomFilters.Builder.class);
+      }
+
+      // Construct using ProtobufStats.BloomFilters.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+          getTablesFieldBuilder();
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        if (tablesBuilder_ == null) {
+          tables_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+        } else {
+          tablesBuilder_.clear();
+        }
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return ProtobufStats.internal_static_BloomFilters_descriptor;
+      }
+
+      public ProtobufStats.BloomFilters getDefaultInstanceForType() {
+        return ProtobufStats.BloomFilters.getDefaultInstance();
+      }
+
+      public ProtobufStats.BloomFilters build() {
+        ProtobufStats.BloomFilters result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public ProtobufStats.BloomFilters buildPartial() {
+        ProtobufStats.BloomFilters result = new ProtobufStats.BloomFilters(this);
+        int from_bitField0_ = bitField0_;
+        if (tablesBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) == 0x00000001)) {
+            tables_ = java.util.Collections.unmodifiableList(tables_);
+            bitField0_ = (bitField0_ & ~0x00000001);
+          }
+          result.tables_ = tables_;
+        } else {
+          result.tables_ = tablesBuilder_.build();
+        }
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof ProtobufStats.BloomFilters) {
+          return mergeFrom((ProtobufStats.BloomFilters)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(ProtobufStats.BloomFilters other) {
+        if (other == ProtobufStats.BloomFilters.getDefaultInstance()) return this;
+        if (tablesBuilder_ == null) {
+          if (!other.tables_.isEmpty()) {
+            if (tables_.isEmpty()) {
+              tables_ = other.tables_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+            } else {
+              ensureTablesIsMutable();
+              tables_.addAll(other.tables_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.tables_.isEmpty()) {
+            if (tablesBuilder_.isEmpty()) {
+              tablesBuilder_.dispose();
+              tablesBuilder_ = null;
+              tables_ = other.tables_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+              tablesBuilder_ = 
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getTablesFieldBuilder() : null;
+            } else {
+              tablesBuilder_.addAllMessages(other.tables_);
+            }
+          }
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        for (int i = 0; i < getTablesCount(); i++) {
+          if (!getTables(i).isInitialized()) {
+            
+            return false;
+          }
+        }
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        ProtobufStats.BloomFilters parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (ProtobufStats.BloomFilters) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      // repeated .TableBloomFilters tables = 1;
+      private java.util.List<ProtobufStats.TableBloomFilters> tables_ =
+        java.util.Collections.emptyList();
+      private void ensureTablesIsMutable() {
+        if (!((bitField0_ & 0x00000001) == 0x00000001)) {
+          tables_ = new java.util.ArrayList<ProtobufStats.TableBloomFilters>(tables_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilder<
+          ProtobufStats.TableBloomFilters, ProtobufStats.TableBloomFilters.Builder, ProtobufStats.TableBloomFiltersOrBuilder> tablesBuilder_;
+
+      /**
+       * <code>repeated .TableBloomFilters tables = 1;</code>
+       */
+      public java.util.List<ProtobufStats.TableBloomFilters> getTablesList() {
+        if (tablesBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(tables_);
+        } else {
+          return tablesBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .TableBloomFilters tables = 1;</code>
+       */
+      public int getTablesCount() {
+        if (tablesBuilder_ == null) {
+          return tables_.size();
+        } else {
+          return tablesBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .TableBloomFilters tables = 1;</code>
+       */
+      public ProtobufStats.TableBloomFilters getTables(int index) {
+        if (tablesBuilder_ == null) {
+          return tables_.get(index);
+        } else {
+          return tablesBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .TableBloomFilters tables = 1;</code>
+       */
+      public Builder setTables(
+          int index, ProtobufStats.TableBloomFilters value) {
+        if (tablesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureTablesIsMutable();
+          tables_.set(index, value);
+          onChanged();
+        } else {
+          tablesBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .TableBloomFilters tables = 1;</code>
+       */
+      public Builder setTables(
+          int index, ProtobufStats.TableBloomFilters.Builder builderForValue) {
+        if (tablesBuilder_ == null) {
+          ensureTablesIsMutable();
+          tables_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          tablesBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .TableBloomFilters tables = 1;</code>
+       */
+      public Builder addTables(ProtobufStats.TableBloomFilters value) {
+        if (tablesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureTablesIsMutable();
+          tables_.add(value);
+          onChanged();
+        } else {
+          tablesBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .TableBloomFilters tables = 1;</code>
+       */
+      public Builder addTables(
+          int index, ProtobufStats.TableBloomFilters value) {
+        if (tablesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureTablesIsMutable();
+          tables_.add(index, value);
+          onChanged();
+        } else {
+          tablesBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .TableBloomFilters tables = 1;</code>
+       */
+      public Builder addTables(
+          ProtobufStats.TableBloomFilters.Builder builderForValue) {
+        if (tablesBuilder_ == null) {
+          ensureTablesIsMutable();
+          tables_.add(builderForValue.build());
+          onChanged();
+        } else {
+          tablesBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .TableBloomFilters tables = 1;</code>
+       */
+      public Builder addTables(
+          int index, ProtobufStats.TableBloomFilters.Builder builderForValue) {
+        if (tablesBuilder_ == null) {
+          ensureTablesIsMutable();
+          tables_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          tablesBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .TableBloomFilters tables = 1;</code>
+       */
+      public Builder addAllTables(
+          java.lang.Iterable<? extends ProtobufStats.TableBloomFilters> values) {
+        if (tablesBuilder_ == null) {
+          ensureTablesIsMutable();
+          super.addAll(values, tables_);
+          onChanged();
+        } else {
+          tablesBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .TableBloomFilters tables = 1;</code>
+       */
+      public Builder clearTables() {
+        if (tablesBuilder_ == null) {
+          tables_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+          onChanged();
+        } else {
+          tablesBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .TableBloomFilters tables = 1;</code>
+       */
+      public Builder removeTables(int index) {
+        if (tablesBuilder_ == null) {
+          ensureTablesIsMutable();
+          tables_.remove(index);
+          onChanged();
+        } else {
+          tablesBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .TableBloomFilters tables = 1;</code>
+       */
+      public ProtobufStats.TableBloomFilters.Builder getTablesBuilder(
+          int index) {
+        return getTablesFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .TableBloomFilters tables = 1;</code>
+       */
+      public ProtobufStats.TableBloomFiltersOrBuilder getTablesOrBuilder(
+          int index) {
+        if (tablesBuilder_ == null) {
+          return tables_.get(index);  } else {
+          return tablesBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .TableBloomFilters tables = 1;</code>
+       */
+      public java.util.List<? extends ProtobufStats.TableBloomFiltersOrBuilder> 
+           getTablesOrBuilderList() {
+        if (tablesBuilder_ != null) {
+          return tablesBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(tables_);
+        }
+      }
+      /**
+       * <code>repeated .TableBloomFilters tables = 1;</code>
+       */
+      public ProtobufStats.TableBloomFilters.Builder addTablesBuilder() {
+        return getTablesFieldBuilder().addBuilder(
+            ProtobufStats.TableBloomFilters.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .TableBloomFilters tables = 1;</code>
+       */
+      public ProtobufStats.TableBloomFilters.Builder addTablesBuilder(
+          int index) {
+        return getTablesFieldBuilder().addBuilder(
+            index, ProtobufStats.TableBloomFilters.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .TableBloomFilters tables = 1;</code>
+       */
+      public java.util.List<ProtobufStats.TableBloomFilters.Builder> 
+           getTablesBuilderList() {
+        return getTablesFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          ProtobufStats.TableBloomFilters, ProtobufStats.TableBloomFilters.Builder, ProtobufStats.TableBloomFiltersOrBuilder> 
+          getTablesFieldBuilder() {
+        if (tablesBuilder_ == null) {
+          tablesBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              ProtobufStats.TableBloomFilters, ProtobufStats.TableBloomFilters.Builder, ProtobufStats.TableBloomFiltersOrBuilder>(
+                  tables_,
+                  ((bitField0_ & 0x00000001) == 0x00000001),
+                  getParentForChildren(),
+                  isClean());
+          tables_ = null;
+        }
+        return tablesBuilder_;
+      }
+
+      // @@protoc_insertion_point(builder_scope:BloomFilters)
+    }
+
+    static {
+      defaultInstance = new BloomFilters(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:BloomFilters)
+  }
+
+  public interface GraphOrBuilder
+      extends com.google.protobuf.MessageOrBuilder {
+
+    // optional string name = 1;
+    /**
+     * <code>optional string name = 1;</code>
+     */
+    boolean hasName();
+    /**
+     * <code>optional string name = 1;</code>
+     */
+    java.lang.String getName();
+    /**
+     * <code>optional string name = 1;</code>
+     */
+    com.google.protobuf.ByteString
+        getNameBytes();
+
+    // optional int64 size = 2;
+    /**
+     * <code>optional int64 size = 2;</code>
+     *
+     * <pre>
+     * number of triples
+     * </pre>
+     */
+    boolean hasSize();
+    /**
+     * <code>optional int64 size = 2;</code>
+     *
+     * <pre>
+     * number of triples
+     * </pre>
+     */
+    long getSize();
+
+    // optional int64 distinctSubjects = 3;
+    /**
+     * <code>optional int64 distinctSubjects = 3;</code>
+     *
+     * <pre>
+     * distinct subjects in the whole graph
+     * </pre>
+     */
+    boolean hasDistinctSubjects();
+    /**
+     * <code>optional int64 distinctSubjects = 3;</code>
+     *
+     * <pre>
+     * distinct subjects in the whole graph
+     * </pre>
+     */
+    long getDistinctSubjects();
+
+    // optional int64 distinctObjects = 6;
+    /**
+     * <code>optional int64 distinctObjects = 6;</code>
+     *
+     * <pre>
+     * distinct objects in the whole graph
+     * </pre>
+     */
+    boolean hasDistinctObjects();
+    /**
+     * <code>optional int64 distinctObjects = 6;</code>
+     *
+     * <pre>
+     * distinct objects in the whole graph
+     * </pre>
+     */
+    long getDistinctObjects();
+
+    // optional int32 properties = 7;
+    /**
+     * <code>optional int32 properties = 7;</code>
+     *
+     * <pre>
+     * number of properties
+     * </pre>
+     */
+    boolean hasProperties();
+    /**
+     * <code>optional int32 properties = 7;</code>
+     *
+     * <pre>
+     * number of properties
+     * </pre>
+     */
+    int getProperties();
+
+    // repeated .Table tables = 4;
+    /**
+     * <code>repeated .Table tables = 4;</code>
+     */
+    java.util.List<ProtobufStats.Table> 
+        getTablesList();
+    /**
+     * <code>repeated .Table tables = 4;</code>
+     */
+    ProtobufStats.Table getTables(int index);
+    /**
+     * <code>repeated .Table tables = 4;</code>
+     */
+    int getTablesCount();
+    /**
+     * <code>repeated .Table tables = 4;</code>
+     */
+    java.util.List<? extends ProtobufStats.TableOrBuilder> 
+        getTablesOrBuilderList();
+    /**
+     * <code>repeated .Table tables = 4;</code>
+     */
+    ProtobufStats.TableOrBuilder getTablesOrBuilder(
+        int index);
+
+    // repeated .CharacteristicSet characteristicSets = 5;
+    /**
+     * <code>repeated .CharacteristicSet characteristicSets = 5;</code>
+     *
+     * <pre>
+     * the most frequent characteristic sets
+     * </pre>
+     */
+    java.util.List<ProtobufStats.CharacteristicSet> 
+        getCharacteristicSetsList();
+    /**
+     * <code>repeated .CharacteristicSet characteristicSets = 5;</code>
+     *
+     * <pre>
+     * the most frequent characteristic sets
+     * </pre>
+     */
+    ProtobufStats.CharacteristicSet getCharacteristicSets(int index);
+    /**
+     * <code>repeated .CharacteristicSet characteristicSets = 5;</code>
+     *
+     * <pre>
+     * the most frequent characteristic sets
+     * </pre>
+     */
+    int getCharacteristicSetsCount();
+    /**
+     * <code>repeated .CharacteristicSet characteristicSets = 5;</code>
+     *
+     * <pre>
+     * the most frequent characteristic sets
+     * </pre>
+     */
+    java.util.List<? extends ProtobufStats.CharacteristicSetOrBuilder> 
+        getCharacteristicSetsOrBuilderList();
+    /**
+     * <code>repeated .CharacteristicSet characteristicSets = 5;</code>
+     *
+     * <pre>
+     * the most frequent characteristic sets
+     * </pre>
+     */
+    ProtobufStats.CharacteristicSetOrBuilder getCharacteristicSetsOrBuilder(
+        int index);
+
+    // repeated .PathTable pathTables = 8;
+    /**
+     * <code>repeated .PathTable pathTables = 8;</code>
+     *
+     * <pre>
+     * materialized chains of properties
+     * </pre>
+     */
+    java.util.List<ProtobufStats.PathTable> 
+        getPathTablesList();
+    /**
+     * <code>repeated .PathTable pathTables = 8;</code>
+     *
+     * <pre>
+     * materialized chains of properties
+     * </pre>
+     */
+    ProtobufStats.PathTable getPathTables(int index);
+    /**
+     * <code>repeated .PathTable pathTables = 8;</code>
+     *
+     * <pre>
+     * materialized chains of properties
+     * </pre>
+     */
+    int getPathTablesCount();
+    /**
+     * <code>repeated .PathTable pathTables = 8;</code>
+     *
+     * <pre>
+     * materialized chains of properties
+     * </pre>
+     */
+    java.util.List<? extends ProtobufStats.PathTableOrBuilder> 
+        getPathTablesOrBuilderList();
+    /**
+     * <code>repeated .PathTable pathTables = 8;</code>
+     *
+     * <pre>
+     * materialized chains of properties
+     * </pre>
+     */
+    ProtobufStats.PathTableOrBuilder getPathTablesOrBuilder(
+        int index);
+  }
+  /**
+   * Protobuf type {@code Graph}
+   *
+   * <pre>
+   * definition for the whole Graph
+   * </pre>
+   */
+  public static final class Graph extends
+      com.google.protobuf.GeneratedMessage
+      implements GraphOrBuilder {
+    // Use Graph.newBuilder() to construct.
+    private Graph(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private Graph(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final Graph defaultInstance;
+    public static Graph getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public Graph getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private Graph(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 10: {
+              bitField0_ |= 0x00000001;
+              name_ = input.readBytes();
+              break;
+            }
+            case 16: {
+              bitField0_ |= 0x00000002;
+              size_ = input.readInt64();
+              break;
+            }
+            case 24: {
+              bitField0_ |= 0x00000004;
+              distinctSubjects_ = input.readInt64();
+              break;
+            }
+            case 34: {
+              if (!((mutable_bitField0_ & 0x00000020) == 0x00000020)) {
+                tables_ = new java.util.ArrayList<ProtobufStats.Table>();
+                mutable_bitField0_ |= 0x00000020;
+              }
+              tables_.add(input.readMessage(ProtobufStats.Table.PARSER, extensionRegistry));
+              break;
+            }
+            case 42: {
+              if (!((mutable_bitField0_ & 0x00000040) == 0x00000040)) {
+                characteristicSets_ = new java.util.ArrayList<ProtobufStats.CharacteristicSet>();
+                mutable_bitField0_ |= 0x00000040;
+              }
+              characteristicSets_.add(input.readMessage(ProtobufStats.CharacteristicSet.PARSER, extensionRegistry));
+              break;
+            }
+            case 48: {
+              bitField0_ |= 0x00000008;
+              distinctObjects_ = input.readInt64();
+              break;
+            }
+            case 56: {
+              bitField0_ |= 0x00000010;
+              properties_ = input.readInt32();
+              break;
+            }
+            case 66: {
+              if (!((mutable_bitField0_ & 0x00000080) == 0x00000080)) {
+                pathTables_ = new java.util.ArrayList<ProtobufStats.PathTable>();
+                mutable_bitField0_ |= 0x00000080;
+              }
+              pathTables_.add(input.readMessage(ProtobufStats.PathTable.PARSER, extensionRegistry));
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000020) == 0x00000020)) {
+          tables_ = java.util.Collections.unmodifiableList(tables_);
+        }
+        if (((mutable_bitField0_ & 0x00000040) == 0x00000040)) {
+          characteristicSets_ = java.util.Collections.unmodifiableList(characteristicSets_);
+        }
+        if (((mutable_bitField0_ & 0x00000080) == 0x00000080)) {
+          pathTables_ = java.util.Collections.unmodifiableList(pathTables_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return ProtobufStats.internal_static_Graph_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return ProtobufStats.internal_static_Graph_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              ProtobufStats.Graph.class, ProtobufStats.Graph.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<Graph> PARSER =
+        new com.google.protobuf.AbstractParser<Graph>() {
+      public Graph parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new Graph(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<Graph> getParserForType() {
+      return PARSER;
+    }
+
+    private int bitField0_;
+    // optional string name = 1;
+    public static final int NAME_FIELD_NUMBER = 1;
+    private java.lang.Object name_;
+    /**
+     * <code>optional string name = 1;</code>
+     */
+    public boolean hasName() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>optional string name = 1;</code>
+     */
+    public java.lang.String getName() {
+      java.lang.Object ref = name_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          name_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string name = 1;</code>
+     */
+    public com.google.protobuf.ByteString
+        getNameBytes() {
+      java.lang.Object ref = name_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        name_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    // optional int64 size = 2;
+    public static final int SIZE_FIELD_NUMBER = 2;
+    private long size_;
+    /**
+     * <code>optional int64 size = 2;</code>
+     *
+     * <pre>
+     * number of triples
+     * </pre>
+     */
+    public boolean hasSize() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>optional int64 size = 2;</code>
+     *
+     * <pre>
+     * number of triples
+     * </pre>
+     */
+    public long getSize() {
+      return size_;
+    }
+
+    // optional int64 distinctSubjects = 3;
+    public static final int DISTINCTSUBJECTS_FIELD_NUMBER = 3;
+    private long distinctSubjects_;
+    /**
+     * <code>optional int64 distinctSubjects = 3;</code>
+     *
+     * <pre>
+     * distinct subjects in the whole graph
+     * </pre>
+     */
+    public boolean hasDistinctSubjects() {
+      return ((bitField0_ & 0x00000004) == 0x00000004);
+    }
+    /**
+     * <code>optional int64 distinctSubjects = 3;</code>
+     *
+     * <pre>
+     * distinct subjects in the whole graph
+     * </pre>
+     */
+    public long getDistinctSubjects() {
+      return distinctSubjects_;
+    }
+
+    // optional int64 distinctObjects = 6;
+    public static final int DISTINCTOBJECTS_FIELD_NUMBER = 6;
+    private long distinctObjects_;
+    /**
+     * <code>optional int64 distinctObjects = 6;</code>
+     *
+     * <pre>
+     * distinct objects in the whole graph
+     * </pre>
+     */
+    public boolean hasDistinctObjects() {
+      return ((bitField0_ & 0x00000008) == 0x00000008);
+    }
+    /**
+     * <code>optional int64 distinctObjects = 6;</code>
+     *
+     * <pre>
+     * distinct objects in the whole graph
+     * </pre>
+     */
+    public long getDistinctObjects() {
+      return distinctObjects_;
+    }
+
+    // optional int32 properties = 7;
+    public static final int PROPERTIES_FIELD_NUMBER = 7;
+    private int properties_;
+    /**
+     * <code>optional int32 properties = 7;</code>
+     *
+     * <pre>
+     * number of properties
+     * </pre>
+     */
+    public boolean hasProperties() {
+      return ((bitField0_ & 0x00000010) == 0x00000010);
+    }
+    /**
+     * <code>optional int32 properties = 7;</code>
+     *
+     * <pre>
+     * number of properties
+     * </pre>
+     */
+    public int getProperties() {
+      return properties_;
+    }
+
+    // repeated .Table tables = 4;
+    public static final int TABLES_FIELD_NUMBER = 4;
+    private java.util.List<ProtobufStats.Table> tables_;
+    /**
+     * <code>repeated .Table tables = 4;</code>
+     */
+    public java.util.List<ProtobufStats.Table> getTablesList() {
+      return tables_;
+    }
+    /**
+     * <code>repeated .Table tables = 4;</code>
+     */
+    public java.util.List<? extends ProtobufStats.TableOrBuilder> 
+        getTablesOrBuilderList() {
+      return tables_;
+    }
+    /**
+     * <code>repeated .Table tables = 4;</code>
+     */
+    public int getTablesCount() {
+      return tables_.size();
+    }
+    /**
+     * <code>repeated .Table tables = 4;</code>
+     */
+    public ProtobufStats.Table getTables(int index) {
+      return tables_.get(index);
+    }
+    /**
+     * <code>repeated .Table tables = 4;</code>
+     */
+    public ProtobufStats.TableOrBuilder getTablesOrBuilder(
+        int index) {
+      return tables_.get(index);
+    }
+
+    // repeated .CharacteristicSet characteristicSets = 5;
+    public static final int CHARACTERISTICSETS_FIELD_NUMBER = 5;
+    private java.util.List<ProtobufStats.CharacteristicSet> characteristicSets_;
+    /**
+     * <code>repeated .CharacteristicSet characteristicSets = 5;</code>
+     *
+     * <pre>
+     * the most frequent characteristic sets
+     * </pre>
+     */
+    public java.util.List<ProtobufStats.CharacteristicSet> getCharacteristicSetsList() {
+      return characteristicSets_;
+    }
+    /**
+     * <code>repeated .CharacteristicSet characteristicSets = 5;</code>
+     *
+     * <pre>
+     * the most frequent characteristic sets
+     * </pre>
+     */
+    public java.util.List<? extends ProtobufStats.CharacteristicSetOrBuilder> 
+        getCharacteristicSetsOrBuilderList() {
+      return characteristicSets_;
+    }
+    /**
+     * <code>repeated .CharacteristicSet characteristicSets = 5;</code>
+     *
+     * <pre>
+     * the most frequent characteristic sets
+     * </pre>
+     */
+    public int getCharacteristicSetsCount() {
+      return characteristicSets_.size();
+    }
+    /**
+     * <code>repeated .CharacteristicSet characteristicSets = 5;</code>
+     *
+     * <pre>
+     * the most frequent characteristic sets
+     * </pre>
+     */
+    public ProtobufStats.CharacteristicSet getCharacteristicSets(int index) {
+      return characteristicSets_.get(index);
+    }
+    /**
+     * <code>repeated .CharacteristicSet characteristicSets = 5;</code>
+     *
+     * <pre>
+     * the most frequent characteristic sets
+     * </pre>
+     */
+    public ProtobufStats.CharacteristicSetOrBuilder getCharacteristicSetsOrBuilder(
+        int index) {
+      return characteristicSets_.get(index);
+    }
+
+    // repeated .PathTable pathTables = 8;
+    public static final int PATHTABLES_FIELD_NUMBER = 8;
+    private java.util.List<ProtobufStats.PathTable> pathTables_;
+    /**
+     * <code>repeated .PathTable pathTables = 8;</code>
+     *
+     * <pre>
+     * materialized chains of properties
+     * </pre>
+     */
+    public java.util.List<ProtobufStats.PathTable> getPathTablesList() {
+      return pathTables_;
+    }
+    /**
+     * <code>repeated .PathTable pathTables = 8;</code>
+     *
+     * <pre>
+     * materialized chains of properties
+     * </pre>
+     */
+    public java.util.List<? extends ProtobufStats.PathTableOrBuilder> 
+        getPathTablesOrBuilderList() {
+      return pathTables_;
+    }
+    /**
+     * <code>repeated .PathTable pathTables = 8;</code>
+     *
+     * <pre>
+     * materialized chains of properties
+     * </pre>
+     */
+    public int getPathTablesCount() {
+      return pathTables_.size();
+    }
+    /**
+     * <code>repeated .PathTable pathTables = 8;</code>
+     *
+     * <pre>
+     * materialized chains of properties
+     * </pre>
+     */
+    public ProtobufStats.PathTable getPathTables(int index) {
+      return pathTables_.get(index);
+    }
+    /**
+     * <code>repeated .PathTable pathTables = 8;</code>
+     *
+     * <pre>
+     * materialized chains of properties
+     * </pre>
+     */
+    public ProtobufStats.PathTableOrBuilder getPathTablesOrBuilder(
+        int index) {
+      return pathTables_.get(index);
+    }
+
+    private void initFields() {
+      name_ = "";
+      size_ = 0L;
+      distinctSubjects_ = 0L;
+      distinctObjects_ = 0L;
+      properties_ = 0;
+      tables_ = java.util.Collections.emptyList();
+      characteristicSets_ = java.util.Collections.emptyList();
+      pathTables_ = java.util.Collections.emptyList();
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized != -1) return isInitialized == 1;
+
+      for (int i = 0; i < getTablesCount(); i++) {
+        if (!getTables(i).isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+      }
+      for (int i = 0; i < getPathTablesCount(); i++) {
+        if (!getPathTables(i).isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeBytes(1, getNameBytes());
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeInt64(2, size_);
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        output.writeInt64(3, distinctSubjects_);
+      }
+      for (int i = 0; i < tables_.size(); i++) {
+        output.writeMessage(4, tables_.get(i));
+      }
+      for (int i = 0; i < characteristicSets_.size(); i++) {
+        output.writeMessage(5, characteristicSets_.get(i));
+      }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        output.writeInt64(6, distinctObjects_);
+      }
+      if (((bitField0_ & 0x00000010) == 0x00000010)) {
+        output.writeInt32(7, properties_);
+      }
+      for (int i = 0; i < pathTables_.size(); i++) {
+        output.writeMessage(8, pathTables_.get(i));
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(1, getNameBytes());
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(2, size_);
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(3, distinctSubjects_);
+      }
+      for (int i = 0; i < tables_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(4, tables_.get(i));
+      }
+      for (int i = 0; i < characteristicSets_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(5, characteristicSets_.get(i));
+      }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(6, distinctObjects_);
+      }
+      if (((bitField0_ & 0x00000010) == 0x00000010)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(7, properties_);
+      }
+      for (int i = 0; i < pathTables_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(8, pathTables_.get(i));
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static ProtobufStats.Graph parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static ProtobufStats.Graph parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static ProtobufStats.Graph parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static ProtobufStats.Graph parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static ProtobufStats.Graph parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static ProtobufStats.Graph parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static ProtobufStats.Graph parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static ProtobufStats.Graph parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static ProtobufStats.Graph parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static ProtobufStats.Graph parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(ProtobufStats.Graph prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code Graph}
+     *
+     * <pre>
+     * definition for the whole Graph
+     * </pre>
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder>
+       implements ProtobufStats.GraphOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return ProtobufStats.internal_static_Graph_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return ProtobufStats.internal_static_Graph_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                ProtobufStats.Graph.class, ProtobufStats.Graph.Builder.class);
+      }
+
+      // Construct using ProtobufStats.Graph.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+          getTablesFieldBuilder();
+          getCharacteristicSetsFieldBuilder();
+          getPathTablesFieldBuilder();
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        name_ = "";
+        bitField0_ = (bitField0_ & ~0x00000001);
+        size_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000002);
+        distinctSubjects_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000004);
+        distinctObjects_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000008);
+        properties_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000010);
+        if (tablesBuilder_ == null) {
+          tables_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000020);
+        } else {
+          tablesBuilder_.clear();
+        }
+        if (characteristicSetsBuilder_ == null) {
+          characteristicSets_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000040);
+        } else {
+          characteristicSetsBuilder_.clear();
+        }
+        if (pathTablesBuilder_ == null) {
+          pathTables_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000080);
+        } else {
+          pathTablesBuilder_.clear();
+        }
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return ProtobufStats.internal_static_Graph_descriptor;
+      }
+
+      public ProtobufStats.Graph getDefaultInstanceForType() {
+        return ProtobufStats.Graph.getDefaultInstance();
+      }
+
+      public ProtobufStats.Graph build() {
+        ProtobufStats.Graph result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public ProtobufStats.Graph buildPartial() {
+        ProtobufStats.Graph result = new ProtobufStats.Graph(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.name_ = name_;
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.size_ = size_;
+        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+          to_bitField0_ |= 0x00000004;
+        }
+        result.distinctSubjects_ = distinctSubjects_;
+        if (((from_bitField0_ & 0x00000008) == 0x00000008)) {
+          to_bitField0_ |= 0x00000008;
+        }
+        result.distinctObjects_ = distinctObjects_;
+        if (((from_bitField0_ & 0x00000010) == 0x00000010)) {
+          to_bitField0_ |= 0x00000010;
+        }
+        result.properties_ = properties_;
+        if (tablesBuilder_ == null) {
+          if (((bitField0_ & 0x00000020) == 0x00000020)) {
+            tables_ = java.util.Collections.unmodifiableList(tables_);
+            bitField0_ = (bitField0_ & ~0x00000020);
+          }
+          result.tables_ = tables_;
+        } else {
+          result.tables_ = tablesBuilder_.build();
+        }
+        if (characteristicSetsBuilder_ == null) {
+          if (((bitField0_ & 0x00000040) == 0x00000040)) {
+            characteristicSets_ = java.util.Collections.unmodifiableList(characteristicSets_);
+            bitField0_ = (bitField0_ & ~0x00000040);
+          }
+          result.characteristicSets_ = characteristicSets_;
+        } else {
+          result.characteristicSets_ = characteristicSetsBuilder_.build();
+        }
+        if (pathTablesBuilder_ == null) {
+          if (((bitField0_ & 0x00000080) == 0x00000080)) {
+            pathTables_ = java.util.Collections.unmodifiableList(pathTables_);
+            bitField0_ = (bitField0_ & ~0x00000080);
+          }
+          result.pathTables_ = pathTables_;
+        } else {
+          result.pathTables_ = pathTablesBuilder_.build();
+        }
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof ProtobufStats.Graph) {
+          return mergeFrom((ProtobufStats.Graph)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(ProtobufStats.Graph other) {
+        if (other == ProtobufStats.Graph.getDefaultInstance()) return this;
+        if (other.hasName()) {
+          bitField0_ |= 0x00000001;
+          name_ = other.name_;
+          onChanged();
+        }
+        if (other.hasSize()) {
+          setSize(other.getSize());
+        }
+        if (other.hasDistinctSubjects()) {
+          setDistinctSubjects(other.getDistinctSubjects());
+        }
+        if (other.hasDistinctObjects()) {
+          setDistinctObjects(other.getDistinctObjects());
+        }
+        if (other.hasProperties()) {
+          setProperties(other.getProperties());
+        }
+        if (tablesBuilder_ == null) {
+          if (!other.tables_.isEmpty()) {
+            if (tables_.isEmpty()) {
+              tables_ = other.tables_;
+              bitField0_ = (bitField0_ & ~0x00000020);
+            } else {
+              ensureTablesIsMutable();
+              tables_.addAll(other.tables_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.tables_.isEmpty()) {
+            if (tablesBuilder_.isEmpty()) {
+              tablesBuilder_.dispose();
+              tablesBuilder_ = null;
+              tables_ = other.tables_;
+              bitField0_ = (bitField0_ & ~0x00000020);
+              tablesBuilder_ = 
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getTablesFieldBuilder() : null;
+            } else {
+              tablesBuilder_.addAllMessages(other.tables_);
+            }
+          }
+        }
+        if (characteristicSetsBuilder_ == null) {
+          if (!other.characteristicSets_.isEmpty()) {
+            if (characteristicSets_.isEmpty()) {
+              characteristicSets_ = other.characteristicSets_;
+              bitField0_ = (bitField0_ & ~0x00000040);
+            } else {
+              ensureCharacteristicSetsIsMutable();
+              characteristicSets_.addAll(other.characteristicSets_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.characteristicSets_.isEmpty()) {
+            if (characteristicSetsBuilder_.isEmpty()) {
+              characteristicSetsBuilder_.dispose();
+              characteristicSetsBuilder_ = null;
+              characteristicSets_ = other.characteristicSets_;
+              bitField0_ = (bitField0_ & ~0x00000040);
+              characteristicSetsBuilder_ = 
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getCharacteristicSetsFieldBuilder() : null;
+            } else {
+              characteristicSetsBuilder_.addAllMessages(other.characteristicSets_);
+            }
+          }
+        }
+        if (pathTablesBuilder_ == null) {
+          if (!other.pathTables_.isEmpty()) {
+            if (pathTables_.isEmpty()) {
+              pathTables_ = other.pathTables_;
+              bitField0_ = (bitField0_ & ~0x00000080);
+            } else {
+              ensurePathTablesIsMutable();
+              pathTables_.addAll(other.pathTables_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.pathTables_.isEmpty()) {
+            if (pathTablesBuilder_.isEmpty()) {
+              pathTablesBuilder_.dispose();
+              pathTablesBuilder_ = null;
+              pathTables_ = other.pathTables_;
+              bitField0_ = (bitField0_ & ~0x00000080);
+              pathTablesBuilder_ = 
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getPathTablesFieldBuilder() : null;
+            } else {
+              pathTablesBuilder_.addAllMessages(other.pathTables_);
+            }
+          }
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        for (int i = 0; i < getTablesCount(); i++) {
+          if (!getTables(i).isInitialized()) {
+            
+            return false;
+          }
+        }
+        for (int i = 0; i < getPathTablesCount(); i++) {
+          if (!getPathTables(i).isInitialized()) {
+            
+            return false;
+          }
+        }
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        ProtobufStats.Graph parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (ProtobufStats.Graph) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      // optional string name = 1;
+      private java.lang.Object name_ = "";
+      /**
+       * <code>optional string name = 1;</code>
+       */
+      public boolean hasName() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>optional string name = 1;</code>
+       */
+      public java.lang.String getName() {
+        java.lang.Object ref = name_;
+        if (!(ref instanceof java.lang.String)) {
+          java.lang.String s = ((com.google.protobuf.ByteString) ref)
+              .toStringUtf8();
+          name_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string name = 1;</code>
+       */
+      public com.google.protobuf.ByteString
+          getNameBytes() {
+        java.lang.Object ref = name_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          name_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string name = 1;</code>
+       */
+      public Builder setName(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        name_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string name = 1;</code>
+       */
+      public Builder clearName() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        name_ = getDefaultInstance().getName();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string name = 1;</code>
+       */
+      public Builder setNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        name_ = value;
+        onChanged();
+        return this;
+      }
+
+      // optional int64 size = 2;
+      private long size_ ;
+      /**
+       * <code>optional int64 size = 2;</code>
+       *
+       * <pre>
+       * number of triples
+       * </pre>
+       */
+      public boolean hasSize() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>optional int64 size = 2;</code>
+       *
+       * <pre>
+       * number of triples
+       * </pre>
+       */
+      public long getSize() {
+        return size_;
+      }
+      /**
+       * <code>optional int64 size = 2;</code>
+       *
+       * <pre>
+       * number of triples
+       * </pre>
+       */
+      public Builder setSize(long value) {
+        bitField0_ |= 0x00000002;
+        size_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int64 size = 2;</code>
+       *
+       * <pre>
+       * number of triples
+       * </pre>
+       */
+      public Builder clearSize() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        size_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      // optional int64 distinctSubjects = 3;
+      private long distinctSubjects_ ;
+      /**
+       * <code>optional int64 distinctSubjects = 3;</code>
+       *
+       * <pre>
+       * distinct subjects in the whole graph
+       * </pre>
+       */
+      public boolean hasDistinctSubjects() {
+        return ((bitField0_ & 0x00000004) == 0x00000004);
+      }
+      /**
+       * <code>optional int64 distinctSubjects = 3;</code>
+       *
+       * <pre>
+       * distinct subjects in the whole graph
+       * </pre>
+       */
+      public long getDistinctSubjects() {
+        return distinctSubjects_;
+      }
+      /**
+       * <code>optional int64 distinctSubjects = 3;</code>
+       *
+       * <pre>
+       * distinct subjects in the whole graph
+       * </pre>
+       */
+      public Builder setDistinctSubjects(long value) {
+        bitField0_ |= 0x00000004;
+        distinctSubjects_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int64 distinctSubjects = 3;</code>
+       *
+       * <pre>
+       * distinct subjects in the whole graph
+       * </pre>
+       */
+      public Builder clearDistinctSubjects() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        distinctSubjects_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      // optional int64 distinctObjects = 6;
+      private long distinctObjects_ ;
+      /**
+       * <code>optional int64 distinctObjects = 6;</code>
+       *
+       * <pre>
+       * distinct objects in the whole graph
+       * </pre>
+       */
+      public boolean hasDistinctObjects() {
+        return ((bitField0_ & 0x00000008) == 0x00000008);
+      }
+      /**
+       * <code>optional int64 distinctObjects = 6;</code>
+       *
+       * <pre>
+       * distinct objects in the whole graph
+       * </pre>
+       */
+      public long getDistinctObjects() {
+        return distinctObjects_;
+      }
+      /**
+       * <code>optional int64 distinctObjects = 6;</code>
+       *
+       * <pre>
+       * distinct objects in the whole graph
+       * </pre>
+       */
+      public Builder setDistinctObjects(long value) {
+        bitField0_ |= 0x00000008;
+        distinctObjects_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int64 distinctObjects = 6;</code>
+       *
+       * <pre>
+       * distinct objects in the whole graph
+       * </pre>
+       */
+      public Builder clearDistinctObjects() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        distinctObjects_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      // optional int32 properties = 7;
+      private int properties_ ;
+      /**
+       * <code>optional int32 properties = 7;</code>
+       *
+       * <pre>
+       * number of properties
+       * </pre>
+       */
+      public boolean hasProperties() {
+        return ((bitField0_ & 0x00000010) == 0x00000010);
+      }
+      /**
+       * <code>optional int32 properties = 7;</code>
+       *
+       * <pre>
+       * number of properties
+       * </pre>
+       */
+      public int getProperties() {
+        return properties_;
+      }
+      /**
+       * <code>optional int32 properties = 7;</code>
+       *
+       * <pre>
+       * number of properties
+       * </pre>
+       */
+      public Builder setProperties(int value) {
+        bitField0_ |= 0x00000010;
+        properties_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int32 properties = 7;</code>
+       *
+       * <pre>
+       * number of properties
+       * </pre>
+       */
+      public Builder clearProperties() {
+        bitField0_ = (bitField0_ & ~0x00000010);
+        properties_ = 0;
+        onChanged();
+        return this;
+      }
+
+      // repeated .Table tables = 4;
+      private java.util.List<ProtobufStats.Table> tables_ =
+        java.util.Collections.emptyList();
+      private void ensureTablesIsMutable() {
+        if (!((bitField0_ & 0x00000020) == 0x00000020)) {
+          tables_ = new java.util.ArrayList<ProtobufStats.Table>(tables_);
+          bitField0_ |= 0x00000020;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilder<
+          ProtobufStats.Table, ProtobufStats.Table.Builder, ProtobufStats.TableOrBuilder> tablesBuilder_;
+
+      /**
+       * <code>repeated .Table tables = 4;</code>
+       */
+      public java.util.List<ProtobufStats.Table> getTablesList() {
+        if (tablesBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(tables_);
+        } else {
+          return tablesBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .Table tables = 4;</code>
+       */
+      public int getTablesCount() {
+        if (tablesBuilder_ == null) {
+          return tables_.size();
+        } else {
+          return tablesBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .Table tables = 4;</code>
+       */
+      public ProtobufStats.Table getTables(int index) {
+        if (tablesBuilder_ == null) {
+          return tables_.get(index);
+        } else {
+          return tablesBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .Table tables = 4;</code>
+       */
+      public Builder setTables(
+          int index, ProtobufStats.Table value) {
+        if (tablesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureTablesIsMutable();
+          tables_.set(index, value);
+          onChanged();
+        } else {
+          tablesBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Table tables = 4;</code>
+       */
+      public Builder setTables(
+          int index, ProtobufStats.Table.Builder builderForValue) {
+        if (tablesBuilder_ == null) {
+          ensureTablesIsMutable();
+          tables_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          tablesBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Table tables = 4;</code>
+       */
+      public Builder addTables(ProtobufStats.Table value) {
+        if (tablesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureTablesIsMutable();
+          tables_.add(value);
+          onChanged();
+        } else {
+          tablesBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Table tables = 4;</code>
+       */
+      public Builder addTables(
+          int index, ProtobufStats.Table value) {
+        if (tablesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureTablesIsMutable();
+          tables_.add(index, value);
+          onChanged();
+        } else {
+          tablesBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Table tables = 4;</code>
+       */
+      public Builder addTables(
+          ProtobufStats.Table.Builder builderForValue) {
+        if (tablesBuilder_ == null) {
+          ensureTablesIsMutable();
+          tables_.add(builderForValue.build());
+          onChanged();
+        } else {
+          tablesBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Table tables = 4;</code>
+       */
+      public Builder addTables(
+          int index, ProtobufStats.Table.Builder builderForValue) {
+        if (tablesBuilder_ == null) {
+          ensureTablesIsMutable();
+          tables_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          tablesBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Table tables = 4;</code>
+       */
+      public Builder addAllTables(
+          java.lang.Iterable<? extends ProtobufStats.Table> values) {
+        if (tablesBuilder_ == null) {
+          ensureTablesIsMutable();
+          super.addAll(values, tables_);
+          onChanged();
+        } else {
+          tablesBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Table tables = 4;</code>
+       */
+      public Builder clearTables() {
+        if (tablesBuilder_ == null) {
+          tables_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000020);
+          onChanged();
+        } else {
+          tablesBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Table tables = 4;</code>
+       */
+      public Builder removeTables(int index) {
+        if (tablesBuilder_ == null) {
+          ensureTablesIsMutable();
+          tables_.remove(index);
+          onChanged();
+        } else {
+          tablesBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Table tables = 4;</code>
+       */
+      public ProtobufStats.Table.Builder getTablesBuilder(
+          int index) {
+        return getTablesFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .Table tables = 4;</code>
+       */
+      public ProtobufStats.TableOrBuilder getTablesOrBuilder(
+          int index) {
+        if (tablesBuilder_ == null) {
+          return tables_.get(index);  } else {
+          return tablesBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .Table tables = 4;</code>
+       */
+      public java.util.List<? extends ProtobufStats.TableOrBuilder> 
+           getTablesOrBuilderList() {
+        if (tablesBuilder_ != null) {
+          return tablesBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(tables_);
+        }
+      }
+      /**
+       * <code>repeated .Table tables = 4;</code>
+       */
+      public ProtobufStats.Table.Builder addTablesBuilder() {
+        return getTablesFieldBuilder().addBuilder(
+            ProtobufStats.Table.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .Table tables = 4;</code>
+       */
+      public ProtobufStats.Table.Builder addTablesBuilder(
+          int index) {
+        return getTablesFieldBuilder().addBuilder(
+            index, ProtobufStats.Table.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .Table tables = 4;</code>
+       */
+      public java.util.List<ProtobufStats.Table.Builder> 
+           getTablesBuilderList() {
+        return getTablesFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          ProtobufStats.Table, ProtobufStats.Table.Builder, ProtobufStats.TableOrBuilder> 
+          getTablesFieldBuilder() {
+        if (tablesBuilder_ == null) {
+          tablesBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              ProtobufStats.Table, ProtobufStats.Table.Builder, ProtobufStats.TableOrBuilder>(
+                  tables_,
+                  ((bitField0_ & 0x00000020) == 0x00000020),
+                  getParentForChildren(),
+                  isClean());
+          tables_ = null;
+        }
+        return tablesBuilder_;
+      }
+
+      // repeated .CharacteristicSet characteristicSets = 5;
+      private java.util.List<ProtobufStats.CharacteristicSet> characteristicSets_ =
+        java.util.Collections.emptyList();
+      private void ensureCharacteristicSetsIsMutable() {
+        if (!((bitField0_ & 0x00000040) == 0x00000040)) {
+          characteristicSets_ = new java.util.ArrayList<ProtobufStats.CharacteristicSet>(characteristicSets_);
+          bitField0_ |= 0x00000040;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilder<
+          ProtobufStats.CharacteristicSet, ProtobufStats.CharacteristicSet.Builder, ProtobufStats.CharacteristicSetOrBuilder> characteristicSetsBuilder_;
+
+      /**
+       * <code>repeated .CharacteristicSet characteristicSets = 5;</code>
+       *
+       * <pre>
+       * the most frequent characteristic sets
+       * </pre>
+       */
+      public java.util.List<ProtobufStats.CharacteristicSet> getCharacteristicSetsList() {
+        if (characteristicSetsBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(characteristicSets_);
+        } else {
+          return characteristicSetsBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .CharacteristicSet characteristicSets = 5;</code>
+       *
+       * <pre>
+       * the most frequent characteristic sets
+       * </pre>
+       */
+      public int getCharacteristicSetsCount() {
+        if (characteristicSetsBuilder_ == null) {
+          return characteristicSets_.size();
+        } else {
+          return characteristicSetsBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .CharacteristicSet characteristicSets = 5;</code>
+       *
+       * <pre>
+       * the most frequent characteristic sets
+       * </pre>
+       */
+      public ProtobufStats.CharacteristicSet getCharacteristicSets(int index) {
+        if (characteristicSetsBuilder_ == null) {
+          return characteristicSets_.get(index);
+        } else {
+          return characteristicSetsBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .CharacteristicSet characteristicSets = 5;</code>
+       *
+       * <pre>
+       * the most frequent characteristic sets
+       * </pre>
+       */
+      public Builder setCharacteristicSets(
+          int index, ProtobufStats.CharacteristicSet value) {
+        if (characteristicSetsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureCharacteristicSetsIsMutable();
+          characteristicSets_.set(index, value);
+          onChanged();
+        } else {
+          characteristicSetsBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .CharacteristicSet characteristicSets = 5;</code>
+       *
+       * <pre>
+       * the most frequent characteristic sets
+       * </pre>
+       */
+      public Builder setCharacteristicSets(
+          int index, ProtobufStats.CharacteristicSet.Builder builderForValue) {
+        if (characteristicSetsBuilder_ == null) {
+          ensureCharacteristicSetsIsMutable();
+          characteristicSets_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          characteristicSetsBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .CharacteristicSet characteristicSets = 5;</code>
+       *
+       * <pre>
+       * the most frequent characteristic sets
+       * </pre>
+       */
+      public Builder addCharacteristicSets(ProtobufStats.CharacteristicSet value) {
+        if (characteristicSetsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureCharacteristicSetsIsMutable();
+          characteristicSets_.add(value);
+          onChanged();
+        } else {
+          characteristicSetsBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .CharacteristicSet characteristicSets = 5;</code>
+       *
+       * <pre>
+       * the most frequent characteristic sets
+       * </pre>
+       */
+      public Builder addCharacteristicSets(
+          int index, ProtobufStats.CharacteristicSet value) {
+        if (characteristicSetsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureCharacteristicSetsIsMutable();
+          characteristicSets_.add(index, value);
+          onChanged();
+        } else {
+          characteristicSetsBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .CharacteristicSet characteristicSets = 5;</code>
+       *
+       * <pre>
+       * the most frequent characteristic sets
+       * </pre>
+       */
+      public Builder addCharacteristicSets(
+          ProtobufStats.CharacteristicSet.Builder builderForValue) {
+        if (characteristicSetsBuilder_ == null) {
+          ensureCharacteristicSetsIsMutable();
+          characteristicSets_.add(builderForValue.build());
+          onChanged();
+        } else {
+          characteristicSetsBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .CharacteristicSet characteristicSets = 5;</code>
+       *
+       * <pre>
+       * the most frequent characteristic sets
+       * </pre>
+       */
+      public Builder addCharacteristicSets(
+          int index, ProtobufStats.CharacteristicSet.Builder builderForValue) {
+        if (characteristicSetsBuilder_ == null) {
+          ensureCharacteristicSetsIsMutable();
+          characteristicSets_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          characteristicSetsBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .CharacteristicSet characteristicSets = 5;</code>
+       *
+       * <pre>
+       * the most frequent characteristic sets
+       * </pre>
+       */
+      public Builder addAllCharacteristicSets(
+          java.lang.Iterable<? extends ProtobufStats.CharacteristicSet> values) {
+        if (characteristicSetsBuilder_ == null) {
+          ensureCharacteristicSetsIsMutable();
+          super.addAll(values, characteristicSets_);
+          onChanged();
+        } else {
+          characteristicSetsBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .CharacteristicSet characteristicSets = 5;</code>
+       *
+       * <pre>
+       * the most frequent characteristic sets
+       * </pre>
+       */
+      public Builder clearCharacteristicSets() {
+        if (characteristicSetsBuilder_ == null) {
+          characteristicSets_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000040);
+          onChanged();
+        } else {
+          characteristicSetsBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .CharacteristicSet characteristicSets = 5;</code>
+       *
+       * <pre>
+       * the most frequent characteristic sets
+       * </pre>
+       */
+      public Builder removeCharacteristicSets(int index) {
+        if (characteristicSetsBuilder_ == null) {
+          ensureCharacteristicSetsIsMutable();
+          characteristicSets_.remove(index);
+          onChanged();
+        } else {
+          characteristicSetsBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .CharacteristicSet characteristicSets = 5;</code>
+       *
+       * <pre>
+       * the most frequent characteristic sets
+       * </pre>
+       */
+      public ProtobufStats.CharacteristicSet.Builder getCharacteristicSetsBuilder(
+          int index) {
+        return getCharacteristicSetsFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .CharacteristicSet characteristicSets = 5;</code>
+       *
+       * <pre>
+       * the most frequent characteristic sets
+       * </pre>
+       */
+      public ProtobufStats.CharacteristicSetOrBuilder getCharacteristicSetsOrBuilder(
+          int index) {
+        if (characteristicSetsBuilder_ == null) {
+          return characteristicSets_.get(index);  } else {
+          return characteristicSetsBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .CharacteristicSet characteristicSets = 5;</code>
+       *
+       * <pre>
+       * the most frequent characteristic sets
+       * </pre>
+       */
+      public java.util.List<? extends ProtobufStats.CharacteristicSetOrBuilder> 
+           getCharacteristicSetsOrBuilderList() {
+        if (characteristicSetsBuilder_ != null) {
+          return characteristicSetsBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(characteristicSets_);
+        }
+      }
+      /**
+       * <code>repeated .CharacteristicSet characteristicSets = 5;</code>
+       *
+       * <pre>
+       * the most frequent characteristic sets
+       * </pre>
+       */
+      public ProtobufStats.CharacteristicSet.Builder addCharacteristicSetsBuilder() {
+        return getCharacteristicSetsFieldBuilder().addBuilder(
+            ProtobufStats.CharacteristicSet.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .CharacteristicSet characteristicSets = 5;</code>
+       *
+       * <pre>
+       * the most frequent characteristic sets
+       * </pre>
+       */
+      public ProtobufStats.CharacteristicSet.Builder addCharacteristicSetsBuilder(
+          int index) {
+        return getCharacteristicSetsFieldBuilder().addBuilder(
+            index, ProtobufStats.CharacteristicSet.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .CharacteristicSet characteristicSets = 5;</code>
+       *
+       * <pre>
+       * the most frequent characteristic sets
+       * </pre>
+       */
+      public java.util.List<ProtobufStats.CharacteristicSet.Builder> 
+           getCharacteristicSetsBuilderList() {
+        return getCharacteristicSetsFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          ProtobufStats.CharacteristicSet, ProtobufStats.CharacteristicSet.Builder, ProtobufStats.CharacteristicSetOrBuilder> 
+          getCharacteristicSetsFieldBuilder() {
+        if (characteristicSetsBuilder_ == null) {
+          characteristicSetsBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              ProtobufStats.CharacteristicSet, ProtobufStats.CharacteristicSet.Builder, ProtobufStats.CharacteristicSetOrBuilder>(
+                  characteristicSets_,
+                  ((bitField0_ & 0x00000040) == 0x00000040),
+                  getParentForChildren(),
+                  isClean());
+          characteristicSets_ = null;
+        }
+        return characteristicSetsBuilder_;
+      }
+
+      // repeated .PathTable pathTables = 8;
+      private java.util.List<ProtobufStats.PathTable> pathTables_ =
+        java.util.Collections.emptyList();
+      private void ensurePathTablesIsMutable() {
+        if (!((bitField0_ & 0x00000080) == 0x00000080)) {
+          pathTables_ = new java.util.ArrayList<ProtobufStats.PathTable>(pathTables_);
+          bitField0_ |= 0x00000080;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilder<
+          ProtobufStats.PathTable, ProtobufStats.PathTable.Builder, ProtobufStats.PathTableOrBuilder> pathTablesBuilder_;
+
+      /**
+       * <code>repeated .PathTable pathTables = 8;</code>
+       *
+       * <pre>
+       * materialized chains of properties
+       * </pre>
+       */
+      public java.util.List<ProtobufStats.PathTable> getPathTablesList() {
+        if (pathTablesBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(pathTables_);
+        } else {
+          return pathTablesBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .PathTable pathTables = 8;</code>
+       *
+       * <pre>
+       * materialized chains of properties
+       * </pre>
+       */
+      public int getPathTablesCount() {
+        if (pathTablesBuilder_ == null) {
+          return pathTables_.size();
+        } else {
+          return pathTablesBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .PathTable pathTables = 8;</code>
+       *
+       * <pre>
+       * materialized chains of properties
+       * </pre>
+       */
+      public ProtobufStats.PathTable getPathTables(int index) {
+        if (pathTablesBuilder_ == null) {
+          return pathTables_.get(index);
+        } else {
+          return pathTablesBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .PathTable pathTables = 8;</code>
+       *
+       * <pre>
+       * materialized chains of properties
+       * </pre>
+       */
+      public Builder setPathTables(
+          int index, ProtobufStats.PathTable value) {
+        if (pathTablesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensurePathTablesIsMutable();
+          pathTables_.set(index, value);
+          onChanged();
+        } else {
+          pathTablesBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .PathTable pathTables = 8;</code>
+       *
+       * <pre>
+       * materialized chains of properties
+       * </pre>
+       */
+      public Builder setPathTables(
+          int index, ProtobufStats.PathTable.Builder builderForValue) {
+        if (pathTablesBuilder_ == null) {
+          ensurePathTablesIsMutable();
+          pathTables_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          pathTablesBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .PathTable pathTables = 8;</code>
+       *
+       * <pre>
+       * materialized chains of properties
+       * </pre>
+       */
+      public Builder addPathTables(ProtobufStats.PathTable value) {
+        if (pathTablesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensurePathTablesIsMutable();
+          pathTables_.add(value);
+          onChanged();
+        } else {
+          pathTablesBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .PathTable pathTables = 8;</code>
+       *
+       * <pre>
+       * materialized chains of properties
+       * </pre>
+       */
+      public Builder addPathTables(
+          int index, ProtobufStats.PathTable value) {
+        if (pathTablesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensurePathTablesIsMutable();
+          pathTables_.add(index, value);
+          onChanged();
+        } else {
+          pathTablesBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .PathTable pathTables = 8;</code>
+       *
+       * <pre>
+       * materialized chains of properties
+       * </pre>
+       */
+      public Builder addPathTables(
+          ProtobufStats.PathTable.Builder builderForValue) {
+        if (pathTablesBuilder_ == null) {
+          ensurePathTablesIsMutable();
+          pathTables_.add(builderForValue.build());
+          onChanged();
+        } else {
+          pathTablesBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .PathTable pathTables = 8;</code>
+       *
+       * <pre>
+       * materialized chains of properties
+       * </pre>
+       */
+      public Builder addPathTables(
+          int index, ProtobufStats.PathTable.Builder builderForValue) {
+        if (pathTablesBuilder_ == null) {
+          ensurePathTablesIsMutable();
+          pathTables_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          pathTablesBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .PathTable pathTables = 8;</code>
+       *
+       * <pre>
+       * materialized chains of properties
+       * </pre>
+       */
+      public Builder addAllPathTables(
+          java.lang.Iterable<? extends ProtobufStats.PathTable> values) {
+        if (pathTablesBuilder_ == null) {
+          ensurePathTablesIsMutable();
+          super.addAll(values, pathTables_);
+          onChanged();
+        } else {
+          pathTablesBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .PathTable pathTables = 8;</code>
+       *
+       * <pre>
+       * materialized chains of properties
+       * </pre>
+       */
+      public Builder clearPathTables() {
+        if (pathTablesBuilder_ == null) {
+          pathTables_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000080);
+          onChanged();
+        } else {
+          pathTablesBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .PathTable pathTables = 8;</code>
+       *
+       * <pre>
+       * materialized chains of properties
+       * </pre>
+       */
+      public Builder removePathTables(int index) {
+        if (pathTablesBuilder_ == null) {
+          ensurePathTablesIsMutable();
+          pathTables_.remove(index);
+          onChanged();
+        } else {
+          pathTablesBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .PathTable pathTables = 8;</code>
+       *
+       * <pre>
+       * materialized chains of properties
+       * </pre>
+       */
+      public ProtobufStats.PathTable.Builder getPathTablesBuilder(
+          int index) {
+        return getPathTablesFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .PathTable pathTables = 8;</code>
+       *
+       * <pre>
+       * materialized chains of properties
+       * </pre>
+       */
+      public ProtobufStats.PathTableOrBuilder getPathTablesOrBuilder(
+          int index) {
+        if (pathTablesBuilder_ == null) {
+          return pathTables_.get(index);  } else {
+          return pathTablesBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .PathTable pathTables = 8;</code>
+       *
+       * <pre>
+       * materialized chains of properties
+       * </pre>
+       */
+      public java.util.List<? extends ProtobufStats.PathTableOrBuilder> 
+           getPathTablesOrBuilderList() {
+        if (pathTablesBuilder_ != null) {
+          return pathTablesBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(pathTables_);
+        }
+      }
+      /**
+       * <code>repeated .PathTable pathTables = 8;</code>
+       *
+       * <pre>
+       * materialized chains of properties
+       * </pre>
+       */
+      public ProtobufStats.PathTable.Builder addPathTablesBuilder() {
+        return getPathTablesFieldBuilder().addBuilder(
+            ProtobufStats.PathTable.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .PathTable pathTables = 8;</code>
+       *
+       * <pre>
+       * materialized chains of properties
+       * </pre>
+       */
+      public ProtobufStats.PathTable.Builder addPathTablesBuilder(
+          int index) {
+        return getPathTablesFieldBuilder().addBuilder(
+            index, ProtobufStats.PathTable.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .PathTable pathTables = 8;</code>
+       *
+       * <pre>
+       * materialized chains of properties
+       * </pre>
+       */
+      public java.util.List<ProtobufStats.PathTable.Builder> 
+           getPathTablesBuilderList() {
+        return getPathTablesFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          ProtobufStats.PathTable, ProtobufStats.PathTable.Builder, ProtobufStats.PathTableOrBuilder> 
+          getPathTablesFieldBuilder() {
+        if (pathTablesBuilder_ == null) {
+          pathTablesBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              ProtobufStats.PathTable, ProtobufStats.PathTable.Builder, ProtobufStats.PathTableOrBuilder>(
+                  pathTables_,
+                  ((bitField0_ & 0x00000080) == 0x00000080),
+                  getParentForChildren(),
+                  isClean());
+          pathTables_ = null;
+        }
+        return pathTablesBuilder_;
+      }
+
+      // @@protoc_insertion_point(builder_scope:Graph)
+    }
+
+    static {
+      defaultInstance = new Graph(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:Graph)
+  }
+
+  public interface PathTableOrBuilder
+      extends com.google.protobuf.MessageOrBuilder {
+
+    // required string name = 1;
+    /**
+     * <code>required string name = 1;</code>
+     *
+     * <pre>
+     * name of the stored table, with columns s (?a), m (?b) and o (?c)
+     * </pre>
+     */
+    boolean hasName();
+    /**
+     * <code>required string name = 1;</code>
+     *
+     * <pre>
+     * name of the stored table, with columns s (?a), m (?b) and o (?c)
+     * </pre>
+     */
+    java.lang.String getName();
+    /**
+     * <code>required string name = 1;</code>
+     *
+     * <pre>
+     * name of the stored table, with columns s (?a), m (?b) and o (?c)
+     * </pre>
+     */
+    com.google.protobuf.ByteString
+        getNameBytes();
+
+    // repeated string properties = 2;
+    /**
+     * <code>repeated string properties = 2;</code>
+     *
+     * <pre>
+     * the properties of the chain, in order
+     * </pre>
+     */
+    java.util.List<java.lang.String>
+    getPropertiesList();
+    /**
+     * <code>repeated string properties = 2;</code>
+     *
+     * <pre>
+     * the properties of the chain, in order
+     * </pre>
+     */
+    int getPropertiesCount();
+    /**
+     * <code>repeated string properties = 2;</code>
+     *
+     * <pre>
+     * the properties of the chain, in order
+     * </pre>
+     */
+    java.lang.String getProperties(int index);
+    /**
+     * <code>repeated string properties = 2;</code>
+     *
+     * <pre>
+     * the properties of the chain, in order
+     * </pre>
+     */
+    com.google.protobuf.ByteString
+        getPropertiesBytes(int index);
+
+    // optional int64 size = 3;
+    /**
+     * <code>optional int64 size = 3;</code>
+     *
+     * <pre>
+     * number of elements
+     * </pre>
+     */
+    boolean hasSize();
+    /**
+     * <code>optional int64 size = 3;</code>
+     *
+     * <pre>
+     * number of elements
+     * </pre>
+     */
+    long getSize();
   }
   /**
-   * Protobuf type {@code Table}
+   * Protobuf type {@code PathTable}
    *
    * <pre>
-   * describe a single table (belonging to particular property)
+   * materialized join of the object of the first property with the subject of the second,
+   * that is the results of a chain ?a p1 ?b . ?b p2 ?c
    * </pre>
    */
-  public static final class Table extends
+  public static final class PathTable extends
       com.google.protobuf.GeneratedMessage
-      implements TableOrBuilder {
-    // Use Table.newBuilder() to construct.
-    private Table(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      implements PathTableOrBuilder {
+    // Use PathTable.newBuilder() to construct.
+    private PathTable(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
       super(builder);
       this.unknownFields = builder.getUnknownFields();
     }
-    private Table(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+    private PathTable(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
 
-    private static final Table defaultInstance;
-    public static Table getDefaultInstance() {
+    private static final PathTable defaultInstance;
+    public static PathTable getDefaultInstance() {
       return defaultInstance;
     }
 
-    public Table getDefaultInstanceForType() {
+    public PathTable getDefaultInstanceForType() {
       return defaultInstance;
     }
 
@@ -111,7 +14469,7 @@ public final class ProtobufStats {
         getUnknownFields() {
       return this.unknownFields;
     }
-    private Table(
+    private PathTable(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -139,19 +14497,17 @@ public final class ProtobufStats {
               name_ = input.readBytes();
               break;
             }
-            case 16: {
-              bitField0_ |= 0x00000002;
-              size_ = input.readInt32();
+            case 18: {
+              if (!((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
+                properties_ = new com.google.protobuf.LazyStringArrayList();
+                mutable_bitField0_ |= 0x00000002;
+              }
+              properties_.add(input.readBytes());
               break;
             }
             case 24: {
-              bitField0_ |= 0x00000004;
-              isComplex_ = input.readBool();
-              break;
-            }
-            case 32: {
-              bitField0_ |= 0x00000008;
-              distinctSubjects_ = input.readInt32();
+              bitField0_ |= 0x00000002;
+              size_ = input.readInt64();
               break;
             }
           }
@@ -162,34 +14518,37 @@ public final class ProtobufStats {
         throw new com.google.protobuf.InvalidProtocolBufferException(
             e.getMessage()).setUnfinishedMessage(this);
       } finally {
+        if (((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
+          properties_ = new com.google.protobuf.UnmodifiableLazyStringList(properties_);
+        }
         this.unknownFields = unknownFields.build();
         makeExtensionsImmutable();
       }
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return ProtobufStats.internal_static_Table_descriptor;
+      return ProtobufStats.internal_static_PathTable_descriptor;
     }
 
     protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return ProtobufStats.internal_static_Table_fieldAccessorTable
+      return ProtobufStats.internal_static_PathTable_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              ProtobufStats.Table.class, ProtobufStats.Table.Builder.class);
+              ProtobufStats.PathTable.class, ProtobufStats.PathTable.Builder.class);
     }
 
-    public static com.google.protobuf.Parser<Table> PARSER =
-        new com.google.protobuf.AbstractParser<Table>() {
-      public Table parsePartialFrom(
+    public static com.google.protobuf.Parser<PathTable> PARSER =
+        new com.google.protobuf.AbstractParser<PathTable>() {
+      public PathTable parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new Table(input, extensionRegistry);
+        return new PathTable(input, extensionRegistry);
       }
     };
 
     @java.lang.Override
-    public com.google.protobuf.Parser<Table> getParserForType() {
+    public com.google.protobuf.Parser<PathTable> getParserForType() {
       return PARSER;
     }
 
@@ -199,12 +14558,20 @@ public final class ProtobufStats {
     private java.lang.Object name_;
     /**
      * <code>required string name = 1;</code>
+     *
+     * <pre>
+     * name of the stored table, with columns s (?a), m (?b) and o (?c)
+     * </pre>
      */
     public boolean hasName() {
       return ((bitField0_ & 0x00000001) == 0x00000001);
     }
     /**
      * <code>required string name = 1;</code>
+     *
+     * <pre>
+     * name of the stored table, with columns s (?a), m (?b) and o (?c)
+     * </pre>
      */
     public java.lang.String getName() {
       java.lang.Object ref = name_;
@@ -222,6 +14589,10 @@ public final class ProtobufStats {
     }
     /**
      * <code>required string name = 1;</code>
+     *
+     * <pre>
+     * name of the stored table, with columns s (?a), m (?b) and o (?c)
+     * </pre>
      */
     public com.google.protobuf.ByteString
         getNameBytes() {
@@ -237,83 +14608,80 @@ public final class ProtobufStats {
       }
     }
 
-    // optional int32 size = 2;
-    public static final int SIZE_FIELD_NUMBER = 2;
-    private int size_;
+    // repeated string properties = 2;
+    public static final int PROPERTIES_FIELD_NUMBER = 2;
+    private com.google.protobuf.LazyStringList properties_;
     /**
-     * <code>optional int32 size = 2;</code>
+     * <code>repeated string properties = 2;</code>
      *
      * <pre>
-     * number of elements
+     * the properties of the chain, in order
      * </pre>
      */
-    public boolean hasSize() {
-      return ((bitField0_ & 0x00000002) == 0x00000002);
+    public java.util.List<java.lang.String>
+        getPropertiesList() {
+      return properties_;
     }
     /**
-     * <code>optional int32 size = 2;</code>
+     * <code>repeated string properties = 2;</code>
      *
      * <pre>
-     * number of elements
+     * the properties of the chain, in order
      * </pre>
      */
-    public int getSize() {
-      return size_;
+    public int getPropertiesCount() {
+      return properties_.size();
     }
-
-    // optional bool isComplex = 3;
-    public static final int ISCOMPLEX_FIELD_NUMBER = 3;
-    private boolean isComplex_;
     /**
-     * <code>optional bool isComplex = 3;</code>
+     * <code>repeated string properties = 2;</code>
      *
      * <pre>
-     * if for the same subject exist more values
+     * the properties of the chain, in order
      * </pre>
      */
-    public boolean hasIsComplex() {
-      return ((bitField0_ & 0x00000004) == 0x00000004);
+    public java.lang.String getProperties(int index) {
+      return properties_.get(index);
     }
     /**
-     * <code>optional bool isComplex = 3;</code>
+     * <code>repeated string properties = 2;</code>
      *
      * <pre>
-     * if for the same subject exist more values
+     * the properties of the chain, in order
      * </pre>
      */
-    public boolean getIsComplex() {
-      return isComplex_;
+    public com.google.protobuf.ByteString
+        getPropertiesBytes(int index) {
+      return properties_.getByteString(index);
     }
 
-    // optional int32 distinctSubjects = 4;
-    public static final int DISTINCTSUBJECTS_FIELD_NUMBER = 4;
-    private int distinctSubjects_;
+    // optional int64 size = 3;
+    public static final int SIZE_FIELD_NUMBER = 3;
+    private long size_;
     /**
-     * <code>optional int32 distinctSubjects = 4;</code>
+     * <code>optional int64 size = 3;</code>
      *
      * <pre>
-     * distinct subjects in that table
+     * number of elements
      * </pre>
      */
-    public boolean hasDistinctSubjects() {
-      return ((bitField0_ & 0x00000008) == 0x00000008);
+    public boolean hasSize() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
     }
     /**
-     * <code>optional int32 distinctSubjects = 4;</code>
+     * <code>optional int64 size = 3;</code>
      *
      * <pre>
-     * distinct subjects in that table
+     * number of elements
      * </pre>
      */
-    public int getDistinctSubjects() {
-      return distinctSubjects_;
+    public long getSize() {
+      return size_;
     }
 
     private void initFields() {
       name_ = "";
-      size_ = 0;
-      isComplex_ = false;
-      distinctSubjects_ = 0;
+      properties_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+      size_ = 0L;
     }
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
@@ -334,14 +14702,11 @@ public final class ProtobufStats {
       if (((bitField0_ & 0x00000001) == 0x00000001)) {
         output.writeBytes(1, getNameBytes());
       }
-      if (((bitField0_ & 0x00000002) == 0x00000002)) {
-        output.writeInt32(2, size_);
-      }
-      if (((bitField0_ & 0x00000004) == 0x00000004)) {
-        output.writeBool(3, isComplex_);
+      for (int i = 0; i < properties_.size(); i++) {
+        output.writeBytes(2, properties_.getByteString(i));
       }
-      if (((bitField0_ & 0x00000008) == 0x00000008)) {
-        output.writeInt32(4, distinctSubjects_);
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeInt64(3, size_);
       }
       getUnknownFields().writeTo(output);
     }
@@ -356,17 +14721,18 @@ public final class ProtobufStats {
         size += com.google.protobuf.CodedOutputStream
           .computeBytesSize(1, getNameBytes());
       }
-      if (((bitField0_ & 0x00000002) == 0x00000002)) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeInt32Size(2, size_);
-      }
-      if (((bitField0_ & 0x00000004) == 0x00000004)) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeBoolSize(3, isComplex_);
+      {
+        int dataSize = 0;
+        for (int i = 0; i < properties_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeBytesSizeNoTag(properties_.getByteString(i));
+        }
+        size += dataSize;
+        size += 1 * getPropertiesList().size();
       }
-      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
         size += com.google.protobuf.CodedOutputStream
-          .computeInt32Size(4, distinctSubjects_);
+          .computeInt64Size(3, size_);
       }
       size += getUnknownFields().getSerializedSize();
       memoizedSerializedSize = size;
@@ -380,53 +14746,53 @@ public final class ProtobufStats {
       return super.writeReplace();
     }
 
-    public static ProtobufStats.Table parseFrom(
+    public static ProtobufStats.PathTable parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static ProtobufStats.Table parseFrom(
+    public static ProtobufStats.PathTable parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static ProtobufStats.Table parseFrom(byte[] data)
+    public static ProtobufStats.PathTable parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static ProtobufStats.Table parseFrom(
+    public static ProtobufStats.PathTable parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static ProtobufStats.Table parseFrom(java.io.InputStream input)
+    public static ProtobufStats.PathTable parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static ProtobufStats.Table parseFrom(
+    public static ProtobufStats.PathTable parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseFrom(input, extensionRegistry);
     }
-    public static ProtobufStats.Table parseDelimitedFrom(java.io.InputStream input)
+    public static ProtobufStats.PathTable parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input);
     }
-    public static ProtobufStats.Table parseDelimitedFrom(
+    public static ProtobufStats.PathTable parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input, extensionRegistry);
     }
-    public static ProtobufStats.Table parseFrom(
+    public static ProtobufStats.PathTable parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static ProtobufStats.Table parseFrom(
+    public static ProtobufStats.PathTable parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -435,7 +14801,7 @@ public final class ProtobufStats {
 
     public static Builder newBuilder() { return Builder.create(); }
     public Builder newBuilderForType() { return newBuilder(); }
-    public static Builder newBuilder(ProtobufStats.Table prototype) {
+    public static Builder newBuilder(ProtobufStats.PathTable prototype) {
       return newBuilder().mergeFrom(prototype);
     }
     public Builder toBuilder() { return newBuilder(this); }
@@ -447,28 +14813,29 @@ public final class ProtobufStats {
       return builder;
     }
     /**
-     * Protobuf type {@code Table}
+     * Protobuf type {@code PathTable}
      *
      * <pre>
-     * describe a single table (belonging to particular property)
+     * materialized join of the object of the first property with the subject of the second,
+     * that is the results of a chain ?a p1 ?b . ?b p2 ?c
      * </pre>
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessage.Builder<Builder>
-       implements ProtobufStats.TableOrBuilder {
+       implements ProtobufStats.PathTableOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return ProtobufStats.internal_static_Table_descriptor;
+        return ProtobufStats.internal_static_PathTable_descriptor;
       }
 
       protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return ProtobufStats.internal_static_Table_fieldAccessorTable
+        return ProtobufStats.internal_static_PathTable_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                ProtobufStats.Table.class, ProtobufStats.Table.Builder.class);
+                ProtobufStats.PathTable.class, ProtobufStats.PathTable.Builder.class);
       }
 
-      // Construct using ProtobufStats.Table.newBuilder()
+      // Construct using ProtobufStats.PathTable.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -490,12 +14857,10 @@ public final class ProtobufStats {
         super.clear();
         name_ = "";
         bitField0_ = (bitField0_ & ~0x00000001);
-        size_ = 0;
+        properties_ = com.google.protobuf.LazyStringArrayList.EMPTY;
         bitField0_ = (bitField0_ & ~0x00000002);
-        isComplex_ = false;
+        size_ = 0L;
         bitField0_ = (bitField0_ & ~0x00000004);
-        distinctSubjects_ = 0;
-        bitField0_ = (bitField0_ & ~0x00000008);
         return this;
       }
 
@@ -505,71 +14870,73 @@ public final class ProtobufStats {
 
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return ProtobufStats.internal_static_Table_descriptor;
+        return ProtobufStats.internal_static_PathTable_descriptor;
       }
 
-      public ProtobufStats.Table getDefaultInstanceForType() {
-        return ProtobufStats.Table.getDefaultInstance();
+      public ProtobufStats.PathTable getDefaultInstanceForType() {
+        return ProtobufStats.PathTable.getDefaultInstance();
       }
 
-      public ProtobufStats.Table build() {
-        ProtobufStats.Table result = buildPartial();
+      public ProtobufStats.PathTable build() {
+        ProtobufStats.PathTable result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
         return result;
       }
 
-      public ProtobufStats.Table buildPartial() {
-        ProtobufStats.Table result = new ProtobufStats.Table(this);
+      public ProtobufStats.PathTable buildPartial() {
+        ProtobufStats.PathTable result = new ProtobufStats.PathTable(this);
         int from_bitField0_ = bitField0_;
         int to_bitField0_ = 0;
         if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
           to_bitField0_ |= 0x00000001;
         }
         result.name_ = name_;
-        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
-          to_bitField0_ |= 0x00000002;
+        if (((bitField0_ & 0x00000002) == 0x00000002)) {
+          properties_ = new com.google.protobuf.UnmodifiableLazyStringList(
+              properties_);
+          bitField0_ = (bitField0_ & ~0x00000002);
         }
-        result.size_ = size_;
+        result.properties_ = properties_;
         if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
-          to_bitField0_ |= 0x00000004;
-        }
-        result.isComplex_ = isComplex_;
-        if (((from_bitField0_ & 0x00000008) == 0x00000008)) {
-          to_bitField0_ |= 0x00000008;
+          to_bitField0_ |= 0x00000002;
         }
-        result.distinctSubjects_ = distinctSubjects_;
+        result.size_ = size_;
         result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
       }
 
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof ProtobufStats.Table) {
-          return mergeFrom((ProtobufStats.Table)other);
+        if (other instanceof ProtobufStats.PathTable) {
+          return mergeFrom((ProtobufStats.PathTable)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(ProtobufStats.Table other) {
-        if (other == ProtobufStats.Table.getDefaultInstance()) return this;
+      public Builder mergeFrom(ProtobufStats.PathTable other) {
+        if (other == ProtobufStats.PathTable.getDefaultInstance()) return this;
         if (other.hasName()) {
           bitField0_ |= 0x00000001;
           name_ = other.name_;
           onChanged();
         }
+        if (!other.properties_.isEmpty()) {
+          if (properties_.isEmpty()) {
+            properties_ = other.properties_;
+            bitField0_ = (bitField0_ & ~0x00000002);
+          } else {
+            ensurePropertiesIsMutable();
+            properties_.addAll(other.properties_);
+          }
+          onChanged();
+        }
         if (other.hasSize()) {
           setSize(other.getSize());
         }
-        if (other.hasIsComplex()) {
-          setIsComplex(other.getIsComplex());
-        }
-        if (other.hasDistinctSubjects()) {
-          setDistinctSubjects(other.getDistinctSubjects());
-        }
         this.mergeUnknownFields(other.getUnknownFields());
         return this;
       }
@@ -586,11 +14953,11 @@ public final class ProtobufStats {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        ProtobufStats.Table parsedMessage = null;
+        ProtobufStats.PathTable parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (ProtobufStats.Table) e.getUnfinishedMessage();
+          parsedMessage = (ProtobufStats.PathTable) e.getUnfinishedMessage();
           throw e;
         } finally {
           if (parsedMessage != null) {
@@ -605,12 +14972,20 @@ public final class ProtobufStats {
       private java.lang.Object name_ = "";
       /**
        * <code>required string name = 1;</code>
+       *
+       * <pre>
+       * name of the stored table, with columns s (?a), m (?b) and o (?c)
+       * </pre>
        */
       public boolean hasName() {
         return ((bitField0_ & 0x00000001) == 0x00000001);
       }
       /**
        * <code>required string name = 1;</code>
+       *
+       * <pre>
+       * name of the stored table, with columns s (?a), m (?b) and o (?c)
+       * </pre>
        */
       public java.lang.String getName() {
         java.lang.Object ref = name_;
@@ -625,6 +15000,10 @@ public final class ProtobufStats {
       }
       /**
        * <code>required string name = 1;</code>
+       *
+       * <pre>
+       * name of the stored table, with columns s (?a), m (?b) and o (?c)
+       * </pre>
        */
       public com.google.protobuf.ByteString
           getNameBytes() {
@@ -641,6 +15020,10 @@ public final class ProtobufStats {
       }
       /**
        * <code>required string name = 1;</code>
+       *
+       * <pre>
+       * name of the stored table, with columns s (?a), m (?b) and o (?c)
+       * </pre>
        */
       public Builder setName(
           java.lang.String value) {
@@ -654,6 +15037,10 @@ public final class ProtobufStats {
       }
       /**
        * <code>required string name = 1;</code>
+       *
+       * <pre>
+       * name of the stored table, with columns s (?a), m (?b) and o (?c)
+       * </pre>
        */
       public Builder clearName() {
         bitField0_ = (bitField0_ & ~0x00000001);
@@ -663,6 +15050,10 @@ public final class ProtobufStats {
       }
       /**
        * <code>required string name = 1;</code>
+       *
+       * <pre>
+       * name of the stored table, with columns s (?a), m (?b) and o (?c)
+       * </pre>
        */
       public Builder setNameBytes(
           com.google.protobuf.ByteString value) {
@@ -675,266 +15066,301 @@ public final class ProtobufStats {
         return this;
       }
 
-      // optional int32 size = 2;
-      private int size_ ;
+      // repeated string properties = 2;
+      private com.google.protobuf.LazyStringList properties_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+      private void ensurePropertiesIsMutable() {
+        if (!((bitField0_ & 0x00000002) == 0x00000002)) {
+          properties_ = new com.google.protobuf.LazyStringArrayList(properties_);
+          bitField0_ |= 0x00000002;
+         }
+      }
       /**
-       * <code>optional int32 size = 2;</code>
+       * <code>repeated string properties = 2;</code>
        *
        * <pre>
-       * number of elements
+       * the properties of the chain, in order
        * </pre>
        */
-      public boolean hasSize() {
-        return ((bitField0_ & 0x00000002) == 0x00000002);
+      public java.util.List<java.lang.String>
+          getPropertiesList() {
+        return java.util.Collections.unmodifiableList(properties_);
       }
       /**
-       * <code>optional int32 size = 2;</code>
+       * <code>repeated string properties = 2;</code>
        *
        * <pre>
-       * number of elements
+       * the properties of the chain, in order
        * </pre>
        */
-      public int getSize() {
-        return size_;
+      public int getPropertiesCount() {
+        return properties_.size();
       }
       /**
-       * <code>optional int32 size = 2;</code>
+       * <code>repeated string properties = 2;</code>
        *
        * <pre>
-       * number of elements
+       * the properties of the chain, in order
        * </pre>
        */
-      public Builder setSize(int value) {
-        bitField0_ |= 0x00000002;
-        size_ = value;
-        onChanged();
-        return this;
+      public java.lang.String getProperties(int index) {
+        return properties_.get(index);
       }
       /**
-       * <code>optional int32 size = 2;</code>
+       * <code>repeated string properties = 2;</code>
        *
        * <pre>
-       * number of elements
+       * the properties of the chain, in order
        * </pre>
        */
-      public Builder clearSize() {
-        bitField0_ = (bitField0_ & ~0x00000002);
-        size_ = 0;
+      public com.google.protobuf.ByteString
+          getPropertiesBytes(int index) {
+        return properties_.getByteString(index);
+      }
+      /**
+       * <code>repeated string properties = 2;</code>
+       *
+       * <pre>
+       * the properties of the chain, in order
+       * </pre>
+       */
+      public Builder setProperties(
+          int index, java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensurePropertiesIsMutable();
+        properties_.set(index, value);
         onChanged();
         return this;
       }
-
-      // optional bool isComplex = 3;
-      private boolean isComplex_ ;
       /**
-       * <code>optional bool isComplex = 3;</code>
+       * <code>repeated string properties = 2;</code>
        *
        * <pre>
-       * if for the same subject exist more values
+       * the properties of the chain, in order
        * </pre>
        */
-      public boolean hasIsComplex() {
-        return ((bitField0_ & 0x00000004) == 0x00000004);
+      public Builder addProperties(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensurePropertiesIsMutable();
+        properties_.add(value);
+        onChanged();
+        return this;
       }
       /**
-       * <code>optional bool isComplex = 3;</code>
+       * <code>repeated string properties = 2;</code>
        *
        * <pre>
-       * if for the same subject exist more values
+       * the properties of the chain, in order
        * </pre>
        */
-      public boolean getIsComplex() {
-        return isComplex_;
+      public Builder addAllProperties(
+          java.lang.Iterable<java.lang.String> values) {
+        ensurePropertiesIsMutable();
+        super.addAll(values, properties_);
+        onChanged();
+        return this;
       }
       /**
-       * <code>optional bool isComplex = 3;</code>
+       * <code>repeated string properties = 2;</code>
        *
        * <pre>
-       * if for the same subject exist more values
+       * the properties of the chain, in order
        * </pre>
        */
-      public Builder setIsComplex(boolean value) {
-        bitField0_ |= 0x00000004;
-        isComplex_ = value;
+      public Builder clearProperties() {
+        properties_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000002);
         onChanged();
         return this;
       }
       /**
-       * <code>optional bool isComplex = 3;</code>
+       * <code>repeated string properties = 2;</code>
        *
        * <pre>
-       * if for the same subject exist more values
+       * the properties of the chain, in order
        * </pre>
        */
-      public Builder clearIsComplex() {
-        bitField0_ = (bitField0_ & ~0x00000004);
-        isComplex_ = false;
+      public Builder addPropertiesBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensurePropertiesIsMutable();
+        properties_.add(value);
         onChanged();
         return this;
       }
 
-      // optional int32 distinctSubjects = 4;
-      private int distinctSubjects_ ;
+      // optional int64 size = 3;
+      private long size_ ;
       /**
-       * <code>optional int32 distinctSubjects = 4;</code>
+       * <code>optional int64 size = 3;</code>
        *
        * <pre>
-       * distinct subjects in that table
+       * number of elements
        * </pre>
        */
-      public boolean hasDistinctSubjects() {
-        return ((bitField0_ & 0x00000008) == 0x00000008);
+      public boolean hasSize() {
+        return ((bitField0_ & 0x00000004) == 0x00000004);
       }
       /**
-       * <code>optional int32 distinctSubjects = 4;</code>
+       * <code>optional int64 size = 3;</code>
        *
        * <pre>
-       * distinct subjects in that table
+       * number of elements
        * </pre>
        */
-      public int getDistinctSubjects() {
-        return distinctSubjects_;
+      public long getSize() {
+        return size_;
       }
       /**
-       * <code>optional int32 distinctSubjects = 4;</code>
+       * <code>optional int64 size = 3;</code>
        *
        * <pre>
-       * distinct subjects in that table
+       * number of elements
        * </pre>
        */
-      public Builder setDistinctSubjects(int value) {
-        bitField0_ |= 0x00000008;
-        distinctSubjects_ = value;
+      public Builder setSize(long value) {
+        bitField0_ |= 0x00000004;
+        size_ = value;
         onChanged();
         return this;
       }
       /**
-       * <code>optional int32 distinctSubjects = 4;</code>
+       * <code>optional int64 size = 3;</code>
        *
        * <pre>
-       * distinct subjects in that table
+       * number of elements
        * </pre>
        */
-      public Builder clearDistinctSubjects() {
-        bitField0_ = (bitField0_ & ~0x00000008);
-        distinctSubjects_ = 0;
+      public Builder clearSize() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        size_ = 0L;
         onChanged();
         return this;
       }
 
-      // @@protoc_insertion_point(builder_scope:Table)
+      // @@protoc_insertion_point(builder_scope:PathTable)
     }
 
     static {
-      defaultInstance = new Table(true);
+      defaultInstance = new PathTable(true);
       defaultInstance.initFields();
     }
 
-    // @@protoc_insertion_point(class_scope:Table)
+    // @@protoc_insertion_point(class_scope:PathTable)
   }
 
-  public interface GraphOrBuilder
+  public interface CharacteristicSetOrBuilder
       extends com.google.protobuf.MessageOrBuilder {
 
-    // optional string name = 1;
-    /**
-     * <code>optional string name = 1;</code>
-     */
-    boolean hasName();
+    // repeated string properties = 1;
     /**
-     * <code>optional string name = 1;</code>
+     * <code>repeated string properties = 1;</code>
+     *
+     * <pre>
+     * sorted names of the properties
+     * </pre>
      */
-    java.lang.String getName();
+    java.util.List<java.lang.String>
+    getPropertiesList();
     /**
-     * <code>optional string name = 1;</code>
+     * <code>repeated string properties = 1;</code>
+     *
+     * <pre>
+     * sorted names of the properties
+     * </pre>
      */
-    com.google.protobuf.ByteString
-        getNameBytes();
-
-    // optional int32 size = 2;
+    int getPropertiesCount();
     /**
-     * <code>optional int32 size = 2;</code>
+     * <code>repeated string properties = 1;</code>
      *
      * <pre>
-     * number of triples
+     * sorted names of the properties
      * </pre>
      */
-    boolean hasSize();
+    java.lang.String getProperties(int index);
     /**
-     * <code>optional int32 size = 2;</code>
+     * <code>repeated string properties = 1;</code>
      *
      * <pre>
-     * number of triples
+     * sorted names of the properties
      * </pre>
      */
-    int getSize();
+    com.google.protobuf.ByteString
+        getPropertiesBytes(int index);
 
-    // optional int32 distinctSubjects = 3;
+    // optional int64 distinctSubjects = 2;
     /**
-     * <code>optional int32 distinctSubjects = 3;</code>
+     * <code>optional int64 distinctSubjects = 2;</code>
      *
      * <pre>
-     * distinct subjects in the whole graph
+     * number of subjects with exactly these properties
      * </pre>
      */
     boolean hasDistinctSubjects();
     /**
-     * <code>optional int32 distinctSubjects = 3;</code>
+     * <code>optional int64 distinctSubjects = 2;</code>
      *
      * <pre>
-     * distinct subjects in the whole graph
+     * number of subjects with exactly these properties
      * </pre>
      */
-    int getDistinctSubjects();
+    long getDistinctSubjects();
 
-    // repeated .Table tables = 4;
-    /**
-     * <code>repeated .Table tables = 4;</code>
-     */
-    java.util.List<ProtobufStats.Table> 
-        getTablesList();
-    /**
-     * <code>repeated .Table tables = 4;</code>
-     */
-    ProtobufStats.Table getTables(int index);
+    // repeated int64 occurrences = 3;
     /**
-     * <code>repeated .Table tables = 4;</code>
+     * <code>repeated int64 occurrences = 3;</code>
+     *
+     * <pre>
+     * triples of each property, in the same order
+     * </pre>
      */
-    int getTablesCount();
+    java.util.List<java.lang.Long> getOccurrencesList();
     /**
-     * <code>repeated .Table tables = 4;</code>
+     * <code>repeated int64 occurrences = 3;</code>
+     *
+     * <pre>
+     * triples of each property, in the same order
+     * </pre>
      */
-    java.util.List<? extends ProtobufStats.TableOrBuilder> 
-        getTablesOrBuilderList();
+    int getOccurrencesCount();
     /**
-     * <code>repeated .Table tables = 4;</code>
+     * <code>repeated int64 occurrences = 3;</code>
+     *
+     * <pre>
+     * triples of each property, in the same order
+     * </pre>
      */
-    ProtobufStats.TableOrBuilder getTablesOrBuilder(
-        int index);
+    long getOccurrences(int index);
   }
   /**
-   * Protobuf type {@code Graph}
+   * Protobuf type {@code CharacteristicSet}
    *
    * <pre>
-   * definition for the whole Graph
+   * set of properties used together by some subjects (characteristic set)
    * </pre>
    */
-  public static final class Graph extends
+  public static final class CharacteristicSet extends
       com.google.protobuf.GeneratedMessage
-      implements GraphOrBuilder {
-    // Use Graph.newBuilder() to construct.
-    private Graph(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      implements CharacteristicSetOrBuilder {
+    // Use CharacteristicSet.newBuilder() to construct.
+    private CharacteristicSet(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
       super(builder);
       this.unknownFields = builder.getUnknownFields();
     }
-    private Graph(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+    private CharacteristicSet(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
 
-    private static final Graph defaultInstance;
-    public static Graph getDefaultInstance() {
+    private static final CharacteristicSet defaultInstance;
+    public static CharacteristicSet getDefaultInstance() {
       return defaultInstance;
     }
 
-    public Graph getDefaultInstanceForType() {
+    public CharacteristicSet getDefaultInstanceForType() {
       return defaultInstance;
     }
 
@@ -944,7 +15370,7 @@ public final class ProtobufStats {
         getUnknownFields() {
       return this.unknownFields;
     }
-    private Graph(
+    private CharacteristicSet(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -968,26 +15394,37 @@ public final class ProtobufStats {
               break;
             }
             case 10: {
-              bitField0_ |= 0x00000001;
-              name_ = input.readBytes();
+              if (!((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+                properties_ = new com.google.protobuf.LazyStringArrayList();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              properties_.add(input.readBytes());
               break;
             }
             case 16: {
-              bitField0_ |= 0x00000002;
-              size_ = input.readInt32();
+              bitField0_ |= 0x00000001;
+              distinctSubjects_ = input.readInt64();
               break;
             }
             case 24: {
-              bitField0_ |= 0x00000004;
-              distinctSubjects_ = input.readInt32();
+              if (!((mutable_bitField0_ & 0x00000004) == 0x00000004)) {
+                occurrences_ = new java.util.ArrayList<java.lang.Long>();
+                mutable_bitField0_ |= 0x00000004;
+              }
+              occurrences_.add(input.readInt64());
               break;
             }
-            case 34: {
-              if (!((mutable_bitField0_ & 0x00000008) == 0x00000008)) {
-                tables_ = new java.util.ArrayList<ProtobufStats.Table>();
-                mutable_bitField0_ |= 0x00000008;
+            case 26: {
+              int length = input.readRawVarint32();
+              int limit = input.pushLimit(length);
+              if (!((mutable_bitField0_ & 0x00000004) == 0x00000004) && input.getBytesUntilLimit() > 0) {
+                occurrences_ = new java.util.ArrayList<java.lang.Long>();
+                mutable_bitField0_ |= 0x00000004;
               }
-              tables_.add(input.readMessage(ProtobufStats.Table.PARSER, extensionRegistry));
+              while (input.getBytesUntilLimit() > 0) {
+                occurrences_.add(input.readInt64());
+              }
+              input.popLimit(limit);
               break;
             }
           }
@@ -998,8 +15435,11 @@ public final class ProtobufStats {
         throw new com.google.protobuf.InvalidProtocolBufferException(
             e.getMessage()).setUnfinishedMessage(this);
       } finally {
-        if (((mutable_bitField0_ & 0x00000008) == 0x00000008)) {
-          tables_ = java.util.Collections.unmodifiableList(tables_);
+        if (((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+          properties_ = new com.google.protobuf.UnmodifiableLazyStringList(properties_);
+        }
+        if (((mutable_bitField0_ & 0x00000004) == 0x00000004)) {
+          occurrences_ = java.util.Collections.unmodifiableList(occurrences_);
         }
         this.unknownFields = unknownFields.build();
         makeExtensionsImmutable();
@@ -1007,176 +15447,147 @@ public final class ProtobufStats {
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return ProtobufStats.internal_static_Graph_descriptor;
+      return ProtobufStats.internal_static_CharacteristicSet_descriptor;
     }
 
     protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return ProtobufStats.internal_static_Graph_fieldAccessorTable
+      return ProtobufStats.internal_static_CharacteristicSet_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              ProtobufStats.Graph.class, ProtobufStats.Graph.Builder.class);
+              ProtobufStats.CharacteristicSet.class, ProtobufStats.CharacteristicSet.Builder.class);
     }
 
-    public static com.google.protobuf.Parser<Graph> PARSER =
-        new com.google.protobuf.AbstractParser<Graph>() {
-      public Graph parsePartialFrom(
+    public static com.google.protobuf.Parser<CharacteristicSet> PARSER =
+        new com.google.protobuf.AbstractParser<CharacteristicSet>() {
+      public CharacteristicSet parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new Graph(input, extensionRegistry);
+        return new CharacteristicSet(input, extensionRegistry);
       }
     };
 
     @java.lang.Override
-    public com.google.protobuf.Parser<Graph> getParserForType() {
+    public com.google.protobuf.Parser<CharacteristicSet> getParserForType() {
       return PARSER;
     }
 
     private int bitField0_;
-    // optional string name = 1;
-    public static final int NAME_FIELD_NUMBER = 1;
-    private java.lang.Object name_;
-    /**
-     * <code>optional string name = 1;</code>
-     */
-    public boolean hasName() {
-      return ((bitField0_ & 0x00000001) == 0x00000001);
-    }
+    // repeated string properties = 1;
+    public static final int PROPERTIES_FIELD_NUMBER = 1;
+    private com.google.protobuf.LazyStringList properties_;
     /**
-     * <code>optional string name = 1;</code>
+     * <code>repeated string properties = 1;</code>
+     *
+     * <pre>
+     * sorted names of the properties
+     * </pre>
      */
-    public java.lang.String getName() {
-      java.lang.Object ref = name_;
-      if (ref instanceof java.lang.String) {
-        return (java.lang.String) ref;
-      } else {
-        com.google.protobuf.ByteString bs = 
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        if (bs.isValidUtf8()) {
-          name_ = s;
-        }
-        return s;
-      }
+    public java.util.List<java.lang.String>
+        getPropertiesList() {
+      return properties_;
     }
     /**
-     * <code>optional string name = 1;</code>
+     * <code>repeated string properties = 1;</code>
+     *
+     * <pre>
+     * sorted names of the properties
+     * </pre>
      */
-    public com.google.protobuf.ByteString
-        getNameBytes() {
-      java.lang.Object ref = name_;
-      if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        name_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
+    public int getPropertiesCount() {
+      return properties_.size();
     }
-
-    // optional int32 size = 2;
-    public static final int SIZE_FIELD_NUMBER = 2;
-    private int size_;
     /**
-     * <code>optional int32 size = 2;</code>
+     * <code>repeated string properties = 1;</code>
      *
      * <pre>
-     * number of triples
+     * sorted names of the properties
      * </pre>
      */
-    public boolean hasSize() {
-      return ((bitField0_ & 0x00000002) == 0x00000002);
+    public java.lang.String getProperties(int index) {
+      return properties_.get(index);
     }
     /**
-     * <code>optional int32 size = 2;</code>
+     * <code>repeated string properties = 1;</code>
      *
      * <pre>
-     * number of triples
+     * sorted names of the properties
      * </pre>
      */
-    public int getSize() {
-      return size_;
+    public com.google.protobuf.ByteString
+        getPropertiesBytes(int index) {
+      return properties_.getByteString(index);
     }
 
-    // optional int32 distinctSubjects = 3;
-    public static final int DISTINCTSUBJECTS_FIELD_NUMBER = 3;
-    private int distinctSubjects_;
+    // optional int64 distinctSubjects = 2;
+    public static final int DISTINCTSUBJECTS_FIELD_NUMBER = 2;
+    private long distinctSubjects_;
     /**
-     * <code>optional int32 distinctSubjects = 3;</code>
+     * <code>optional int64 distinctSubjects = 2;</code>
      *
      * <pre>
-     * distinct subjects in the whole graph
+     * number of subjects with exactly these properties
      * </pre>
      */
     public boolean hasDistinctSubjects() {
-      return ((bitField0_ & 0x00000004) == 0x00000004);
+      return ((bitField0_ & 0x00000001) == 0x00000001);
     }
     /**
-     * <code>optional int32 distinctSubjects = 3;</code>
+     * <code>optional int64 distinctSubjects = 2;</code>
      *
      * <pre>
-     * distinct subjects in the whole graph
+     * number of subjects with exactly these properties
      * </pre>
      */
-    public int getDistinctSubjects() {
+    public long getDistinctSubjects() {
       return distinctSubjects_;
     }
 
-    // repeated .Table tables = 4;
-    public static final int TABLES_FIELD_NUMBER = 4;
-    private java.util.List<ProtobufStats.Table> tables_;
-    /**
-     * <code>repeated .Table tables = 4;</code>
-     */
-    public java.util.List<ProtobufStats.Table> getTablesList() {
-      return tables_;
-    }
-    /**
-     * <code>repeated .Table tables = 4;</code>
-     */
-    public java.util.List<? extends ProtobufStats.TableOrBuilder> 
-        getTablesOrBuilderList() {
-      return tables_;
-    }
+    // repeated int64 occurrences = 3;
+    public static final int OCCURRENCES_FIELD_NUMBER = 3;
+    private java.util.List<java.lang.Long> occurrences_;
     /**
-     * <code>repeated .Table tables = 4;</code>
+     * <code>repeated int64 occurrences = 3;</code>
+     *
+     * <pre>
+     * triples of each property, in the same order
+     * </pre>
      */
-    public int getTablesCount() {
-      return tables_.size();
+    public java.util.List<java.lang.Long>
+        getOccurrencesList() {
+      return occurrences_;
     }
     /**
-     * <code>repeated .Table tables = 4;</code>
+     * <code>repeated int64 occurrences = 3;</code>
+     *
+     * <pre>
+     * triples of each property, in the same order
+     * </pre>
      */
-    public ProtobufStats.Table getTables(int index) {
-      return tables_.get(index);
+    public int getOccurrencesCount() {
+      return occurrences_.size();
     }
     /**
-     * <code>repeated .Table tables = 4;</code>
+     * <code>repeated int64 occurrences = 3;</code>
+     *
+     * <pre>
+     * triples of each property, in the same order
+     * </pre>
      */
-    public ProtobufStats.TableOrBuilder getTablesOrBuilder(
-        int index) {
-      return tables_.get(index);
+    public long getOccurrences(int index) {
+      return occurrences_.get(index);
     }
 
     private void initFields() {
-      name_ = "";
-      size_ = 0;
-      distinctSubjects_ = 0;
-      tables_ = java.util.Collections.emptyList();
+      properties_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+      distinctSubjects_ = 0L;
+      occurrences_ = java.util.Collections.emptyList();
     }
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
       byte isInitialized = memoizedIsInitialized;
       if (isInitialized != -1) return isInitialized == 1;
 
-      for (int i = 0; i < getTablesCount(); i++) {
-        if (!getTables(i).isInitialized()) {
-          memoizedIsInitialized = 0;
-          return false;
-        }
-      }
       memoizedIsInitialized = 1;
       return true;
     }
@@ -1184,17 +15595,14 @@ public final class ProtobufStats {
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
       getSerializedSize();
-      if (((bitField0_ & 0x00000001) == 0x00000001)) {
-        output.writeBytes(1, getNameBytes());
-      }
-      if (((bitField0_ & 0x00000002) == 0x00000002)) {
-        output.writeInt32(2, size_);
+      for (int i = 0; i < properties_.size(); i++) {
+        output.writeBytes(1, properties_.getByteString(i));
       }
-      if (((bitField0_ & 0x00000004) == 0x00000004)) {
-        output.writeInt32(3, distinctSubjects_);
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeInt64(2, distinctSubjects_);
       }
-      for (int i = 0; i < tables_.size(); i++) {
-        output.writeMessage(4, tables_.get(i));
+      for (int i = 0; i < occurrences_.size(); i++) {
+        output.writeInt64(3, occurrences_.get(i));
       }
       getUnknownFields().writeTo(output);
     }
@@ -1205,21 +15613,27 @@ public final class ProtobufStats {
       if (size != -1) return size;
 
       size = 0;
-      if (((bitField0_ & 0x00000001) == 0x00000001)) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeBytesSize(1, getNameBytes());
-      }
-      if (((bitField0_ & 0x00000002) == 0x00000002)) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeInt32Size(2, size_);
+      {
+        int dataSize = 0;
+        for (int i = 0; i < properties_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeBytesSizeNoTag(properties_.getByteString(i));
+        }
+        size += dataSize;
+        size += 1 * getPropertiesList().size();
       }
-      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
         size += com.google.protobuf.CodedOutputStream
-          .computeInt32Size(3, distinctSubjects_);
+          .computeInt64Size(2, distinctSubjects_);
       }
-      for (int i = 0; i < tables_.size(); i++) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(4, tables_.get(i));
+      {
+        int dataSize = 0;
+        for (int i = 0; i < occurrences_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeInt64SizeNoTag(occurrences_.get(i));
+        }
+        size += dataSize;
+        size += 1 * getOccurrencesList().size();
       }
       size += getUnknownFields().getSerializedSize();
       memoizedSerializedSize = size;
@@ -1233,53 +15647,53 @@ public final class ProtobufStats {
       return super.writeReplace();
     }
 
-    public static ProtobufStats.Graph parseFrom(
+    public static ProtobufStats.CharacteristicSet parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static ProtobufStats.Graph parseFrom(
+    public static ProtobufStats.CharacteristicSet parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static ProtobufStats.Graph parseFrom(byte[] data)
+    public static ProtobufStats.CharacteristicSet parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static ProtobufStats.Graph parseFrom(
+    public static ProtobufStats.CharacteristicSet parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static ProtobufStats.Graph parseFrom(java.io.InputStream input)
+    public static ProtobufStats.CharacteristicSet parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static ProtobufStats.Graph parseFrom(
+    public static ProtobufStats.CharacteristicSet parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseFrom(input, extensionRegistry);
     }
-    public static ProtobufStats.Graph parseDelimitedFrom(java.io.InputStream input)
+    public static ProtobufStats.CharacteristicSet parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input);
     }
-    public static ProtobufStats.Graph parseDelimitedFrom(
+    public static ProtobufStats.CharacteristicSet parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input, extensionRegistry);
     }
-    public static ProtobufStats.Graph parseFrom(
+    public static ProtobufStats.CharacteristicSet parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static ProtobufStats.Graph parseFrom(
+    public static ProtobufStats.CharacteristicSet parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -1288,7 +15702,7 @@ public final class ProtobufStats {
 
     public static Builder newBuilder() { return Builder.create(); }
     public Builder newBuilderForType() { return newBuilder(); }
-    public static Builder newBuilder(ProtobufStats.Graph prototype) {
+    public static Builder newBuilder(ProtobufStats.CharacteristicSet prototype) {
       return newBuilder().mergeFrom(prototype);
     }
     public Builder toBuilder() { return newBuilder(this); }
@@ -1300,28 +15714,28 @@ public final class ProtobufStats {
       return builder;
     }
     /**
-     * Protobuf type {@code Graph}
+     * Protobuf type {@code CharacteristicSet}
      *
      * <pre>
-     * definition for the whole Graph
+     * set of properties used together by some subjects (characteristic set)
      * </pre>
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessage.Builder<Builder>
-       implements ProtobufStats.GraphOrBuilder {
+       implements ProtobufStats.CharacteristicSetOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return ProtobufStats.internal_static_Graph_descriptor;
+        return ProtobufStats.internal_static_CharacteristicSet_descriptor;
       }
 
       protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return ProtobufStats.internal_static_Graph_fieldAccessorTable
+        return ProtobufStats.internal_static_CharacteristicSet_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                ProtobufStats.Graph.class, ProtobufStats.Graph.Builder.class);
+                ProtobufStats.CharacteristicSet.class, ProtobufStats.CharacteristicSet.Builder.class);
       }
 
-      // Construct using ProtobufStats.Graph.newBuilder()
+      // Construct using ProtobufStats.CharacteristicSet.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -1333,7 +15747,6 @@ public final class ProtobufStats {
       }
       private void maybeForceBuilderInitialization() {
         if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
-          getTablesFieldBuilder();
         }
       }
       private static Builder create() {
@@ -1342,18 +15755,12 @@ public final class ProtobufStats {
 
       public Builder clear() {
         super.clear();
-        name_ = "";
+        properties_ = com.google.protobuf.LazyStringArrayList.EMPTY;
         bitField0_ = (bitField0_ & ~0x00000001);
-        size_ = 0;
+        distinctSubjects_ = 0L;
         bitField0_ = (bitField0_ & ~0x00000002);
-        distinctSubjects_ = 0;
+        occurrences_ = java.util.Collections.emptyList();
         bitField0_ = (bitField0_ & ~0x00000004);
-        if (tablesBuilder_ == null) {
-          tables_ = java.util.Collections.emptyList();
-          bitField0_ = (bitField0_ & ~0x00000008);
-        } else {
-          tablesBuilder_.clear();
-        }
         return this;
       }
 
@@ -1363,110 +15770,84 @@ public final class ProtobufStats {
 
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return ProtobufStats.internal_static_Graph_descriptor;
+        return ProtobufStats.internal_static_CharacteristicSet_descriptor;
       }
 
-      public ProtobufStats.Graph getDefaultInstanceForType() {
-        return ProtobufStats.Graph.getDefaultInstance();
+      public ProtobufStats.CharacteristicSet getDefaultInstanceForType() {
+        return ProtobufStats.CharacteristicSet.getDefaultInstance();
       }
 
-      public ProtobufStats.Graph build() {
-        ProtobufStats.Graph result = buildPartial();
+      public ProtobufStats.CharacteristicSet build() {
+        ProtobufStats.CharacteristicSet result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
         return result;
       }
 
-      public ProtobufStats.Graph buildPartial() {
-        ProtobufStats.Graph result = new ProtobufStats.Graph(this);
+      public ProtobufStats.CharacteristicSet buildPartial() {
+        ProtobufStats.CharacteristicSet result = new ProtobufStats.CharacteristicSet(this);
         int from_bitField0_ = bitField0_;
         int to_bitField0_ = 0;
-        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
-          to_bitField0_ |= 0x00000001;
+        if (((bitField0_ & 0x00000001) == 0x00000001)) {
+          properties_ = new com.google.protobuf.UnmodifiableLazyStringList(
+              properties_);
+          bitField0_ = (bitField0_ & ~0x00000001);
         }
-        result.name_ = name_;
+        result.properties_ = properties_;
         if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
-          to_bitField0_ |= 0x00000002;
-        }
-        result.size_ = size_;
-        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
-          to_bitField0_ |= 0x00000004;
+          to_bitField0_ |= 0x00000001;
         }
         result.distinctSubjects_ = distinctSubjects_;
-        if (tablesBuilder_ == null) {
-          if (((bitField0_ & 0x00000008) == 0x00000008)) {
-            tables_ = java.util.Collections.unmodifiableList(tables_);
-            bitField0_ = (bitField0_ & ~0x00000008);
-          }
-          result.tables_ = tables_;
-        } else {
-          result.tables_ = tablesBuilder_.build();
+        if (((bitField0_ & 0x00000004) == 0x00000004)) {
+          occurrences_ = java.util.Collections.unmodifiableList(occurrences_);
+          bitField0_ = (bitField0_ & ~0x00000004);
         }
+        result.occurrences_ = occurrences_;
         result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
       }
 
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof ProtobufStats.Graph) {
-          return mergeFrom((ProtobufStats.Graph)other);
+        if (other instanceof ProtobufStats.CharacteristicSet) {
+          return mergeFrom((ProtobufStats.CharacteristicSet)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(ProtobufStats.Graph other) {
-        if (other == ProtobufStats.Graph.getDefaultInstance()) return this;
-        if (other.hasName()) {
-          bitField0_ |= 0x00000001;
-          name_ = other.name_;
+      public Builder mergeFrom(ProtobufStats.CharacteristicSet other) {
+        if (other == ProtobufStats.CharacteristicSet.getDefaultInstance()) return this;
+        if (!other.properties_.isEmpty()) {
+          if (properties_.isEmpty()) {
+            properties_ = other.properties_;
+            bitField0_ = (bitField0_ & ~0x00000001);
+          } else {
+            ensurePropertiesIsMutable();
+            properties_.addAll(other.properties_);
+          }
           onChanged();
         }
-        if (other.hasSize()) {
-          setSize(other.getSize());
-        }
         if (other.hasDistinctSubjects()) {
           setDistinctSubjects(other.getDistinctSubjects());
         }
-        if (tablesBuilder_ == null) {
-          if (!other.tables_.isEmpty()) {
-            if (tables_.isEmpty()) {
-              tables_ = other.tables_;
-              bitField0_ = (bitField0_ & ~0x00000008);
-            } else {
-              ensureTablesIsMutable();
-              tables_.addAll(other.tables_);
-            }
-            onChanged();
-          }
-        } else {
-          if (!other.tables_.isEmpty()) {
-            if (tablesBuilder_.isEmpty()) {
-              tablesBuilder_.dispose();
-              tablesBuilder_ = null;
-              tables_ = other.tables_;
-              bitField0_ = (bitField0_ & ~0x00000008);
-              tablesBuilder_ = 
-                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
-                   getTablesFieldBuilder() : null;
-            } else {
-              tablesBuilder_.addAllMessages(other.tables_);
-            }
+        if (!other.occurrences_.isEmpty()) {
+          if (occurrences_.isEmpty()) {
+            occurrences_ = other.occurrences_;
+            bitField0_ = (bitField0_ & ~0x00000004);
+          } else {
+            ensureOccurrencesIsMutable();
+            occurrences_.addAll(other.occurrences_);
           }
+          onChanged();
         }
         this.mergeUnknownFields(other.getUnknownFields());
         return this;
       }
 
       public final boolean isInitialized() {
-        for (int i = 0; i < getTablesCount(); i++) {
-          if (!getTables(i).isInitialized()) {
-            
-            return false;
-          }
-        }
         return true;
       }
 
@@ -1474,11 +15855,11 @@ public final class ProtobufStats {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        ProtobufStats.Graph parsedMessage = null;
+        ProtobufStats.CharacteristicSet parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (ProtobufStats.Graph) e.getUnfinishedMessage();
+          parsedMessage = (ProtobufStats.CharacteristicSet) e.getUnfinishedMessage();
           throw e;
         } finally {
           if (parsedMessage != null) {
@@ -1489,427 +15870,287 @@ public final class ProtobufStats {
       }
       private int bitField0_;
 
-      // optional string name = 1;
-      private java.lang.Object name_ = "";
-      /**
-       * <code>optional string name = 1;</code>
-       */
-      public boolean hasName() {
-        return ((bitField0_ & 0x00000001) == 0x00000001);
-      }
-      /**
-       * <code>optional string name = 1;</code>
-       */
-      public java.lang.String getName() {
-        java.lang.Object ref = name_;
-        if (!(ref instanceof java.lang.String)) {
-          java.lang.String s = ((com.google.protobuf.ByteString) ref)
-              .toStringUtf8();
-          name_ = s;
-          return s;
-        } else {
-          return (java.lang.String) ref;
-        }
-      }
-      /**
-       * <code>optional string name = 1;</code>
-       */
-      public com.google.protobuf.ByteString
-          getNameBytes() {
-        java.lang.Object ref = name_;
-        if (ref instanceof String) {
-          com.google.protobuf.ByteString b = 
-              com.google.protobuf.ByteString.copyFromUtf8(
-                  (java.lang.String) ref);
-          name_ = b;
-          return b;
-        } else {
-          return (com.google.protobuf.ByteString) ref;
-        }
-      }
-      /**
-       * <code>optional string name = 1;</code>
-       */
-      public Builder setName(
-          java.lang.String value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000001;
-        name_ = value;
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>optional string name = 1;</code>
-       */
-      public Builder clearName() {
-        bitField0_ = (bitField0_ & ~0x00000001);
-        name_ = getDefaultInstance().getName();
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>optional string name = 1;</code>
-       */
-      public Builder setNameBytes(
-          com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000001;
-        name_ = value;
-        onChanged();
-        return this;
-      }
-
-      // optional int32 size = 2;
-      private int size_ ;
-      /**
-       * <code>optional int32 size = 2;</code>
-       *
-       * <pre>
-       * number of triples
-       * </pre>
-       */
-      public boolean hasSize() {
-        return ((bitField0_ & 0x00000002) == 0x00000002);
-      }
-      /**
-       * <code>optional int32 size = 2;</code>
-       *
-       * <pre>
-       * number of triples
-       * </pre>
-       */
-      public int getSize() {
-        return size_;
+      // repeated string properties = 1;
+      private com.google.protobuf.LazyStringList properties_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+      private void ensurePropertiesIsMutable() {
+        if (!((bitField0_ & 0x00000001) == 0x00000001)) {
+          properties_ = new com.google.protobuf.LazyStringArrayList(properties_);
+          bitField0_ |= 0x00000001;
+         }
       }
       /**
-       * <code>optional int32 size = 2;</code>
+       * <code>repeated string properties = 1;</code>
        *
        * <pre>
-       * number of triples
+       * sorted names of the properties
        * </pre>
        */
-      public Builder setSize(int value) {
-        bitField0_ |= 0x00000002;
-        size_ = value;
-        onChanged();
-        return this;
+      public java.util.List<java.lang.String>
+          getPropertiesList() {
+        return java.util.Collections.unmodifiableList(properties_);
       }
       /**
-       * <code>optional int32 size = 2;</code>
+       * <code>repeated string properties = 1;</code>
        *
        * <pre>
-       * number of triples
+       * sorted names of the properties
        * </pre>
        */
-      public Builder clearSize() {
-        bitField0_ = (bitField0_ & ~0x00000002);
-        size_ = 0;
-        onChanged();
-        return this;
+      public int getPropertiesCount() {
+        return properties_.size();
       }
-
-      // optional int32 distinctSubjects = 3;
-      private int distinctSubjects_ ;
       /**
-       * <code>optional int32 distinctSubjects = 3;</code>
+       * <code>repeated string properties = 1;</code>
        *
        * <pre>
-       * distinct subjects in the whole graph
+       * sorted names of the properties
        * </pre>
        */
-      public boolean hasDistinctSubjects() {
-        return ((bitField0_ & 0x00000004) == 0x00000004);
+      public java.lang.String getProperties(int index) {
+        return properties_.get(index);
       }
       /**
-       * <code>optional int32 distinctSubjects = 3;</code>
+       * <code>repeated string properties = 1;</code>
        *
        * <pre>
-       * distinct subjects in the whole graph
+       * sorted names of the properties
        * </pre>
        */
-      public int getDistinctSubjects() {
-        return distinctSubjects_;
+      public com.google.protobuf.ByteString
+          getPropertiesBytes(int index) {
+        return properties_.getByteString(index);
       }
       /**
-       * <code>optional int32 distinctSubjects = 3;</code>
+       * <code>repeated string properties = 1;</code>
        *
        * <pre>
-       * distinct subjects in the whole graph
+       * sorted names of the properties
        * </pre>
        */
-      public Builder setDistinctSubjects(int value) {
-        bitField0_ |= 0x00000004;
-        distinctSubjects_ = value;
+      public Builder setProperties(
+          int index, java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensurePropertiesIsMutable();
+        properties_.set(index, value);
         onChanged();
         return this;
       }
       /**
-       * <code>optional int32 distinctSubjects = 3;</code>
+       * <code>repeated string properties = 1;</code>
        *
        * <pre>
-       * distinct subjects in the whole graph
+       * sorted names of the properties
        * </pre>
        */
-      public Builder clearDistinctSubjects() {
-        bitField0_ = (bitField0_ & ~0x00000004);
-        distinctSubjects_ = 0;
-        onChanged();
-        return this;
-      }
-
-      // repeated .Table tables = 4;
-      private java.util.List<ProtobufStats.Table> tables_ =
-        java.util.Collections.emptyList();
-      private void ensureTablesIsMutable() {
-        if (!((bitField0_ & 0x00000008) == 0x00000008)) {
-          tables_ = new java.util.ArrayList<ProtobufStats.Table>(tables_);
-          bitField0_ |= 0x00000008;
-         }
-      }
-
-      private com.google.protobuf.RepeatedFieldBuilder<
-          ProtobufStats.Table, ProtobufStats.Table.Builder, ProtobufStats.TableOrBuilder> tablesBuilder_;
-
-      /**
-       * <code>repeated .Table tables = 4;</code>
-       */
-      public java.util.List<ProtobufStats.Table> getTablesList() {
-        if (tablesBuilder_ == null) {
-          return java.util.Collections.unmodifiableList(tables_);
-        } else {
-          return tablesBuilder_.getMessageList();
-        }
-      }
-      /**
-       * <code>repeated .Table tables = 4;</code>
-       */
-      public int getTablesCount() {
-        if (tablesBuilder_ == null) {
-          return tables_.size();
-        } else {
-          return tablesBuilder_.getCount();
-        }
-      }
-      /**
-       * <code>repeated .Table tables = 4;</code>
-       */
-      public ProtobufStats.Table getTables(int index) {
-        if (tablesBuilder_ == null) {
-          return tables_.get(index);
-        } else {
-          return tablesBuilder_.getMessage(index);
-        }
-      }
-      /**
-       * <code>repeated .Table tables = 4;</code>
-       */
-      public Builder setTables(
-          int index, ProtobufStats.Table value) {
-        if (tablesBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          ensureTablesIsMutable();
-          tables_.set(index, value);
-          onChanged();
-        } else {
-          tablesBuilder_.setMessage(index, value);
-        }
+      public Builder addProperties(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensurePropertiesIsMutable();
+        properties_.add(value);
+        onChanged();
         return this;
       }
       /**
-       * <code>repeated .Table tables = 4;</code>
+       * <code>repeated string properties = 1;</code>
+       *
+       * <pre>
+       * sorted names of the properties
+       * </pre>
        */
-      public Builder setTables(
-          int index, ProtobufStats.Table.Builder builderForValue) {
-        if (tablesBuilder_ == null) {
-          ensureTablesIsMutable();
-          tables_.set(index, builderForValue.build());
-          onChanged();
-        } else {
-          tablesBuilder_.setMessage(index, builderForValue.build());
-        }
+      public Builder addAllProperties(
+          java.lang.Iterable<java.lang.String> values) {
+        ensurePropertiesIsMutable();
+        super.addAll(values, properties_);
+        onChanged();
         return this;
       }
       /**
-       * <code>repeated .Table tables = 4;</code>
+       * <code>repeated string properties = 1;</code>
+       *
+       * <pre>
+       * sorted names of the properties
+       * </pre>
        */
-      public Builder addTables(ProtobufStats.Table value) {
-        if (tablesBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          ensureTablesIsMutable();
-          tables_.add(value);
-          onChanged();
-        } else {
-          tablesBuilder_.addMessage(value);
-        }
+      public Builder clearProperties() {
+        properties_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
         return this;
       }
       /**
-       * <code>repeated .Table tables = 4;</code>
+       * <code>repeated string properties = 1;</code>
+       *
+       * <pre>
+       * sorted names of the properties
+       * </pre>
        */
-      public Builder addTables(
-          int index, ProtobufStats.Table value) {
-        if (tablesBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          ensureTablesIsMutable();
-          tables_.add(index, value);
-          onChanged();
-        } else {
-          tablesBuilder_.addMessage(index, value);
-        }
+      public Builder addPropertiesBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensurePropertiesIsMutable();
+        properties_.add(value);
+        onChanged();
         return this;
       }
+
+      // optional int64 distinctSubjects = 2;
+      private long distinctSubjects_ ;
       /**
-       * <code>repeated .Table tables = 4;</code>
+       * <code>optional int64 distinctSubjects = 2;</code>
+       *
+       * <pre>
+       * number of subjects with exactly these properties
+       * </pre>
        */
-      public Builder addTables(
-          ProtobufStats.Table.Builder builderForValue) {
-        if (tablesBuilder_ == null) {
-          ensureTablesIsMutable();
-          tables_.add(builderForValue.build());
-          onChanged();
-        } else {
-          tablesBuilder_.addMessage(builderForValue.build());
-        }
-        return this;
+      public boolean hasDistinctSubjects() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
       }
       /**
-       * <code>repeated .Table tables = 4;</code>
+       * <code>optional int64 distinctSubjects = 2;</code>
+       *
+       * <pre>
+       * number of subjects with exactly these properties
+       * </pre>
        */
-      public Builder addTables(
-          int index, ProtobufStats.Table.Builder builderForValue) {
-        if (tablesBuilder_ == null) {
-          ensureTablesIsMutable();
-          tables_.add(index, builderForValue.build());
-          onChanged();
-        } else {
-          tablesBuilder_.addMessage(index, builderForValue.build());
-        }
-        return this;
+      public long getDistinctSubjects() {
+        return distinctSubjects_;
       }
       /**
-       * <code>repeated .Table tables = 4;</code>
+       * <code>optional int64 distinctSubjects = 2;</code>
+       *
+       * <pre>
+       * number of subjects with exactly these properties
+       * </pre>
        */
-      public Builder addAllTables(
-          java.lang.Iterable<? extends ProtobufStats.Table> values) {
-        if (tablesBuilder_ == null) {
-          ensureTablesIsMutable();
-          super.addAll(values, tables_);
-          onChanged();
-        } else {
-          tablesBuilder_.addAllMessages(values);
-        }
+      public Builder setDistinctSubjects(long value) {
+        bitField0_ |= 0x00000002;
+        distinctSubjects_ = value;
+        onChanged();
         return this;
       }
       /**
-       * <code>repeated .Table tables = 4;</code>
+       * <code>optional int64 distinctSubjects = 2;</code>
+       *
+       * <pre>
+       * number of subjects with exactly these properties
+       * </pre>
        */
-      public Builder clearTables() {
-        if (tablesBuilder_ == null) {
-          tables_ = java.util.Collections.emptyList();
-          bitField0_ = (bitField0_ & ~0x00000008);
-          onChanged();
-        } else {
-          tablesBuilder_.clear();
-        }
+      public Builder clearDistinctSubjects() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        distinctSubjects_ = 0L;
+        onChanged();
         return this;
       }
+
+      // repeated int64 occurrences = 3;
+      private java.util.List<java.lang.Long> occurrences_ = java.util.Collections.emptyList();
+      private void ensureOccurrencesIsMutable() {
+        if (!((bitField0_ & 0x00000004) == 0x00000004)) {
+          occurrences_ = new java.util.ArrayList<java.lang.Long>(occurrences_);
+          bitField0_ |= 0x00000004;
+         }
+      }
       /**
-       * <code>repeated .Table tables = 4;</code>
+       * <code>repeated int64 occurrences = 3;</code>
+       *
+       * <pre>
+       * triples of each property, in the same order
+       * </pre>
        */
-      public Builder removeTables(int index) {
-        if (tablesBuilder_ == null) {
-          ensureTablesIsMutable();
-          tables_.remove(index);
-          onChanged();
-        } else {
-          tablesBuilder_.remove(index);
-        }
-        return this;
+      public java.util.List<java.lang.Long>
+          getOccurrencesList() {
+        return java.util.Collections.unmodifiableList(occurrences_);
       }
       /**
-       * <code>repeated .Table tables = 4;</code>
+       * <code>repeated int64 occurrences = 3;</code>
+       *
+       * <pre>
+       * triples of each property, in the same order
+       * </pre>
        */
-      public ProtobufStats.Table.Builder getTablesBuilder(
-          int index) {
-        return getTablesFieldBuilder().getBuilder(index);
+      public int getOccurrencesCount() {
+        return occurrences_.size();
       }
       /**
-       * <code>repeated .Table tables = 4;</code>
+       * <code>repeated int64 occurrences = 3;</code>
+       *
+       * <pre>
+       * triples of each property, in the same order
+       * </pre>
        */
-      public ProtobufStats.TableOrBuilder getTablesOrBuilder(
-          int index) {
-        if (tablesBuilder_ == null) {
-          return tables_.get(index);  } else {
-          return tablesBuilder_.getMessageOrBuilder(index);
-        }
+      public long getOccurrences(int index) {
+        return occurrences_.get(index);
       }
       /**
-       * <code>repeated .Table tables = 4;</code>
+       * <code>repeated int64 occurrences = 3;</code>
+       *
+       * <pre>
+       * triples of each property, in the same order
+       * </pre>
        */
-      public java.util.List<? extends ProtobufStats.TableOrBuilder> 
-           getTablesOrBuilderList() {
-        if (tablesBuilder_ != null) {
-          return tablesBuilder_.getMessageOrBuilderList();
-        } else {
-          return java.util.Collections.unmodifiableList(tables_);
-        }
+      public Builder setOccurrences(
+          int index, long value) {
+        ensureOccurrencesIsMutable();
+        occurrences_.set(index, value);
+        onChanged();
+        return this;
       }
       /**
-       * <code>repeated .Table tables = 4;</code>
+       * <code>repeated int64 occurrences = 3;</code>
+       *
+       * <pre>
+       * triples of each property, in the same order
+       * </pre>
        */
-      public ProtobufStats.Table.Builder addTablesBuilder() {
-        return getTablesFieldBuilder().addBuilder(
-            ProtobufStats.Table.getDefaultInstance());
+      public Builder addOccurrences(long value) {
+        ensureOccurrencesIsMutable();
+        occurrences_.add(value);
+        onChanged();
+        return this;
       }
       /**
-       * <code>repeated .Table tables = 4;</code>
+       * <code>repeated int64 occurrences = 3;</code>
+       *
+       * <pre>
+       * triples of each property, in the same order
+       * </pre>
        */
-      public ProtobufStats.Table.Builder addTablesBuilder(
-          int index) {
-        return getTablesFieldBuilder().addBuilder(
-            index, ProtobufStats.Table.getDefaultInstance());
+      public Builder addAllOccurrences(
+          java.lang.Iterable<? extends java.lang.Long> values) {
+        ensureOccurrencesIsMutable();
+        super.addAll(values, occurrences_);
+        onChanged();
+        return this;
       }
       /**
-       * <code>repeated .Table tables = 4;</code>
+       * <code>repeated int64 occurrences = 3;</code>
+       *
+       * <pre>
+       * triples of each property, in the same order
+       * </pre>
        */
-      public java.util.List<ProtobufStats.Table.Builder> 
-           getTablesBuilderList() {
-        return getTablesFieldBuilder().getBuilderList();
-      }
-      private com.google.protobuf.RepeatedFieldBuilder<
-          ProtobufStats.Table, ProtobufStats.Table.Builder, ProtobufStats.TableOrBuilder> 
-          getTablesFieldBuilder() {
-        if (tablesBuilder_ == null) {
-          tablesBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
-              ProtobufStats.Table, ProtobufStats.Table.Builder, ProtobufStats.TableOrBuilder>(
-                  tables_,
-                  ((bitField0_ & 0x00000008) == 0x00000008),
-                  getParentForChildren(),
-                  isClean());
-          tables_ = null;
-        }
-        return tablesBuilder_;
+      public Builder clearOccurrences() {
+        occurrences_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000004);
+        onChanged();
+        return this;
       }
 
-      // @@protoc_insertion_point(builder_scope:Graph)
+      // @@protoc_insertion_point(builder_scope:CharacteristicSet)
     }
 
     static {
-      defaultInstance = new Graph(true);
+      defaultInstance = new CharacteristicSet(true);
       defaultInstance.initFields();
     }
 
-    // @@protoc_insertion_point(class_scope:Graph)
+    // @@protoc_insertion_point(class_scope:CharacteristicSet)
   }
 
   private static com.google.protobuf.Descriptors.Descriptor
@@ -1917,11 +16158,66 @@ public final class ProtobufStats {
   private static
     com.google.protobuf.GeneratedMessage.FieldAccessorTable
       internal_static_Table_fieldAccessorTable;
+  private static com.google.protobuf.Descriptors.Descriptor
+    internal_static_JoinStat_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_JoinStat_fieldAccessorTable;
+  private static com.google.protobuf.Descriptors.Descriptor
+    internal_static_Sketch_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_Sketch_fieldAccessorTable;
+  private static com.google.protobuf.Descriptors.Descriptor
+    internal_static_TermFrequency_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_TermFrequency_fieldAccessorTable;
+  private static com.google.protobuf.Descriptors.Descriptor
+    internal_static_ExtVPTable_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_ExtVPTable_fieldAccessorTable;
+  private static com.google.protobuf.Descriptors.Descriptor
+    internal_static_Sample_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_Sample_fieldAccessorTable;
+  private static com.google.protobuf.Descriptors.Descriptor
+    internal_static_Samples_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_Samples_fieldAccessorTable;
+  private static com.google.protobuf.Descriptors.Descriptor
+    internal_static_BloomFilter_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_BloomFilter_fieldAccessorTable;
+  private static com.google.protobuf.Descriptors.Descriptor
+    internal_static_TableBloomFilters_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_TableBloomFilters_fieldAccessorTable;
+  private static com.google.protobuf.Descriptors.Descriptor
+    internal_static_BloomFilters_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_BloomFilters_fieldAccessorTable;
   private static com.google.protobuf.Descriptors.Descriptor
     internal_static_Graph_descriptor;
   private static
     com.google.protobuf.GeneratedMessage.FieldAccessorTable
       internal_static_Graph_fieldAccessorTable;
+  private static com.google.protobuf.Descriptors.Descriptor
+    internal_static_PathTable_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_PathTable_fieldAccessorTable;
+  private static com.google.protobuf.Descriptors.Descriptor
+    internal_static_CharacteristicSet_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_CharacteristicSet_fieldAccessorTable;
 
   public static com.google.protobuf.Descriptors.FileDescriptor
       getDescriptor() {
@@ -1931,11 +16227,46 @@ public final class ProtobufStats {
       descriptor;
   static {
     java.lang.String[] descriptorData = {
-      "\n\023ProtobufStats.proto\"P\n\005Table\022\014\n\004name\030\001" +
-      " \002(\t\022\014\n\004size\030\002 \001(\005\022\021\n\tisComplex\030\003 \001(\010\022\030\n" +
-      "\020distinctSubjects\030\004 \001(\005\"U\n\005Graph\022\014\n\004name" +
-      "\030\001 \001(\t\022\014\n\004size\030\002 \001(\005\022\030\n\020distinctSubjects" +
-      "\030\003 \001(\005\022\026\n\006tables\030\004 \003(\0132\006.Table"
+      "\n\023ProtobufStats.proto\"\260\004\n\005Table\022\014\n\004name\030" +
+      "\001 \002(\t\022\014\n\004size\030\002 \001(\003\022\021\n\tisComplex\030\003 \001(\010\022\030" +
+      "\n\020distinctSubjects\030\004 \001(\003\022 \n\013extVPTables\030" +
+      "\005 \003(\0132\013.ExtVPTable\022\027\n\017distinctObjects\030\006 " +
+      "\001(\003\022\034\n\024avgObjectsPerSubject\030\007 \001(\002\022\034\n\024max" +
+      "ObjectsPerSubject\030\010 \001(\003\022\034\n\024avgSubjectsPe" +
+      "rObject\030\t \001(\002\022\034\n\024maxSubjectsPerObject\030\n " +
+      "\001(\003\022#\n\013topSubjects\030\013 \003(\0132\016.TermFrequency" +
+      "\022\"\n\ntopObjects\030\014 \003(\0132\016.TermFrequency\022\037\n\016" +
+      "subjectsSketch\030\r \001(\0132\007.Sketch\022\036\n\robjects",
+      "Sketch\030\016 \001(\0132\007.Sketch\022\034\n\tjoinStats\030\017 \003(\013" +
+      "2\t.JoinStat\022%\n\rheavySubjects\030\020 \003(\0132\016.Ter" +
+      "mFrequency\022$\n\014heavyObjects\030\021 \003(\0132\016.TermF" +
+      "requency\022\025\n\rpropertyTable\030\022 \001(\t\022\037\n\007class" +
+      "es\030\023 \003(\0132\016.TermFrequency\"S\n\010JoinStat\022\025\n\r" +
+      "otherProperty\030\001 \002(\t\022\"\n\004type\030\002 \002(\0162\024.ExtV" +
+      "PTable.JoinType\022\014\n\004size\030\003 \001(\003\".\n\006Sketch\022" +
+      "\021\n\tprecision\030\001 \002(\005\022\021\n\tregisters\030\002 \002(\014\",\n" +
+      "\rTermFrequency\022\014\n\004term\030\001 \002(\t\022\r\n\005count\030\002 " +
+      "\001(\003\"\217\001\n\nExtVPTable\022\014\n\004name\030\001 \002(\t\022\025\n\rothe",
+      "rProperty\030\002 \002(\t\022\"\n\004type\030\003 \002(\0162\024.ExtVPTab" +
+      "le.JoinType\022\014\n\004size\030\004 \001(\003\"*\n\010JoinType\022\006\n" +
+      "\002SS\020\000\022\006\n\002SO\020\001\022\006\n\002OS\020\002\022\006\n\002OO\020\003\"K\n\006Sample\022" +
+      "\020\n\010property\030\001 \002(\t\022\014\n\004rate\030\002 \002(\001\022\020\n\010subje" +
+      "cts\030\003 \003(\t\022\017\n\007objects\030\004 \003(\t\"#\n\007Samples\022\030\n" +
+      "\007samples\030\001 \003(\0132\007.Sample\"+\n\013BloomFilter\022\016" +
+      "\n\006hashes\030\001 \002(\005\022\014\n\004bits\030\002 \002(\014\"d\n\021TableBlo" +
+      "omFilters\022\020\n\010property\030\001 \002(\t\022\036\n\010subjects\030" +
+      "\002 \001(\0132\014.BloomFilter\022\035\n\007objects\030\003 \001(\0132\014.B" +
+      "loomFilter\"2\n\014BloomFilters\022\"\n\006tables\030\001 \003",
+      "(\0132\022.TableBloomFilters\"\322\001\n\005Graph\022\014\n\004name" +
+      "\030\001 \001(\t\022\014\n\004size\030\002 \001(\003\022\030\n\020distinctSubjects" +
+      "\030\003 \001(\003\022\027\n\017distinctObjects\030\006 \001(\003\022\022\n\nprope" +
+      "rties\030\007 \001(\005\022\026\n\006tables\030\004 \003(\0132\006.Table\022.\n\022c" +
+      "haracteristicSets\030\005 \003(\0132\022.Characteristic" +
+      "Set\022\036\n\npathTables\030\010 \003(\0132\n.PathTable\";\n\tP" +
+      "athTable\022\014\n\004name\030\001 \002(\t\022\022\n\nproperties\030\002 \003" +
+      "(\t\022\014\n\004size\030\003 \001(\003\"V\n\021CharacteristicSet\022\022\n" +
+      "\nproperties\030\001 \003(\t\022\030\n\020distinctSubjects\030\002 " +
+      "\001(\003\022\023\n\013occurrences\030\003 \003(\003"
     };
     com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner assigner =
       new com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner() {
@@ -1947,13 +16278,79 @@ public final class ProtobufStats {
           internal_static_Table_fieldAccessorTable = new
             com.google.protobuf.GeneratedMessage.FieldAccessorTable(
               internal_static_Table_descriptor,
-              new java.lang.String[] { "Name", "Size", "IsComplex", "DistinctSubjects", });
-          internal_static_Graph_descriptor =
+              new java.lang.String[] { "Name", "Size", "IsComplex", "DistinctSubjects", "ExtVPTables", "DistinctObjects", "AvgObjectsPerSubject", "MaxObjectsPerSubject", "AvgSubjectsPerObject", "MaxSubjectsPerObject", "TopSubjects", "TopObjects", "SubjectsSketch", "ObjectsSketch", "JoinStats", "HeavySubjects", "HeavyObjects", "PropertyTable", "Classes", });
+          internal_static_JoinStat_descriptor =
             getDescriptor().getMessageTypes().get(1);
+          internal_static_JoinStat_fieldAccessorTable = new
+            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+              internal_static_JoinStat_descriptor,
+              new java.lang.String[] { "OtherProperty", "Type", "Size", });
+          internal_static_Sketch_descriptor =
+            getDescriptor().getMessageTypes().get(2);
+          internal_static_Sketch_fieldAccessorTable = new
+            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+              internal_static_Sketch_descriptor,
+              new java.lang.String[] { "Precision", "Registers", });
+          internal_static_TermFrequency_descriptor =
+            getDescriptor().getMessageTypes().get(3);
+          internal_static_TermFrequency_fieldAccessorTable = new
+            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+              internal_static_TermFrequency_descriptor,
+              new java.lang.String[] { "Term", "Count", });
+          internal_static_ExtVPTable_descriptor =
+            getDescriptor().getMessageTypes().get(4);
+          internal_static_ExtVPTable_fieldAccessorTable = new
+            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+              internal_static_ExtVPTable_descriptor,
+              new java.lang.String[] { "Name", "OtherProperty", "Type", "Size", });
+          internal_static_Sample_descriptor =
+            getDescriptor().getMessageTypes().get(5);
+          internal_static_Sample_fieldAccessorTable = new
+            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+              internal_static_Sample_descriptor,
+              new java.lang.String[] { "Property", "Rate", "Subjects", "Objects", });
+          internal_static_Samples_descriptor =
+            getDescriptor().getMessageTypes().get(6);
+          internal_static_Samples_fieldAccessorTable = new
+            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+              internal_static_Samples_descriptor,
+              new java.lang.String[] { "Samples", });
+          internal_static_BloomFilter_descriptor =
+            getDescriptor().getMessageTypes().get(7);
+          internal_static_BloomFilter_fieldAccessorTable = new
+            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+              internal_static_BloomFilter_descriptor,
+              new java.lang.String[] { "Hashes", "Bits", });
+          internal_static_TableBloomFilters_descriptor =
+            getDescriptor().getMessageTypes().get(8);
+          internal_static_TableBloomFilters_fieldAccessorTable = new
+            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+              internal_static_TableBloomFilters_descriptor,
+              new java.lang.String[] { "Property", "Subjects", "Objects", });
+          internal_static_BloomFilters_descriptor =
+            getDescriptor().getMessageTypes().get(9);
+          internal_static_BloomFilters_fieldAccessorTable = new
+            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+              internal_static_BloomFilters_descriptor,
+              new java.lang.String[] { "Tables", });
+          internal_static_Graph_descriptor =
+            getDescriptor().getMessageTypes().get(10);
           internal_static_Graph_fieldAccessorTable = new
             com.google.protobuf.GeneratedMessage.FieldAccessorTable(
               internal_static_Graph_descriptor,
-              new java.lang.String[] { "Name", "Size", "DistinctSubjects", "Tables", });
+              new java.lang.String[] { "Name", "Size", "DistinctSubjects", "DistinctObjects", "Properties", "Tables", "CharacteristicSets", "PathTables", });
+          internal_static_PathTable_descriptor =
+            getDescriptor().getMessageTypes().get(11);
+          internal_static_PathTable_fieldAccessorTable = new
+            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+              internal_static_PathTable_descriptor,
+              new java.lang.String[] { "Name", "Properties", "Size", });
+          internal_static_CharacteristicSet_descriptor =
+            getDescriptor().getMessageTypes().get(12);
+          internal_static_CharacteristicSet_fieldAccessorTable = new
+            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+              internal_static_CharacteristicSet_descriptor,
+              new java.lang.String[] { "Properties", "DistinctSubjects", "Occurrences", });
           return null;
         }
       };
@@ -1,6 +1,11 @@
 package tree;
 
+import java.util.ArrayList;
+import java.util.List;
+
+import tree.ProtobufJoinTree.Filter;
 import tree.ProtobufStats.Table;
+import tree.ProtobufStats.TermFrequency;
 
 
 
@@ -12,6 +17,20 @@ public class Triple {
 	public ElementType objectType;
 	public ElementType predicateType;
 	public boolean isComplex = false;
+	// if set, the ExtVP table to read instead of the VP table
+	public String extVPTable;
+	// the most frequent subjects and objects, that skew the joins
+	public List<String> heavySubjects = new ArrayList<String>();
+	public List<String> heavyObjects = new ArrayList<String>();
+	// if the table is partitioned by object, as rdf:type by class
+	public boolean isPartitionedByObject = false;
+	// filters on the typed value of the object
+	public List<Filter> objectFilters = new ArrayList<Filter>();
+	// the number of triples of the table, -1 if unknown
+	public long size = -1;
+	// if not null, the Bloom filters of the subjects and of the objects of the table
+	public BloomFilter subjectsFilter;
+	public BloomFilter objectsFilter;
 	
 	// construct from single properties
 	public Triple(String subject, String predicate, String object, 
@@ -35,8 +54,25 @@ public class Triple {
 		
 		if (triple.hasStats()){
 			Table statsTable = triple.getStats();
-			isComplex = statsTable.getDistinctSubjects() < statsTable.getSize();
+			// the statistics saved by older loaders do not have the flag
+			if (statsTable.hasIsComplex())
+				isComplex = statsTable.getIsComplex();
+			else
+				isComplex = statsTable.getDistinctSubjects() < statsTable.getSize();
+			for (TermFrequency term : statsTable.getHeavySubjectsList())
+				heavySubjects.add(term.getTerm());
+			for (TermFrequency term : statsTable.getHeavyObjectsList())
+				heavyObjects.add(term.getTerm());
+			isPartitionedByObject = statsTable.getClassesCount() > 0;
+			size = statsTable.getSize();
 		}
+		if (triple.hasExtVPTable())
+			extVPTable = triple.getExtVPTable();
+		objectFilters.addAll(triple.getObjectFiltersList());
+		if (triple.getBloomFilters().hasSubjects())
+			subjectsFilter = new BloomFilter(triple.getBloomFilters().getSubjects());
+		if (triple.getBloomFilters().hasObjects())
+			objectsFilter = new BloomFilter(triple.getBloomFilters().getObjects());
 		
 	}
 	
@@ -1,11 +1,33 @@
 package tree;
 
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+
+import org.apache.spark.sql.SQLContext;
+
+import tree.ProtobufJoinTree.Filter;
 
 
 
 public class Utils {
 	
+	// the typed columns of the VP tables, with the typed values of the literal objects
+	public static final String LONG_COLUMN = "o_long";
+	public static final String DOUBLE_COLUMN = "o_double";
+	public static final String TIME_COLUMN = "o_time";
+	public static final String LANGUAGE_COLUMN = "o_lang";
+	
+	private static final String INTEGER_TYPES = "'integer', 'int', 'long', 'short', 'byte', 'nonNegativeInteger', "
+			+ "'positiveInteger', 'nonPositiveInteger', 'negativeInteger', 'unsignedLong', 'unsignedInt', "
+			+ "'unsignedShort', 'unsignedByte'";
+	private static final String DECIMAL_TYPES = "'decimal', 'double', 'float'";
+	private static final String TIME_TYPES = "'date', 'dateTime'";
+	
+	// the tables of the current database, listed once per execution
+	private static Set<String> tableNames;
+	
 	
 	/**
 	 * Makes the string conform to the requirements for HiveMetastore column names.
@@ -15,6 +37,85 @@ public class Utils {
 		return s.replaceAll("[<>]", "").trim().replaceAll("[[^\\w]+]", "_");
 	}
 	
+	/**
+	 * loadTableNames lists the tables of the current database,
+	 * it is called at the start of every execution.
+	 */
+	public static void loadTableNames(SQLContext sqlContext){
+		tableNames = new HashSet<String>(Arrays.asList(sqlContext.tableNames()));
+	}
+	
+	/**
+	 * tableExists checks if the table is present in the current database.
+	 */
+	public static boolean tableExists(SQLContext sqlContext, String tableName){
+		if (tableNames == null)
+			loadTableNames(sqlContext);
+		return tableNames.contains(tableName.toLowerCase());
+	}
+	
+	/**
+	 * hasTypedColumns checks if the table has the typed columns created by the loader.
+	 */
+	public static boolean hasTypedColumns(SQLContext sqlContext, String tableName){
+		return Arrays.asList(sqlContext.table(tableName).columns()).contains(DOUBLE_COLUMN);
+	}
+	
+	/**
+	 * toFilterCondition returns the SQL condition of a filter on the object.
+	 * The typed values are read from the typed columns or, if term is not null,
+	 * computed from the lexical form of the object in term, as the loader does.
+	 */
+	public static String toFilterCondition(Filter filter, String term){
+		String value = filter.getValue().replace("'", "\\'");
+		switch (filter.getType()) {
+		case NUMERIC:
+			String doubleCondition = getTypedValue(DOUBLE_COLUMN, term) + " " + filter.getOperator()
+					+ " CAST('" + value + "' AS DOUBLE)";
+			if (!value.matches("[+-]?[0-9]+"))
+				return doubleCondition;
+			// the integers are compared exactly, the other numbers as double
+			String longValue = getTypedValue(LONG_COLUMN, term);
+			return "(" + longValue + " " + filter.getOperator() + " CAST('" + value + "' AS BIGINT) OR ("
+					+ longValue + " IS NULL AND " + doubleCondition + "))";
+		case TIME:
+			return getTypedValue(TIME_COLUMN, term) + " " + filter.getOperator() + " " + toTime("'" + value + "'");
+		default:
+			String language = getTypedValue(LANGUAGE_COLUMN, term);
+			value = value.toLowerCase();
+			if (!filter.getOperator().equals("langMatches"))
+				return language + " " + filter.getOperator() + " '" + value + "'";
+			if (value.equals("*"))
+				return language + " IS NOT NULL";
+			return "(" + language + " = '" + value + "' OR " + language + " LIKE '" + value + "-%')";
+		}
+	}
+	
+	// the typed value of the column, computed from the lexical form if term is not null
+	private static String getTypedValue(String column, String term){
+		if (term == null)
+			return column;
+		String lexicalValue = "regexp_extract(" + term + ", '^\"(.*)\"', 1)";
+		String datatype = "CASE WHEN " + term + " LIKE '\"%\"^^%' THEN regexp_extract(substring_index(" + term
+				+ ", '^^', -1), '(XMLSchema#|xsd:)([A-Za-z]+)', 2) END";
+		switch (column) {
+		case LONG_COLUMN:
+			return "CASE WHEN " + datatype + " IN (" + INTEGER_TYPES + ") THEN CAST(" + lexicalValue + " AS BIGINT) END";
+		case DOUBLE_COLUMN:
+			return "CASE WHEN " + datatype + " IN (" + INTEGER_TYPES + ", " + DECIMAL_TYPES + ") THEN CAST("
+					+ lexicalValue + " AS DOUBLE) END";
+		case TIME_COLUMN:
+			return "CASE WHEN " + datatype + " IN (" + TIME_TYPES + ") THEN " + toTime(lexicalValue) + " END";
+		default:
+			return "CASE WHEN " + term + " LIKE '\"%\"@%' THEN lower(substring_index(" + term + ", '@', -1)) END";
+		}
+	}
+	
+	// milliseconds since the epoch of a date or time
+	private static String toTime(String value){
+		return "CAST(CAST(CAST(" + value + " AS TIMESTAMP) AS DOUBLE) * 1000 AS BIGINT)";
+	}
+	
 	public static String removeQuestionMark(String s){
 		if(s.startsWith("?"))
 			return s.substring(1);
@@ -0,0 +1,123 @@
+package tree;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.apache.spark.sql.Dataset;
+import org.apache.spark.sql.Row;
+import org.apache.spark.sql.RowFactory;
+import org.apache.spark.sql.SQLContext;
+import org.apache.spark.sql.SaveMode;
+import org.apache.spark.sql.SparkSession;
+import org.apache.spark.sql.types.DataTypes;
+import org.apache.spark.sql.types.StructType;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import tree.ProtobufStats.Table;
+
+/**
+ * The joins of the nodes reading the same VP table must not mix up the columns of the two scans.
+ */
+public class NodeTest {
+	
+	private static final String PREDICATE = "<http://example.org/p>";
+	private static SparkSession spark;
+	private static SQLContext sqlContext;
+	
+	@BeforeClass
+	public static void createTable(){
+		// the tables are read from the Hive metastore, as in the cluster
+		System.setProperty("derby.stream.error.file", "target/derby.log");
+		spark = SparkSession.builder().master("local[2]").appName("NodeTest")
+				.config("spark.sql.warehouse.dir", new File("target/test-warehouse").getAbsolutePath())
+				.config("spark.sql.shuffle.partitions", "4")
+				.config("javax.jdo.option.ConnectionURL", "jdbc:derby:;databaseName=target/test-metastore;create=true")
+				.enableHiveSupport()
+				.getOrCreate();
+		sqlContext = spark.sqlContext();
+		
+		// the chain 1 -> 2 -> 3 -> 4
+		List<Row> rows = new ArrayList<Row>();
+		rows.add(RowFactory.create("1", "2"));
+		rows.add(RowFactory.create("2", "3"));
+		rows.add(RowFactory.create("3", "4"));
+		StructType schema = new StructType().add("s", DataTypes.StringType).add("o", DataTypes.StringType);
+		String tableName = "vp_" + Utils.toMetastoreName(PREDICATE);
+		spark.createDataFrame(rows, schema).write().mode(SaveMode.Overwrite).saveAsTable(tableName);
+	}
+	
+	@AfterClass
+	public static void stopSpark(){
+		spark.stop();
+	}
+	
+	@Test
+	public void selfChain(){
+		// ?a p ?b . ?b p ?c
+		ProtobufJoinTree.Node root = node("a", "b", Arrays.asList("a", "b", "c"), node("b", "c", null));
+		assertEquals(rows("1 2 3", "2 3 4"), results(root, false));
+	}
+	
+	@Test
+	public void selfChainWithSemiJoins(){
+		ProtobufJoinTree.Node root = node("a", "b", Arrays.asList("a", "b", "c"), node("b", "c", null));
+		assertEquals(rows("1 2 3", "2 3 4"), results(root, true));
+	}
+	
+	@Test
+	public void selfStar(){
+		// ?b p ?c . ?a p ?b . ?b p ?d
+		ProtobufJoinTree.Node root = node("b", "c", Arrays.asList("a", "b", "c", "d"),
+				node("a", "b", null), node("b", "d", null));
+		assertEquals(rows("1 2 3 3", "2 3 4 4"), results(root, true));
+	}
+	
+	// a node with the triple ?subject p ?object, reducible with semi-joins
+	private static ProtobufJoinTree.Node node(String subject, String object, List<String> projection,
+			ProtobufJoinTree.Node... children){
+		ProtobufJoinTree.Triple triple = ProtobufJoinTree.Triple.newBuilder()
+				.setSubject(variable(subject))
+				.setPredicate(ProtobufJoinTree.Triple.Element.newBuilder().setName(PREDICATE)
+						.setType(ProtobufJoinTree.Triple.ElementType.CONSTANT))
+				.setObject(variable(object))
+				.setStats(Table.newBuilder().setName(PREDICATE).setSize(3).setDistinctSubjects(2))
+				.build();
+		ProtobufJoinTree.Node.Builder node = ProtobufJoinTree.Node.newBuilder().setTriple(triple)
+				.addAllChildren(Arrays.asList(children));
+		if (projection != null)
+			node.addAllProjection(projection);
+		return node.build();
+	}
+	
+	private static ProtobufJoinTree.Triple.Element variable(String name){
+		return ProtobufJoinTree.Triple.Element.newBuilder().setName("?" + name)
+				.setType(ProtobufJoinTree.Triple.ElementType.VARIABLE).build();
+	}
+	
+	// the results of the tree, as space separated rows
+	private static Set<String> results(ProtobufJoinTree.Node root, boolean semiJoins){
+		JoinTree tree = new JoinTree(root);
+		tree.computeSingularNodeData(sqlContext);
+		if (semiJoins) {
+			tree.computeUpwardSemijoins(sqlContext);
+			tree.computeDownwardSemijoins(sqlContext);
+		}
+		Dataset<Row> results = tree.computeJoins(sqlContext);
+		Set<String> rows = new HashSet<String>();
+		for (Row row : results.collectAsList())
+			rows.add(row.mkString(" "));
+		return rows;
+	}
+	
+	private static Set<String> rows(String... rows){
+		return new HashSet<String>(Arrays.asList(rows));
+	}
+}
@@ -1,5 +1,5 @@
 # Generated by the protocol buffer compiler.  DO NOT EDIT!
-# source: src/Stats.proto
+# source: ProtobufStats.proto
 
 from google.protobuf import descriptor as _descriptor
 from google.protobuf import message as _message
@@ -11,12 +11,41 @@ from google.protobuf import descriptor_pb2
 
 
 DESCRIPTOR = _descriptor.FileDescriptor(
-  name='Dropbox (Personale)/master_THESIS/src/Stats.proto',
+  name='ProtobufStats.proto',
   package='',
-  serialized_pb='\n1Dropbox (Personale)/master_THESIS/src/Stats.proto\"P\n\x05Table\x12\x0c\n\x04name\x18\x01 \x02(\t\x12\x0c\n\x04size\x18\x02 \x01(\x05\x12\x11\n\tisComplex\x18\x03 \x01(\x08\x12\x18\n\x10\x64istinctSubjects\x18\x04 \x01(\x05\"U\n\x05Graph\x12\x0c\n\x04name\x18\x01 \x01(\t\x12\x0c\n\x04size\x18\x02 \x01(\x05\x12\x18\n\x10\x64istinctSubjects\x18\x03 \x01(\x05\x12\x16\n\x06tables\x18\x04 \x03(\x0b\x32\x06.Table')
+  serialized_pb='\n\x13ProtobufStats.proto\"\xb0\x04\n\x05Table\x12\x0c\n\x04name\x18\x01 \x02(\t\x12\x0c\n\x04size\x18\x02 \x01(\x03\x12\x11\n\tisComplex\x18\x03 \x01(\x08\x12\x18\n\x10\x64istinctSubjects\x18\x04 \x01(\x03\x12 \n\x0b\x65xtVPTables\x18\x05 \x03(\x0b\x32\x0b.ExtVPTable\x12\x17\n\x0f\x64istinctObjects\x18\x06 \x01(\x03\x12\x1c\n\x14\x61vgObjectsPerSubject\x18\x07 \x01(\x02\x12\x1c\n\x14maxObjectsPerSubject\x18\x08 \x01(\x03\x12\x1c\n\x14\x61vgSubjectsPerObject\x18\t \x01(\x02\x12\x1c\n\x14maxSubjectsPerObject\x18\n \x01(\x03\x12#\n\x0btopSubjects\x18\x0b \x03(\x0b\x32\x0e.TermFrequency\x12\"\n\ntopObjects\x18\x0c \x03(\x0b\x32\x0e.TermFrequency\x12\x1f\n\x0esubjectsSketch\x18\r \x01(\x0b\x32\x07.Sketch\x12\x1e\n\robjectsSketch\x18\x0e \x01(\x0b\x32\x07.Sketch\x12\x1c\n\tjoinStats\x18\x0f \x03(\x0b\x32\t.JoinStat\x12%\n\rheavySubjects\x18\x10 \x03(\x0b\x32\x0e.TermFrequency\x12$\n\x0cheavyObjects\x18\x11 \x03(\x0b\x32\x0e.TermFrequency\x12\x15\n\rpropertyTable\x18\x12 \x01(\t\x12\x1f\n\x07\x63lasses\x18\x13 \x03(\x0b\x32\x0e.TermFrequency\"S\n\x08JoinStat\x12\x15\n\rotherProperty\x18\x01 \x02(\t\x12\"\n\x04type\x18\x02 \x02(\x0e\x32\x14.ExtVPTable.JoinType\x12\x0c\n\x04size\x18\x03 \x01(\x03\".\n\x06Sketch\x12\x11\n\tprecision\x18\x01 \x02(\x05\x12\x11\n\tregisters\x18\x02 \x02(\x0c\",\n\rTermFrequency\x12\x0c\n\x04term\x18\x01 \x02(\t\x12\r\n\x05\x63ount\x18\x02 \x01(\x03\"\x8f\x01\n\nExtVPTable\x12\x0c\n\x04name\x18\x01 \x02(\t\x12\x15\n\rotherProperty\x18\x02 \x02(\t\x12\"\n\x04type\x18\x03 \x02(\x0e\x32\x14.ExtVPTable.JoinType\x12\x0c\n\x04size\x18\x04 \x01(\x03\"*\n\x08JoinType\x12\x06\n\x02SS\x10\x00\x12\x06\n\x02SO\x10\x01\x12\x06\n\x02OS\x10\x02\x12\x06\n\x02OO\x10\x03\"K\n\x06Sample\x12\x10\n\x08property\x18\x01 \x02(\t\x12\x0c\n\x04rate\x18\x02 \x02(\x01\x12\x10\n\x08subjects\x18\x03 \x03(\t\x12\x0f\n\x07objects\x18\x04 \x03(\t\"#\n\x07Samples\x12\x18\n\x07samples\x18\x01 \x03(\x0b\x32\x07.Sample\"+\n\x0b\x42loomFilter\x12\x0e\n\x06hashes\x18\x01 \x02(\x05\x12\x0c\n\x04\x62its\x18\x02 \x02(\x0c\"d\n\x11TableBloomFilters\x12\x10\n\x08property\x18\x01 \x02(\t\x12\x1e\n\x08subjects\x18\x02 \x01(\x0b\x32\x0c.BloomFilter\x12\x1d\n\x07objects\x18\x03 \x01(\x0b\x32\x0c.BloomFilter\"2\n\x0c\x42loomFilters\x12\"\n\x06tables\x18\x01 \x03(\x0b\x32\x12.TableBloomFilters\"\xd2\x01\n\x05Graph\x12\x0c\n\x04name\x18\x01 \x01(\t\x12\x0c\n\x04size\x18\x02 \x01(\x03\x12\x18\n\x10\x64istinctSubjects\x18\x03 \x01(\x03\x12\x17\n\x0f\x64istinctObjects\x18\x06 \x01(\x03\x12\x12\n\nproperties\x18\x07 \x01(\x05\x12\x16\n\x06tables\x18\x04 \x03(\x0b\x32\x06.Table\x12.\n\x12\x63haracteristicSets\x18\x05 \x03(\x0b\x32\x12.CharacteristicSet\x12\x1e\n\npathTables\x18\x08 \x03(\x0b\x32\n.PathTable\";\n\tPathTable\x12\x0c\n\x04name\x18\x01 \x02(\t\x12\x12\n\nproperties\x18\x02 \x03(\t\x12\x0c\n\x04size\x18\x03 \x01(\x03\"V\n\x11\x43haracteristicSet\x12\x12\n\nproperties\x18\x01 \x03(\t\x12\x18\n\x10\x64istinctSubjects\x18\x02 \x01(\x03\x12\x13\n\x0boccurrences\x18\x03 \x03(\x03')
 
 
 
+_EXTVPTABLE_JOINTYPE = _descriptor.EnumDescriptor(
+  name='JoinType',
+  full_name='ExtVPTable.JoinType',
+  filename=None,
+  file=DESCRIPTOR,
+  values=[
+    _descriptor.EnumValueDescriptor(
+      name='SS', index=0, number=0,
+      options=None,
+      type=None),
+    _descriptor.EnumValueDescriptor(
+      name='SO', index=1, number=1,
+      options=None,
+      type=None),
+    _descriptor.EnumValueDescriptor(
+      name='OS', index=2, number=2,
+      options=None,
+      type=None),
+    _descriptor.EnumValueDescriptor(
+      name='OO', index=3, number=3,
+      options=None,
+      type=None),
+  ],
+  containing_type=None,
+  options=None,
+  serialized_start=867,
+  serialized_end=909,
+)
+
 
 _TABLE = _descriptor.Descriptor(
   name='Table',
@@ -34,7 +63,7 @@ _TABLE = _descriptor.Descriptor(
       options=None),
     _descriptor.FieldDescriptor(
       name='size', full_name='Table.size', index=1,
-      number=2, type=5, cpp_type=1, label=1,
+      number=2, type=3, cpp_type=2, label=1,
       has_default_value=False, default_value=0,
       message_type=None, enum_type=None, containing_type=None,
       is_extension=False, extension_scope=None,
@@ -48,11 +77,193 @@ _TABLE = _descriptor.Descriptor(
       options=None),
     _descriptor.FieldDescriptor(
       name='distinctSubjects', full_name='Table.distinctSubjects', index=3,
-      number=4, type=5, cpp_type=1, label=1,
+      number=4, type=3, cpp_type=2, label=1,
+      has_default_value=False, default_value=0,
+      message_type=None, enum_type=None, containing_type=None,
+      is_extension=False, extension_scope=None,
+      options=None),
+    _descriptor.FieldDescriptor(
+      name='extVPTables', full_name='Table.extVPTables', index=4,
+      number=5, type=11, cpp_type=10, label=3,
+      has_default_value=False, default_value=[],
+      message_type=None, enum_type=None, containing_type=None,
+      is_extension=False, extension_scope=None,
+      options=None),
+    _descriptor.FieldDescriptor(
+      name='distinctObjects', full_name='Table.distinctObjects', index=5,
+      number=6, type=3, cpp_type=2, label=1,
+      has_default_value=False, default_value=0,
+      message_type=None, enum_type=None, containing_type=None,
+      is_extension=False, extension_scope=None,
+      options=None),
+    _descriptor.FieldDescriptor(
+      name='avgObjectsPerSubject', full_name='Table.avgObjectsPerSubject', index=6,
+      number=7, type=2, cpp_type=6, label=1,
+      has_default_value=False, default_value=0,
+      message_type=None, enum_type=None, containing_type=None,
+      is_extension=False, extension_scope=None,
+      options=None),
+    _descriptor.FieldDescriptor(
+      name='maxObjectsPerSubject', full_name='Table.maxObjectsPerSubject', index=7,
+      number=8, type=3, cpp_type=2, label=1,
+      has_default_value=False, default_value=0,
+      message_type=None, enum_type=None, containing_type=None,
+      is_extension=False, extension_scope=None,
+      options=None),
+    _descriptor.FieldDescriptor(
+      name='avgSubjectsPerObject', full_name='Table.avgSubjectsPerObject', index=8,
+      number=9, type=2, cpp_type=6, label=1,
+      has_default_value=False, default_value=0,
+      message_type=None, enum_type=None, containing_type=None,
+      is_extension=False, extension_scope=None,
+      options=None),
+    _descriptor.FieldDescriptor(
+      name='maxSubjectsPerObject', full_name='Table.maxSubjectsPerObject', index=9,
+      number=10, type=3, cpp_type=2, label=1,
+      has_default_value=False, default_value=0,
+      message_type=None, enum_type=None, containing_type=None,
+      is_extension=False, extension_scope=None,
+      options=None),
+    _descriptor.FieldDescriptor(
+      name='topSubjects', full_name='Table.topSubjects', index=10,
+      number=11, type=11, cpp_type=10, label=3,
+      has_default_value=False, default_value=[],
+      message_type=None, enum_type=None, containing_type=None,
+      is_extension=False, extension_scope=None,
+      options=None),
+    _descriptor.FieldDescriptor(
+      name='topObjects', full_name='Table.topObjects', index=11,
+      number=12, type=11, cpp_type=10, label=3,
+      has_default_value=False, default_value=[],
+      message_type=None, enum_type=None, containing_type=None,
+      is_extension=False, extension_scope=None,
+      options=None),
+    _descriptor.FieldDescriptor(
+      name='subjectsSketch', full_name='Table.subjectsSketch', index=12,
+      number=13, type=11, cpp_type=10, label=1,
+      has_default_value=False, default_value=None,
+      message_type=None, enum_type=None, containing_type=None,
+      is_extension=False, extension_scope=None,
+      options=None),
+    _descriptor.FieldDescriptor(
+      name='objectsSketch', full_name='Table.objectsSketch', index=13,
+      number=14, type=11, cpp_type=10, label=1,
+      has_default_value=False, default_value=None,
+      message_type=None, enum_type=None, containing_type=None,
+      is_extension=False, extension_scope=None,
+      options=None),
+    _descriptor.FieldDescriptor(
+      name='joinStats', full_name='Table.joinStats', index=14,
+      number=15, type=11, cpp_type=10, label=3,
+      has_default_value=False, default_value=[],
+      message_type=None, enum_type=None, containing_type=None,
+      is_extension=False, extension_scope=None,
+      options=None),
+    _descriptor.FieldDescriptor(
+      name='heavySubjects', full_name='Table.heavySubjects', index=15,
+      number=16, type=11, cpp_type=10, label=3,
+      has_default_value=False, default_value=[],
+      message_type=None, enum_type=None, containing_type=None,
+      is_extension=False, extension_scope=None,
+      options=None),
+    _descriptor.FieldDescriptor(
+      name='heavyObjects', full_name='Table.heavyObjects', index=16,
+      number=17, type=11, cpp_type=10, label=3,
+      has_default_value=False, default_value=[],
+      message_type=None, enum_type=None, containing_type=None,
+      is_extension=False, extension_scope=None,
+      options=None),
+    _descriptor.FieldDescriptor(
+      name='propertyTable', full_name='Table.propertyTable', index=17,
+      number=18, type=9, cpp_type=9, label=1,
+      has_default_value=False, default_value=unicode("", "utf-8"),
+      message_type=None, enum_type=None, containing_type=None,
+      is_extension=False, extension_scope=None,
+      options=None),
+    _descriptor.FieldDescriptor(
+      name='classes', full_name='Table.classes', index=18,
+      number=19, type=11, cpp_type=10, label=3,
+      has_default_value=False, default_value=[],
+      message_type=None, enum_type=None, containing_type=None,
+      is_extension=False, extension_scope=None,
+      options=None),
+  ],
+  extensions=[
+  ],
+  nested_types=[],
+  enum_types=[
+  ],
+  options=None,
+  is_extendable=False,
+  extension_ranges=[],
+  serialized_start=24,
+  serialized_end=584,
+)
+
+
+_JOINSTAT = _descriptor.Descriptor(
+  name='JoinStat',
+  full_name='JoinStat',
+  filename=None,
+  file=DESCRIPTOR,
+  containing_type=None,
+  fields=[
+    _descriptor.FieldDescriptor(
+      name='otherProperty', full_name='JoinStat.otherProperty', index=0,
+      number=1, type=9, cpp_type=9, label=2,
+      has_default_value=False, default_value=unicode("", "utf-8"),
+      message_type=None, enum_type=None, containing_type=None,
+      is_extension=False, extension_scope=None,
+      options=None),
+    _descriptor.FieldDescriptor(
+      name='type', full_name='JoinStat.type', index=1,
+      number=2, type=14, cpp_type=8, label=2,
+      has_default_value=False, default_value=0,
+      message_type=None, enum_type=None, containing_type=None,
+      is_extension=False, extension_scope=None,
+      options=None),
+    _descriptor.FieldDescriptor(
+      name='size', full_name='JoinStat.size', index=2,
+      number=3, type=3, cpp_type=2, label=1,
+      has_default_value=False, default_value=0,
+      message_type=None, enum_type=None, containing_type=None,
+      is_extension=False, extension_scope=None,
+      options=None),
+  ],
+  extensions=[
+  ],
+  nested_types=[],
+  enum_types=[
+  ],
+  options=None,
+  is_extendable=False,
+  extension_ranges=[],
+  serialized_start=586,
+  serialized_end=669,
+)
+
+
+_SKETCH = _descriptor.Descriptor(
+  name='Sketch',
+  full_name='Sketch',
+  filename=None,
+  file=DESCRIPTOR,
+  containing_type=None,
+  fields=[
+    _descriptor.FieldDescriptor(
+      name='precision', full_name='Sketch.precision', index=0,
+      number=1, type=5, cpp_type=1, label=2,
       has_default_value=False, default_value=0,
       message_type=None, enum_type=None, containing_type=None,
       is_extension=False, extension_scope=None,
       options=None),
+    _descriptor.FieldDescriptor(
+      name='registers', full_name='Sketch.registers', index=1,
+      number=2, type=12, cpp_type=9, label=2,
+      has_default_value=False, default_value="",
+      message_type=None, enum_type=None, containing_type=None,
+      is_extension=False, extension_scope=None,
+      options=None),
   ],
   extensions=[
   ],
@@ -62,8 +273,275 @@ _TABLE = _descriptor.Descriptor(
   options=None,
   is_extendable=False,
   extension_ranges=[],
-  serialized_start=53,
-  serialized_end=133,
+  serialized_start=671,
+  serialized_end=717,
+)
+
+
+_TERMFREQUENCY = _descriptor.Descriptor(
+  name='TermFrequency',
+  full_name='TermFrequency',
+  filename=None,
+  file=DESCRIPTOR,
+  containing_type=None,
+  fields=[
+    _descriptor.FieldDescriptor(
+      name='term', full_name='TermFrequency.term', index=0,
+      number=1, type=9, cpp_type=9, label=2,
+      has_default_value=False, default_value=unicode("", "utf-8"),
+      message_type=None, enum_type=None, containing_type=None,
+      is_extension=False, extension_scope=None,
+      options=None),
+    _descriptor.FieldDescriptor(
+      name='count', full_name='TermFrequency.count', index=1,
+      number=2, type=3, cpp_type=2, label=1,
+      has_default_value=False, default_value=0,
+      message_type=None, enum_type=None, containing_type=None,
+      is_extension=False, extension_scope=None,
+      options=None),
+  ],
+  extensions=[
+  ],
+  nested_types=[],
+  enum_types=[
+  ],
+  options=None,
+  is_extendable=False,
+  extension_ranges=[],
+  serialized_start=719,
+  serialized_end=763,
+)
+
+
+_EXTVPTABLE = _descriptor.Descriptor(
+  name='ExtVPTable',
+  full_name='ExtVPTable',
+  filename=None,
+  file=DESCRIPTOR,
+  containing_type=None,
+  fields=[
+    _descriptor.FieldDescriptor(
+      name='name', full_name='ExtVPTable.name', index=0,
+      number=1, type=9, cpp_type=9, label=2,
+      has_default_value=False, default_value=unicode("", "utf-8"),
+      message_type=None, enum_type=None, containing_type=None,
+      is_extension=False, extension_scope=None,
+      options=None),
+    _descriptor.FieldDescriptor(
+      name='otherProperty', full_name='ExtVPTable.otherProperty', index=1,
+      number=2, type=9, cpp_type=9, label=2,
+      has_default_value=False, default_value=unicode("", "utf-8"),
+      message_type=None, enum_type=None, containing_type=None,
+      is_extension=False, extension_scope=None,
+      options=None),
+    _descriptor.FieldDescriptor(
+      name='type', full_name='ExtVPTable.type', index=2,
+      number=3, type=14, cpp_type=8, label=2,
+      has_default_value=False, default_value=0,
+      message_type=None, enum_type=None, containing_type=None,
+      is_extension=False, extension_scope=None,
+      options=None),
+    _descriptor.FieldDescriptor(
+      name='size', full_name='ExtVPTable.size', index=3,
+      number=4, type=3, cpp_type=2, label=1,
+      has_default_value=False, default_value=0,
+      message_type=None, enum_type=None, containing_type=None,
+      is_extension=False, extension_scope=None,
+      options=None),
+  ],
+  extensions=[
+  ],
+  nested_types=[],
+  enum_types=[
+    _EXTVPTABLE_JOINTYPE,
+  ],
+  options=None,
+  is_extendable=False,
+  extension_ranges=[],
+  serialized_start=766,
+  serialized_end=909,
+)
+
+
+_SAMPLE = _descriptor.Descriptor(
+  name='Sample',
+  full_name='Sample',
+  filename=None,
+  file=DESCRIPTOR,
+  containing_type=None,
+  fields=[
+    _descriptor.FieldDescriptor(
+      name='property', full_name='Sample.property', index=0,
+      number=1, type=9, cpp_type=9, label=2,
+      has_default_value=False, default_value=unicode("", "utf-8"),
+      message_type=None, enum_type=None, containing_type=None,
+      is_extension=False, extension_scope=None,
+      options=None),
+    _descriptor.FieldDescriptor(
+      name='rate', full_name='Sample.rate', index=1,
+      number=2, type=1, cpp_type=5, label=2,
+      has_default_value=False, default_value=0,
+      message_type=None, enum_type=None, containing_type=None,
+      is_extension=False, extension_scope=None,
+      options=None),
+    _descriptor.FieldDescriptor(
+      name='subjects', full_name='Sample.subjects', index=2,
+      number=3, type=9, cpp_type=9, label=3,
+      has_default_value=False, default_value=[],
+      message_type=None, enum_type=None, containing_type=None,
+      is_extension=False, extension_scope=None,
+      options=None),
+    _descriptor.FieldDescriptor(
+      name='objects', full_name='Sample.objects', index=3,
+      number=4, type=9, cpp_type=9, label=3,
+      has_default_value=False, default_value=[],
+      message_type=None, enum_type=None, containing_type=None,
+      is_extension=False, extension_scope=None,
+      options=None),
+  ],
+  extensions=[
+  ],
+  nested_types=[],
+  enum_types=[
+  ],
+  options=None,
+  is_extendable=False,
+  extension_ranges=[],
+  serialized_start=911,
+  serialized_end=986,
+)
+
+
+_SAMPLES = _descriptor.Descriptor(
+  name='Samples',
+  full_name='Samples',
+  filename=None,
+  file=DESCRIPTOR,
+  containing_type=None,
+  fields=[
+    _descriptor.FieldDescriptor(
+      name='samples', full_name='Samples.samples', index=0,
+      number=1, type=11, cpp_type=10, label=3,
+      has_default_value=False, default_value=[],
+      message_type=None, enum_type=None, containing_type=None,
+      is_extension=False, extension_scope=None,
+      options=None),
+  ],
+  extensions=[
+  ],
+  nested_types=[],
+  enum_types=[
+  ],
+  options=None,
+  is_extendable=False,
+  extension_ranges=[],
+  serialized_start=988,
+  serialized_end=1023,
+)
+
+
+_BLOOMFILTER = _descriptor.Descriptor(
+  name='BloomFilter',
+  full_name='BloomFilter',
+  filename=None,
+  file=DESCRIPTOR,
+  containing_type=None,
+  fields=[
+    _descriptor.FieldDescriptor(
+      name='hashes', full_name='BloomFilter.hashes', index=0,
+      number=1, type=5, cpp_type=1, label=2,
+      has_default_value=False, default_value=0,
+      message_type=None, enum_type=None, containing_type=None,
+      is_extension=False, extension_scope=None,
+      options=None),
+    _descriptor.FieldDescriptor(
+      name='bits', full_name='BloomFilter.bits', index=1,
+      number=2, type=12, cpp_type=9, label=2,
+      has_default_value=False, default_value="",
+      message_type=None, enum_type=None, containing_type=None,
+      is_extension=False, extension_scope=None,
+      options=None),
+  ],
+  extensions=[
+  ],
+  nested_types=[],
+  enum_types=[
+  ],
+  options=None,
+  is_extendable=False,
+  extension_ranges=[],
+  serialized_start=1025,
+  serialized_end=1068,
+)
+
+
+_TABLEBLOOMFILTERS = _descriptor.Descriptor(
+  name='TableBloomFilters',
+  full_name='TableBloomFilters',
+  filename=None,
+  file=DESCRIPTOR,
+  containing_type=None,
+  fields=[
+    _descriptor.FieldDescriptor(
+      name='property', full_name='TableBloomFilters.property', index=0,
+      number=1, type=9, cpp_type=9, label=2,
+      has_default_value=False, default_value=unicode("", "utf-8"),
+      message_type=None, enum_type=None, containing_type=None,
+      is_extension=False, extension_scope=None,
+      options=None),
+    _descriptor.FieldDescriptor(
+      name='subjects', full_name='TableBloomFilters.subjects', index=1,
+      number=2, type=11, cpp_type=10, label=1,
+      has_default_value=False, default_value=None,
+      message_type=None, enum_type=None, containing_type=None,
+      is_extension=False, extension_scope=None,
+      options=None),
+    _descriptor.FieldDescriptor(
+      name='objects', full_name='TableBloomFilters.objects', index=2,
+      number=3, type=11, cpp_type=10, label=1,
+      has_default_value=False, default_value=None,
+      message_type=None, enum_type=None, containing_type=None,
+      is_extension=False, extension_scope=None,
+      options=None),
+  ],
+  extensions=[
+  ],
+  nested_types=[],
+  enum_types=[
+  ],
+  options=None,
+  is_extendable=False,
+  extension_ranges=[],
+  serialized_start=1070,
+  serialized_end=1170,
+)
+
+
+_BLOOMFILTERS = _descriptor.Descriptor(
+  name='BloomFilters',
+  full_name='BloomFilters',
+  filename=None,
+  file=DESCRIPTOR,
+  containing_type=None,
+  fields=[
+    _descriptor.FieldDescriptor(
+      name='tables', full_name='BloomFilters.tables', index=0,
+      number=1, type=11, cpp_type=10, label=3,
+      has_default_value=False, default_value=[],
+      message_type=None, enum_type=None, containing_type=None,
+      is_extension=False, extension_scope=None,
+      options=None),
+  ],
+  extensions=[
+  ],
+  nested_types=[],
+  enum_types=[
+  ],
+  options=None,
+  is_extendable=False,
+  extension_ranges=[],
+  serialized_start=1172,
+  serialized_end=1222,
 )
 
 
@@ -83,25 +561,137 @@ _GRAPH = _descriptor.Descriptor(
       options=None),
     _descriptor.FieldDescriptor(
       name='size', full_name='Graph.size', index=1,
-      number=2, type=5, cpp_type=1, label=1,
+      number=2, type=3, cpp_type=2, label=1,
       has_default_value=False, default_value=0,
       message_type=None, enum_type=None, containing_type=None,
       is_extension=False, extension_scope=None,
       options=None),
     _descriptor.FieldDescriptor(
       name='distinctSubjects', full_name='Graph.distinctSubjects', index=2,
-      number=3, type=5, cpp_type=1, label=1,
+      number=3, type=3, cpp_type=2, label=1,
       has_default_value=False, default_value=0,
       message_type=None, enum_type=None, containing_type=None,
       is_extension=False, extension_scope=None,
       options=None),
     _descriptor.FieldDescriptor(
-      name='tables', full_name='Graph.tables', index=3,
+      name='distinctObjects', full_name='Graph.distinctObjects', index=3,
+      number=6, type=3, cpp_type=2, label=1,
+      has_default_value=False, default_value=0,
+      message_type=None, enum_type=None, containing_type=None,
+      is_extension=False, extension_scope=None,
+      options=None),
+    _descriptor.FieldDescriptor(
+      name='properties', full_name='Graph.properties', index=4,
+      number=7, type=5, cpp_type=1, label=1,
+      has_default_value=False, default_value=0,
+      message_type=None, enum_type=None, containing_type=None,
+      is_extension=False, extension_scope=None,
+      options=None),
+    _descriptor.FieldDescriptor(
+      name='tables', full_name='Graph.tables', index=5,
       number=4, type=11, cpp_type=10, label=3,
       has_default_value=False, default_value=[],
       message_type=None, enum_type=None, containing_type=None,
       is_extension=False, extension_scope=None,
       options=None),
+    _descriptor.FieldDescriptor(
+      name='characteristicSets', full_name='Graph.characteristicSets', index=6,
+      number=5, type=11, cpp_type=10, label=3,
+      has_default_value=False, default_value=[],
+      message_type=None, enum_type=None, containing_type=None,
+      is_extension=False, extension_scope=None,
+      options=None),
+    _descriptor.FieldDescriptor(
+      name='pathTables', full_name='Graph.pathTables', index=7,
+      number=8, type=11, cpp_type=10, label=3,
+      has_default_value=False, default_value=[],
+      message_type=None, enum_type=None, containing_type=None,
+      is_extension=False, extension_scope=None,
+      options=None),
+  ],
+  extensions=[
+  ],
+  nested_types=[],
+  enum_types=[
+  ],
+  options=None,
+  is_extendable=False,
+  extension_ranges=[],
+  serialized_start=1225,
+  serialized_end=1435,
+)
+
+
+_PATHTABLE = _descriptor.Descriptor(
+  name='PathTable',
+  full_name='PathTable',
+  filename=None,
+  file=DESCRIPTOR,
+  containing_type=None,
+  fields=[
+    _descriptor.FieldDescriptor(
+      name='name', full_name='PathTable.name', index=0,
+      number=1, type=9, cpp_type=9, label=2,
+      has_default_value=False, default_value=unicode("", "utf-8"),
+      message_type=None, enum_type=None, containing_type=None,
+      is_extension=False, extension_scope=None,
+      options=None),
+    _descriptor.FieldDescriptor(
+      name='properties', full_name='PathTable.properties', index=1,
+      number=2, type=9, cpp_type=9, label=3,
+      has_default_value=False, default_value=[],
+      message_type=None, enum_type=None, containing_type=None,
+      is_extension=False, extension_scope=None,
+      options=None),
+    _descriptor.FieldDescriptor(
+      name='size', full_name='PathTable.size', index=2,
+      number=3, type=3, cpp_type=2, label=1,
+      has_default_value=False, default_value=0,
+      message_type=None, enum_type=None, containing_type=None,
+      is_extension=False, extension_scope=None,
+      options=None),
+  ],
+  extensions=[
+  ],
+  nested_types=[],
+  enum_types=[
+  ],
+  options=None,
+  is_extendable=False,
+  extension_ranges=[],
+  serialized_start=1437,
+  serialized_end=1496,
+)
+
+
+_CHARACTERISTICSET = _descriptor.Descriptor(
+  name='CharacteristicSet',
+  full_name='CharacteristicSet',
+  filename=None,
+  file=DESCRIPTOR,
+  containing_type=None,
+  fields=[
+    _descriptor.FieldDescriptor(
+      name='properties', full_name='CharacteristicSet.properties', index=0,
+      number=1, type=9, cpp_type=9, label=3,
+      has_default_value=False, default_value=[],
+      message_type=None, enum_type=None, containing_type=None,
+      is_extension=False, extension_scope=None,
+      options=None),
+    _descriptor.FieldDescriptor(
+      name='distinctSubjects', full_name='CharacteristicSet.distinctSubjects', index=1,
+      number=2, type=3, cpp_type=2, label=1,
+      has_default_value=False, default_value=0,
+      message_type=None, enum_type=None, containing_type=None,
+      is_extension=False, extension_scope=None,
+      options=None),
+    _descriptor.FieldDescriptor(
+      name='occurrences', full_name='CharacteristicSet.occurrences', index=2,
+      number=3, type=3, cpp_type=2, label=3,
+      has_default_value=False, default_value=[],
+      message_type=None, enum_type=None, containing_type=None,
+      is_extension=False, extension_scope=None,
+      options=None),
   ],
   extensions=[
   ],
@@ -111,13 +701,42 @@ _GRAPH = _descriptor.Descriptor(
   options=None,
   is_extendable=False,
   extension_ranges=[],
-  serialized_start=135,
-  serialized_end=220,
+  serialized_start=1498,
+  serialized_end=1584,
 )
 
+_TABLE.fields_by_name['extVPTables'].message_type = _EXTVPTABLE
+_TABLE.fields_by_name['topSubjects'].message_type = _TERMFREQUENCY
+_TABLE.fields_by_name['topObjects'].message_type = _TERMFREQUENCY
+_TABLE.fields_by_name['subjectsSketch'].message_type = _SKETCH
+_TABLE.fields_by_name['objectsSketch'].message_type = _SKETCH
+_TABLE.fields_by_name['joinStats'].message_type = _JOINSTAT
+_TABLE.fields_by_name['heavySubjects'].message_type = _TERMFREQUENCY
+_TABLE.fields_by_name['heavyObjects'].message_type = _TERMFREQUENCY
+_TABLE.fields_by_name['classes'].message_type = _TERMFREQUENCY
+_JOINSTAT.fields_by_name['type'].enum_type = _EXTVPTABLE_JOINTYPE
+_EXTVPTABLE.fields_by_name['type'].enum_type = _EXTVPTABLE_JOINTYPE
+_EXTVPTABLE_JOINTYPE.containing_type = _EXTVPTABLE;
+_SAMPLES.fields_by_name['samples'].message_type = _SAMPLE
+_TABLEBLOOMFILTERS.fields_by_name['subjects'].message_type = _BLOOMFILTER
+_TABLEBLOOMFILTERS.fields_by_name['objects'].message_type = _BLOOMFILTER
+_BLOOMFILTERS.fields_by_name['tables'].message_type = _TABLEBLOOMFILTERS
 _GRAPH.fields_by_name['tables'].message_type = _TABLE
+_GRAPH.fields_by_name['characteristicSets'].message_type = _CHARACTERISTICSET
+_GRAPH.fields_by_name['pathTables'].message_type = _PATHTABLE
 DESCRIPTOR.message_types_by_name['Table'] = _TABLE
+DESCRIPTOR.message_types_by_name['JoinStat'] = _JOINSTAT
+DESCRIPTOR.message_types_by_name['Sketch'] = _SKETCH
+DESCRIPTOR.message_types_by_name['TermFrequency'] = _TERMFREQUENCY
+DESCRIPTOR.message_types_by_name['ExtVPTable'] = _EXTVPTABLE
+DESCRIPTOR.message_types_by_name['Sample'] = _SAMPLE
+DESCRIPTOR.message_types_by_name['Samples'] = _SAMPLES
+DESCRIPTOR.message_types_by_name['BloomFilter'] = _BLOOMFILTER
+DESCRIPTOR.message_types_by_name['TableBloomFilters'] = _TABLEBLOOMFILTERS
+DESCRIPTOR.message_types_by_name['BloomFilters'] = _BLOOMFILTERS
 DESCRIPTOR.message_types_by_name['Graph'] = _GRAPH
+DESCRIPTOR.message_types_by_name['PathTable'] = _PATHTABLE
+DESCRIPTOR.message_types_by_name['CharacteristicSet'] = _CHARACTERISTICSET
 
 class Table(_message.Message):
   __metaclass__ = _reflection.GeneratedProtocolMessageType
@@ -125,11 +744,77 @@ class Table(_message.Message):
 
   # @@protoc_insertion_point(class_scope:Table)
 
+class JoinStat(_message.Message):
+  __metaclass__ = _reflection.GeneratedProtocolMessageType
+  DESCRIPTOR = _JOINSTAT
+
+  # @@protoc_insertion_point(class_scope:JoinStat)
+
+class Sketch(_message.Message):
+  __metaclass__ = _reflection.GeneratedProtocolMessageType
+  DESCRIPTOR = _SKETCH
+
+  # @@protoc_insertion_point(class_scope:Sketch)
+
+class TermFrequency(_message.Message):
+  __metaclass__ = _reflection.GeneratedProtocolMessageType
+  DESCRIPTOR = _TERMFREQUENCY
+
+  # @@protoc_insertion_point(class_scope:TermFrequency)
+
+class ExtVPTable(_message.Message):
+  __metaclass__ = _reflection.GeneratedProtocolMessageType
+  DESCRIPTOR = _EXTVPTABLE
+
+  # @@protoc_insertion_point(class_scope:ExtVPTable)
+
+class Sample(_message.Message):
+  __metaclass__ = _reflection.GeneratedProtocolMessageType
+  DESCRIPTOR = _SAMPLE
+
+  # @@protoc_insertion_point(class_scope:Sample)
+
+class Samples(_message.Message):
+  __metaclass__ = _reflection.GeneratedProtocolMessageType
+  DESCRIPTOR = _SAMPLES
+
+  # @@protoc_insertion_point(class_scope:Samples)
+
+class BloomFilter(_message.Message):
+  __metaclass__ = _reflection.GeneratedProtocolMessageType
+  DESCRIPTOR = _BLOOMFILTER
+
+  # @@protoc_insertion_point(class_scope:BloomFilter)
+
+class TableBloomFilters(_message.Message):
+  __metaclass__ = _reflection.GeneratedProtocolMessageType
+  DESCRIPTOR = _TABLEBLOOMFILTERS
+
+  # @@protoc_insertion_point(class_scope:TableBloomFilters)
+
+class BloomFilters(_message.Message):
+  __metaclass__ = _reflection.GeneratedProtocolMessageType
+  DESCRIPTOR = _BLOOMFILTERS
+
+  # @@protoc_insertion_point(class_scope:BloomFilters)
+
 class Graph(_message.Message):
   __metaclass__ = _reflection.GeneratedProtocolMessageType
   DESCRIPTOR = _GRAPH
 
   # @@protoc_insertion_point(class_scope:Graph)
 
+class PathTable(_message.Message):
+  __metaclass__ = _reflection.GeneratedProtocolMessageType
+  DESCRIPTOR = _PATHTABLE
+
+  # @@protoc_insertion_point(class_scope:PathTable)
+
+class CharacteristicSet(_message.Message):
+  __metaclass__ = _reflection.GeneratedProtocolMessageType
+  DESCRIPTOR = _CHARACTERISTICSET
+
+  # @@protoc_insertion_point(class_scope:CharacteristicSet)
+
 
 # @@protoc_insertion_point(module_scope)
@@ -1,7 +1,8 @@
-import sys, re, argparse, subprocess, os
+import sys, re, argparse, subprocess, os, hashlib, struct, math, binascii
 from pyspark import SparkContext
 from pyspark.sql import HiveContext
 from pyspark.sql import DataFrameWriter
+from pyspark.sql.types import StructType, StructField, LongType, IntegerType, StringType
 import pyspark.sql.functions as f
 import Stats_pb2
 
@@ -14,6 +15,229 @@ def valid_string(s):
     return re.sub(r"[^\w]", "_", s)
 
 
+"""
+write_atomically writes the data in a temporary file that then replaces
+the given one, so that a reader never sees a partially written file.
+"""
+def write_atomically(file_name, data):
+    temporary_file = file_name + ".tmp"
+    with open(temporary_file, "w") as f:
+        f.write(data)
+    os.rename(temporary_file, file_name)
+
+
+"""
+parse_ntriple splits a line of a N-Triples (or N-Quads) file in
+subject, predicate and object, keeping the terms as they are written.
+It returns None for empty lines, comments and malformed lines.
+It is the same parser of the property table loader (NTriplesParser).
+"""
+def parse_ntriple(line):
+    triple = []
+    if is_line_end(line, 0):
+        return None
+    position = skip_spaces(line, 0)
+    for i in range(3):
+        end = term_end(line, position)
+        if end < 0:
+            return None
+        triple.append(line[position:end])
+        position = skip_spaces(line, end)
+    # the optional graph label and the final dot
+    if position < len(line) and line[position] != '.':
+        end = term_end(line, position)
+        if end < 0:
+            return None
+        position = skip_spaces(line, end)
+    # only spaces or a comment can follow the final dot
+    if position >= len(line) or line[position] != '.' or not is_line_end(line, position + 1):
+        return None
+    return (triple[0], triple[1], triple[2])
+
+def term_end(line, start):
+    if start >= len(line):
+        return -1
+    if line[start] == '<':
+        end = line.find('>', start + 1)
+        return -1 if end < 0 else end + 1
+    if line[start] == '_':
+        return word_end(line, start)
+    if line[start] == '"':
+        # find the closing quote, skipping the escaped characters
+        position = start + 1
+        while position < len(line) and line[position] != '"':
+            position += 2 if line[position] == '\\' else 1
+        if position >= len(line):
+            return -1
+        position += 1
+        # language tag or datatype
+        if position < len(line) and line[position] == '@':
+            return word_end(line, position)
+        if line.startswith("^^", position):
+            return term_end(line, position + 2)
+        return position
+    return -1
+
+def word_end(line, start):
+    position = start
+    while position < len(line) and not line[position].isspace():
+        # the final dot can be attached to the last term
+        if line[position] == '.' and is_line_end(line, position + 1):
+            break
+        position += 1
+    return position
+
+# is_line_end checks if only spaces (also the \r of CRLF) or a comment follow the position
+def is_line_end(line, start):
+    position = skip_spaces(line, start)
+    return position >= len(line) or line[position] == '#'
+
+def skip_spaces(line, start):
+    position = start
+    while position < len(line) and line[position].isspace():
+        position += 1
+    return position
+
+
+"""
+HyperLogLog sketches count approximately the distinct terms of a set.
+A sketch is a bytearray of 2^HLL_PRECISION registers, the sketches of
+two sets are merged taking the maximum of every register.
+The same estimation is implemented in the translator (tree.HyperLogLog).
+"""
+HLL_PRECISION = 12
+
+"""
+TYPE_PROPERTIES are the names of rdf:type, whose table can be partitioned by class.
+"""
+TYPE_PROPERTIES = ["<http://www.w3.org/1999/02/22-rdf-syntax-ns#type>", "rdf:type"]
+
+
+"""
+typed_columns returns the SQL expressions of the typed columns of an object term:
+o_long for the integers, o_double for all the numbers, o_time for the dates and
+times (milliseconds since the epoch) and o_lang for the language tags.
+They are NULL when the term is not a literal of that type.
+The executor computes the same values when a table has no typed columns (tree.Utils).
+"""
+TYPED_COLUMNS = ["o_long", "o_double", "o_time", "o_lang"]
+INTEGER_TYPES = ["integer", "int", "long", "short", "byte", "nonNegativeInteger", "positiveInteger",
+                 "nonPositiveInteger", "negativeInteger", "unsignedLong", "unsignedInt", "unsignedShort", "unsignedByte"]
+DECIMAL_TYPES = ["decimal", "double", "float"]
+TIME_TYPES = ["date", "dateTime"]
+
+def typed_columns(term):
+    value = "regexp_extract(" + term + ", '^\"(.*)\"', 1)"
+    datatype = "CASE WHEN " + term + " LIKE '\"%\"^^%' THEN regexp_extract(substring_index(" + term \
+        + ", '^^', -1), '(XMLSchema#|xsd:)([A-Za-z]+)', 2) END"
+    in_types = lambda types: datatype + " IN (" + ", ".join("'" + t + "'" for t in types) + ")"
+    return [
+        "CASE WHEN " + in_types(INTEGER_TYPES) + " THEN CAST(" + value + " AS BIGINT) END AS o_long",
+        "CASE WHEN " + in_types(INTEGER_TYPES + DECIMAL_TYPES) + " THEN CAST(" + value + " AS DOUBLE) END AS o_double",
+        "CASE WHEN " + in_types(TIME_TYPES) + " THEN CAST(CAST(CAST(" + value + " AS TIMESTAMP) AS DOUBLE) * 1000 AS BIGINT)" \
+            + " END AS o_time",
+        "CASE WHEN " + term + " LIKE '\"%\"@%' THEN lower(substring_index(" + term + ", '@', -1)) END AS o_lang"]
+
+
+"""
+With the namespace compression the IRIs of subjects and objects are stored as ~id:local,
+where id is the id in the namespaces table of their namespace (up to the last / or #)
+and local is the rest of the IRI. The other terms are stored unchanged.
+The executor compacts the constants of the queries in the same way (tree.Namespaces).
+"""
+NAMESPACES_TABLE = "namespaces"
+
+def namespace_of(term):
+    return "regexp_extract(" + term + ", '^<(.*[/#])[^/#]*>$', 1)"
+
+def compact_join(term, alias):
+    # join the namespace of the term, if any, as the given alias
+    return " LEFT JOIN " + NAMESPACES_TABLE + " " + alias + " ON " + namespace_of(term) + " = " + alias + ".namespace"
+
+def compact_term(term, alias):
+    return "CASE WHEN " + alias + ".id IS NULL THEN " + term + " ELSE concat('~', " + alias + ".id, ':', " \
+        + "regexp_extract(" + term + ", '^<.*[/#]([^/#]*)>$', 1)) END"
+
+def expand_join(term, alias):
+    # join the namespace of the compacted term, if any, as the given alias
+    return " LEFT JOIN " + NAMESPACES_TABLE + " " + alias + " ON CAST(regexp_extract(" + term + ", '^~([0-9]+):', 1) AS INT)" \
+        + " = " + alias + ".id"
+
+def expand_term(term, alias):
+    return "CASE WHEN " + alias + ".id IS NULL THEN " + term + " ELSE concat('<', " + alias + ".namespace, " \
+        + "regexp_extract(" + term + ", '^~[0-9]+:(.*)$', 1), '>') END"
+
+def term_hash(term):
+    # 64-bit hash of a term, the first bytes of its MD5
+    return struct.unpack("<Q", hashlib.md5(unicode(term).encode("utf-8")).digest()[:8])[0]
+
+def sample_hash(term):
+    # uniform value in [0, 1) of a term, the same used by the translator (tree.SampleStore)
+    return (term_hash(term) >> 11) * 2.0 ** -53
+
+def hll_add(registers, term):
+    value = term_hash(term)
+    index = value >> (64 - HLL_PRECISION)
+    # position of the first 1 in the remaining bits
+    rank = 64 - HLL_PRECISION - (value & ((1 << (64 - HLL_PRECISION)) - 1)).bit_length() + 1
+    if rank > registers[index]:
+        registers[index] = rank
+    return registers
+
+def hll_merge(registers, other_registers):
+    for i in xrange(len(registers)):
+        if other_registers[i] > registers[i]:
+            registers[i] = other_registers[i]
+    return registers
+
+def hll_estimate(registers):
+    m = len(registers)
+    alpha = 0.7213 / (1 + 1.079 / m)
+    estimate = alpha * m * m / sum(2.0 ** -r for r in registers)
+    # linear counting for the small cardinalities
+    zeros = sum(1 for r in registers if r == 0)
+    if estimate <= 2.5 * m and zeros > 0:
+        estimate = m * math.log(float(m) / zeros)
+    return int(round(estimate))
+
+
+"""
+Bloom filters tell if a term can be in the subjects or in the objects of a table.
+A filter is a bytearray of m bits, a term sets the bits (h1 + i * h2) mod m for i < hashes,
+where h1 and h2 are the lower and upper 32 bits of its hash. The filters of the same set
+with the same size are merged with a bitwise OR. The sizes are powers of two, so that the
+translator can fold a filter to the size of another to check if their sets can intersect.
+The same positions are computed by the translator and the executor (tree.BloomFilter).
+"""
+MAX_BLOOM_FILTER_BYTES = 1 << 20
+MAX_BLOOM_FILTER_HASHES = 16
+
+def bloom_filter_size(distinct_terms, false_positive_rate):
+    # bytes (the optimal number of bits rounded up to a power of two) and hashes
+    # for the expected false positive rate
+    n = max(1, distinct_terms)
+    bits = int(math.ceil(-n * math.log(false_positive_rate) / math.log(2) ** 2))
+    size = 8
+    while size < MAX_BLOOM_FILTER_BYTES and size * 8 < bits:
+        size *= 2
+    hashes = int(round(size * 8.0 / n * math.log(2)))
+    return size, min(MAX_BLOOM_FILTER_HASHES, max(1, hashes))
+
+def bloom_add(bits, hashes, term):
+    value = term_hash(term)
+    h1, h2 = value & 0xffffffff, value >> 32
+    m = len(bits) * 8
+    for i in xrange(hashes):
+        position = (h1 + i * h2) % m
+        bits[position >> 3] |= 1 << (position & 7)
+    return bits
+
+def bloom_merge(bits, other_bits):
+    # the OR of the two filters, computed on their values as big integers
+    merged = int(binascii.hexlify(bits), 16) | int(binascii.hexlify(other_bits), 16)
+    return bytearray(binascii.unhexlify("%0*x" % (len(bits) * 2, merged)))
+
+
 class Stats:
     """
     Stats collects statistics during the loading and save them separately in a file. 
@@ -21,12 +245,205 @@ class Stats:
 
     def __init__(self):
         self.graph = Stats_pb2.Graph()
+        self.tables = {}
+    
+    def load(self, statsFile):
+        with open(statsFile, "r") as f:
+            self.graph.ParseFromString(f.read())
+        for tableStats in self.graph.tables:
+            self.tables[tableStats.name] = tableStats
 
-    def addTableStat(self, property, df):
-        tableStats = self.graph.tables.add()
+    def addTableStat(self, property, row, topSubjects, topObjects, heavySubjects, heavyObjects):
+        # the statistics of an existing table are updated in place
+        if property in self.tables:
+            tableStats = self.tables[property]
+        else:
+            tableStats = self.graph.tables.add()
+        tableStats.name = property
+        tableStats.size = row.size
+        tableStats.isComplex = row.max_objects > 1
+        tableStats.distinctSubjects = row.distinct_subjects
+        tableStats.distinctObjects = row.distinct_objects
+        tableStats.avgObjectsPerSubject = row.avg_objects
+        tableStats.maxObjectsPerSubject = row.max_objects
+        tableStats.avgSubjectsPerObject = row.avg_subjects
+        tableStats.maxSubjectsPerObject = row.max_subjects
+        del tableStats.topSubjects[:]
+        for term, count in topSubjects:
+            termStats = tableStats.topSubjects.add()
+            termStats.term = term
+            termStats.count = count
+        del tableStats.topObjects[:]
+        for term, count in topObjects:
+            termStats = tableStats.topObjects.add()
+            termStats.term = term
+            termStats.count = count
+        del tableStats.heavySubjects[:]
+        for term, count in heavySubjects:
+            termStats = tableStats.heavySubjects.add()
+            termStats.term = term
+            termStats.count = count
+        del tableStats.heavyObjects[:]
+        for term, count in heavyObjects:
+            termStats = tableStats.heavyObjects.add()
+            termStats.term = term
+            termStats.count = count
+        self.tables[property] = tableStats
+    
+    def addApproximateTableStat(self, property, subjects, objects, size):
+        # the sketches are merged with the ones already present, if any
+        if property in self.tables:
+            tableStats = self.tables[property]
+        else:
+            tableStats = self.graph.tables.add()
+        if tableStats.HasField("subjectsSketch"):
+            hll_merge(subjects, bytearray(tableStats.subjectsSketch.registers))
+            hll_merge(objects, bytearray(tableStats.objectsSketch.registers))
+            size += tableStats.size
+        distinctSubjects = max(1, min(size, hll_estimate(subjects)))
+        distinctObjects = max(1, min(size, hll_estimate(objects)))
+        
+        # the exact statistics that cannot be derived from the sketches are removed
+        for field in ["maxObjectsPerSubject", "maxSubjectsPerObject", "topSubjects", "topObjects",
+                      "heavySubjects", "heavyObjects"]:
+            tableStats.ClearField(field)
+        tableStats.name = property
+        tableStats.size = size
+        tableStats.distinctSubjects = distinctSubjects
+        tableStats.distinctObjects = distinctObjects
+        tableStats.avgObjectsPerSubject = float(size) / distinctSubjects
+        tableStats.avgSubjectsPerObject = float(size) / distinctObjects
+        tableStats.subjectsSketch.precision = HLL_PRECISION
+        tableStats.subjectsSketch.registers = str(subjects)
+        tableStats.objectsSketch.precision = HLL_PRECISION
+        tableStats.objectsSketch.registers = str(objects)
+        self.tables[property] = tableStats
+    
+    def addJoinStat(self, property, otherProperty, joinType, size):
+        joinStats = self.tables[property].joinStats.add()
+        joinStats.otherProperty = otherProperty
+        joinStats.type = joinType
+        joinStats.size = size
+    
+    def removeTriples(self, property, count):
+        # the sketches cannot forget the terms of the deleted triples:
+        # the distinct terms are only bounded by the new size
+        tableStats = self.tables[property]
+        tableStats.size = max(0, tableStats.size - count)
+        if tableStats.size == 0:
+            self.setEmpty(property)
+            return
+        tableStats.distinctSubjects = min(tableStats.distinctSubjects, tableStats.size)
+        tableStats.distinctObjects = min(tableStats.distinctObjects, tableStats.size)
+        if tableStats.distinctSubjects > 0:
+            tableStats.avgObjectsPerSubject = float(tableStats.size) / tableStats.distinctSubjects
+            tableStats.avgSubjectsPerObject = float(tableStats.size) / tableStats.distinctObjects
+    
+    def setEmpty(self, property):
+        # all the triples of the table are deleted: only the name is kept
+        tableStats = self.tables[property]
+        tableStats.Clear()
         tableStats.name = property
-        tableStats.size = df.count()
-        tableStats.distinctSubjects = df.select("s").distinct().count()
+        tableStats.size = 0
+        tableStats.isComplex = False
+        tableStats.distinctSubjects = 0
+        tableStats.distinctObjects = 0
+    
+    def setComplex(self, property, isComplex):
+        self.tables[property].isComplex = isComplex
+    
+    def setClasses(self, property, classes):
+        # the classes are all saved, in decreasing order of triples
+        tableStats = self.tables[property]
+        del tableStats.classes[:]
+        for term, count in classes:
+            termStats = tableStats.classes.add()
+            termStats.term = term
+            termStats.count = count
+    
+    def setPropertyTables(self, columns):
+        # columns maps the column name of a property to its property table
+        for property, tableStats in self.tables.items():
+            column = valid_string(property.replace("<","").replace(">","")).lower()
+            if column in columns:
+                tableStats.propertyTable = columns[column]
+            else:
+                tableStats.ClearField("propertyTable")
+    
+    def setPathTable(self, tableName, properties, size):
+        # the statistics of an existing path table are updated in place
+        for pathStats in self.graph.pathTables:
+            if pathStats.name == tableName:
+                break
+        else:
+            pathStats = self.graph.pathTables.add()
+            pathStats.name = tableName
+            pathStats.properties.extend(properties)
+        pathStats.size = size
+    
+    def clearCharacteristicSets(self):
+        del self.graph.characteristicSets[:]
+    
+    def addCharacteristicSet(self, properties, distinctSubjects, occurrences):
+        characteristicSet = self.graph.characteristicSets.add()
+        characteristicSet.properties.extend(properties)
+        characteristicSet.distinctSubjects = distinctSubjects
+        characteristicSet.occurrences.extend(occurrences)
+    
+    def hasSketches(self, property):
+        return property in self.tables and self.tables[property].HasField("subjectsSketch")
+    
+    def getTableSize(self, property):
+        return self.tables[property].size
+    
+    def getDistinctTerms(self, property):
+        tableStats = self.tables[property]
+        return tableStats.distinctSubjects, tableStats.distinctObjects
+    
+    def addExtVPStat(self, property, otherProperty, joinType, tableName, size):
+        extVPStats = self.tables[property].extVPTables.add()
+        extVPStats.name = tableName
+        extVPStats.otherProperty = otherProperty
+        extVPStats.type = joinType
+        extVPStats.size = size
+    
+    def removeExtVPStats(self, properties):
+        # remove the ExtVP tables involving the given properties, returning their names
+        removed = []
+        for property in self.tables:
+            extVPTables = self.tables[property].extVPTables
+            kept = []
+            for extVPStats in extVPTables:
+                if property in properties or extVPStats.otherProperty in properties:
+                    removed.append(extVPStats.name)
+                else:
+                    copy = Stats_pb2.ExtVPTable()
+                    copy.CopyFrom(extVPStats)
+                    kept.append(copy)
+            del extVPTables[:]
+            for extVPStats in kept:
+                extVPTables.add().CopyFrom(extVPStats)
+        return removed
+    
+    def estimateGraphDistinctTerms(self):
+        # the distinct subjects and objects of the graph from the union of the sketches,
+        # None if some table does not have them
+        if not self.tables or not all(self.hasSketches(p) for p in self.tables):
+            return None
+        subjects = bytearray(1 << HLL_PRECISION)
+        objects = bytearray(1 << HLL_PRECISION)
+        for tableStats in self.tables.values():
+            hll_merge(subjects, bytearray(tableStats.subjectsSketch.registers))
+            hll_merge(objects, bytearray(tableStats.objectsSketch.registers))
+        return (hll_estimate(subjects), hll_estimate(objects))
+    
+    def setGraphStat(self, name, distinctTerms):
+        # the old distinct terms are kept if the new ones are unknown
+        self.graph.name = name
+        self.graph.size = sum(tableStats.size for tableStats in self.tables.values())
+        self.graph.properties = len(self.tables)
+        if distinctTerms is not None:
+            self.graph.distinctSubjects, self.graph.distinctObjects = distinctTerms
     
     def getSerializedStats(self):
         return self.graph.SerializeToString()
@@ -49,20 +466,124 @@ class VP_creator:
         self.stats = Stats()
         self.property_table_jar = ""
         self.property_table_enabled = False
+        self.dictionary_enabled = False
+        self.namespaces_enabled = False
+        self.buckets = 0
+        self.object_copy_enabled = False
+        self.type_partition_enabled = False
+        self.typed_literals_enabled = False
+        self.extvp_threshold = 0
+        self.top_k = 10
+        self.heavy_hitters_frequency = 0
+        self.max_heavy_hitters = 100
+        self.max_characteristic_sets = 10000
+        self.sample_size = 0
+        self.bloom_filter_rate = 0
+        self.path_chains = []
+        self.join_stats_pairs = 0
+        self.join_stats_sample = 1.0
+        self.approximate_stats_enabled = False
+        self.append_enabled = False
+        self.ntriples_enabled = False
+        self.inverse_property_table_enabled = False
+        self.overflow_threshold = 0
+        self.cs_partitions = 0
+        self.max_columns = 0
+        self.clusters_table = "property_table_clusters"
+        self.input_table = "tripletable"
+        self.triple_table = "tripletable"
+        self.deletions_file = ""
+        self.deleted_table = "tripletable_deleted"
+        self.deleted_properties = {}
         
         # from now on, use the proper DB
         sqlContext.sql("CREATE DATABASE IF NOT EXISTS " + self.outputDB)
         sqlContext.sql("USE " + self.outputDB)
 
-    def create_triple_table(self):
+    def create_triple_table(self, table_name=None, input_file=None):
+        # by default the table of the input triples
+        table_name = table_name or self.input_table
+        input_file = input_file or self.inputFile
+        if self.ntriples_enabled:
+            # parse the input directly, without the conversion to tab separated values
+            skipped_lines = self.sc.accumulator(0)
+            def parse(line):
+                triple = parse_ntriple(line)
+                if triple is None and not is_line_end(line, 0):
+                    skipped_lines.add(1)
+                return triple
+            triples = self.sc.textFile(input_file).map(parse).filter(lambda triple: triple is not None)
+            schema = StructType([StructField("s", StringType(), True), StructField("p", StringType(), True),
+                                 StructField("o", StringType(), True)])
+            df_writer = DataFrameWriter(self.sqlContext.createDataFrame(triples, schema))
+            df_writer.saveAsTable(table_name)
+            print "Triple Table created from N-Triples, skipped %d malformed lines." % skipped_lines.value
+            return
         triple_table = self.sqlContext.sql(
-            "CREATE EXTERNAL TABLE IF NOT EXISTS tripletable (s STRING, p STRING, o STRING) ROW FORMAT DELIMITED" \
-            + " FIELDS TERMINATED BY '\t' LINES TERMINATED BY '\n' LOCATION '"+ self.inputFile +"'")
+            "CREATE EXTERNAL TABLE IF NOT EXISTS " + table_name + " (s STRING, p STRING, o STRING) ROW FORMAT DELIMITED" \
+            + " FIELDS TERMINATED BY '\t' LINES TERMINATED BY '\n' LOCATION '"+ input_file +"'")
         print "Triple Table created."
     
+    def create_dictionary(self):
+        # assign a 64-bit id to every distinct subject and object
+        terms = self.sqlContext.sql("SELECT s AS term FROM " + self.input_table + " UNION SELECT o AS term FROM " + self.input_table)
+        first_id = 0
+        if self.append_enabled:
+            # only the new terms get an id, after the existing ones
+            terms = terms.subtract(self.sqlContext.sql("SELECT term FROM dictionary"))
+            max_id = self.sqlContext.sql("SELECT MAX(id) FROM dictionary").collect()[0][0]
+            first_id = 0 if max_id is None else max_id + 1
+        ids = terms.rdd.map(lambda row: row.term).zipWithIndex().map(lambda pair: (first_id + pair[1], pair[0]))
+        schema = StructType([StructField("id", LongType(), False), StructField("term", StringType(), False)])
+        df_writer = DataFrameWriter(self.sqlContext.createDataFrame(ids, schema))
+        if self.append_enabled:
+            df_writer.saveAsTable("dictionary", mode="append")
+        else:
+            df_writer.saveAsTable("dictionary")
+        print "Dictionary created."
+        
+        # the triples with subjects and objects replaced by their ids
+        # the typed columns are computed before the objects are encoded
+        typed_query = "".join(", " + column for column in typed_columns("t.o")) if self.typed_literals_enabled else ""
+        encoded_df = self.sqlContext.sql("SELECT dict_s.id AS s, t.p AS p, dict_o.id AS o" + typed_query + " FROM " + self.input_table + " t" \
+            + " JOIN dictionary dict_s ON t.s = dict_s.term JOIN dictionary dict_o ON t.o = dict_o.term")
+        df_writer = DataFrameWriter(encoded_df)
+        self.triple_table = self.input_table + "_encoded"
+        df_writer.saveAsTable(self.triple_table)
+        print "Encoded Triple Table created."
+    
+    def create_namespaces(self):
+        # assign an id to the namespace of every IRI of the subjects and of the objects
+        namespaces = self.sqlContext.sql("SELECT DISTINCT namespace FROM (SELECT " + namespace_of("s") + " AS namespace" \
+            + " FROM " + self.input_table + " UNION ALL SELECT " + namespace_of("o") + " AS namespace FROM " + self.input_table \
+            + ") t WHERE namespace != ''")
+        first_id = 0
+        if self.append_enabled:
+            # only the new namespaces get an id, after the existing ones
+            namespaces = namespaces.subtract(self.sqlContext.sql("SELECT namespace FROM " + NAMESPACES_TABLE))
+            max_id = self.sqlContext.sql("SELECT MAX(id) FROM " + NAMESPACES_TABLE).collect()[0][0]
+            first_id = 0 if max_id is None else max_id + 1
+        ids = namespaces.rdd.map(lambda row: row.namespace).zipWithIndex().map(lambda pair: (first_id + pair[1], pair[0]))
+        schema = StructType([StructField("id", IntegerType(), False), StructField("namespace", StringType(), False)])
+        df_writer = DataFrameWriter(self.sqlContext.createDataFrame(ids, schema))
+        if self.append_enabled:
+            df_writer.saveAsTable(NAMESPACES_TABLE, mode="append")
+        else:
+            df_writer.saveAsTable(NAMESPACES_TABLE)
+        print "Namespaces created."
+        
+        # the triples with the IRIs of subjects and objects compacted
+        compact_df = self.sqlContext.sql("SELECT " + compact_term("t.s", "ns_s") + " AS s, t.p AS p, " \
+            + compact_term("t.o", "ns_o") + " AS o FROM " + self.input_table + " t" \
+            + compact_join("t.s", "ns_s") + compact_join("t.o", "ns_o"))
+        df_writer = DataFrameWriter(compact_df)
+        self.triple_table = self.input_table + "_compact"
+        df_writer.saveAsTable(self.triple_table)
+        print "Compact Triple Table created."
+    
     def extract_properties(self):
         # we assume that the number of properties is small
-        for p in self.sqlContext.sql('SELECT DISTINCT p FROM tripletable').collect():
+        for p in self.sqlContext.sql('SELECT DISTINCT p FROM ' + self.input_table).collect():
             self.properties[p["p"]] = True
         print "Properties Extracted. There are %(num)d properties" % {"num": len(self.properties)}
 
@@ -73,43 +594,706 @@ class VP_creator:
         # for each distinct property, create a table
         for p in self.properties:
             i += 1
-            prop_df = self.sqlContext.sql("SELECT s AS s, o AS o FROM tripletable WHERE p='" + p + "'")
-            df_writer = DataFrameWriter(prop_df)
-            df_writer.saveAsTable("VP_" + valid_string(p))
+            prop_query = self.get_VP_query(p)
+            self.save_VP_table(p, prop_query)
+            if self.object_copy_enabled and not self.is_type_partitioned(p):
+                self.create_object_copy(p, prop_query)
             sys.stdout.write("\rTables created: %d / %d " % (i, total_properties))
         
+        print "Tables created: %d / %d "  % (i, total_properties)
+        
         # if statistics are enabled, compute them
-        if self.statsEnabled:
-            i = 0
-            stat = Stats()
-            for p in self.properties:
-                i += 1
-                tableDF = self.sqlContext.sql("SELECT * FROM VP_" + valid_string(p))
-                stat.addTableStat(p, tableDF)
-                sys.stdout.write("\rStatistics created: %d / %d " % (i, total_properties))
-            with open(self.statsFile, "w") as f:
-                f.write(stat.getSerializedStats())
-        print "Statistics created: %d / %d "  % (i, total_properties)
+        if self.statsEnabled and self.approximate_stats_enabled:
+            self.compute_approximate_statistics("SELECT p, s, o FROM " + self.triple_table)
+            self.compute_complex_properties("SELECT p, s FROM " + self.triple_table)
+        elif self.statsEnabled:
+            self.compute_statistics("SELECT p, s, o FROM " + self.triple_table)
+    
+    def append_VP_tables(self):
+        # append the delta only to the VP tables of its properties
+        print "Beginning the update of VP tables."
+        existing_tables = self.sqlContext.tableNames()
+        total_properties = len(self.properties)
+        i = 0
+        for p in self.properties:
+            i += 1
+            table_name = "VP_" + valid_string(p)
+            prop_query = self.get_VP_query(p)
+            if table_name.lower() not in existing_tables:
+                self.save_VP_table(p, prop_query)
+                if self.object_copy_enabled and not self.is_type_partitioned(p):
+                    self.create_object_copy(p, prop_query)
+            else:
+                if self.buckets > 0:
+                    self.rewrite_table(table_name, prop_query, lambda query: self.save_VP_table(p, query))
+                else:
+                    # the columns are inserted by position, in the order of the table
+                    table_columns = self.sqlContext.table(table_name).columns
+                    DataFrameWriter(self.sqlContext.sql(prop_query).select(table_columns)).insertInto(table_name)
+                if ("VPO_" + valid_string(p)).lower() in existing_tables:
+                    self.rewrite_table("VPO_" + valid_string(p), prop_query, lambda query: self.create_object_copy(p, query))
+            sys.stdout.write("\rTables updated: %d / %d " % (i, total_properties))
+        
+        print "Tables updated: %d / %d "  % (i, total_properties)
+        
+        # the sketches are updated only with the delta, when they already exist
+        # (the sizes of the tables with deleted triples are already decreased)
+        if self.statsEnabled and self.approximate_stats_enabled:
+            updated_tables = ["SELECT p, s, o FROM " + self.triple_table + " WHERE p='" + p + "'"
+                if self.stats.hasSketches(p) else "SELECT '" + p + "' AS p, s, o FROM VP_" + valid_string(p)
+                for p in self.properties]
+            self.compute_approximate_statistics(" UNION ALL ".join(updated_tables))
+            self.compute_complex_properties(" UNION ALL ".join(["SELECT '" + p + "' AS p, s FROM VP_" + valid_string(p)
+                for p in self.get_updated_properties()]))
+        # the statistics of the updated tables are computed again
+        elif self.statsEnabled:
+            updated_tables = ["SELECT '" + p + "' AS p, s, o FROM VP_" + valid_string(p)
+                for p in self.get_updated_properties()]
+            computed_properties = self.compute_statistics(" UNION ALL ".join(updated_tables))
+            # the tables emptied by the deletions have no rows in the new statistics
+            for p in self.get_updated_properties():
+                if p not in computed_properties and p in self.stats.tables:
+                    self.stats.setEmpty(p)
+    
+    def delete_from_VP_tables(self):
+        # remove the deleted triples from the VP tables of their properties
+        print "Beginning the deletion of triples."
+        self.sqlContext.sql("DROP TABLE IF EXISTS " + self.deleted_table)
+        self.create_triple_table(self.deleted_table, self.deletions_file)
+        deleted_table = self.deleted_table
+        if self.dictionary_enabled:
+            # the terms that are not in the dictionary are not in the tables
+            self.sqlContext.sql("SELECT dict_s.id AS s, t.p AS p, dict_o.id AS o FROM " + self.deleted_table + " t" \
+                + " JOIN dictionary dict_s ON t.s = dict_s.term JOIN dictionary dict_o ON t.o = dict_o.term") \
+                .createOrReplaceTempView("deleted_encoded")
+            deleted_table = "deleted_encoded"
+        elif self.namespaces_enabled:
+            self.sqlContext.sql("SELECT " + compact_term("t.s", "ns_s") + " AS s, t.p AS p, " + compact_term("t.o", "ns_o") \
+                + " AS o FROM " + self.deleted_table + " t" + compact_join("t.s", "ns_s") + compact_join("t.o", "ns_o")) \
+                .createOrReplaceTempView("deleted_compact")
+            deleted_table = "deleted_compact"
+        
+        existing_tables = self.sqlContext.tableNames()
+        removed_triples = 0
+        for row in self.sqlContext.sql("SELECT DISTINCT p FROM " + deleted_table).collect():
+            p = row.p
+            table_name = "VP_" + valid_string(p)
+            if table_name.lower() not in existing_tables:
+                continue
+            deleted_query = "SELECT s, o FROM " + deleted_table + " WHERE p='" + p + "'"
+            removed = self.filter_table(table_name, deleted_query, lambda query: self.save_VP_table(p, query))
+            if ("VPO_" + valid_string(p)).lower() in existing_tables:
+                self.filter_table("VPO_" + valid_string(p), deleted_query, lambda query: self.create_object_copy(p, query))
+            if self.statsEnabled and p in self.stats.tables:
+                self.stats.removeTriples(p, removed)
+            self.deleted_properties[p] = True
+            removed_triples += removed
+        print "Triples deleted: %d from %d tables" % (removed_triples, len(self.deleted_properties))
+    
+    def get_updated_properties(self):
+        # the properties with new or deleted triples
+        updated_properties = dict(self.properties)
+        updated_properties.update(self.deleted_properties)
+        return updated_properties
+    
+    def compute_statistics(self, triples_query):
+        # compute the statistics of all the properties together,
+        # from the number of objects of every subject and of subjects of every object
+        print "Beginning the computation of statistics."
+        self.sqlContext.sql(triples_query).createOrReplaceTempView("stats_triples")
+        subjects = self.sqlContext.sql("SELECT p, s AS term, COUNT(*) AS c FROM stats_triples GROUP BY p, s").cache()
+        objects = self.sqlContext.sql("SELECT p, o AS term, COUNT(*) AS c FROM stats_triples GROUP BY p, o").cache()
+        subjects.createOrReplaceTempView("stats_subjects")
+        objects.createOrReplaceTempView("stats_objects")
+        
+        stats_rows = self.sqlContext.sql("SELECT ps.p AS p, size, distinct_subjects, avg_objects, max_objects," \
+            + " distinct_objects, avg_subjects, max_subjects FROM" \
+            + " (SELECT p, SUM(c) AS size, COUNT(*) AS distinct_subjects, AVG(c) AS avg_objects, MAX(c) AS max_objects" \
+            + " FROM stats_subjects GROUP BY p) ps JOIN" \
+            + " (SELECT p, COUNT(*) AS distinct_objects, AVG(c) AS avg_subjects, MAX(c) AS max_subjects" \
+            + " FROM stats_objects GROUP BY p) po ON ps.p = po.p").collect()
+        top_subjects = self.get_top_terms("stats_subjects", self.top_k)
+        top_objects = self.get_top_terms("stats_objects", self.top_k)
+        # the heavy hitters are the terms of a property above the given frequency,
+        # the join keys that the executor joins separately
+        heavy_subjects = {}
+        heavy_objects = {}
+        if self.heavy_hitters_frequency > 0:
+            heavy_subjects = self.get_top_terms("stats_subjects", self.max_heavy_hitters, self.heavy_hitters_frequency)
+            heavy_objects = self.get_top_terms("stats_objects", self.max_heavy_hitters, self.heavy_hitters_frequency)
+        for row in stats_rows:
+            self.stats.addTableStat(row.p, row, top_subjects.get(row.p, []), top_objects.get(row.p, []),
+                                    heavy_subjects.get(row.p, []), heavy_objects.get(row.p, []))
+        
+        subjects.unpersist()
+        objects.unpersist()
+        print "Statistics created: %d " % len(stats_rows)
+        return set(row.p for row in stats_rows)
+    
+    def compute_approximate_statistics(self, triples_query):
+        # a single pass over the triples computes, for every property, the size
+        # and the sketches of its subjects and objects
+        print "Beginning the computation of approximate statistics."
+        def add_triple(sketches, triple):
+            return (hll_add(sketches[0], triple[0]), hll_add(sketches[1], triple[1]), sketches[2] + 1)
+        def merge_sketches(sketches, other_sketches):
+            return (hll_merge(sketches[0], other_sketches[0]), hll_merge(sketches[1], other_sketches[1]),
+                    sketches[2] + other_sketches[2])
+        registers = 1 << HLL_PRECISION
+        triples = self.sqlContext.sql(triples_query).rdd.map(lambda row: (row.p, (row.s, row.o)))
+        sketches = triples.aggregateByKey((bytearray(registers), bytearray(registers), 0),
+                                          add_triple, merge_sketches).collect()
+        for p, (subjects, objects, size) in sketches:
+            self.stats.addApproximateTableStat(p, subjects, objects, size)
+        if self.heavy_hitters_frequency > 0:
+            print "The heavy hitters need the exact frequencies, they are not computed."
+        print "Statistics created: %d " % len(sketches)
+    
+    def compute_complex_properties(self, triples_query):
+        # a sketch cannot tell if a subject has more objects: the approximate
+        # statistics flag the multi-valued properties exactly, as the property
+        # table loader does, from the maximum number of objects of a subject
+        rows = self.sqlContext.sql("SELECT p, MAX(c) AS max_objects FROM (SELECT p, s, COUNT(*) AS c FROM (" \
+            + triples_query + ") t GROUP BY p, s) ps GROUP BY p").collect()
+        for row in rows:
+            self.stats.setComplex(row.p, row.max_objects > 1)
+    
+    def compute_join_statistics(self):
+        # the size of the join of two properties is the sum, over the terms they share,
+        # of the products of the triples of the two tables containing the term.
+        # If sampled, only a fraction of the terms is used and the sizes are scaled
+        print "Beginning the computation of join statistics."
+        term_counts = []
+        for column, view_name in [("s", "join_subjects"), ("o", "join_objects")]:
+            sample_condition = ""
+            if self.join_stats_sample < 1:
+                sample_condition = " WHERE pmod(hash(" + column + "), 1000) < " + str(int(self.join_stats_sample * 1000))
+            counts_df = self.sqlContext.sql("SELECT p, " + column + " AS term, COUNT(*) AS c FROM " + self.triple_table \
+                + sample_condition + " GROUP BY p, " + column).cache()
+            counts_df.createOrReplaceTempView(view_name)
+            term_counts.append(counts_df)
+        
+        # the SS and OO joins are symmetric: every pair is saved once, in the order p1 < p2,
+        # and the self joins of a property on the same column are left out.
+        # The SO join of a property with itself (a chain) is kept
+        join_types = [(Stats_pb2.ExtVPTable.SS, "join_subjects", "join_subjects", " WHERE t1.p < t2.p"),
+                      (Stats_pb2.ExtVPTable.SO, "join_subjects", "join_objects", ""),
+                      (Stats_pb2.ExtVPTable.OO, "join_objects", "join_objects", " WHERE t1.p < t2.p")]
+        created = 0
+        for join_type, left_view, right_view, pair_condition in join_types:
+            join_query = "SELECT t1.p AS p1, t2.p AS p2, SUM(t1.c * t2.c) AS size FROM " + left_view + " t1" \
+                + " JOIN " + right_view + " t2 ON t1.term = t2.term" + pair_condition + " GROUP BY t1.p, t2.p" \
+                + " ORDER BY size DESC LIMIT " + str(self.join_stats_pairs)
+            for row in self.sqlContext.sql(join_query).collect():
+                size = int(row.size / self.join_stats_sample)
+                self.stats.addJoinStat(row.p1, row.p2, join_type, size)
+                # the same join seen from the other property
+                if join_type == Stats_pb2.ExtVPTable.SO:
+                    self.stats.addJoinStat(row.p2, row.p1, Stats_pb2.ExtVPTable.OS, size)
+                created += 1
+        for counts_df in term_counts:
+            counts_df.unpersist()
+        print "Join statistics created: %d " % created
+    
+    def create_samples(self):
+        # correlated samples of the properties: a subject is kept in all the tables or in none,
+        # up to the rate of each table (chosen to keep about sample_size rows).
+        # In append mode the rows of the delta are added to the existing samples
+        print "Beginning the creation of samples."
+        samples = Stats_pb2.Samples()
+        samples_file = self.statsFile + ".samples"
+        if self.append_enabled and not os.path.isfile(samples_file):
+            print "The samples of the delta alone would not represent the tables, they are not created."
+            return
+        if self.append_enabled:
+            with open(samples_file, "r") as f:
+                samples.ParseFromString(f.read())
+        property_samples = dict((sample.property, sample) for sample in samples.samples)
+        if self.deletions_file:
+            self.remove_deleted_samples(property_samples)
+        for p in self.properties:
+            if p not in property_samples:
+                sample = samples.samples.add()
+                sample.property = p
+                sample.rate = min(1.0, float(self.sample_size) / max(1, self.stats.getTableSize(p)))
+                property_samples[p] = sample
+        
+        rates = dict((p, property_samples[p].rate) for p in self.properties)
+        sampled_triples = self.sqlContext.sql("SELECT p, s, o FROM " + self.input_table).rdd \
+            .filter(lambda row: row.p in rates and sample_hash(row.s) < rates[row.p]) \
+            .map(lambda row: (row.p, row.s, row.o)).collect()
+        for p, s, o in sampled_triples:
+            property_samples[p].subjects.append(s)
+            property_samples[p].objects.append(o)
+        write_atomically(samples_file, samples.SerializeToString())
+        print "Sampled triples: %d " % len(sampled_triples)
+    
+    def remove_deleted_samples(self, property_samples):
+        # the deleted triples can be in the samples only if their subject is sampled
+        rates = dict((p, property_samples[p].rate) for p in property_samples)
+        deleted_triples = set(self.sqlContext.sql("SELECT p, s, o FROM " + self.deleted_table).rdd \
+            .filter(lambda row: row.p in rates and sample_hash(row.s) < rates[row.p]) \
+            .map(lambda row: (row.p, row.s, row.o)).collect())
+        for p, sample in property_samples.iteritems():
+            rows = [(s, o) for s, o in zip(sample.subjects, sample.objects) if (p, s, o) not in deleted_triples]
+            if len(rows) < len(sample.subjects):
+                del sample.subjects[:]
+                del sample.objects[:]
+                sample.subjects.extend([s for s, o in rows])
+                sample.objects.extend([o for s, o in rows])
+    
+    def create_bloom_filters(self):
+        # Bloom filters of the subjects and of the objects of every table, built in a single pass
+        # on the lexical terms (also with the dictionary). In append mode the delta is added
+        # to the existing filters, which keep their size; the deleted terms are not removed
+        print "Beginning the creation of Bloom filters."
+        bloom_filters = Stats_pb2.BloomFilters()
+        bloom_filters_file = self.statsFile + ".bloom"
+        if self.append_enabled and not os.path.isfile(bloom_filters_file):
+            print "The Bloom filters of the delta alone would miss the loaded terms, they are not created."
+            return
+        if self.append_enabled:
+            with open(bloom_filters_file, "r") as f:
+                bloom_filters.ParseFromString(f.read())
+        table_filters = dict((table.property, table) for table in bloom_filters.tables)
+        for p in self.properties:
+            if p not in table_filters:
+                table = bloom_filters.tables.add()
+                table.property = p
+                for bloom_filter, distinct_terms in zip([table.subjects, table.objects], self.stats.getDistinctTerms(p)):
+                    size, bloom_filter.hashes = bloom_filter_size(distinct_terms, self.bloom_filter_rate)
+                    bloom_filter.bits = str(bytearray(size))
+                table_filters[p] = table
+        
+        # the filters of the subjects and of the objects of a property
+        sizes = dict((p, (len(table_filters[p].subjects.bits), table_filters[p].subjects.hashes,
+                          len(table_filters[p].objects.bits), table_filters[p].objects.hashes)) for p in self.properties)
+        def create_filters(triple):
+            subjects_size, subjects_hashes, objects_size, objects_hashes = sizes[triple[0]]
+            return add_triple((bytearray(subjects_size), bytearray(objects_size)), triple)
+        def add_triple(filters, triple):
+            subjects_size, subjects_hashes, objects_size, objects_hashes = sizes[triple[0]]
+            return (bloom_add(filters[0], subjects_hashes, triple[1]), bloom_add(filters[1], objects_hashes, triple[2]))
+        def merge_filters(filters, other_filters):
+            return (bloom_merge(filters[0], other_filters[0]), bloom_merge(filters[1], other_filters[1]))
+        triples = self.sqlContext.sql("SELECT p, s, o FROM " + self.input_table).rdd \
+            .filter(lambda row: row.p in sizes).map(lambda row: (row.p, (row.p, row.s, row.o)))
+        for p, (subjects, objects) in triples.combineByKey(create_filters, add_triple, merge_filters).collect():
+            table = table_filters[p]
+            table.subjects.bits = str(bloom_merge(subjects, bytearray(table.subjects.bits)))
+            table.objects.bits = str(bloom_merge(objects, bytearray(table.objects.bits)))
+        write_atomically(bloom_filters_file, bloom_filters.SerializeToString())
+        print "Bloom filters created: %d " % len(self.properties)
+    
+    def remove_side_file(self, suffix):
+        # the samples and the Bloom filters that are not rebuilt would describe the tables
+        # of a previous load, and the translator reads them whenever they exist
+        side_file = self.statsFile + suffix
+        if os.path.isfile(side_file):
+            os.remove(side_file)
+            print "Removed the outdated " + side_file
+    
+    def compute_characteristic_sets(self, triples_query=None):
+        # the characteristic set of a subject is the set of its properties:
+        # for the most frequent sets, count the subjects and the triples of each property
+        print "Beginning the computation of characteristic sets."
+        triples_query = triples_query or "SELECT s, p FROM " + self.triple_table
+        self.stats.clearCharacteristicSets()
+        self.sqlContext.sql("SELECT s, p, COUNT(*) AS c FROM (" + triples_query + ") t GROUP BY s, p") \
+            .createOrReplaceTempView("cs_subject_properties")
+        subject_sets = self.sqlContext.sql("SELECT s, concat_ws(' ', sort_array(collect_list(p))) AS cs" \
+            + " FROM cs_subject_properties GROUP BY s").cache()
+        subject_sets.createOrReplaceTempView("cs_subjects")
+        self.sqlContext.sql("SELECT cs, COUNT(*) AS subjects FROM cs_subjects GROUP BY cs" \
+            + " ORDER BY subjects DESC LIMIT " + str(self.max_characteristic_sets)) \
+            .createOrReplaceTempView("cs_frequent")
+        
+        occurrences = {}
+        for row in self.sqlContext.sql("SELECT f.cs AS cs, f.subjects AS subjects, sp.p AS p, SUM(sp.c) AS c" \
+                + " FROM cs_subjects t JOIN cs_frequent f ON t.cs = f.cs JOIN cs_subject_properties sp ON t.s = sp.s" \
+                + " GROUP BY f.cs, f.subjects, sp.p").collect():
+            occurrences.setdefault((row.cs, row.subjects), {})[row.p] = row.c
+        for (cs, subjects), property_occurrences in occurrences.iteritems():
+            properties = sorted(property_occurrences.keys())
+            self.stats.addCharacteristicSet(properties, subjects, [property_occurrences[p] for p in properties])
+        subject_sets.unpersist()
+        print "Characteristic sets created: %d " % len(occurrences)
+    
+    def get_top_terms(self, counts_table, limit, min_count=1):
+        # the most frequent terms of every property, up to the limit and with
+        # at least min_count triples, decoded if necessary
+        top_query = "SELECT p, term, c FROM (SELECT p, term, c," \
+            + " ROW_NUMBER() OVER (PARTITION BY p ORDER BY c DESC) AS position FROM " + counts_table \
+            + " WHERE c >= " + str(min_count) + ") ranked WHERE position <= " + str(limit)
+        if self.dictionary_enabled:
+            top_query = "SELECT t.p AS p, d.term AS term, t.c AS c FROM (" + top_query + ") t" \
+                + " JOIN dictionary d ON t.term = d.id"
+        elif self.namespaces_enabled:
+            top_query = "SELECT t.p AS p, " + expand_term("t.term", "ns") + " AS term, t.c AS c FROM (" + top_query + ") t" \
+                + expand_join("t.term", "ns")
+        top_terms = {}
+        for row in self.sqlContext.sql(top_query).collect():
+            top_terms.setdefault(row.p, []).append((row.term, row.c))
+        for p in top_terms:
+            top_terms[p].sort(key=lambda term: term[1], reverse=True)
+        return top_terms
+    
+    def rewrite_table(self, table_name, query, save_function):
+        # bucketed and ordered tables cannot be appended: they are written again
+        # with the new rows, passing through a staging table
+        staging_table = table_name + "_staging"
+        df_writer = DataFrameWriter(self.sqlContext.sql("SELECT " + self.get_VP_columns() + " FROM " + table_name \
+            + " UNION ALL " + query))
+        df_writer.saveAsTable(staging_table)
+        self.sqlContext.sql("DROP TABLE " + table_name)
+        save_function("SELECT " + self.get_VP_columns() + " FROM " + staging_table)
+        self.sqlContext.sql("DROP TABLE " + staging_table)
+    
+    def filter_table(self, table_name, deleted_query, save_function):
+        # the table is written again without the deleted rows, passing through
+        # a staging table. It returns the number of removed rows
+        staging_table = table_name + "_staging"
+        df_writer = DataFrameWriter(self.sqlContext.sql("SELECT " + self.get_VP_columns("t") + " FROM " + table_name + " t" \
+            + " LEFT ANTI JOIN (" + deleted_query + ") d ON t.s = d.s AND t.o = d.o"))
+        df_writer.saveAsTable(staging_table)
+        removed = self.sqlContext.table(table_name).count() - self.sqlContext.table(staging_table).count()
+        self.sqlContext.sql("DROP TABLE " + table_name)
+        save_function("SELECT " + self.get_VP_columns() + " FROM " + staging_table)
+        self.sqlContext.sql("DROP TABLE " + staging_table)
+        return removed
+    
+    def save_table(self, table_name, query, partition_column=None):
+        partitioning = " PARTITIONED BY (" + partition_column + ")" if partition_column else ""
+        if self.buckets > 0:
+            # all the tables share the bucketing on the subject, to join them without shuffling
+            self.sqlContext.sql("CREATE TABLE " + table_name + " USING parquet" + partitioning + " CLUSTERED BY (s)" \
+                + " SORTED BY (s) INTO " + str(self.buckets) + " BUCKETS AS " + query)
+        elif partition_column:
+            self.sqlContext.sql("CREATE TABLE " + table_name + " USING parquet" + partitioning + " AS " + query)
+        else:
+            df_writer = DataFrameWriter(self.sqlContext.sql(query))
+            df_writer.saveAsTable(table_name)
+    
+    def get_VP_query(self, p):
+        # the encoded triples already have the typed columns, the others compute them
+        columns = "s AS s, o AS o"
+        if self.typed_literals_enabled:
+            columns += ", " + ", ".join(TYPED_COLUMNS if self.dictionary_enabled else typed_columns("o"))
+        return "SELECT " + columns + " FROM " + self.triple_table + " WHERE p='" + p + "'"
+    
+    def get_VP_columns(self, alias=None):
+        # the columns of the VP tables, optionally of the table with the given alias
+        columns = ["s", "o"] + (TYPED_COLUMNS if self.typed_literals_enabled else [])
+        if alias is None:
+            return ", ".join(columns)
+        return ", ".join(alias + "." + column + " AS " + column for column in columns)
+    
+    def save_VP_table(self, p, query):
+        # the rdf:type table is partitioned by class: the executor reads
+        # only the partition of the class of a triple
+        partition_column = "o" if self.is_type_partitioned(p) else None
+        self.save_table("VP_" + valid_string(p), query, partition_column)
+    
+    def is_type_partitioned(self, p):
+        return self.type_partition_enabled and p in TYPE_PROPERTIES
+    
+    def compute_class_statistics(self):
+        # the triples of every class, that is the size of its partition of the rdf:type table
+        for p in self.stats.tables.keys():
+            if not self.is_type_partitioned(p):
+                continue
+            class_query = "SELECT o AS term, COUNT(*) AS c FROM VP_" + valid_string(p) + " GROUP BY o"
+            if self.dictionary_enabled:
+                class_query = "SELECT d.term AS term, t.c AS c FROM (" + class_query + ") t" \
+                    + " JOIN dictionary d ON t.term = d.id"
+            elif self.namespaces_enabled:
+                class_query = "SELECT " + expand_term("t.term", "ns") + " AS term, t.c AS c FROM (" + class_query + ") t" \
+                    + expand_join("t.term", "ns")
+            classes = [(row.term, row.c) for row in self.sqlContext.sql(class_query).collect()]
+            classes.sort(key=lambda term: term[1], reverse=True)
+            self.stats.setClasses(p, classes)
+            print "Classes of %s: %d " % (p, len(classes))
+    
+    def create_ExtVP_tables(self, updated_properties=None):
+        # precompute the semi-join reductions of every VP table with the others,
+        # keeping only the ones with selectivity below the threshold.
+        # If updated_properties is given, only the pairs involving them are computed
+        print "Beginning the creation of ExtVP tables."
+        join_conditions = [(Stats_pb2.ExtVPTable.SS, "SS", "t1.s = t2.s"),
+                           (Stats_pb2.ExtVPTable.SO, "SO", "t1.s = t2.o"),
+                           (Stats_pb2.ExtVPTable.OS, "OS", "t1.o = t2.s")]
+        all_properties = self.stats.tables.keys()
+        created = 0
+        for p1 in all_properties:
+            size = self.stats.getTableSize(p1)
+            for p2 in all_properties:
+                if updated_properties is not None and p1 not in updated_properties and p2 not in updated_properties:
+                    continue
+                for join_type, type_name, condition in join_conditions:
+                    # the SS reduction of a table with itself is the table
+                    if p1 == p2 and join_type == Stats_pb2.ExtVPTable.SS:
+                        continue
+                    reduction_query = "SELECT " + self.get_VP_columns("t1") + " FROM VP_" + valid_string(p1) + " t1" \
+                        + " LEFT SEMI JOIN VP_" + valid_string(p2) + " t2 ON " + condition
+                    reduction_df = self.sqlContext.sql(reduction_query).cache()
+                    reduction_size = reduction_df.count()
+                    if reduction_size < size * self.extvp_threshold:
+                        table_name = "ExtVP_" + type_name + "_" + valid_string(p1) + "__" + valid_string(p2)
+                        reduction_df.createOrReplaceTempView("extvp_reduction")
+                        self.save_table(table_name, "SELECT " + self.get_VP_columns() + " FROM extvp_reduction")
+                        self.stats.addExtVPStat(p1, p2, join_type, table_name, reduction_size)
+                        created += 1
+                    reduction_df.unpersist()
+            sys.stdout.write("\rExtVP tables created: %d " % created)
+        print "ExtVP tables created: %d " % created
+    
+    def create_path_tables(self, updated_properties=None):
+        # materialize the join of the objects of the first property of every chain with the
+        # subjects of the second, with the columns s, m (the shared term) and o.
+        # If updated_properties is given, only the chains involving them are computed again
+        print "Beginning the creation of path tables."
+        created = 0
+        for p1, p2 in self.path_chains:
+            if updated_properties is not None and p1 not in updated_properties and p2 not in updated_properties:
+                continue
+            if p1 not in self.stats.tables or p2 not in self.stats.tables:
+                print "The chain %s %s has properties not in the graph, it is not created." % (p1, p2)
+                continue
+            table_name = "Path_" + valid_string(p1) + "__" + valid_string(p2)
+            self.sqlContext.sql("DROP TABLE IF EXISTS " + table_name)
+            self.save_table(table_name, "SELECT t1.s AS s, t1.o AS m, t2.o AS o FROM VP_" + valid_string(p1) + " t1" \
+                + " JOIN VP_" + valid_string(p2) + " t2 ON t1.o = t2.s")
+            self.stats.setPathTable(table_name, [p1, p2], self.sqlContext.table(table_name).count())
+            created += 1
+        print "Path tables created: %d " % created
+    
+    def compute_graph_statistics(self):
+        # the totals of the whole graph. The distinct terms are counted on the triple table,
+        # that in append mode contains only the delta: then only the sketches can update them
+        distinct_terms = self.stats.estimateGraphDistinctTerms()
+        if distinct_terms is None and not self.append_enabled:
+            row = self.sqlContext.sql("SELECT COUNT(DISTINCT s) AS subjects, COUNT(DISTINCT o) AS objects FROM " \
+                + self.triple_table).collect()[0]
+            distinct_terms = (row.subjects, row.objects)
+        self.stats.setGraphStat(self.outputDB, distinct_terms)
+    
+    def save_stats(self):
+        write_atomically(self.statsFile, self.stats.getSerializedStats())
+    
+    def create_object_copy(self, p, prop_query):
+        # the same table ordered by object, so that the parquet min/max statistics
+        # restrict the lookups of a constant object to a few row groups
+        if self.buckets > 0:
+            self.sqlContext.sql("CREATE TABLE VPO_" + valid_string(p) + " USING parquet CLUSTERED BY (o)" \
+                + " SORTED BY (o) INTO " + str(self.buckets) + " BUCKETS AS " + prop_query)
+        else:
+            self.sqlContext.sql("CREATE TABLE VPO_" + valid_string(p) + " USING parquet AS " + prop_query + " ORDER BY o")
     
     def set_propertytable_jar(self, PTjar):
         self.property_table_enabled = True
         self.property_table_jar = PTjar
     
+    def set_dictionary(self):
+        self.dictionary_enabled = True
+    
+    def set_namespaces(self):
+        self.namespaces_enabled = True
+    
+    def set_buckets(self, buckets):
+        self.buckets = buckets
+    
+    def set_object_copy(self):
+        self.object_copy_enabled = True
+    
+    def set_type_partition(self):
+        self.type_partition_enabled = True
+    
+    def set_typed_literals(self):
+        self.typed_literals_enabled = True
+    
+    def set_extvp_threshold(self, threshold):
+        self.extvp_threshold = threshold
+    
+    def set_sample_size(self, sample_size):
+        self.sample_size = sample_size
+    
+    def set_bloom_filter_rate(self, false_positive_rate):
+        self.bloom_filter_rate = false_positive_rate
+    
+    def set_path_chains(self, chains_file):
+        # every line of the file is a chain of two properties, separated by spaces
+        with open(chains_file, "r") as f:
+            self.path_chains = [tuple(line.split()) for line in f if len(line.split()) == 2]
+    
+    def set_join_stats(self, pairs, sample):
+        self.join_stats_pairs = pairs
+        self.join_stats_sample = sample
+    
+    def set_heavy_hitters_frequency(self, frequency):
+        self.heavy_hitters_frequency = frequency
+    
+    def set_approximate_stats(self):
+        self.approximate_stats_enabled = True
+    
+    def set_inverse_property_table(self):
+        self.inverse_property_table_enabled = True
+    
+    def set_overflow_threshold(self, threshold):
+        self.overflow_threshold = threshold
+    
+    def set_cs_partitions(self, partitions):
+        self.cs_partitions = partitions
+    
+    def set_max_columns(self, columns):
+        self.max_columns = columns
+    
+    def set_ntriples(self):
+        self.ntriples_enabled = True
+    
+    def set_deletions(self, deletions_file):
+        self.deletions_file = deletions_file
+    
+    def set_append(self):
+        self.append_enabled = True
+        self.input_table = "tripletable_delta"
+        self.triple_table = self.input_table
+    
     def create_property_table(self):
         # TODO set the thing only with python
         translate_command =  'spark2-submit --driver-memory 3G --jars ../executor/commons-cli-1.3.1.jar  --conf "spark.driver.userClassPathFirst=true" --class Main ' + self.property_table_jar + " -i " + self.inputFile + " -o " + self.outputDB
+        if self.dictionary_enabled:
+            translate_command += " -d"
+        if self.append_enabled:
+            translate_command += " -a"
+        if self.ntriples_enabled:
+            translate_command += " -n"
+        if self.inverse_property_table_enabled:
+            translate_command += " -r"
+        if self.overflow_threshold > 0:
+            translate_command += " -v " + str(self.overflow_threshold)
+        if self.cs_partitions > 0:
+            translate_command += " -c " + str(self.cs_partitions)
+        if self.max_columns > 0:
+            translate_command += " -k " + str(self.max_columns)
         print translate_command
         execution_output = subprocess.check_output(['bash','-c', translate_command]) 
         print execution_output
         print "Property table loaded"
+    
+    def record_property_tables(self):
+        # the statistics tell the translator the property table of every property,
+        # when they are clustered in more tables
+        columns = {}
+        if self.clusters_table in self.sqlContext.tableNames():
+            for row in self.sqlContext.table(self.clusters_table).collect():
+                columns[row.property.lower()] = row.table_name
+        self.stats.setPropertyTables(columns)
 
 
     def run_creator(self):
         self.create_triple_table()
+        if(self.dictionary_enabled):
+            self.create_dictionary()
+        if(self.namespaces_enabled):
+            self.create_namespaces()
         self.extract_properties()
         self.create_VP_tables()
+        if(self.statsEnabled):
+            self.compute_characteristic_sets()
+            if(self.type_partition_enabled):
+                self.compute_class_statistics()
+            if(self.sample_size > 0):
+                self.create_samples()
+            else:
+                self.remove_side_file(".samples")
+            if(self.bloom_filter_rate > 0):
+                self.create_bloom_filters()
+            else:
+                self.remove_side_file(".bloom")
+        elif(self.bloom_filter_rate > 0):
+            print "Bloom filters are sized with the statistics, they are not created."
+        if(self.join_stats_pairs > 0):
+            if(self.statsEnabled):
+                self.compute_join_statistics()
+            else:
+                print "Join statistics are saved in the statistics file, they are not computed."
+        if(self.extvp_threshold > 0):
+            if(self.statsEnabled):
+                self.create_ExtVP_tables()
+            else:
+                print "ExtVP tables are used only through the statistics, they are not created."
+        if(self.path_chains):
+            if(self.statsEnabled):
+                self.create_path_tables()
+            else:
+                print "Path tables are used only through the statistics, they are not created."
+        if(self.statsEnabled):
+            # the totals are counted on the triple table before the property table loader runs
+            self.compute_graph_statistics()
+        if(self.property_table_enabled):
+            self.create_property_table()
+        if(self.statsEnabled):
+            if(self.property_table_enabled):
+                self.record_property_tables()
+            self.save_stats()
+        if(self.dictionary_enabled):
+            self.sqlContext.sql("DROP TABLE tripletable_encoded")
+        if(self.namespaces_enabled):
+            self.sqlContext.sql("DROP TABLE tripletable_compact")
+    
+    def run_appender(self):
+        # the input is a delta of new triples for an existing database,
+        # the deleted triples are removed before adding the new ones
+        if(self.statsEnabled):
+            self.stats.load(self.statsFile)
+            print "The join statistics are not updated with the delta."
+        if(self.deletions_file):
+            self.delete_from_VP_tables()
+        self.sqlContext.sql("DROP TABLE IF EXISTS " + self.input_table)
+        self.create_triple_table()
+        if(self.dictionary_enabled):
+            self.create_dictionary()
+        if(self.namespaces_enabled):
+            self.create_namespaces()
+        self.extract_properties()
+        self.append_VP_tables()
+        if(self.statsEnabled):
+            # the ExtVP tables of the updated properties are not valid anymore
+            updated_properties = self.get_updated_properties()
+            for table_name in self.stats.removeExtVPStats(updated_properties):
+                self.sqlContext.sql("DROP TABLE IF EXISTS " + table_name)
+            # a new subject or property changes the sets of the whole graph:
+            # they are computed again on all the VP tables, never left stale
+            if(self.stats.graph.characteristicSets):
+                self.compute_characteristic_sets(" UNION ALL ".join(["SELECT s, '" + p + "' AS p FROM VP_" + valid_string(p)
+                    for p in self.stats.tables]))
+            if(self.type_partition_enabled):
+                self.compute_class_statistics()
+            if(self.extvp_threshold > 0):
+                self.create_ExtVP_tables(updated_properties)
+            if(self.path_chains):
+                self.create_path_tables(updated_properties)
+            if(self.sample_size > 0):
+                self.create_samples()
+            else:
+                self.remove_side_file(".samples")
+            if(self.bloom_filter_rate > 0):
+                self.create_bloom_filters()
+            else:
+                self.remove_side_file(".bloom")
+        if(self.statsEnabled):
+            # the totals are counted on the triple table before the property table loader runs
+            self.compute_graph_statistics()
         if(self.property_table_enabled):
             self.create_property_table()
+        if(self.statsEnabled):
+            if(self.property_table_enabled):
+                self.record_property_tables()
+            self.save_stats()
+        self.sqlContext.sql("DROP TABLE IF EXISTS " + self.input_table)
+        self.sqlContext.sql("DROP TABLE IF EXISTS " + self.deleted_table)
+        if(self.dictionary_enabled or self.namespaces_enabled):
+            self.sqlContext.sql("DROP TABLE " + self.triple_table)
 
 def main():
     parser = argparse.ArgumentParser(description='Load a RDF into the Hive Mestastore using Vertical Partitioning.')
@@ -117,8 +1301,39 @@ def main():
     parser.add_argument('output', metavar='output database', help='The name of the database where to load the data. ')
     parser.add_argument('-s','-stats', metavar='[output stats file]', help='Statistics are computed and saved in the file.', default='')
     parser.add_argument('-p','-propertytable', metavar='[property table jar]', help='If loaded with property table, the jar of the separate loader as input.', default='')
+    parser.add_argument('-b','-buckets', metavar='[number of buckets]', type=int, help='The VP tables are bucketed and sorted by subject in this number of buckets.', default=0)
+    parser.add_argument('-O','-objectcopy', action='store_true', help='Create also a copy of every VP table ordered (and bucketed) by object.')
+    parser.add_argument('-T','-typepartition', action='store_true', help='The table of rdf:type is partitioned by class, the class sizes are saved in the statistics.')
+    parser.add_argument('-L','-typedliterals', action='store_true', help='The VP tables have also the typed values of the literal objects (numbers, dates and language tags), used to push down the filters.')
+    parser.add_argument('-e','-extvp', metavar='[selectivity threshold]', type=float, help='Create the ExtVP tables with selectivity below the threshold (requires statistics).', default=0)
+    parser.add_argument('-P','-paths', metavar='[chains file]', help='Materialize the joins of the chains of properties in the file, two properties per line (requires statistics).', default='')
+    parser.add_argument('-a','-append', action='store_true', help='The input contains new triples to append to an existing database, with the same options used to load it.')
+    parser.add_argument('-j','-joinstats', metavar='[number of pairs]', type=int, help='Compute the join sizes of this number of property pairs for every join type (requires statistics).', default=0)
+    parser.add_argument('-J','-joinsample', metavar='[fraction]', type=float, help='Compute the join statistics on this fraction of the terms.', default=1.0)
+    parser.add_argument('-S','-samples', metavar='[rows per table]', type=int, help='Save next to the statistics a sample of about this number of rows of every table.', default=0)
+    parser.add_argument('-B','-bloomfilters', metavar='[false positive rate]', type=float, help='Save next to the statistics the Bloom filters of the subjects and of the objects of every table, with this false positive rate (requires statistics).', default=0)
+    parser.add_argument('-H','-heavyhitters', metavar='[minimum frequency]', type=int, help='Save the subjects and objects of a property appearing in at least this number of triples, joined separately by the executor (requires exact statistics).', default=0)
+    parser.add_argument('-A','-approximate', action='store_true', help='Compute approximate statistics with HyperLogLog sketches, in a single pass.')
+    parser.add_argument('-r','-inverse', action='store_true', help='Create also the inverse property table, keyed by object (requires the property table jar).')
+    parser.add_argument('-v','-overflow', metavar='[number of values]', type=int, help='The values of a subject for a property are stored in the overflow table of the property table when they are more than this number.', default=0)
+    parser.add_argument('-c','-cspartitions', metavar='[number of partitions]', type=int, help='The property table is partitioned by characteristic set, in at most this number of partitions.', default=0)
+    parser.add_argument('-k','-columns', metavar='[number of columns]', type=int, help='The properties are clustered in more property tables, each with at most about this number of columns.', default=0)
+    parser.add_argument('-n','-ntriples', action='store_true', help='The input is in N-Triples (or N-Quads) format instead of tab separated.')
+    parser.add_argument('-D','-deletions', metavar='[deleted triples path]', help='In append mode, the HDFS path of the triples to delete, in the same format of the input.', default='')
+    parser.add_argument('-d','-dictionary', action='store_true', help='Encode subjects and objects with 64-bit ids of a global dictionary.')
+    parser.add_argument('-N','-namespaces', action='store_true', help='Store the IRIs of subjects and objects as the id of their namespace, in the namespaces table, and their local name.')
     
     args = parser.parse_args()
+    if args.D and not args.a:
+        parser.error("the deletions are applied only in append mode")
+    if args.B >= 1:
+        parser.error("the false positive rate of the Bloom filters must be lower than 1")
+    if args.N and args.d:
+        parser.error("the namespaces are compressed only without the dictionary, that already encodes the terms")
+    if args.N and args.p:
+        parser.error("the namespaces cannot be compressed in the property tables")
+    if args.D and args.p:
+        parser.error("the deletions cannot be applied to the property tables")
     
     sc = SparkContext(appName="SparkVP_loader")
     sqlContext = HiveContext(sc)
@@ -126,7 +1341,49 @@ def main():
     creator = VP_creator(sc, sqlContext, args.input, args.output, args.s)
     if(args.p):
         creator.set_propertytable_jar(args.p)
-    creator.run_creator()
+    if(args.d):
+        creator.set_dictionary()
+    if(args.N):
+        creator.set_namespaces()
+    if(args.b > 0):
+        creator.set_buckets(args.b)
+    if(args.O):
+        creator.set_object_copy()
+    if(args.T):
+        creator.set_type_partition()
+    if(args.L):
+        creator.set_typed_literals()
+    if(args.e > 0):
+        creator.set_extvp_threshold(args.e)
+    if(args.P):
+        creator.set_path_chains(args.P)
+    if(args.n):
+        creator.set_ntriples()
+    if(args.r):
+        creator.set_inverse_property_table()
+    if(args.v > 0):
+        creator.set_overflow_threshold(args.v)
+    if(args.c > 0):
+        creator.set_cs_partitions(args.c)
+    if(args.k > 0):
+        creator.set_max_columns(args.k)
+    if(args.A):
+        creator.set_approximate_stats()
+    if(args.H > 0):
+        creator.set_heavy_hitters_frequency(args.H)
+    if(args.S > 0):
+        creator.set_sample_size(args.S)
+    if(args.B > 0):
+        creator.set_bloom_filter_rate(args.B)
+    if(args.j > 0):
+        creator.set_join_stats(args.j, args.J)
+    if(args.D):
+        creator.set_deletions(args.D)
+    if(args.a):
+        creator.set_append()
+        creator.run_appender()
+    else:
+        creator.run_creator()
 
 if __name__ == "__main__":
     main()
@@ -0,0 +1,124 @@
+package benchmark;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.spark.sql.Dataset;
+import org.apache.spark.sql.Row;
+import org.apache.spark.sql.RowFactory;
+import org.apache.spark.sql.SparkSession;
+import org.apache.spark.sql.expressions.UserDefinedAggregateFunction;
+import org.apache.spark.sql.types.DataTypes;
+import org.apache.spark.sql.types.StructType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the grouping of the triples by subject done with
+ * PropertiesAggregateFunction and with PropertiesAggregator, on a graph where
+ * few hub subjects have many triples and all the others have only a few.
+ *
+ * Run it with a local Spark:
+ * mvn -P benchmark package dependency:copy-dependencies
+ * java -cp "target/classes:target/dependency/*" org.openjdk.jmh.Main PropertiesAggregationBenchmark
+ *
+ * JMH does not accept benchmarks in the default package, where the loader
+ * classes are, so they are accessed through reflection.
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class PropertiesAggregationBenchmark {
+
+	// number of triples of every hub subject
+	@Param({ "1000", "10000" })
+	public int hubSize;
+
+	public int hubSubjects = 10;
+	public int regularSubjects = 20000;
+	public int numberOfProperties = 20;
+
+	private SparkSession spark;
+	private Object loader;
+	private Method groupProperties;
+	private String columnsSeparator;
+	private Dataset<Row> triples;
+	private String[] allProperties;
+
+	@Setup
+	public void setup() throws Exception {
+		spark = SparkSession.builder().master("local[2]").appName("PropertiesAggregationBenchmark")
+				.config("spark.sql.shuffle.partitions", "4").getOrCreate();
+		spark.sparkContext().setLogLevel("WARN");
+		Class<?> loaderClass = Class.forName("PropertyTableLoader");
+		loader = loaderClass.getConstructor(String.class, String.class).newInstance("", "benchmark");
+		groupProperties = loaderClass.getMethod("groupProperties", Dataset.class, String[].class);
+		columnsSeparator = (String) loaderClass.getField("columns_separator").get(loader);
+
+		allProperties = new String[numberOfProperties];
+		for (int i = 0; i < numberOfProperties; i++)
+			allProperties[i] = "http___example_org_p" + i;
+
+		// skewed graph: the hub subjects have most of the triples
+		Random random = new Random(42);
+		List<Row> rows = new ArrayList<Row>();
+		for (int s = 0; s < hubSubjects; s++)
+			for (int i = 0; i < hubSize; i++)
+				rows.add(RowFactory.create("<http://example.org/hub" + s + ">",
+						"<http://example.org/p" + random.nextInt(numberOfProperties) + ">",
+						"<http://example.org/o" + random.nextInt(1000000) + ">"));
+		for (int s = 0; s < regularSubjects; s++) {
+			// from 1 to 5 values per subject, uniformly
+			int values = 1 + random.nextInt(5);
+			for (int i = 0; i < values; i++)
+				rows.add(RowFactory.create("<http://example.org/s" + s + ">",
+						"<http://example.org/p" + random.nextInt(numberOfProperties) + ">",
+						"<http://example.org/o" + random.nextInt(1000000) + ">"));
+		}
+
+		StructType schema = new StructType().add("s", DataTypes.StringType).add("p", DataTypes.StringType)
+				.add("o", DataTypes.StringType);
+		triples = spark.createDataFrame(rows, schema).cache();
+		triples.count();
+	}
+
+	@TearDown
+	public void tearDown() {
+		spark.stop();
+	}
+
+	@Benchmark
+	public long aggregateFunction() throws Exception {
+		UserDefinedAggregateFunction aggregator = (UserDefinedAggregateFunction) Class
+				.forName("PropertiesAggregateFunction").getConstructor(String[].class, String.class)
+				.newInstance(allProperties, columnsSeparator);
+		Dataset<Row> compressedTriples = triples.selectExpr("s",
+				"CONCAT(p, '" + columnsSeparator + "', o) AS po");
+		return compressedTriples.groupBy("s").agg(aggregator.apply(compressedTriples.col("po")).alias("group"))
+				.javaRDD().count();
+	}
+
+	@Benchmark
+	@SuppressWarnings("unchecked")
+	public long typedAggregator() throws Exception {
+		Dataset<Row> grouped = (Dataset<Row>) groupProperties.invoke(loader, triples, allProperties);
+		return grouped.javaRDD().count();
+	}
+}
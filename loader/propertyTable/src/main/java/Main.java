@@ -18,12 +18,26 @@ import org.apache.log4j.Logger;
  * -h, --help prints the usage help message.
  * -i, --input <file> HDFS input path of the RDF graph.
  * -o, --output <DBname> output database name.
+ * -d, --dictionary use the dictionary encoded triples created by the VP loader.
+ * -a, --append merge the new triples of the VP loader into the existing property table.
+ * -n, --ntriples the input is in N-Triples (or N-Quads) format instead of tab separated.
+ * -r, --inverse create also the inverse property table, keyed by object.
+ * -c, --partitions <number> partition the property table by characteristic set, in at most this number of partitions.
+ * -v, --overflow <values> store the values of a subject for a property in the overflow table when they are more than this number.
+ * -k, --columns <number> cluster the properties in more property tables, each with at most about this number of columns.
  * 
  * @author Matteo Cossu
  */
 public class Main {
 	private static String inputFile;
 	private static String outputDB;
+	private static boolean useDictionary = false;
+	private static boolean appendMode = false;
+	private static boolean inputNTriples = false;
+	private static boolean buildInverse = false;
+	private static long overflowThreshold = 0;
+	private static int csPartitions = 0;
+	private static int maxColumns = 0;
 	private static final Logger logger = Logger.getLogger(Main.class);
 	public static void main(String[] args) {
 		
@@ -41,6 +55,27 @@ public class Main {
 		outputOpt.setRequired(true);
 		options.addOption(outputOpt);
 		
+		Option dictionaryOpt = new Option("d", "dictionary", false, "Use the dictionary encoded triples created by the VP loader.");
+		options.addOption(dictionaryOpt);
+		
+		Option appendOpt = new Option("a", "append", false, "Merge the new triples of the VP loader into the existing property table.");
+		options.addOption(appendOpt);
+		
+		Option ntriplesOpt = new Option("n", "ntriples", false, "The input is in N-Triples (or N-Quads) format instead of tab separated.");
+		options.addOption(ntriplesOpt);
+		
+		Option inverseOpt = new Option("r", "inverse", false, "Create also the inverse property table, keyed by object.");
+		options.addOption(inverseOpt);
+		
+		Option partitionsOpt = new Option("c", "partitions", true, "Partition the property table by characteristic set, in at most this number of partitions.");
+		options.addOption(partitionsOpt);
+		
+		Option overflowOpt = new Option("v", "overflow", true, "Store the values of a subject for a property in the overflow table when they are more than this number.");
+		options.addOption(overflowOpt);
+		
+		Option columnsOpt = new Option("k", "columns", true, "Cluster the properties in more property tables, each with at most about this number of columns.");
+		options.addOption(columnsOpt);
+		
 		Option helpOpt = new Option("h", "help", false, "Print this help.");
 		options.addOption(helpOpt);
 		
@@ -67,9 +102,44 @@ public class Main {
 			outputDB = cmd.getOptionValue("output");
 			logger.info("Output database set to: " + outputDB);
 		}
+		if(cmd.hasOption("dictionary")){
+			useDictionary = true;
+			logger.info("Using the dictionary encoded triples.");
+		}
+		if(cmd.hasOption("append")){
+			appendMode = true;
+			logger.info("Appending the new triples to the existing property table.");
+		}
+		if(cmd.hasOption("ntriples")){
+			inputNTriples = true;
+			logger.info("Parsing the input as N-Triples.");
+		}
+		if(cmd.hasOption("inverse")){
+			buildInverse = true;
+			logger.info("Creating also the inverse property table.");
+		}
+		if(cmd.hasOption("partitions")){
+			csPartitions = Integer.parseInt(cmd.getOptionValue("partitions"));
+			logger.info("Partitions of the property table by characteristic set: " + csPartitions);
+		}
+		if(cmd.hasOption("overflow")){
+			overflowThreshold = Long.parseLong(cmd.getOptionValue("overflow"));
+			logger.info("Values per subject and property before the overflow table: " + overflowThreshold);
+		}
+		if(cmd.hasOption("columns")){
+			maxColumns = Integer.parseInt(cmd.getOptionValue("columns"));
+			logger.info("Maximum columns of each property table: " + maxColumns);
+		}
 	
 		// Set the loader from the inputFile to the outputDB
 		PropertyTableLoader propertyTable = new PropertyTableLoader(inputFile, outputDB);
+		propertyTable.useDictionary = useDictionary;
+		propertyTable.appendMode = appendMode;
+		propertyTable.inputNTriples = inputNTriples;
+		propertyTable.buildInverse = buildInverse;
+		propertyTable.overflowThreshold = overflowThreshold;
+		propertyTable.csPartitions = csPartitions;
+		propertyTable.maxColumns = maxColumns;
 		try {
 			propertyTable.load();
 		} catch (FileNotFoundException e) {
@@ -0,0 +1,106 @@
+import java.io.Serializable;
+
+/**
+ * Parser for the lines of N-Triples and N-Quads files. Every line is scanned
+ * once, without regular expressions, and split into the subject, the predicate
+ * and the object. The terms are kept as they appear in the file (IRIs with the
+ * angle brackets, literals with quotes, language tags and datatypes), so the
+ * result is the same of the tab separated input. The graph label of N-Quads is
+ * ignored.
+ *
+ * Empty lines, comments and malformed lines are skipped.
+ */
+public class NTriplesParser implements Serializable {
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * Return the array {subject, predicate, object} of the line, or null if the
+	 * line does not contain a triple.
+	 */
+	public static String[] parse(String line) {
+		String[] triple = new String[3];
+		if (isLineEnd(line, 0))
+			return null;
+		int position = skipSpaces(line, 0);
+
+		for (int i = 0; i < 3; i++) {
+			int end = termEnd(line, position);
+			if (end < 0)
+				return null;
+			triple[i] = line.substring(position, end);
+			position = skipSpaces(line, end);
+		}
+
+		// the optional graph label and the final dot
+		if (position < line.length() && line.charAt(position) != '.') {
+			int end = termEnd(line, position);
+			if (end < 0)
+				return null;
+			position = skipSpaces(line, end);
+		}
+		// only spaces or a comment can follow the final dot
+		if (position >= line.length() || line.charAt(position) != '.' || !isLineEnd(line, position + 1))
+			return null;
+		return triple;
+	}
+
+	/**
+	 * Return the position after the term starting at the given position, or -1
+	 * if the term is not valid.
+	 */
+	private static int termEnd(String line, int start) {
+		if (start >= line.length())
+			return -1;
+		switch (line.charAt(start)) {
+		case '<':
+			int end = line.indexOf('>', start + 1);
+			return end < 0 ? -1 : end + 1;
+		case '_':
+			return wordEnd(line, start);
+		case '"':
+			// find the closing quote, skipping the escaped characters
+			int position = start + 1;
+			while (position < line.length() && line.charAt(position) != '"')
+				position += line.charAt(position) == '\\' ? 2 : 1;
+			if (position >= line.length())
+				return -1;
+			position++;
+			// language tag or datatype
+			if (position < line.length() && line.charAt(position) == '@')
+				return wordEnd(line, position);
+			if (line.startsWith("^^", position))
+				return termEnd(line, position + 2);
+			return position;
+		default:
+			return -1;
+		}
+	}
+
+	// position of the first space (or of the final dot) after a word
+	private static int wordEnd(String line, int start) {
+		int position = start;
+		while (position < line.length() && !Character.isWhitespace(line.charAt(position))) {
+			// the final dot can be attached to the last term
+			if (line.charAt(position) == '.' && isLineEnd(line, position + 1))
+				break;
+			position++;
+		}
+		return position;
+	}
+
+	/**
+	 * Check if only spaces (also the \r of CRLF) or a comment follow the
+	 * position. At the start of the line, it is true for empty lines and comments.
+	 */
+	static boolean isLineEnd(String line, int start) {
+		int position = skipSpaces(line, start);
+		return position >= line.length() || line.charAt(position) == '#';
+	}
+
+	private static int skipSpaces(String line, int start) {
+		int position = start;
+		while (position < line.length() && Character.isWhitespace(line.charAt(position)))
+			position++;
+		return position;
+	}
+}
@@ -0,0 +1,96 @@
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+
+import scala.Tuple2;
+
+/**
+ * Typed aggregator that collects, for each subject, the objects of all its
+ * properties. It produces the same result of PropertiesAggregateFunction: for
+ * every subject an array with one entry per property, in the same order of
+ * allProperties, containing the list of objects (or NULL if the subject does not
+ * have that property).
+ *
+ * Differently from PropertiesAggregateFunction, the state of a subject is a
+ * list indexed by the position of the property and it is updated in place.
+ * Property names are normalized only once, the first time a predicate is seen,
+ * and the values do not need to be concatenated and split again.
+ *
+ * The functions are meant to be used with combineByKey, where the key is the
+ * subject and the value is a pair (property position, object).
+ *
+ */
+public class PropertiesAggregator implements Serializable {
+	private static final long serialVersionUID = 1L;
+
+	// position of each normalized property in the resulting array
+	private HashMap<String, Integer> propertyPositions;
+	private int numberOfProperties;
+
+	// raw predicates already normalized by this instance
+	private transient HashMap<String, Integer> predicatePositions;
+
+	public PropertiesAggregator(String[] allProperties) {
+		this.numberOfProperties = allProperties.length;
+		this.propertyPositions = new HashMap<String, Integer>();
+		for (int i = 0; i < allProperties.length; i++)
+			propertyPositions.put(allProperties[i], i);
+	}
+
+	/**
+	 * Return the position of a predicate as it appears in the triples, or -1 if
+	 * it is not one of the properties. The normalization is the same used by
+	 * PropertiesAggregateFunction and it is done once per distinct predicate.
+	 */
+	public int getPosition(String predicate) {
+		if (predicatePositions == null)
+			predicatePositions = new HashMap<String, Integer>();
+		Integer position = predicatePositions.get(predicate);
+		if (position == null) {
+			String property = predicate.startsWith("<") && predicate.endsWith(">")
+					? predicate.substring(1, predicate.length() - 1).replaceAll("[[^\\w]+]", "_")
+					: predicate.replaceAll("[[^\\w]+]", "_");
+			position = propertyPositions.containsKey(property) ? propertyPositions.get(property) : -1;
+			predicatePositions.put(predicate, position);
+		}
+		return position;
+	}
+
+	// create the state of a subject starting from its first value
+	public List<List<Object>> createBuffer(Tuple2<Integer, Object> value) {
+		List<List<Object>> buffer = new ArrayList<List<Object>>(Collections.<List<Object>> nCopies(numberOfProperties, null));
+		return update(buffer, value);
+	}
+
+	// add the value to the list of its property
+	public List<List<Object>> update(List<List<Object>> buffer, Tuple2<Integer, Object> value) {
+		int position = value._1();
+		if (buffer.get(position) == null)
+			buffer.set(position, new ArrayList<Object>(1));
+		buffer.get(position).add(value._2());
+		return buffer;
+	}
+
+	// merge two partial states of the same subject, reusing the first one
+	public List<List<Object>> merge(List<List<Object>> buffer1, List<List<Object>> buffer2) {
+		for (int i = 0; i < numberOfProperties; i++) {
+			if (buffer2.get(i) == null)
+				continue;
+			if (buffer1.get(i) == null)
+				buffer1.set(i, buffer2.get(i));
+			else
+				buffer1.get(i).addAll(buffer2.get(i));
+		}
+		return buffer1;
+	}
+
+	// produce the final value for the subject, NULL for the missing properties
+	public Object[] evaluate(List<List<Object>> buffer) {
+		Object[] resultRow = new Object[numberOfProperties];
+		for (int i = 0; i < numberOfProperties; i++)
+			resultRow[i] = buffer.get(i) == null ? null : buffer.get(i).toArray();
+		return resultRow;
+	}
+}
@@ -1,12 +1,30 @@
 import java.io.FileNotFoundException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 
 import org.apache.log4j.Logger;
+import org.apache.spark.api.java.JavaPairRDD;
+import org.apache.spark.api.java.JavaRDD;
+import org.apache.spark.sql.Column;
 import org.apache.spark.sql.Dataset;
 import org.apache.spark.sql.Row;
+import org.apache.spark.sql.RowFactory;
 import org.apache.spark.sql.SaveMode;
 import org.apache.spark.sql.SparkSession;
 import org.apache.spark.sql.functions;
+import org.apache.spark.sql.api.java.UDF1;
+import org.apache.spark.sql.types.ArrayType;
+import org.apache.spark.sql.types.DataType;
+import org.apache.spark.sql.types.DataTypes;
+import org.apache.spark.sql.types.StructType;
+import org.apache.spark.util.LongAccumulator;
+
+import scala.Tuple2;
 
 
 /**
@@ -39,16 +57,53 @@ public class PropertyTableLoader {
 	public String column_name_object = "o";
 	private String tablename_tripletable  = "tripletable";
 	private String tablename_properties = "properties";
+	private String tablename_encoded_tripletable = "tripletable_encoded";
+	private static final String tablename_delta_tripletable = "tripletable_delta";
 	
 	/** Separator used internally to distinguish two values in the same string  */
 	public String columns_separator = "\\$%";
 	public boolean keepTemporaryTables = false;
+	/** If true, subjects and objects are the ids of the dictionary created by the VP loader */
+	public boolean useDictionary = false;
+	/** If true, the input contains new triples to merge into the existing property table */
+	public boolean appendMode = false;
+	/** If true, the input is in N-Triples (or N-Quads) format instead of tab separated */
+	public boolean inputNTriples = false;
+	/** If true, the inverse property table (keyed by object) is also created */
+	public boolean buildInverse = false;
+	/**
+	 * If positive, the values of a subject for a property are stored in the
+	 * overflow table when they are more than this number
+	 */
+	public long overflowThreshold = 0;
+	/**
+	 * If positive, the property table is partitioned by characteristic set in
+	 * at most this number of partitions
+	 */
+	public int csPartitions = 0;
+	/**
+	 * If positive, the properties are clustered in more property tables with
+	 * at most this number of columns each
+	 */
+	public int maxColumns = 0;
 
 	protected String output_db_name;
 	protected static final String output_tablename = "property_table";
+	protected static final String inverse_output_tablename = "inverse_property_table";
+	protected static final String overflow_tablename = "property_table_overflow";
+	protected static final String clusters_tablename = "property_table_clusters";
+	// maximum number of characteristic sets used to cluster the properties
+	protected static final int max_characteristic_sets = 10000;
+	protected static final String partition_column = "cs_partition";
 	protected static final String table_format = "parquet";
 
 	private SparkSession spark;
+	// lines of the N-Triples input that are not empty, comments or triples
+	private LongAccumulator skippedLines;
+	// false when the triple table was already created by the VP loader, that still reads it
+	private boolean createdTripleTable = false;
+	// maximum number of values of a subject for every property of the input, from buildProperties
+	private Map<String, Long> maxValuesPerSubject = new HashMap<String, Long>();
 	private static final Logger logger = Logger.getLogger(Main.class);
 	
 	
@@ -68,26 +123,91 @@ public class PropertyTableLoader {
 		
 		useOutputDatabase();
 		
-		buildTripleTable();
+		if (appendMode) {
+			// the delta is stored in its own triple table
+			tablename_tripletable = tablename_delta_tripletable;
+			tablename_encoded_tripletable = tablename_delta_tripletable + "_encoded";
+		}
+		
+		if (useDictionary) {
+			// the encoded triples are created (and removed) by the VP loader
+			tablename_tripletable = tablename_encoded_tripletable;
+			logger.info("Using the dictionary encoded triples: " + tablename_tripletable);
+		} else {
+			buildTripleTable();
+		}
 		
 		buildProperties();
+		if (skippedLines != null)
+			logger.info("Skipped malformed lines: " + skippedLines.value());
 		
 		// collect information for all properties
 		List<Row> props = spark.sql(String.format("SELECT * FROM %s", tablename_properties)).collectAsList();
 		String[] allProperties = new String[props.size()];
 		Boolean[] isComplexProperty = new Boolean[props.size()];
+		long totalTriples = 0;
+		int complexProperties = 0;
 		
 		for (int i = 0; i < props.size(); i++) {
 			allProperties[i] = props.get(i).getString(0);
 			isComplexProperty[i] = props.get(i).getInt(1) == 1;
+			totalTriples += props.get(i).getLong(2);
+			maxValuesPerSubject.put(allProperties[i], props.get(i).getLong(4));
+			if (isComplexProperty[i]) complexProperties++;
 		}
+		logger.info(String.format("Properties: %d (%d complex), triples: %d", props.size(), complexProperties,
+				totalTriples));
 		
-		// create complex property table
-		buildComplexPropertyTable(allProperties, isComplexProperty);
+		// create complex property table, or one for each cluster of properties
+		Map<String, String> clusters = getPropertyClusters(allProperties);
+		if (clusters == null) {
+			if (appendMode)
+				mergeDelta(output_tablename, getTriples(false), allProperties, isComplexProperty);
+			else
+				buildComplexPropertyTable(output_tablename, separateOverflow(getTriples(false)), allProperties,
+						isComplexProperty);
+		} else {
+			Dataset<Row> triples = appendMode ? normalizePredicates(getTriples(false))
+					: separateOverflow(getTriples(false));
+			for (String tableName : new LinkedHashSet<String>(clusters.values())) {
+				List<String> tableProperties = new ArrayList<String>();
+				List<Boolean> tableComplexity = new ArrayList<Boolean>();
+				for (int i = 0; i < allProperties.length; i++)
+					if (tableName.equals(clusters.get(allProperties[i]))) {
+						tableProperties.add(allProperties[i]);
+						tableComplexity.add(isComplexProperty[i]);
+					}
+				if (tableProperties.isEmpty())
+					continue;
+				String[] properties = tableProperties.toArray(new String[tableProperties.size()]);
+				Boolean[] complexity = tableComplexity.toArray(new Boolean[tableComplexity.size()]);
+				Dataset<Row> tableTriples = triples.where(triples.col(column_name_predicate).isin((Object[]) properties));
+				if (appendMode && Arrays.asList(spark.sqlContext().tableNames()).contains(tableName))
+					mergeDelta(tableName, tableTriples, properties, complexity);
+				else if (appendMode)
+					// a new table for the new properties of the delta
+					buildComplexPropertyTable(tableName, separateOverflow(tableTriples), properties, complexity);
+				else
+					buildComplexPropertyTable(tableName, triples, properties, complexity);
+			}
+		}
+		
+		// create the inverse property table, complexity is computed on the objects
+		if (buildInverse) {
+			Boolean[] unknownComplexity = new Boolean[allProperties.length];
+			Arrays.fill(unknownComplexity, false);
+			if (appendMode)
+				mergeDelta(inverse_output_tablename, getTriples(true), allProperties, unknownComplexity);
+			else
+				buildInversePropertyTable(allProperties);
+		}
 		
 		// Drop intermediate tables
 		if (!keepTemporaryTables) {
-			dropTables(tablename_tripletable, tablename_properties);
+			if (createdTripleTable)
+				dropTables(tablename_tripletable, tablename_properties);
+			else
+				dropTables(tablename_properties);
 		}
 	}
 	
@@ -104,37 +224,70 @@ public class PropertyTableLoader {
 	 * given, they will be replaced. 
 	 */
 	public void buildTripleTable() throws FileNotFoundException{
+		if (inputNTriples) {
+			buildTripleTableFromNTriples();
+			return;
+		}
+		if (Arrays.asList(spark.sqlContext().tableNames()).contains(tablename_tripletable)) {
+			logger.info("Using the existing " + tablename_tripletable);
+			return;
+		}
 		String createTripleTable = String.format(
-				"CREATE EXTERNAL TABLE IF NOT EXISTS %s(%s STRING, %s STRING, %s STRING) ROW FORMAT DELIMITED"
+				"CREATE EXTERNAL TABLE %s(%s STRING, %s STRING, %s STRING) ROW FORMAT DELIMITED"
 						+ " FIELDS TERMINATED BY '%s'  LINES TERMINATED BY '%s' LOCATION '%s'",
 						tablename_tripletable  , column_name_subject, column_name_predicate, column_name_object,
 				field_terminator, line_terminator, hdfs_input_directory);
 
 		spark.sql(createTripleTable);
+		createdTripleTable = true;
 		logger.info("Created tripletable");
 	}
 
-	public void buildProperties() {
-		// return rows of format <predicate, is_complex>
-		// is_complex can be 1 or 0
-		// 1 for multivalued predicate, 0 for single predicate
+	/**
+	 * Parse the N-Triples input directly, line by line, without the Hive SerDe.
+	 * The triple table is a temporary view, unless it was already created by the
+	 * VP loader.
+	 */
+	private void buildTripleTableFromNTriples() {
+		if (Arrays.asList(spark.sqlContext().tableNames()).contains(tablename_tripletable)) {
+			logger.info("Using the existing " + tablename_tripletable);
+			return;
+		}
+		// the malformed lines are counted when the triples are first read, by buildProperties
+		LongAccumulator skipped = spark.sparkContext().longAccumulator("skipped lines");
+		JavaRDD<Row> triples = spark.sparkContext().textFile(hdfs_input_directory, spark.sparkContext().defaultMinPartitions()).toJavaRDD()
+				.map(line -> {
+					String[] triple = NTriplesParser.parse(line);
+					if (triple == null && !NTriplesParser.isLineEnd(line, 0))
+						skipped.add(1);
+					return triple;
+				})
+				.filter(triple -> triple != null)
+				.map(triple -> RowFactory.create((Object[]) triple));
+		StructType schema = new StructType()
+				.add(column_name_subject, DataTypes.StringType)
+				.add(column_name_predicate, DataTypes.StringType)
+				.add(column_name_object, DataTypes.StringType);
+		spark.createDataFrame(triples, schema).createOrReplaceTempView(tablename_tripletable);
+		skippedLines = skipped;
+		createdTripleTable = true;
+		logger.info("Created " + tablename_tripletable + " from the N-Triples input");
+	}
 
-		// select the properties that are complex
-		Dataset<Row> multivaluedProperties = spark.sql(String.format(
-				"SELECT DISTINCT(%1$s) AS %1$s FROM (SELECT %2$s, %1$s, COUNT(*) AS rc FROM %3$s GROUP BY %2$s, %1$s HAVING rc > 1) AS grouped",
+	/**
+	 * Collect with a single aggregation the information about every property.
+	 * The result has rows of format <predicate, is_complex, triples,
+	 * distinct_subjects, max_values_per_subject>, where is_complex is 1 for
+	 * multivalued predicates and 0 for single valued ones.
+	 */
+	public void buildProperties() {
+		
+		// count the values of every (subject, predicate) and aggregate them by predicate
+		Dataset<Row> combinedProperties = spark.sql(String.format(
+				"SELECT %1$s, CASE WHEN MAX(rc) > 1 THEN 1 ELSE 0 END AS is_complex, SUM(rc) AS triples, "
+				+ "COUNT(*) AS distinct_subjects, MAX(rc) AS max_values_per_subject "
+				+ "FROM (SELECT %2$s, %1$s, COUNT(*) AS rc FROM %3$s GROUP BY %2$s, %1$s) AS grouped GROUP BY %1$s",
 				column_name_predicate, column_name_subject, tablename_tripletable));
-
-		// select all the properties
-		Dataset<Row> allProperties = spark.sql(String.format("SELECT DISTINCT(%1$s) AS %1$s FROM %2$s",
-				column_name_predicate, tablename_tripletable));
-
-		// select the properties that are not complex
-		Dataset<Row> singledValueProperties = allProperties.except(multivaluedProperties);
-
-		// combine them
-		Dataset<Row> combinedProperties = singledValueProperties
-				.selectExpr(column_name_predicate, "0 AS is_complex")
-				.union(multivaluedProperties.selectExpr(column_name_predicate, "1 AS is_complex"));
 		
 		// remove '<' and '>', convert the characters
 		Dataset<Row> cleanedProperties = combinedProperties.withColumn("p", functions.regexp_replace(functions.translate(combinedProperties.col("p"), "<>", ""), 
@@ -149,25 +302,258 @@ public class PropertyTableLoader {
 	 * Create the final property table, allProperties contains the list of all
 	 * possible properties isComplexProperty contains (in the same order used by
 	 * allProperties) the boolean value that indicates if that property is
-	 * complex (called also multi valued) or simple.
+	 * complex (called also multi valued) or simple. The triples of the other
+	 * properties are ignored.
 	 */
-	public void buildComplexPropertyTable(String[] allProperties, Boolean[] isComplexProperty) {
+	public void buildComplexPropertyTable(String tableName, Dataset<Row> triples, String[] allProperties,
+			Boolean[] isComplexProperty) {
 
-		// create a new aggregation environment
-		PropertiesAggregateFunction aggregator = new PropertiesAggregateFunction(allProperties, columns_separator);
+		String groupColumn = "group";
+
+		// group by the subject and get all the data
+		Dataset<Row> grouped = groupProperties(triples, allProperties);
+
+		Dataset<Row> propertyTable = grouped.selectExpr(selectProperties(groupColumn, allProperties, isComplexProperty));
+
+		// write the final one
+		writePropertyTable(propertyTable, tableName);
+		logger.info("Created property table with name: " + tableName);
+
+	}
+
+	/**
+	 * Return the property table of every property, or null if all the
+	 * properties are in the same table. With maxColumns, the properties are
+	 * clustered so that the properties used by the same subjects are in the
+	 * same table: the characteristic sets are visited from the most frequent,
+	 * and the properties of a set not yet assigned go in the table containing
+	 * most of its other properties, while there is space, and then in new
+	 * tables. In append mode, the existing clusters are kept and the new
+	 * properties go in the smallest table. The clusters are saved in a table.
+	 */
+	private Map<String, String> getPropertyClusters(String[] allProperties) {
+		boolean existingClusters = Arrays.asList(spark.sqlContext().tableNames()).contains(clusters_tablename);
+		Map<String, String> clusters = new LinkedHashMap<String, String>();
+		Map<String, Integer> tableSizes = new LinkedHashMap<String, Integer>();
+		if (existingClusters) {
+			for (Row row : spark.table(clusters_tablename).collectAsList())
+				clusters.put(row.getString(0), row.getString(1));
+			if (!appendMode) {
+				// the tables of the old clusters are replaced
+				List<String> existingTables = Arrays.asList(spark.sqlContext().tableNames());
+				for (String tableName : new LinkedHashSet<String>(clusters.values())) {
+					if (!tableName.equals(output_tablename) && existingTables.contains(tableName))
+						dropTables(tableName);
+					if (!tableName.equals(output_tablename) && existingTables.contains(tableName + "_partitions"))
+						dropTables(tableName + "_partitions");
+				}
+				dropTables(clusters_tablename);
+				clusters.clear();
+			}
+		}
+		int capacity = maxColumns > 0 ? maxColumns : Integer.MAX_VALUE;
+		// the clusters are not introduced in append mode
+		if (clusters.isEmpty() && (appendMode || maxColumns <= 0 || allProperties.length <= maxColumns))
+			return null;
+		for (String tableName : clusters.values())
+			tableSizes.put(tableName, tableSizes.containsKey(tableName) ? tableSizes.get(tableName) + 1 : 1);
+
+		if (!appendMode) {
+			Dataset<Row> triples = normalizePredicates(getTriples(false));
+			triples.createOrReplaceTempView("cluster_triples");
+			List<Row> characteristicSets = spark.sql(String.format(
+					"SELECT cs, COUNT(*) AS subjects FROM (SELECT %1$s, concat_ws(' ', sort_array(collect_set(%2$s))) AS cs"
+					+ " FROM cluster_triples GROUP BY %1$s) sets GROUP BY cs ORDER BY subjects DESC, cs LIMIT %3$d",
+					column_name_subject, column_name_predicate, max_characteristic_sets)).collectAsList();
+			for (Row row : characteristicSets) {
+				// count the properties of the set in every table
+				List<String> unassigned = new ArrayList<String>();
+				Map<String, Integer> setTables = new HashMap<String, Integer>();
+				for (String property : row.getString(0).split(" ")) {
+					String tableName = clusters.get(property);
+					if (tableName == null)
+						unassigned.add(property);
+					else
+						setTables.put(tableName, setTables.containsKey(tableName) ? setTables.get(tableName) + 1 : 1);
+				}
+				String bestTable = null;
+				for (String tableName : setTables.keySet())
+					if (tableSizes.get(tableName) < capacity
+							&& (bestTable == null || setTables.get(tableName) > setTables.get(bestTable)))
+						bestTable = tableName;
+				for (String property : unassigned)
+					bestTable = addToCluster(clusters, tableSizes, property, bestTable, capacity);
+			}
+		}
+
+		// the properties not in the frequent sets (or new) go in the smallest table
+		for (String property : allProperties) {
+			if (clusters.containsKey(property))
+				continue;
+			String smallestTable = null;
+			for (String tableName : tableSizes.keySet())
+				if (smallestTable == null || tableSizes.get(tableName) < tableSizes.get(smallestTable))
+					smallestTable = tableName;
+			addToCluster(clusters, tableSizes, property, smallestTable, capacity);
+		}
 
-		String predicateObjectColumn = "po";
+		List<Row> clusterRows = new ArrayList<Row>();
+		for (Map.Entry<String, String> cluster : clusters.entrySet())
+			clusterRows.add(RowFactory.create(cluster.getKey(), cluster.getValue()));
+		StructType schema = new StructType()
+				.add("property", DataTypes.StringType)
+				.add("table_name", DataTypes.StringType);
+		spark.createDataFrame(clusterRows, schema).write().mode(SaveMode.Overwrite).saveAsTable(clusters_tablename);
+		logger.info("Properties clustered in " + tableSizes.size() + " property tables");
+		return clusters;
+	}
+
+	/**
+	 * Add the property to the given table if it has space, otherwise to a new
+	 * table, and return the table used.
+	 */
+	private String addToCluster(Map<String, String> clusters, Map<String, Integer> tableSizes, String property,
+			String tableName, int capacity) {
+		if (tableName == null || tableSizes.get(tableName) >= capacity) {
+			tableName = tableSizes.isEmpty() ? output_tablename : output_tablename + "_" + tableSizes.size();
+			while (tableSizes.containsKey(tableName))
+				tableName += "_";
+			tableSizes.put(tableName, 0);
+		}
+		clusters.put(property, tableName);
+		tableSizes.put(tableName, tableSizes.get(tableName) + 1);
+		return tableName;
+	}
+
+	/**
+	 * Write the property table. If csPartitions is set, the subjects are
+	 * partitioned by characteristic set (the set of their properties): each of
+	 * the most frequent sets has a partition, that contains also the subjects of
+	 * its subsets, and the partition 0 contains all the others. The properties
+	 * present in every partition are saved in a separate table, used by the
+	 * executor to read only the partitions that can contain a triple group.
+	 */
+	private void writePropertyTable(Dataset<Row> propertyTable, String tableName) {
+		String partitionsTableName = tableName + "_partitions";
+		if (csPartitions <= 0) {
+			if (Arrays.asList(spark.sqlContext().tableNames()).contains(partitionsTableName))
+				dropTables(partitionsTableName);
+			propertyTable.write().mode(SaveMode.Overwrite).format(table_format).saveAsTable(tableName);
+			return;
+		}
+		String[] properties = Arrays.copyOfRange(propertyTable.columns(), 1, propertyTable.columns().length);
+
+		// the characteristic set of a subject as a string with a 0 or 1 for every property
+		Column[] setBits = new Column[properties.length];
+		for (int i = 0; i < properties.length; i++)
+			setBits[i] = functions.when(propertyTable.col(properties[i]).isNull(), "0").otherwise("1");
+		Dataset<Row> withSets = propertyTable.withColumn("cs_bits", functions.concat(setBits)).cache();
+		List<Row> frequentRows = withSets.groupBy("cs_bits").count().orderBy(functions.desc("count"))
+				.limit(csPartitions - 1).collectAsList();
+		String[] frequentSets = new String[frequentRows.size()];
+		for (int i = 0; i < frequentSets.length; i++)
+			frequentSets[i] = frequentRows.get(i).getString(0);
+		spark.udf().register(partition_column, (UDF1<String, Integer>) set -> findPartition(set, frequentSets),
+				DataTypes.IntegerType);
+		withSets.withColumn(partition_column, functions.callUDF(partition_column, withSets.col("cs_bits")))
+				.drop("cs_bits").write().mode(SaveMode.Overwrite).format(table_format).partitionBy(partition_column)
+				.saveAsTable(tableName);
+		withSets.unpersist();
+
+		// the properties with at least a value in every partition
+		Dataset<Row> partitionedTable = spark.table(tableName);
+		Column[] presentProperties = new Column[properties.length];
+		for (int i = 0; i < properties.length; i++)
+			presentProperties[i] = functions.max(functions.when(partitionedTable.col(properties[i]).isNull(), 0)
+					.otherwise(1));
+		List<Row> partitionRows = new ArrayList<Row>();
+		for (Row row : partitionedTable.groupBy(partition_column)
+				.agg(presentProperties[0], Arrays.copyOfRange(presentProperties, 1, properties.length)).collectAsList()) {
+			List<String> partitionProperties = new ArrayList<String>();
+			for (int i = 0; i < properties.length; i++)
+				if (row.getInt(i + 1) == 1)
+					partitionProperties.add(properties[i]);
+			partitionRows.add(RowFactory.create(row.getInt(0), partitionProperties));
+		}
+		StructType schema = new StructType()
+				.add(partition_column, DataTypes.IntegerType)
+				.add("properties", DataTypes.createArrayType(DataTypes.StringType));
+		spark.createDataFrame(partitionRows, schema).write().mode(SaveMode.Overwrite).saveAsTable(partitionsTableName);
+		logger.info("Partitioned the property table by characteristic set in " + partitionRows.size() + " partitions");
+	}
+
+	/**
+	 * Return the partition of a characteristic set: 1 + the position of the
+	 * smallest frequent set containing it, or 0 if there is none.
+	 */
+	private static int findPartition(String set, String[] frequentSets) {
+		int partition = 0;
+		int partitionSize = Integer.MAX_VALUE;
+		for (int i = 0; i < frequentSets.length; i++) {
+			boolean contains = true;
+			int size = 0;
+			for (int j = 0; j < set.length() && contains; j++) {
+				if (frequentSets[i].charAt(j) == '1')
+					size++;
+				else if (set.charAt(j) == '1')
+					contains = false;
+			}
+			if (contains && size < partitionSize) {
+				partition = i + 1;
+				partitionSize = size;
+			}
+		}
+		return partition;
+	}
+
+	/**
+	 * Create the inverse property table, with one row for every object and a
+	 * column for every property containing its subjects. A property is complex
+	 * if at least one object has more than one subject.
+	 */
+	public void buildInversePropertyTable(String[] allProperties) {
 		String groupColumn = "group";
+		Dataset<Row> grouped = groupProperties(getTriples(true), allProperties);
+		Boolean[] isComplexProperty = getComplexProperties(grouped, groupColumn, allProperties.length);
+		Dataset<Row> inverseTable = grouped.selectExpr(selectProperties(groupColumn, allProperties, isComplexProperty))
+				.withColumnRenamed(column_name_subject, column_name_object);
+
+		inverseTable.write().mode(SaveMode.Overwrite).format(table_format)
+				.saveAsTable(inverse_output_tablename);
+		logger.info("Created inverse property table with name: " + inverse_output_tablename);
+	}
 
-		// get the compressed table
-		Dataset<Row> compressedTriples = spark.sql(String.format("SELECT %s, CONCAT(%s, '%s', %s) AS po FROM %s",
-				column_name_subject, column_name_predicate, columns_separator, column_name_object, tablename_tripletable));
+	/**
+	 * Return the triples of the input as (s, p, o), or with subject and object
+	 * swapped if inverse is true.
+	 */
+	private Dataset<Row> getTriples(boolean inverse) {
+		String first = inverse ? column_name_object : column_name_subject;
+		String last = inverse ? column_name_subject : column_name_object;
+		return spark.sql(String.format("SELECT %s AS %s, %s, %s AS %s FROM %s", first, column_name_subject,
+				column_name_predicate, last, column_name_object, tablename_tripletable));
+	}
 
-		// group by the subject and get all the data
-		Dataset<Row> grouped = compressedTriples.groupBy(column_name_subject)
-				.agg(aggregator.apply(compressedTriples.col(predicateObjectColumn)).alias(groupColumn));
+	/**
+	 * Find the complex properties of the grouped data, the ones with more than
+	 * one value in the same row.
+	 */
+	private Boolean[] getComplexProperties(Dataset<Row> grouped, String groupColumn, int numberOfProperties) {
+		String[] maxValues = new String[numberOfProperties];
+		for (int i = 0; i < numberOfProperties; i++)
+			maxValues[i] = String.format("MAX(SIZE(%s[%d]))", groupColumn, i);
+		Row sizes = grouped.selectExpr(maxValues).first();
+		Boolean[] isComplexProperty = new Boolean[numberOfProperties];
+		for (int i = 0; i < numberOfProperties; i++)
+			isComplexProperty[i] = !sizes.isNullAt(i) && sizes.getInt(i) > 1;
+		return isComplexProperty;
+	}
 
-		// build the query to extract the property from the array
+	/**
+	 * Build the query to extract the properties from the array produced by
+	 * groupProperties.
+	 */
+	private String[] selectProperties(String groupColumn, String[] allProperties, Boolean[] isComplexProperty) {
 		String[] selectProperties = new String[allProperties.length + 1];
 		selectProperties[0] = column_name_subject;
 		for (int i = 0; i < allProperties.length; i++) {
@@ -181,14 +567,193 @@ public class PropertyTableLoader {
 					: " " + groupColumn + "[" + String.valueOf(i) + "][0] AS " + getValidColumnName(rawProperty);
 			selectProperties[i + 1] = newProperty;
 		}
+		return selectProperties;
+	}
+
+	/**
+	 * Merge the delta triples into an existing property table (or inverse
+	 * property table, with the delta keyed by object). Only the rows of the keys
+	 * in the delta are built again: their old values are turned back into
+	 * triples and grouped together with the new ones. The other rows are kept,
+	 * adding the new columns and converting to lists the values of the
+	 * properties that became complex.
+	 */
+	public void mergeDelta(String tableName, Dataset<Row> delta, String[] deltaProperties,
+			Boolean[] deltaComplexProperty) {
+		String groupColumn = "group";
+		String mergeTableName = tableName + "_merge";
+		Dataset<Row> oldTable = spark.table(tableName);
+		if (Arrays.asList(oldTable.columns()).contains(partition_column))
+			oldTable = oldTable.drop(partition_column);
+		String keyColumn = oldTable.columns()[0];
+		oldTable = oldTable.withColumnRenamed(keyColumn, column_name_subject);
+		DataType objectType = delta.schema().apply(2).dataType();
+
+		// the old properties keep their position, the new ones are added at the end
+		String[] oldProperties = Arrays.copyOfRange(oldTable.columns(), 1, oldTable.columns().length);
+		List<String> properties = new ArrayList<String>(Arrays.asList(oldProperties));
+		List<Boolean> complex = new ArrayList<Boolean>();
+		for (String property : oldProperties)
+			complex.add(oldTable.schema().apply(property).dataType() instanceof ArrayType);
+		for (int i = 0; i < deltaProperties.length; i++) {
+			int position = properties.indexOf(getValidColumnName(deltaProperties[i]));
+			if (position < 0) {
+				properties.add(getValidColumnName(deltaProperties[i]));
+				complex.add(deltaComplexProperty[i]);
+			} else if (deltaComplexProperty[i]) {
+				complex.set(position, true);
+			}
+		}
+		String[] allProperties = properties.toArray(new String[properties.size()]);
+		Boolean[] isComplexProperty = complex.toArray(new Boolean[complex.size()]);
 
-		Dataset<Row> propertyTable = grouped.selectExpr(selectProperties);
+		// turn the old rows of the subjects in the delta back into triples
+		delta.createOrReplaceTempView("delta_triples");
+		oldTable.createOrReplaceTempView("old_property_table");
+		Dataset<Row> changedRows = spark.sql(String.format(
+				"SELECT t.* FROM old_property_table t LEFT SEMI JOIN delta_triples d ON t.%1$s = d.%1$s",
+				column_name_subject));
+		JavaRDD<Row> oldTriples = changedRows.javaRDD().flatMap(row -> {
+			List<Row> rowTriples = new ArrayList<Row>();
+			for (int i = 0; i < oldProperties.length; i++) {
+				if (row.isNullAt(i + 1))
+					continue;
+				if (row.get(i + 1) instanceof scala.collection.Seq) {
+					for (Object value : row.getList(i + 1))
+						rowTriples.add(RowFactory.create(row.get(0), oldProperties[i], value));
+				} else {
+					rowTriples.add(RowFactory.create(row.get(0), oldProperties[i], row.get(i + 1)));
+				}
+			}
+			return rowTriples.iterator();
+		});
+		Dataset<Row> changedTriples = spark.createDataFrame(oldTriples, delta.schema()).union(delta);
+		if (!tableName.equals(inverse_output_tablename))
+			changedTriples = separateOverflow(changedTriples);
+		Dataset<Row> grouped = groupProperties(changedTriples, allProperties);
 
-		// write the final one
-		propertyTable.write().mode(SaveMode.Overwrite).format(table_format)
-				.saveAsTable(output_tablename);
-		logger.info("Created property table with name: " + output_tablename);
+		// a property becomes complex also when a subject gets a second value
+		Boolean[] isComplexGroup = getComplexProperties(grouped, groupColumn, allProperties.length);
+		for (int i = 0; i < allProperties.length; i++)
+			isComplexProperty[i] = isComplexProperty[i] || isComplexGroup[i];
+		Dataset<Row> newRows = grouped.selectExpr(selectProperties(groupColumn, allProperties, isComplexProperty));
+
+		// adapt the rows of the subjects not in the delta to the new schema
+		String[] adaptedProperties = new String[allProperties.length + 1];
+		adaptedProperties[0] = column_name_subject;
+		for (int i = 0; i < allProperties.length; i++) {
+			String type = isComplexProperty[i] ? "array<" + objectType.simpleString() + ">" : objectType.simpleString();
+			if (i >= oldProperties.length)
+				adaptedProperties[i + 1] = String.format("CAST(NULL AS %s) AS %s", type, allProperties[i]);
+			else if (isComplexProperty[i] && !(oldTable.schema().apply(i + 1).dataType() instanceof ArrayType))
+				adaptedProperties[i + 1] = String.format("CASE WHEN %1$s IS NULL THEN NULL ELSE array(%1$s) END AS %1$s",
+						allProperties[i]);
+			else
+				adaptedProperties[i + 1] = allProperties[i];
+		}
+		Dataset<Row> keptRows = spark.sql(String.format(
+				"SELECT t.* FROM old_property_table t LEFT ANTI JOIN delta_triples d ON t.%1$s = d.%1$s",
+				column_name_subject)).selectExpr(adaptedProperties);
+
+		// the property table cannot be overwritten while reading it
+		keptRows.union(newRows).withColumnRenamed(column_name_subject, keyColumn)
+				.write().mode(SaveMode.Overwrite).format(table_format).saveAsTable(mergeTableName);
+		if (!tableName.equals(inverse_output_tablename))
+			writePropertyTable(spark.table(mergeTableName), tableName);
+		else
+			spark.table(mergeTableName).write().mode(SaveMode.Overwrite).format(table_format)
+					.saveAsTable(tableName);
+		dropTables(mergeTableName);
+		logger.info("Merged the delta into the property table " + tableName);
+	}
+
+	/**
+	 * Move to the overflow table the triples of the (subject, property) pairs
+	 * with more than overflowThreshold values, so that the whole list of values
+	 * of a hub subject never has to fit in a single row, and return the other
+	 * triples. The overflow table has the schema (s, p, o), where p is the name
+	 * of the property column. In append mode, the new values of the pairs
+	 * already in the overflow table are added to it.
+	 * Only the properties with a subject over the threshold in the statistics of
+	 * the input can have such pairs: if there are none, the triples are returned
+	 * without another pass. In append mode the older values of a subject count
+	 * too, so all the properties are checked.
+	 */
+	private Dataset<Row> separateOverflow(Dataset<Row> triples) {
+		boolean existingOverflow = Arrays.asList(spark.sqlContext().tableNames()).contains(overflow_tablename);
+		if (!appendMode && existingOverflow)
+			dropTables(overflow_tablename);
+		if (overflowThreshold <= 0 && !(appendMode && existingOverflow))
+			return triples;
+		List<String> overflowProperties = new ArrayList<String>();
+		for (Map.Entry<String, Long> property : maxValuesPerSubject.entrySet())
+			if (property.getValue() > overflowThreshold)
+				overflowProperties.add("'" + property.getKey() + "'");
+		if (!appendMode && overflowProperties.isEmpty()) {
+			logger.info("No subject has more than " + overflowThreshold + " values of a property");
+			return triples;
+		}
+
+		normalizePredicates(triples).createOrReplaceTempView("overflow_input");
+		List<String> pairQueries = new ArrayList<String>();
+		if (overflowThreshold > 0 && appendMode)
+			pairQueries.add(String.format("SELECT %1$s, %2$s FROM overflow_input GROUP BY %1$s, %2$s HAVING COUNT(*) > %3$d",
+					column_name_subject, column_name_predicate, overflowThreshold));
+		else if (overflowThreshold > 0)
+			// the property names are normalized, they contain only word characters
+			pairQueries.add(String.format("SELECT %1$s, %2$s FROM overflow_input WHERE %2$s IN (%4$s)"
+					+ " GROUP BY %1$s, %2$s HAVING COUNT(*) > %3$d",
+					column_name_subject, column_name_predicate, overflowThreshold, String.join(", ", overflowProperties)));
+		if (appendMode && existingOverflow)
+			pairQueries.add(String.format("SELECT DISTINCT %s, %s FROM %s", column_name_subject, column_name_predicate,
+					overflow_tablename));
+		Dataset<Row> overflowPairs = spark.sql(String.join(" UNION ", pairQueries)).cache();
+		logger.info("Subject and property pairs in the overflow table: " + overflowPairs.count());
+		overflowPairs.createOrReplaceTempView("overflow_pairs");
+
+		String joinCondition = String.format("t.%1$s = h.%1$s AND t.%2$s = h.%2$s", column_name_subject,
+				column_name_predicate);
+		spark.sql("SELECT t.* FROM overflow_input t LEFT SEMI JOIN overflow_pairs h ON " + joinCondition)
+				.write().mode(appendMode && existingOverflow ? SaveMode.Append : SaveMode.Overwrite)
+				.format(table_format).saveAsTable(overflow_tablename);
+		logger.info("Created overflow table with name: " + overflow_tablename);
+		return spark.sql("SELECT t.* FROM overflow_input t LEFT ANTI JOIN overflow_pairs h ON " + joinCondition);
+	}
+
+	/**
+	 * Replace the predicates of the triples with the names of their columns in
+	 * the property table.
+	 */
+	private Dataset<Row> normalizePredicates(Dataset<Row> triples) {
+		return triples.withColumn(column_name_predicate, functions.regexp_replace(
+				functions.translate(triples.col(column_name_predicate), "<>", ""), "[[^\\w]+]", "_"));
+	}
+
+	/**
+	 * Group the triples (s, p, o) by subject. The result has the schema (s, group)
+	 * where group[i] contains the list of objects of the property allProperties[i]
+	 * or NULL if the subject does not have that property. Subjects and objects can
+	 * be strings or dictionary ids.
+	 */
+	public Dataset<Row> groupProperties(Dataset<Row> triples, String[] allProperties) {
+		final PropertiesAggregator aggregator = new PropertiesAggregator(allProperties);
+
+		// pair every subject with the position of its property and the object
+		JavaPairRDD<Object, Tuple2<Integer, Object>> subjectValues = triples.javaRDD()
+				.mapToPair(row -> new Tuple2<Object, Tuple2<Integer, Object>>(row.get(0),
+						new Tuple2<Integer, Object>(aggregator.getPosition(row.getString(1)), row.get(2))))
+				.filter(pair -> pair._2()._1() >= 0);
+
+		// aggregate in place the values of the same subject
+		JavaRDD<Row> groupedRows = subjectValues
+				.combineByKey(aggregator::createBuffer, aggregator::update, aggregator::merge)
+				.map(subject -> RowFactory.create(subject._1(), aggregator.evaluate(subject._2())));
 
+		StructType schema = new StructType()
+				.add(column_name_subject, triples.schema().apply(0).dataType())
+				.add("group", DataTypes.createArrayType(DataTypes.createArrayType(
+						triples.schema().apply(2).dataType())));
+		return spark.createDataFrame(groupedRows, schema);
 	}
 
 	/**
@@ -0,0 +1,55 @@
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class NTriplesParserTest {
+
+	@Test
+	public void parsesTerms() {
+		assertArrayEquals(new String[] { "<s>", "<p>", "\"a b\"@en" }, NTriplesParser.parse("<s> <p> \"a b\"@en ."));
+		assertArrayEquals(new String[] { "<s>", "<p>", "\"1\"^^<int>" }, NTriplesParser.parse("<s>\t<p>\t\"1\"^^<int> ."));
+		// the graph label of N-Quads is ignored
+		assertArrayEquals(new String[] { "_:a", "<p>", "<o>" }, NTriplesParser.parse("_:a <p> <o> <g> ."));
+	}
+
+	@Test
+	public void acceptsAttachedDot() {
+		assertArrayEquals(new String[] { "<s>", "<p>", "_:b1" }, NTriplesParser.parse("<s> <p> _:b1."));
+		assertArrayEquals(new String[] { "<s>", "<p>", "_:b1" }, NTriplesParser.parse("<s> <p> _:b1.\r"));
+		assertArrayEquals(new String[] { "<s>", "<p>", "\"x\"@en" }, NTriplesParser.parse("<s> <p> \"x\"@en.  # comment"));
+		assertArrayEquals(new String[] { "<s>", "<p>", "_:b.c" }, NTriplesParser.parse("<s> <p> _:b.c ."));
+	}
+
+	@Test
+	public void acceptsCommentAfterDot() {
+		assertArrayEquals(new String[] { "<s>", "<p>", "<o>" }, NTriplesParser.parse("<s> <p> <o> . # comment"));
+		assertArrayEquals(new String[] { "<s>", "<p>", "<o>" }, NTriplesParser.parse("<s> <p> <o> .#comment"));
+	}
+
+	@Test
+	public void rejectsTextAfterDot() {
+		assertNull(NTriplesParser.parse("<s> <p> <o> . garbage"));
+		assertNull(NTriplesParser.parse("<s> <p> <o> .<x>"));
+		assertNull(NTriplesParser.parse("<s> <p> _:b1. garbage"));
+		// counted as malformed by the loader
+		assertFalse(NTriplesParser.isLineEnd("<s> <p> <o> . garbage", 0));
+	}
+
+	@Test
+	public void rejectsMalformedLines() {
+		assertNull(NTriplesParser.parse("<s> <p>"));
+		assertNull(NTriplesParser.parse("<s> <p> <o>"));
+		assertNull(NTriplesParser.parse("<s> <p> \"open ."));
+	}
+
+	@Test
+	public void skipsEmptyLinesAndComments() {
+		for (String line : new String[] { "", "  \r", "# comment", "  # comment" }) {
+			assertNull(NTriplesParser.parse(line));
+			assertTrue(NTriplesParser.isLineEnd(line, 0));
+		}
+	}
+}
@@ -0,0 +1,64 @@
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.apache.spark.sql.Row;
+import org.apache.spark.sql.RowFactory;
+import org.apache.spark.sql.SaveMode;
+import org.apache.spark.sql.SparkSession;
+import org.apache.spark.sql.types.DataTypes;
+import org.apache.spark.sql.types.StructType;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * The triple table created by the VP loader is still read after the property table,
+ * by the statistics: the loader must not remove it.
+ */
+public class PropertyTableLoaderTest {
+
+	private static final String DATABASE = "property_table_test";
+	private static SparkSession spark;
+
+	@BeforeClass
+	public static void startSpark() {
+		// the tables are read from the Hive metastore, as in the cluster
+		System.setProperty("derby.stream.error.file", "target/derby.log");
+		spark = SparkSession.builder().master("local[2]").appName("PropertyTableLoaderTest")
+				.config("spark.sql.warehouse.dir", new File("target/test-warehouse").getAbsolutePath())
+				.config("spark.sql.shuffle.partitions", "4")
+				.config("javax.jdo.option.ConnectionURL", "jdbc:derby:;databaseName=target/test-metastore;create=true")
+				.enableHiveSupport()
+				.getOrCreate();
+	}
+
+	@AfterClass
+	public static void stopSpark() {
+		spark.stop();
+	}
+
+	@Test
+	public void keepsExistingTripleTable() throws FileNotFoundException {
+		spark.sql("CREATE DATABASE IF NOT EXISTS " + DATABASE);
+		spark.sql("USE " + DATABASE);
+		List<Row> rows = new ArrayList<Row>();
+		rows.add(RowFactory.create("<s1>", "<http://example.org/p>", "<o1>"));
+		rows.add(RowFactory.create("<s1>", "<http://example.org/q>", "<o2>"));
+		rows.add(RowFactory.create("<s2>", "<http://example.org/p>", "<o3>"));
+		StructType schema = new StructType().add("s", DataTypes.StringType).add("p", DataTypes.StringType)
+				.add("o", DataTypes.StringType);
+		spark.createDataFrame(rows, schema).write().mode(SaveMode.Overwrite).saveAsTable("tripletable");
+		spark.sql("DROP TABLE IF EXISTS property_table");
+
+		new PropertyTableLoader(new File("target/unused-input").getAbsolutePath(), DATABASE).load();
+
+		List<String> tables = Arrays.asList(spark.sqlContext().tableNames(DATABASE));
+		assertTrue(tables.contains("property_table"));
+		assertTrue(tables.contains("tripletable"));
+	}
+}
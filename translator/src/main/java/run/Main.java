@@ -22,6 +22,7 @@ import org.apache.log4j.Logger;
  * -w, --width <number> the maximum Tree width
  * -p, --propertytable If set, the translator will create nodes for the property table
  * -g, --groupsize <number> the minimum size for property table groups (default = 2)
+ * -r, --inversepropertytable If set, the translator will create also nodes for the inverse property table
  * 
  * @author Matteo Cossu
  */
@@ -32,6 +33,7 @@ public class Main {
 	private static final Logger logger = Logger.getLogger(Main.class);
 	private static int treeWidth = -1;
 	private static boolean usePropertyTable = false;
+	private static boolean useInversePropertyTable = false;
 	private static int setGroupSize = -1;
 	
 	public static void main(String[] args) {
@@ -56,6 +58,8 @@ public class Main {
 		options.addOption(propertyTableOpt);
 		Option groupsizeOpt = new Option("g", "groupsize", true, "Minimum Group Size");
 		options.addOption(groupsizeOpt);
+		Option inversePropertyTableOpt = new Option("r", "inversepropertytable", false, "Use also inverse property table");
+		options.addOption(inversePropertyTableOpt);
 		
 		HelpFormatter formatter = new HelpFormatter();
 		CommandLine cmd = null;
@@ -91,6 +95,10 @@ public class Main {
 			usePropertyTable = true;
 			logger.info("Using property table additional option");
 		}
+		if(cmd.hasOption("inversepropertytable")){
+			useInversePropertyTable = true;
+			logger.info("Using inverse property table additional option");
+		}
 		if(cmd.hasOption("groupsize")){
 			setGroupSize = Integer.valueOf(cmd.getOptionValue("groupsize"));
 			logger.info("Minimum Group Size set to " + String.valueOf(setGroupSize));
@@ -101,6 +109,7 @@ public class Main {
 		 */
 		Translator translator = new Translator(inputFile, outputFile, statsFileName, treeWidth);
 		if (usePropertyTable) translator.setPropertyTable(true);
+		if (useInversePropertyTable) translator.setInversePropertyTable(true);
 		if (setGroupSize > 0) translator.setMinimumGroupSize(setGroupSize);
 		translator.translateQuery();
 	}
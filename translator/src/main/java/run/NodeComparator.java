@@ -1,9 +1,12 @@
 package run;
 
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.List;
 
 import tree.ProtobufJoinTree.Node;
 import tree.ProtobufJoinTree.Node.Builder;
+import tree.ProtobufJoinTree.Triple;
 import tree.ProtobufJoinTree.Triple.ElementType;
 import tree.Stats;
 
@@ -25,6 +28,9 @@ public class NodeComparator implements Comparator<Node.Builder> {
 		
 		if(node.getTripleGroupCount() > 0) {
 			priority = 1 / node.getTripleGroupCount();
+			float estimate = estimateGroupSize(node);
+			if (estimate >= 0)
+				priority = (float) stats.normalize(estimate);
 		} else {
 			String predicate = node.getTriple().getPredicate().getName();
 			boolean isObjectVariable = node.getTriple().getObject().getType() == ElementType.VARIABLE;
@@ -32,22 +38,48 @@ public class NodeComparator implements Comparator<Node.Builder> {
 			if (!isObjectVariable || !isSubjectVariable){
 				priority = 0;
 			} else {
-				int size = stats.getTableSize(predicate);	
-				int distinctSubjects = stats.getTableDistinctSubjects(predicate);
-				priority = (float) (size * (Math.log(distinctSubjects) / Math.log(1.2)));
+				long size = stats.getTableSize(predicate);	
+				long distinctSubjects = stats.getTableDistinctSubjects(predicate);
+				// an empty table (all its triples deleted) comes first
+				if (size == 0)
+					priority = 0;
+				else
+					priority = (float) (stats.normalize(size) * (Math.log(distinctSubjects) / Math.log(1.2)));
 			}
 		}
 		
 		return priority;
 	}
 	
+	/*
+	 * estimateGroupSize estimates the results of a subject star with the characteristic sets,
+	 * or of a chain with the size of its path table, reduced by the selectivity of the
+	 * constant objects. It returns -1 if it is not possible.
+	 */
+	private float estimateGroupSize(Builder node){
+		if(stats == null || node.getObjectGroup()) return -1;
+		List<String> properties = new ArrayList<String>();
+		for(Triple triple : node.getTripleGroupList())
+			properties.add(triple.getPredicate().getName());
+		float estimate = node.hasPathTable() ? stats.getPathTableSize(node.getPathTable())
+				: stats.estimateStarSize(properties);
+		if(estimate <= 0) return estimate;
+		for(Triple triple : node.getTripleGroupList()){
+			if(triple.getObject().getType() == ElementType.CONSTANT){
+				String predicate = triple.getPredicate().getName();
+				estimate *= stats.estimateBoundObjectSize(predicate, triple.getObject().getName()) / stats.getTableSize(predicate);
+			}
+		}
+		return estimate;
+	}
+	
 	@Override
 	public int compare(Builder node1, Builder node2) {
 		
 		float priorityNode1 = heuristicNodePriority(node1);
 		float priorityNode2 = heuristicNodePriority(node2);
 	
-		return (int) Math.ceil(priorityNode1 - priorityNode2);
+		return Float.compare(priorityNode1, priorityNode2);
 	}
 
 }
@@ -5,6 +5,7 @@ import java.io.FileOutputStream;
 import java.io.IOException;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -12,8 +13,15 @@ import java.util.PriorityQueue;
 
 import org.apache.log4j.Logger;
 
+import tree.BloomFilterStore;
 import tree.ProtobufJoinTree;
+import tree.ProtobufJoinTree.Filter;
+import tree.ProtobufStats.Table;
+import tree.ProtobufStats.TableBloomFilters;
+import tree.ProtobufStats.TermFrequency;
+import tree.ProtobufStats.ExtVPTable;
 import tree.ProtobufJoinTree.Node.Builder;
+import tree.SampleStore;
 import tree.Stats;
 import tree.ProtobufJoinTree.Node;
 
@@ -22,9 +30,18 @@ import com.hp.hpl.jena.query.Query;
 import com.hp.hpl.jena.query.QueryFactory;
 import com.hp.hpl.jena.shared.PrefixMapping;
 import com.hp.hpl.jena.sparql.algebra.Algebra;
+import com.hp.hpl.jena.sparql.algebra.Op;
 import com.hp.hpl.jena.sparql.algebra.op.OpBGP;
+import com.hp.hpl.jena.sparql.algebra.op.OpFilter;
 import com.hp.hpl.jena.sparql.algebra.op.OpProject;
 import com.hp.hpl.jena.sparql.core.Var;
+import com.hp.hpl.jena.sparql.expr.E_Lang;
+import com.hp.hpl.jena.sparql.expr.E_LangMatches;
+import com.hp.hpl.jena.sparql.expr.E_LogicalAnd;
+import com.hp.hpl.jena.sparql.expr.Expr;
+import com.hp.hpl.jena.sparql.expr.ExprFunction2;
+import com.hp.hpl.jena.sparql.expr.ExprVar;
+import com.hp.hpl.jena.sparql.expr.NodeValue;
 /**
  * This class parses the SPARQL query,
  * build the Tree and save its serialization in a file.
@@ -38,13 +55,18 @@ public class Translator {
     String outputFile;
     String statsFile;
     Stats stats;
+    SampleStore samples;
+    BloomFilterStore bloomFilters;
     boolean statsActive = false;
     int treeWidth;
     int minimumGroupSize = DEFAULT_MIN_GROUP_SIZE;
     PrefixMapping prefixes;
     List<Var> variables;
     List<Triple> triples;
+    // the filters on the typed values of the objects, by variable
+    HashMap<String, List<Filter>> objectFilters = new HashMap<String, List<Filter>>();
 	private boolean usePropertyTable;
+	private boolean useInversePropertyTable;
     private static final Logger logger = Logger.getLogger(Main.class);
     
     public Translator(String input, String output, String statsPath, int treeWidth) {
@@ -54,6 +76,11 @@ public class Translator {
     	if(statsFile.length() > 0){
     		stats = new Stats(statsFile);
     		statsActive = true;
+    		// the samples are saved by the loader next to the statistics
+    		if(new File(statsFile + ".samples").exists())
+    			samples = new SampleStore(statsFile + ".samples");
+    		if(new File(statsFile + ".bloom").exists())
+    			bloomFilters = new BloomFilterStore(statsFile + ".bloom");
     	}
     	this.treeWidth = treeWidth;
     }
@@ -67,14 +94,34 @@ public class Translator {
         
         logger.info("*** SPARQL QUERY ***\n" + query +"\n********************"  );
         
-        // extract variables and list of triples from the unique BGP
+        // extract variables, list of triples and filters from the unique BGP
         OpProject opRoot = (OpProject) Algebra.compile(query);
-        OpBGP singleBGP = (OpBGP) opRoot.getSubOp();
+        Op subOp = opRoot.getSubOp();
+        if (subOp instanceof OpFilter) {
+        	for (Expr filter : ((OpFilter) subOp).getExprs())
+        		if (!addFilter(filter)) {
+        			logger.error("Filter not supported: " + filter);
+        			return;
+        		}
+        	subOp = ((OpFilter) subOp).getSubOp();
+        }
+        OpBGP singleBGP = (OpBGP) subOp;
         variables = opRoot.getVars();
         triples = singleBGP.getPattern().getList();
+        for (String variable : objectFilters.keySet()) {
+        	boolean isObject = false;
+        	for (Triple triple : triples)
+        		isObject |= triple.getObject().isVariable() && triple.getObject().getName().equals(variable);
+        	if (!isObject) {
+        		logger.error("Filters are supported only on the objects of the triples: ?" + variable);
+        		return;
+        	}
+        }
         
         // build the tree and serialize it
         Node tree = buildTree();
+        if (isProvablyEmpty())
+        	tree = tree.toBuilder().setEmptyResult(true).build();
         logger.info("*** Spark JoinTree ***\n" + tree +"\n********************" );
         
         // output the file
@@ -124,7 +171,7 @@ public class Translator {
     		}
     		
     		//Triple newTriple = findRelateTriple(currentTriple, triplesQueue);
-    		Node.Builder newNode =  findRelateNode(currentNode, nodesQueue);
+    		Node.Builder newNode =  findRelateNode(treeBuilder, currentNode, nodesQueue);
     		
     		// there are nodes that are impossible to join with the current tree width
     		if (newNode == null && visitableNodes.isEmpty()) {
@@ -148,7 +195,7 @@ public class Translator {
     			
     			// remove consumed node and look for another one
     			nodesQueue.remove(newNode);
-    			newNode = findRelateNode(currentNode, nodesQueue);
+    			newNode = findRelateNode(treeBuilder, currentNode, nodesQueue);
     			
     			limitWidth++;
     		}
@@ -162,45 +209,177 @@ public class Translator {
     	
     	return treeBuilder.build();
     }
-        
+    
+    /*
+     * isProvablyEmpty uses the Bloom filters to prove that the query has no results:
+     * in a conjunctive pattern a triple that cannot match any row empties the whole query.
+     * A triple cannot match if one of its constants is not in its table, or if the terms
+     * of a variable repeated in two positions cannot be in common between their tables.
+     * Two filters with terms in common have some bit in common, but the filters of big sets
+     * have many bits set: the terms of the small tables, all known from the statistics,
+     * are checked one by one.
+     */
+    private boolean isProvablyEmpty(){
+    	if (bloomFilters == null) return false;
+    	for (Triple triple : triples) {
+    		String property = triple.getPredicate().toString(prefixes);
+    		for (boolean isSubject : new boolean[] {true, false}) {
+    			com.hp.hpl.jena.graph.Node term = isSubject ? triple.getSubject() : triple.getObject();
+    			if (!term.isVariable() && !bloomFilters.mightContain(property, isSubject, term.toString(prefixes))) {
+    				logger.info("The query has no results, no triple of " + property + " contains " + term.toString(prefixes));
+    				return true;
+    			}
+    		}
+    	}
+    	// every pair of positions (also in the same triple) with the same variable
+    	for (int i = 0; i < triples.size(); i++)
+    		for (int j = i; j < triples.size(); j++)
+    			for (boolean isSubject : new boolean[] {true, false})
+    				for (boolean otherIsSubject : new boolean[] {true, false}) {
+    					if (i == j && isSubject == otherIsSubject) continue;
+    					Triple triple = triples.get(i);
+    					Triple otherTriple = triples.get(j);
+    					com.hp.hpl.jena.graph.Node term = isSubject ? triple.getSubject() : triple.getObject();
+    					com.hp.hpl.jena.graph.Node otherTerm = otherIsSubject ? otherTriple.getSubject() : otherTriple.getObject();
+    					if (!term.isVariable() || !term.equals(otherTerm)) continue;
+    					String property = triple.getPredicate().toString(prefixes);
+    					String otherProperty = otherTriple.getPredicate().toString(prefixes);
+    					if (!bloomFilters.mayIntersect(property, isSubject, otherProperty, otherIsSubject)
+    							|| !mayShareTerms(property, isSubject, otherProperty, otherIsSubject)
+    							|| !mayShareTerms(otherProperty, otherIsSubject, property, isSubject)) {
+    						logger.info("The query has no results, " + property + " and " + otherProperty
+    								+ " have no term in common for " + term.toString(prefixes));
+    						return true;
+    					}
+    				}
+    	return false;
+    }
+    
+    /*
+     * mayShareTerms returns false if all the subjects (or objects) of the first table are known
+     * from its exact statistics, because they are among the top terms, and none of them
+     * can be in the other table
+     */
+    private boolean mayShareTerms(String property, boolean isSubject, String otherProperty, boolean otherIsSubject){
+    	Table tableStats = stats.getTableStats(property);
+    	if (tableStats == null || tableStats.hasSubjectsSketch()) return true;
+    	List<TermFrequency> terms = isSubject ? tableStats.getTopSubjectsList() : tableStats.getTopObjectsList();
+    	if (!(isSubject ? tableStats.hasDistinctSubjects() : tableStats.hasDistinctObjects())
+    			|| terms.size() < (isSubject ? tableStats.getDistinctSubjects() : tableStats.getDistinctObjects()))
+    		return true;
+    	for (TermFrequency term : terms)
+    		if (bloomFilters.mightContain(otherProperty, otherIsSubject, term.getTerm()))
+    			return true;
+    	return false;
+    }
     
     private PriorityQueue<Builder> getNodesQueue() {
     	PriorityQueue<Builder> nodesQueue = new PriorityQueue<ProtobufJoinTree.Node.Builder>
     		(triples.size(), new NodeComparator(this.stats));
-    	if(usePropertyTable){
-			HashMap<String, List<Triple>> subjectGroups = new HashMap<String, List<Triple>>();
+    	// the materialized chains are read first from their path tables
+    	List<Triple> nodeTriples = statsActive ? addPathNodes(nodesQueue, triples) : triples;
+    	if(usePropertyTable || useInversePropertyTable){
+			// the triples with filters are read from their VP tables, where the filters are pushed down
+			List<Triple> ungroupedTriples = new ArrayList<Triple>();
+			for (Triple t : nodeTriples) {
+				if (getObjectFilters(t).isEmpty())
+					ungroupedTriples.add(t);
+				else
+					nodesQueue.add(buildNode(t, Collections.<Triple> emptyList()));
+			}
 			
 			// group by subjects
-			for(Triple triple : triples){
-				String subject = triple.getSubject().toString(prefixes);
-		
-				if (subjectGroups.containsKey(subject)) {
-					subjectGroups.get(subject).add(triple);
-				} else {
-					List<Triple> subjTriples = new ArrayList<Triple>();
-					subjTriples.add(triple);
-					subjectGroups.put(subject, subjTriples);
-				}
-			}
+			if(usePropertyTable)
+				ungroupedTriples = addGroupNodes(nodesQueue, ungroupedTriples, false);
+			
+			// group by objects the triples that are not in a subject group
+			if(useInversePropertyTable)
+				ungroupedTriples = addGroupNodes(nodesQueue, ungroupedTriples, true);
 			
-			// create and add the proper nodes
-			for(String subject : subjectGroups.keySet()){
-				if (subjectGroups.get(subject).size() >= minimumGroupSize){
-					nodesQueue.add(buildNode(null, subjectGroups.get(subject)));
-				} else {
-					for (Triple t : subjectGroups.get(subject))
-						nodesQueue.add(buildNode(t, Collections.<Triple> emptyList()));
-				}
-			}			
+			for (Triple t : ungroupedTriples)
+				nodesQueue.add(buildNode(t, Collections.<Triple> emptyList()));
     
 		} else {
-			for(Triple t : triples){
+			for(Triple t : nodeTriples){
 				nodesQueue.add(buildNode(t, Collections.<Triple> emptyList()));
 			}
 		}
     	return nodesQueue;
 	}
 
+	/*
+	 * addPathNodes replaces every chain of two triples (?a p1 ?b . ?b p2 ?c) materialized
+	 * by the loader with a single node, reading the join from the path table.
+	 * The triples with filters are read from their VP tables. The other triples are returned.
+	 */
+	private List<Triple> addPathNodes(PriorityQueue<Builder> nodesQueue, List<Triple> triples){
+		List<Triple> remaining = new ArrayList<Triple>(triples);
+		for (int i = 0; i < remaining.size(); i++) {
+			Triple first = remaining.get(i);
+			if (!first.getObject().isVariable() || !getObjectFilters(first).isEmpty()) continue;
+			for (Triple second : remaining) {
+				if (second == first || !first.getObject().equals(second.getSubject())
+						|| !getObjectFilters(second).isEmpty())
+					continue;
+				String pathTable = stats.getPathTable(first.getPredicate().toString(prefixes),
+						second.getPredicate().toString(prefixes));
+				if (pathTable == null) continue;
+				Node.Builder pathNode = buildNode(null, Arrays.asList(first, second));
+				pathNode.setPathTable(pathTable);
+				nodesQueue.add(pathNode);
+				remaining.remove(first);
+				remaining.remove(second);
+				// start again, the indexes of the remaining triples have changed
+				i = -1;
+				break;
+			}
+		}
+		return remaining;
+	}
+
+	/*
+	 * addGroupNodes groups the triples by subject (or by object) and adds a node
+	 * for each group big enough. The triples left alone are returned.
+	 */
+	private List<Triple> addGroupNodes(PriorityQueue<Builder> nodesQueue, List<Triple> triples, boolean byObject){
+		HashMap<String, List<Triple>> groups = new HashMap<String, List<Triple>>();
+		for(Triple triple : triples){
+			String key = byObject ? triple.getObject().toString(prefixes) : triple.getSubject().toString(prefixes);
+			// the subject groups are split by property table, when there are more
+			if (!byObject && getPropertyTable(triple) != null)
+				key += " " + getPropertyTable(triple);
+	
+			if (groups.containsKey(key)) {
+				groups.get(key).add(triple);
+			} else {
+				List<Triple> groupTriples = new ArrayList<Triple>();
+				groupTriples.add(triple);
+				groups.put(key, groupTriples);
+			}
+		}
+		
+		// create and add the proper nodes
+		List<Triple> ungroupedTriples = new ArrayList<Triple>();
+		for(String key : groups.keySet()){
+			if (groups.get(key).size() >= minimumGroupSize){
+				Node.Builder groupNode = buildNode(null, groups.get(key));
+				if (byObject) groupNode.setObjectGroup(true);
+				else if (getPropertyTable(groups.get(key).get(0)) != null)
+					groupNode.setPropertyTable(getPropertyTable(groups.get(key).get(0)));
+				nodesQueue.add(groupNode);
+			} else {
+				ungroupedTriples.addAll(groups.get(key));
+			}
+		}
+		return ungroupedTriples;
+	}
+
+	// the property table with the column of the triple, null if there is only one
+	private String getPropertyTable(Triple triple){
+		if (!statsActive) return null;
+		return stats.getPropertyTable(triple.getPredicate().toString(prefixes));
+	}
+
 	private ProtobufJoinTree.Node.Builder buildNode(Triple triple, List<Triple> tripleGroup){
     	ProtobufJoinTree.Node.Builder nodeBuilder = ProtobufJoinTree.Node.newBuilder();
     	
@@ -250,51 +429,207 @@ public class Translator {
         			.setName(triple.getObject().toString(prefixes))
         			.setType(ProtobufJoinTree.Triple.ElementType.CONSTANT));
     	
+		tripleBuilder.addAllObjectFilters(getObjectFilters(triple));
+		
 		// set optional statistics
 		if(statsActive) tripleBuilder.setStats(stats.getTableStats(
 				triple.getPredicate().toString(prefixes)));
 		
+		// set the ExtVP table to use instead of the whole VP table
+		if(statsActive){
+			String extVPTable = findBestExtVPTable(triple);
+			if (extVPTable != null) tripleBuilder.setExtVPTable(extVPTable);
+		}
+		
+		// the Bloom filters of the variables, used by the executor to pre-filter the joins
+		if(bloomFilters != null){
+			TableBloomFilters tableFilters = bloomFilters.getTableBloomFilters(triple.getPredicate().toString(prefixes));
+			if (tableFilters != null) {
+				TableBloomFilters.Builder filtersBuilder = tableFilters.toBuilder();
+				if (!triple.getSubject().isVariable()) filtersBuilder.clearSubjects();
+				if (!triple.getObject().isVariable()) filtersBuilder.clearObjects();
+				if (filtersBuilder.hasSubjects() || filtersBuilder.hasObjects())
+					tripleBuilder.setBloomFilters(filtersBuilder);
+			}
+		}
+		
     	return tripleBuilder;
     }
     
     
     /*
      * findRelateNode, given a source node, finds another node
-     * with at least one variable in common, if there isn't return null
-     * TODO: clean this mess
+     * with at least one variable in common, if there isn't return null.
+     * With the statistics, the node with the smallest join with the tree is chosen.
      */
-    private Node.Builder findRelateNode(Node.Builder sourceNode, PriorityQueue<Node.Builder> availableNodes){
-    	
-    	if (sourceNode.getTripleGroupCount() > 0){
-    		// sourceNode is a group
-    		for(tree.ProtobufJoinTree.Triple tripleSource : sourceNode.getTripleGroupList()){
-				for (Node.Builder node : availableNodes){
-					if(node.getTripleGroupCount() > 0) {
-						for(tree.ProtobufJoinTree.Triple tripleDest : node.getTripleGroupList())
-	    					if(existsVariableInCommon(tripleSource, tripleDest))
-	    						return node;
-					} else {
-						if(existsVariableInCommon(tripleSource, node.getTriple()))
-							return node;
-					}
-				}
+    private Node.Builder findRelateNode(Node.Builder tree, Node.Builder sourceNode,
+    		PriorityQueue<Node.Builder> availableNodes){
+    	Node.Builder bestNode = null;
+    	double bestJoinSize = Double.MAX_VALUE;
+    	for (Node.Builder node : availableNodes) {
+    		if(!existsVariableInCommon(sourceNode, node)) continue;
+    		if(!statsActive) return node;
+    		double joinSize = estimateJoinSize(tree, sourceNode, node);
+    		if(bestNode == null || joinSize < bestJoinSize){
+    			bestNode = node;
+    			bestJoinSize = joinSize;
     		}
-    		
+    	}
+    	return bestNode;
+    }
+    
+    private boolean existsVariableInCommon(Node.Builder a, Node.Builder b){
+    	for(ProtobufJoinTree.Triple tripleA : getTriples(a))
+    		for(ProtobufJoinTree.Triple tripleB : getTriples(b))
+    			if(existsVariableInCommon(tripleA, tripleB))
+    				return true;
+    	return false;
+    }
+    
+    /*
+     * estimateJoinSize evaluates on the samples, if present, the join of the tree built so far
+     * with the node, otherwise it uses the smallest join size between the triples of the source and of the node.
+     * If nothing is known, it returns Double.MAX_VALUE.
+     */
+    private double estimateJoinSize(Node.Builder tree, Node.Builder source, Node.Builder node){
+    	if(samples != null){
+    		List<ProtobufJoinTree.Triple> joinTriples = new ArrayList<ProtobufJoinTree.Triple>();
+    		collectTriples(tree, joinTriples);
+    		joinTriples.addAll(getTriples(node));
+    		double estimate = samples.estimate(joinTriples);
+    		if(estimate >= 0) return estimate;
+    	}
+    	double joinSize = Double.MAX_VALUE;
+    	for(ProtobufJoinTree.Triple tripleSource : getTriples(source)){
+    		for(ProtobufJoinTree.Triple tripleDest : getTriples(node)){
+    			if(!existsVariableInCommon(tripleSource, tripleDest)) continue;
+    			long size = stats.getJoinSize(tripleSource.getPredicate().getName(),
+    					tripleDest.getPredicate().getName(), getJoinType(tripleSource, tripleDest));
+    			if(size >= 0 && size < joinSize) joinSize = size;
+    		}
+    	}
+    	return joinSize;
+    }
+    
+    private List<ProtobufJoinTree.Triple> getTriples(Node.Builder node){
+    	if(node.getTripleGroupCount() > 0)
+    		return node.getTripleGroupList();
+    	return Collections.singletonList(node.getTriple());
+    }
+    
+    // add the triples of the whole subtree
+    private void collectTriples(Node.Builder node, List<ProtobufJoinTree.Triple> triples){
+    	triples.addAll(getTriples(node));
+    	for(Node.Builder child : node.getChildrenBuilderList())
+    		collectTriples(child, triples);
+    }
+    
+    // position of the variable shared by the two triples, in the first and in the second
+    private ExtVPTable.JoinType getJoinType(ProtobufJoinTree.Triple a, ProtobufJoinTree.Triple b){
+    	ProtobufJoinTree.Triple.ElementType variableType = ProtobufJoinTree.Triple.ElementType.VARIABLE;
+    	if(a.getSubject().getType() == variableType && a.getSubject().equals(b.getSubject()))
+    		return ExtVPTable.JoinType.SS;
+    	if(a.getSubject().getType() == variableType && a.getSubject().equals(b.getObject()))
+    		return ExtVPTable.JoinType.SO;
+    	if(a.getObject().getType() == variableType && a.getObject().equals(b.getSubject()))
+    		return ExtVPTable.JoinType.OS;
+    	return ExtVPTable.JoinType.OO;
+    }
+    
+    /*
+     * addFilter adds the filter to the objects of its variable. The supported
+     * filters compare a variable with a number or a date, or the language of a
+     * variable with a tag, also in conjunctions. It returns false for the others.
+     */
+    private boolean addFilter(Expr expr){
+    	if (expr instanceof E_LogicalAnd)
+    		return addFilter(((E_LogicalAnd) expr).getArg1()) && addFilter(((E_LogicalAnd) expr).getArg2());
+    	if (!(expr instanceof ExprFunction2))
+    		return false;
+    	Expr left = ((ExprFunction2) expr).getArg1();
+    	Expr right = ((ExprFunction2) expr).getArg2();
+    	String operator = expr instanceof E_LangMatches ? "langMatches" : ((ExprFunction2) expr).getOpName();
+    	if (operator == null || !Arrays.asList("=", "!=", "<", "<=", ">", ">=", "langMatches").contains(operator))
+    		return false;
+    	// the constant on the right
+    	if (left.isConstant() && !operator.equals("langMatches")) {
+    		Expr constant = left;
+    		left = right;
+    		right = constant;
+    		operator = operator.replace('<', '#').replace('>', '<').replace('#', '>');
+    	}
+    	if (!right.isConstant())
+    		return false;
+    	NodeValue constant = right.getConstant();
+    	
+    	Filter.Builder filter = Filter.newBuilder().setOperator(operator);
+    	Expr variable = left;
+    	if (left instanceof E_Lang && constant.isString()) {
+    		if (!operator.equals("=") && !operator.equals("!=") && !operator.equals("langMatches"))
+    			return false;
+    		variable = ((E_Lang) left).getArg();
+    		filter.setType(Filter.Type.LANGUAGE).setValue(constant.getString());
+    	} else if (constant.isNumber() && !operator.equals("langMatches")) {
+    		filter.setType(Filter.Type.NUMERIC).setValue(constant.asNode().getLiteralLexicalForm());
+    	} else if ((constant.isDate() || constant.isDateTime()) && !operator.equals("langMatches")) {
+    		filter.setType(Filter.Type.TIME).setValue(constant.asNode().getLiteralLexicalForm());
     	} else {
-    		// source node is not a group
-    		for (Node.Builder node : availableNodes) {
-    			if(node.getTripleGroupCount() > 0) {
-    				for(tree.ProtobufJoinTree.Triple tripleDest : node.getTripleGroupList()){
-    					if(existsVariableInCommon(tripleDest, sourceNode.getTriple()))
-    						return node;
-    				}
-    			} else {
-    				if(existsVariableInCommon(sourceNode.getTriple(), node.getTriple()))
-    					return node;
+    		return false;
+    	}
+    	if (!(variable instanceof ExprVar))
+    		return false;
+    	String name = ((ExprVar) variable).getVarName();
+    	if (!objectFilters.containsKey(name))
+    		objectFilters.put(name, new ArrayList<Filter>());
+    	objectFilters.get(name).add(filter.build());
+    	return true;
+    }
+    
+    // the filters on the object of the triple
+    private List<Filter> getObjectFilters(Triple triple){
+    	if (!triple.getObject().isVariable() || !objectFilters.containsKey(triple.getObject().getName()))
+    		return Collections.emptyList();
+    	return objectFilters.get(triple.getObject().getName());
+    }
+    
+    /*
+     * findBestExtVPTable returns the smallest ExtVP table of the triple
+     * that is a reduction with another triple of the query, if there is one
+     */
+    private String findBestExtVPTable(Triple triple){
+    	String bestTable = null;
+    	long bestSize = Long.MAX_VALUE;
+    	// the partition of a constant class is read instead of the whole table
+    	String predicate = triple.getPredicate().toString(prefixes);
+    	if(!triple.getObject().isVariable() && stats.isPartitionedByObject(predicate))
+    		bestSize = (long) stats.estimateBoundObjectSize(predicate, triple.getObject().toString(prefixes));
+    	for(ExtVPTable extVPTable : stats.getExtVPTables(predicate)){
+    		if(extVPTable.getSize() >= bestSize) continue;
+    		for(Triple other : triples){
+    			if(other != triple && 
+    					other.getPredicate().toString(prefixes).equals(extVPTable.getOtherProperty()) &&
+    					isReducedBy(triple, other, extVPTable.getType())){
+    				bestTable = extVPTable.getName();
+    				bestSize = extVPTable.getSize();
+    				break;
     			}
     		}
     	}
-    	return null;
+    	return bestTable;
+    }
+    
+    // true if the join between the two triples is the one of an ExtVP table with the given type
+    private boolean isReducedBy(Triple triple, Triple other, ExtVPTable.JoinType type){
+    	switch(type){
+    	case SS:
+    		return triple.getSubject().isVariable() && triple.getSubject().equals(other.getSubject());
+    	case SO:
+    		return triple.getSubject().isVariable() && triple.getSubject().equals(other.getObject());
+    	case OS:
+    		return triple.getObject().isVariable() && triple.getObject().equals(other.getSubject());
+    	default:
+    		return false;
+    	}
     }
     
     private boolean existsVariableInCommon(Triple a, Triple b) {
@@ -330,15 +665,21 @@ public class Translator {
     	if(!node.getTripleGroupList().isEmpty())
     		return 5;
     	String predicate = node.getTriple().getPredicate().getName();
-    	int tableSize = stats.getTableSize(predicate);
-    	int numberUniqueSubjects = stats.getTableDistinctSubjects(predicate);
-    	float proportion = tableSize / numberUniqueSubjects;
+    	long tableSize = stats.getTableSize(predicate);
+    	long numberUniqueSubjects = stats.getTableDistinctSubjects(predicate);
+    	float proportion = getProportion(tableSize, numberUniqueSubjects);
     	if(proportion > 1)
     		return 3;
     	return 2;
     }
     
     
+    // number of elements per subject, 0 if the table is empty
+    private static float getProportion(long size, long distinctSubjects){
+    	if(distinctSubjects <= 0) return 0;
+    	return (float) size / distinctSubjects;
+    }
+    
     /*
      * Simple triples reordering based on statistics.
      * Thanks to this method the building of the tree will follow a better order.
@@ -351,12 +692,12 @@ public class Translator {
     	// find the best root
     	int indexBestRoot = 0;
     	String predicate = triples.get(0).getPredicate().toString(prefixes);
-    	int bestSize = stats.getTableSize(predicate);
-    	float bestProportion = bestSize / stats.getTableDistinctSubjects(predicate);
+    	long bestSize = stats.getTableSize(predicate);
+    	float bestProportion = getProportion(bestSize, stats.getTableDistinctSubjects(predicate));
     	for(int i = 1; i < triples.size(); i++){
     		predicate = triples.get(i).getPredicate().toString(prefixes);
-        	float proportion = stats.getTableSize(predicate) / 
-        			stats.getTableDistinctSubjects(predicate);
+        	float proportion = getProportion(stats.getTableSize(predicate),
+        			stats.getTableDistinctSubjects(predicate));
         	
         	// update best if the proportion is better
         	if (proportion > bestProportion){
@@ -383,6 +724,10 @@ public class Translator {
 		this.usePropertyTable = b;
 	}
 	
+	public void setInversePropertyTable(boolean b) {
+		this.useInversePropertyTable = b;
+	}
+	
 	public void setMinimumGroupSize(int size){
 		this.minimumGroupSize = size;
 	}
@@ -0,0 +1,65 @@
+package tree;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.util.HashMap;
+
+import org.apache.log4j.Logger;
+
+import run.Main;
+import tree.ProtobufStats.TableBloomFilters;
+
+/**
+ * BloomFilterStore contains the Bloom filters of the subjects and of the objects
+ * of the tables, saved by the loader next to the statistics. They prove that a
+ * triple pattern has no results, when its constants are not in the table or
+ * when the terms of a join variable cannot be in common between two tables.
+ */
+public class BloomFilterStore {
+	private HashMap<String, TableBloomFilters> tables = new HashMap<String, TableBloomFilters>();
+	private HashMap<String, BloomFilter> subjectFilters = new HashMap<String, BloomFilter>();
+	private HashMap<String, BloomFilter> objectFilters = new HashMap<String, BloomFilter>();
+
+	private static final Logger logger = Logger.getLogger(Main.class);
+
+	public BloomFilterStore(String fileName){
+		try {
+			ProtobufStats.BloomFilters bloomFilters = ProtobufStats.BloomFilters.parseFrom(new FileInputStream(fileName));
+			for(TableBloomFilters table : bloomFilters.getTablesList()){
+				tables.put(table.getProperty(), table);
+				if(table.hasSubjects())
+					subjectFilters.put(table.getProperty(), new BloomFilter(table.getSubjects()));
+				if(table.hasObjects())
+					objectFilters.put(table.getProperty(), new BloomFilter(table.getObjects()));
+			}
+			logger.info("Bloom filters correctly parsed");
+		} catch (IOException e) {
+			logger.error("Bloom filters file cannot be read: " + fileName);
+		}
+	}
+
+	/**
+	 * getTableBloomFilters returns the Bloom filters of the table of the property, null if missing
+	 */
+	public TableBloomFilters getTableBloomFilters(String property){
+		return tables.get(property);
+	}
+
+	/**
+	 * mightContain returns false if the term is surely not a subject (or an object) of the property
+	 */
+	public boolean mightContain(String property, boolean isSubject, String term){
+		BloomFilter filter = isSubject ? subjectFilters.get(property) : objectFilters.get(property);
+		return filter == null || filter.mightContain(term);
+	}
+
+	/**
+	 * mayIntersect returns false if the subjects (or the objects) of the two properties
+	 * have surely no term in common
+	 */
+	public boolean mayIntersect(String property, boolean isSubject, String otherProperty, boolean otherIsSubject){
+		BloomFilter filter = isSubject ? subjectFilters.get(property) : objectFilters.get(property);
+		BloomFilter otherFilter = otherIsSubject ? subjectFilters.get(otherProperty) : objectFilters.get(otherProperty);
+		return filter == null || otherFilter == null || filter.mayIntersect(otherFilter);
+	}
+}
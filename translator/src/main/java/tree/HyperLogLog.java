@@ -0,0 +1,61 @@
+package tree;
+
+import tree.ProtobufStats.Sketch;
+
+/**
+ * HyperLogLog sketch of a set of terms, as computed by the loader.
+ * The registers of the sketches of two sets can be merged to obtain the
+ * sketch of their union, that is used also to estimate the size of their
+ * intersection.
+ */
+public class HyperLogLog {
+	private byte[] registers;
+
+	public HyperLogLog(Sketch sketch){
+		this.registers = sketch.getRegisters().toByteArray();
+	}
+
+	private HyperLogLog(byte[] registers){
+		this.registers = registers;
+	}
+
+	/**
+	 * union returns the sketch of the union of the two sets
+	 */
+	public HyperLogLog union(HyperLogLog other){
+		if (other.registers.length != registers.length)
+			throw new IllegalArgumentException("Sketches with different precision cannot be merged");
+		byte[] merged = new byte[registers.length];
+		for (int i = 0; i < registers.length; i++)
+			merged[i] = (byte) Math.max(registers[i], other.registers[i]);
+		return new HyperLogLog(merged);
+	}
+
+	/**
+	 * estimate returns the approximate number of distinct terms
+	 */
+	public long estimate(){
+		int m = registers.length;
+		double alpha = 0.7213 / (1 + 1.079 / m);
+		double sum = 0;
+		int zeros = 0;
+		for (byte register : registers) {
+			sum += Math.pow(2, -register);
+			if (register == 0) zeros++;
+		}
+		double estimate = alpha * m * m / sum;
+		// linear counting for the small cardinalities
+		if (estimate <= 2.5 * m && zeros > 0)
+			estimate = m * Math.log((double) m / zeros);
+		return Math.round(estimate);
+	}
+
+	/**
+	 * estimateIntersection returns the approximate number of terms
+	 * in common between the two sets, by inclusion-exclusion
+	 */
+	public long estimateIntersection(HyperLogLog other){
+		long intersection = estimate() + other.estimate() - union(other).estimate();
+		return Math.max(0, Math.min(intersection, Math.min(estimate(), other.estimate())));
+	}
+}
@@ -65,6 +65,104 @@ public final class ProtobufJoinTree {
      * <code>optional .Table stats = 4;</code>
      */
     ProtobufStats.TableOrBuilder getStatsOrBuilder();
+
+    // optional string extVPTable = 5;
+    /**
+     * <code>optional string extVPTable = 5;</code>
+     *
+     * <pre>
+     * ExtVP table to read instead of the VP table
+     * </pre>
+     */
+    boolean hasExtVPTable();
+    /**
+     * <code>optional string extVPTable = 5;</code>
+     *
+     * <pre>
+     * ExtVP table to read instead of the VP table
+     * </pre>
+     */
+    java.lang.String getExtVPTable();
+    /**
+     * <code>optional string extVPTable = 5;</code>
+     *
+     * <pre>
+     * ExtVP table to read instead of the VP table
+     * </pre>
+     */
+    com.google.protobuf.ByteString
+        getExtVPTableBytes();
+
+    // repeated .Filter objectFilters = 6;
+    /**
+     * <code>repeated .Filter objectFilters = 6;</code>
+     *
+     * <pre>
+     * filters on the typed value of the object
+     * </pre>
+     */
+    java.util.List<ProtobufJoinTree.Filter> 
+        getObjectFiltersList();
+    /**
+     * <code>repeated .Filter objectFilters = 6;</code>
+     *
+     * <pre>
+     * filters on the typed value of the object
+     * </pre>
+     */
+    ProtobufJoinTree.Filter getObjectFilters(int index);
+    /**
+     * <code>repeated .Filter objectFilters = 6;</code>
+     *
+     * <pre>
+     * filters on the typed value of the object
+     * </pre>
+     */
+    int getObjectFiltersCount();
+    /**
+     * <code>repeated .Filter objectFilters = 6;</code>
+     *
+     * <pre>
+     * filters on the typed value of the object
+     * </pre>
+     */
+    java.util.List<? extends ProtobufJoinTree.FilterOrBuilder> 
+        getObjectFiltersOrBuilderList();
+    /**
+     * <code>repeated .Filter objectFilters = 6;</code>
+     *
+     * <pre>
+     * filters on the typed value of the object
+     * </pre>
+     */
+    ProtobufJoinTree.FilterOrBuilder getObjectFiltersOrBuilder(
+        int index);
+
+    // optional .TableBloomFilters bloomFilters = 7;
+    /**
+     * <code>optional .TableBloomFilters bloomFilters = 7;</code>
+     *
+     * <pre>
+     * Bloom filters of the table, to pre-filter the joins
+     * </pre>
+     */
+    boolean hasBloomFilters();
+    /**
+     * <code>optional .TableBloomFilters bloomFilters = 7;</code>
+     *
+     * <pre>
+     * Bloom filters of the table, to pre-filter the joins
+     * </pre>
+     */
+    ProtobufStats.TableBloomFilters getBloomFilters();
+    /**
+     * <code>optional .TableBloomFilters bloomFilters = 7;</code>
+     *
+     * <pre>
+     * Bloom filters of the table, to pre-filter the joins
+     * </pre>
+     */
+    ProtobufStats.TableBloomFiltersOrBuilder getBloomFiltersOrBuilder();
   }
   /**
    * Protobuf type {@code Triple}
@@ -169,6 +267,32 @@ public final class ProtobufJoinTree {
               bitField0_ |= 0x00000008;
               break;
             }
+            case 42: {
+              bitField0_ |= 0x00000010;
+              extVPTable_ = input.readBytes();
+              break;
+            }
+            case 50: {
+              if (!((mutable_bitField0_ & 0x00000020) == 0x00000020)) {
+                objectFilters_ = new java.util.ArrayList<ProtobufJoinTree.Filter>();
+                mutable_bitField0_ |= 0x00000020;
+              }
+              objectFilters_.add(input.readMessage(ProtobufJoinTree.Filter.PARSER, extensionRegistry));
+              break;
+            }
+            case 58: {
+              ProtobufStats.TableBloomFilters.Builder subBuilder = null;
+              if (((bitField0_ & 0x00000020) == 0x00000020)) {
+                subBuilder = bloomFilters_.toBuilder();
+              }
+              bloomFilters_ = input.readMessage(ProtobufStats.TableBloomFilters.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(bloomFilters_);
+                bloomFilters_ = subBuilder.buildPartial();
+              }
+              bitField0_ |= 0x00000020;
+              break;
+            }
           }
         }
       } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -177,6 +301,9 @@ public final class ProtobufJoinTree {
         throw new com.google.protobuf.InvalidProtocolBufferException(
             e.getMessage()).setUnfinishedMessage(this);
       } finally {
+        if (((mutable_bitField0_ & 0x00000020) == 0x00000020)) {
+          objectFilters_ = java.util.Collections.unmodifiableList(objectFilters_);
+        }
         this.unknownFields = unknownFields.build();
         makeExtensionsImmutable();
       }
@@ -956,11 +1083,159 @@ public final class ProtobufJoinTree {
       return stats_;
     }
 
+    // optional string extVPTable = 5;
+    public static final int EXTVPTABLE_FIELD_NUMBER = 5;
+    private java.lang.Object extVPTable_;
+    /**
+     * <code>optional string extVPTable = 5;</code>
+     *
+     * <pre>
+     * ExtVP table to read instead of the VP table
+     * </pre>
+     */
+    public boolean hasExtVPTable() {
+      return ((bitField0_ & 0x00000010) == 0x00000010);
+    }
+    /**
+     * <code>optional string extVPTable = 5;</code>
+     *
+     * <pre>
+     * ExtVP table to read instead of the VP table
+     * </pre>
+     */
+    public java.lang.String getExtVPTable() {
+      java.lang.Object ref = extVPTable_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          extVPTable_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string extVPTable = 5;</code>
+     *
+     * <pre>
+     * ExtVP table to read instead of the VP table
+     * </pre>
+     */
+    public com.google.protobuf.ByteString
+        getExtVPTableBytes() {
+      java.lang.Object ref = extVPTable_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        extVPTable_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    // repeated .Filter objectFilters = 6;
+    public static final int OBJECTFILTERS_FIELD_NUMBER = 6;
+    private java.util.List<ProtobufJoinTree.Filter> objectFilters_;
+    /**
+     * <code>repeated .Filter objectFilters = 6;</code>
+     *
+     * <pre>
+     * filters on the typed value of the object
+     * </pre>
+     */
+    public java.util.List<ProtobufJoinTree.Filter> getObjectFiltersList() {
+      return objectFilters_;
+    }
+    /**
+     * <code>repeated .Filter objectFilters = 6;</code>
+     *
+     * <pre>
+     * filters on the typed value of the object
+     * </pre>
+     */
+    public java.util.List<? extends ProtobufJoinTree.FilterOrBuilder> 
+        getObjectFiltersOrBuilderList() {
+      return objectFilters_;
+    }
+    /**
+     * <code>repeated .Filter objectFilters = 6;</code>
+     *
+     * <pre>
+     * filters on the typed value of the object
+     * </pre>
+     */
+    public int getObjectFiltersCount() {
+      return objectFilters_.size();
+    }
+    /**
+     * <code>repeated .Filter objectFilters = 6;</code>
+     *
+     * <pre>
+     * filters on the typed value of the object
+     * </pre>
+     */
+    public ProtobufJoinTree.Filter getObjectFilters(int index) {
+      return objectFilters_.get(index);
+    }
+    /**
+     * <code>repeated .Filter objectFilters = 6;</code>
+     *
+     * <pre>
+     * filters on the typed value of the object
+     * </pre>
+     */
+    public ProtobufJoinTree.FilterOrBuilder getObjectFiltersOrBuilder(
+        int index) {
+      return objectFilters_.get(index);
+    }
+
+    // optional .TableBloomFilters bloomFilters = 7;
+    public static final int BLOOMFILTERS_FIELD_NUMBER = 7;
+    private ProtobufStats.TableBloomFilters bloomFilters_;
+    /**
+     * <code>optional .TableBloomFilters bloomFilters = 7;</code>
+     *
+     * <pre>
+     * Bloom filters of the table, to pre-filter the joins
+     * </pre>
+     */
+    public boolean hasBloomFilters() {
+      return ((bitField0_ & 0x00000020) == 0x00000020);
+    }
+    /**
+     * <code>optional .TableBloomFilters bloomFilters = 7;</code>
+     *
+     * <pre>
+     * Bloom filters of the table, to pre-filter the joins
+     * </pre>
+     */
+    public ProtobufStats.TableBloomFilters getBloomFilters() {
+      return bloomFilters_;
+    }
+    /**
+     * <code>optional .TableBloomFilters bloomFilters = 7;</code>
+     *
+     * <pre>
+     * Bloom filters of the table, to pre-filter the joins
+     * </pre>
+     */
+    public ProtobufStats.TableBloomFiltersOrBuilder getBloomFiltersOrBuilder() {
+      return bloomFilters_;
+    }
+
     private void initFields() {
       subject_ = ProtobufJoinTree.Triple.Element.getDefaultInstance();
       predicate_ = ProtobufJoinTree.Triple.Element.getDefaultInstance();
       object_ = ProtobufJoinTree.Triple.Element.getDefaultInstance();
       stats_ = ProtobufStats.Table.getDefaultInstance();
+      extVPTable_ = "";
+      objectFilters_ = java.util.Collections.emptyList();
+      bloomFilters_ = ProtobufStats.TableBloomFilters.getDefaultInstance();
     }
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
@@ -997,6 +1272,18 @@ public final class ProtobufJoinTree {
           return false;
         }
       }
+      for (int i = 0; i < getObjectFiltersCount(); i++) {
+        if (!getObjectFilters(i).isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+      }
+      if (hasBloomFilters()) {
+        if (!getBloomFilters().isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+      }
       memoizedIsInitialized = 1;
       return true;
     }
@@ -1016,6 +1303,15 @@ public final class ProtobufJoinTree {
       if (((bitField0_ & 0x00000008) == 0x00000008)) {
         output.writeMessage(4, stats_);
       }
+      if (((bitField0_ & 0x00000010) == 0x00000010)) {
+        output.writeBytes(5, getExtVPTableBytes());
+      }
+      for (int i = 0; i < objectFilters_.size(); i++) {
+        output.writeMessage(6, objectFilters_.get(i));
+      }
+      if (((bitField0_ & 0x00000020) == 0x00000020)) {
+        output.writeMessage(7, bloomFilters_);
+      }
       getUnknownFields().writeTo(output);
     }
 
@@ -1041,6 +1337,18 @@ public final class ProtobufJoinTree {
         size += com.google.protobuf.CodedOutputStream
           .computeMessageSize(4, stats_);
       }
+      if (((bitField0_ & 0x00000010) == 0x00000010)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(5, getExtVPTableBytes());
+      }
+      for (int i = 0; i < objectFilters_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(6, objectFilters_.get(i));
+      }
+      if (((bitField0_ & 0x00000020) == 0x00000020)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(7, bloomFilters_);
+      }
       size += getUnknownFields().getSerializedSize();
       memoizedSerializedSize = size;
       return size;
@@ -1153,6 +1461,8 @@ public final class ProtobufJoinTree {
           getPredicateFieldBuilder();
           getObjectFieldBuilder();
           getStatsFieldBuilder();
+          getObjectFiltersFieldBuilder();
+          getBloomFiltersFieldBuilder();
         }
       }
       private static Builder create() {
@@ -1185,6 +1495,20 @@ public final class ProtobufJoinTree {
           statsBuilder_.clear();
         }
         bitField0_ = (bitField0_ & ~0x00000008);
+        extVPTable_ = "";
+        bitField0_ = (bitField0_ & ~0x00000010);
+        if (objectFiltersBuilder_ == null) {
+          objectFilters_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000020);
+        } else {
+          objectFiltersBuilder_.clear();
+        }
+        if (bloomFiltersBuilder_ == null) {
+          bloomFilters_ = ProtobufStats.TableBloomFilters.getDefaultInstance();
+        } else {
+          bloomFiltersBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000040);
         return this;
       }
 
@@ -1245,6 +1569,27 @@ public final class ProtobufJoinTree {
         } else {
           result.stats_ = statsBuilder_.build();
         }
+        if (((from_bitField0_ & 0x00000010) == 0x00000010)) {
+          to_bitField0_ |= 0x00000010;
+        }
+        result.extVPTable_ = extVPTable_;
+        if (objectFiltersBuilder_ == null) {
+          if (((bitField0_ & 0x00000020) == 0x00000020)) {
+            objectFilters_ = java.util.Collections.unmodifiableList(objectFilters_);
+            bitField0_ = (bitField0_ & ~0x00000020);
+          }
+          result.objectFilters_ = objectFilters_;
+        } else {
+          result.objectFilters_ = objectFiltersBuilder_.build();
+        }
+        if (((from_bitField0_ & 0x00000040) == 0x00000040)) {
+          to_bitField0_ |= 0x00000020;
+        }
+        if (bloomFiltersBuilder_ == null) {
+          result.bloomFilters_ = bloomFilters_;
+        } else {
+          result.bloomFilters_ = bloomFiltersBuilder_.build();
+        }
         result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
@@ -1273,6 +1618,40 @@ public final class ProtobufJoinTree {
         if (other.hasStats()) {
           mergeStats(other.getStats());
         }
+        if (other.hasExtVPTable()) {
+          bitField0_ |= 0x00000010;
+          extVPTable_ = other.extVPTable_;
+          onChanged();
+        }
+        if (objectFiltersBuilder_ == null) {
+          if (!other.objectFilters_.isEmpty()) {
+            if (objectFilters_.isEmpty()) {
+              objectFilters_ = other.objectFilters_;
+              bitField0_ = (bitField0_ & ~0x00000020);
+            } else {
+              ensureObjectFiltersIsMutable();
+              objectFilters_.addAll(other.objectFilters_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.objectFilters_.isEmpty()) {
+            if (objectFiltersBuilder_.isEmpty()) {
+              objectFiltersBuilder_.dispose();
+              objectFiltersBuilder_ = null;
+              objectFilters_ = other.objectFilters_;
+              bitField0_ = (bitField0_ & ~0x00000020);
+              objectFiltersBuilder_ = 
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getObjectFiltersFieldBuilder() : null;
+            } else {
+              objectFiltersBuilder_.addAllMessages(other.objectFilters_);
+            }
+          }
+        }
+        if (other.hasBloomFilters()) {
+          mergeBloomFilters(other.getBloomFilters());
+        }
         this.mergeUnknownFields(other.getUnknownFields());
         return this;
       }
@@ -1308,6 +1687,18 @@ public final class ProtobufJoinTree {
             return false;
           }
         }
+        for (int i = 0; i < getObjectFiltersCount(); i++) {
+          if (!getObjectFilters(i).isInitialized()) {
+            
+            return false;
+          }
+        }
+        if (hasBloomFilters()) {
+          if (!getBloomFilters().isInitialized()) {
+            
+            return false;
+          }
+        }
         return true;
       }
 
@@ -1798,92 +2189,1617 @@ public final class ProtobufJoinTree {
         return statsBuilder_;
       }
 
-      // @@protoc_insertion_point(builder_scope:Triple)
-    }
-
-    static {
-      defaultInstance = new Triple(true);
-      defaultInstance.initFields();
-    }
-
-    // @@protoc_insertion_point(class_scope:Triple)
+      // optional string extVPTable = 5;
+      private java.lang.Object extVPTable_ = "";
+      /**
+       * <code>optional string extVPTable = 5;</code>
+       *
+       * <pre>
+       * ExtVP table to read instead of the VP table
+       * </pre>
+       */
+      public boolean hasExtVPTable() {
+        return ((bitField0_ & 0x00000010) == 0x00000010);
+      }
+      /**
+       * <code>optional string extVPTable = 5;</code>
+       *
+       * <pre>
+       * ExtVP table to read instead of the VP table
+       * </pre>
+       */
+      public java.lang.String getExtVPTable() {
+        java.lang.Object ref = extVPTable_;
+        if (!(ref instanceof java.lang.String)) {
+          java.lang.String s = ((com.google.protobuf.ByteString) ref)
+              .toStringUtf8();
+          extVPTable_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string extVPTable = 5;</code>
+       *
+       * <pre>
+       * ExtVP table to read instead of the VP table
+       * </pre>
+       */
+      public com.google.protobuf.ByteString
+          getExtVPTableBytes() {
+        java.lang.Object ref = extVPTable_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          extVPTable_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string extVPTable = 5;</code>
+       *
+       * <pre>
+       * ExtVP table to read instead of the VP table
+       * </pre>
+       */
+      public Builder setExtVPTable(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
   }
+  bitField0_ |= 0x00000010;
+        extVPTable_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string extVPTable = 5;</code>
+       *
+       * <pre>
+       * ExtVP table to read instead of the VP table
+       * </pre>
+       */
+      public Builder clearExtVPTable() {
+        bitField0_ = (bitField0_ & ~0x00000010);
+        extVPTable_ = getDefaultInstance().getExtVPTable();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string extVPTable = 5;</code>
+       *
+       * <pre>
+       * ExtVP table to read instead of the VP table
+       * </pre>
+       */
+      public Builder setExtVPTableBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000010;
+        extVPTable_ = value;
+        onChanged();
+        return this;
+      }
 
-  public interface NodeOrBuilder
-      extends com.google.protobuf.MessageOrBuilder {
-
-    // optional .Triple triple = 1;
-    /**
-     * <code>optional .Triple triple = 1;</code>
-     */
-    boolean hasTriple();
-    /**
-     * <code>optional .Triple triple = 1;</code>
-     */
-    ProtobufJoinTree.Triple getTriple();
-    /**
-     * <code>optional .Triple triple = 1;</code>
-     */
-    ProtobufJoinTree.TripleOrBuilder getTripleOrBuilder();
-
-    // repeated .Node children = 2;
-    /**
-     * <code>repeated .Node children = 2;</code>
-     */
-    java.util.List<ProtobufJoinTree.Node> 
-        getChildrenList();
-    /**
-     * <code>repeated .Node children = 2;</code>
-     */
-    ProtobufJoinTree.Node getChildren(int index);
-    /**
-     * <code>repeated .Node children = 2;</code>
-     */
-    int getChildrenCount();
-    /**
-     * <code>repeated .Node children = 2;</code>
-     */
-    java.util.List<? extends ProtobufJoinTree.NodeOrBuilder> 
-        getChildrenOrBuilderList();
-    /**
-     * <code>repeated .Node children = 2;</code>
-     */
-    ProtobufJoinTree.NodeOrBuilder getChildrenOrBuilder(
-        int index);
+      // repeated .Filter objectFilters = 6;
+      private java.util.List<ProtobufJoinTree.Filter> objectFilters_ =
+        java.util.Collections.emptyList();
+      private void ensureObjectFiltersIsMutable() {
+        if (!((bitField0_ & 0x00000020) == 0x00000020)) {
+          objectFilters_ = new java.util.ArrayList<ProtobufJoinTree.Filter>(objectFilters_);
+          bitField0_ |= 0x00000020;
+         }
+      }
 
-    // repeated string projection = 3;
-    /**
-     * <code>repeated string projection = 3;</code>
-     */
-    java.util.List<java.lang.String>
-    getProjectionList();
-    /**
-     * <code>repeated string projection = 3;</code>
-     */
-    int getProjectionCount();
-    /**
-     * <code>repeated string projection = 3;</code>
-     */
-    java.lang.String getProjection(int index);
-    /**
-     * <code>repeated string projection = 3;</code>
-     */
-    com.google.protobuf.ByteString
-        getProjectionBytes(int index);
+      private com.google.protobuf.RepeatedFieldBuilder<
+          ProtobufJoinTree.Filter, ProtobufJoinTree.Filter.Builder, ProtobufJoinTree.FilterOrBuilder> objectFiltersBuilder_;
 
-    // repeated .Triple tripleGroup = 4;
-    /**
-     * <code>repeated .Triple tripleGroup = 4;</code>
-     */
-    java.util.List<ProtobufJoinTree.Triple> 
-        getTripleGroupList();
-    /**
-     * <code>repeated .Triple tripleGroup = 4;</code>
-     */
-    ProtobufJoinTree.Triple getTripleGroup(int index);
-    /**
-     * <code>repeated .Triple tripleGroup = 4;</code>
-     */
+      /**
+       * <code>repeated .Filter objectFilters = 6;</code>
+       *
+       * <pre>
+       * filters on the typed value of the object
+       * </pre>
+       */
+      public java.util.List<ProtobufJoinTree.Filter> getObjectFiltersList() {
+        if (objectFiltersBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(objectFilters_);
+        } else {
+          return objectFiltersBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .Filter objectFilters = 6;</code>
+       *
+       * <pre>
+       * filters on the typed value of the object
+       * </pre>
+       */
+      public int getObjectFiltersCount() {
+        if (objectFiltersBuilder_ == null) {
+          return objectFilters_.size();
+        } else {
+          return objectFiltersBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .Filter objectFilters = 6;</code>
+       *
+       * <pre>
+       * filters on the typed value of the object
+       * </pre>
+       */
+      public ProtobufJoinTree.Filter getObjectFilters(int index) {
+        if (objectFiltersBuilder_ == null) {
+          return objectFilters_.get(index);
+        } else {
+          return objectFiltersBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .Filter objectFilters = 6;</code>
+       *
+       * <pre>
+       * filters on the typed value of the object
+       * </pre>
+       */
+      public Builder setObjectFilters(
+          int index, ProtobufJoinTree.Filter value) {
+        if (objectFiltersBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureObjectFiltersIsMutable();
+          objectFilters_.set(index, value);
+          onChanged();
+        } else {
+          objectFiltersBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Filter objectFilters = 6;</code>
+       *
+       * <pre>
+       * filters on the typed value of the object
+       * </pre>
+       */
+      public Builder setObjectFilters(
+          int index, ProtobufJoinTree.Filter.Builder builderForValue) {
+        if (objectFiltersBuilder_ == null) {
+          ensureObjectFiltersIsMutable();
+          objectFilters_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          objectFiltersBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Filter objectFilters = 6;</code>
+       *
+       * <pre>
+       * filters on the typed value of the object
+       * </pre>
+       */
+      public Builder addObjectFilters(ProtobufJoinTree.Filter value) {
+        if (objectFiltersBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureObjectFiltersIsMutable();
+          objectFilters_.add(value);
+          onChanged();
+        } else {
+          objectFiltersBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Filter objectFilters = 6;</code>
+       *
+       * <pre>
+       * filters on the typed value of the object
+       * </pre>
+       */
+      public Builder addObjectFilters(
+          int index, ProtobufJoinTree.Filter value) {
+        if (objectFiltersBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureObjectFiltersIsMutable();
+          objectFilters_.add(index, value);
+          onChanged();
+        } else {
+          objectFiltersBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Filter objectFilters = 6;</code>
+       *
+       * <pre>
+       * filters on the typed value of the object
+       * </pre>
+       */
+      public Builder addObjectFilters(
+          ProtobufJoinTree.Filter.Builder builderForValue) {
+        if (objectFiltersBuilder_ == null) {
+          ensureObjectFiltersIsMutable();
+          objectFilters_.add(builderForValue.build());
+          onChanged();
+        } else {
+          objectFiltersBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Filter objectFilters = 6;</code>
+       *
+       * <pre>
+       * filters on the typed value of the object
+       * </pre>
+       */
+      public Builder addObjectFilters(
+          int index, ProtobufJoinTree.Filter.Builder builderForValue) {
+        if (objectFiltersBuilder_ == null) {
+          ensureObjectFiltersIsMutable();
+          objectFilters_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          objectFiltersBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Filter objectFilters = 6;</code>
+       *
+       * <pre>
+       * filters on the typed value of the object
+       * </pre>
+       */
+      public Builder addAllObjectFilters(
+          java.lang.Iterable<? extends ProtobufJoinTree.Filter> values) {
+        if (objectFiltersBuilder_ == null) {
+          ensureObjectFiltersIsMutable();
+          super.addAll(values, objectFilters_);
+          onChanged();
+        } else {
+          objectFiltersBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Filter objectFilters = 6;</code>
+       *
+       * <pre>
+       * filters on the typed value of the object
+       * </pre>
+       */
+      public Builder clearObjectFilters() {
+        if (objectFiltersBuilder_ == null) {
+          objectFilters_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000020);
+          onChanged();
+        } else {
+          objectFiltersBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Filter objectFilters = 6;</code>
+       *
+       * <pre>
+       * filters on the typed value of the object
+       * </pre>
+       */
+      public Builder removeObjectFilters(int index) {
+        if (objectFiltersBuilder_ == null) {
+          ensureObjectFiltersIsMutable();
+          objectFilters_.remove(index);
+          onChanged();
+        } else {
+          objectFiltersBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Filter objectFilters = 6;</code>
+       *
+       * <pre>
+       * filters on the typed value of the object
+       * </pre>
+       */
+      public ProtobufJoinTree.Filter.Builder getObjectFiltersBuilder(
+          int index) {
+        return getObjectFiltersFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .Filter objectFilters = 6;</code>
+       *
+       * <pre>
+       * filters on the typed value of the object
+       * </pre>
+       */
+      public ProtobufJoinTree.FilterOrBuilder getObjectFiltersOrBuilder(
+          int index) {
+        if (objectFiltersBuilder_ == null) {
+          return objectFilters_.get(index);  } else {
+          return objectFiltersBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .Filter objectFilters = 6;</code>
+       *
+       * <pre>
+       * filters on the typed value of the object
+       * </pre>
+       */
+      public java.util.List<? extends ProtobufJoinTree.FilterOrBuilder> 
+           getObjectFiltersOrBuilderList() {
+        if (objectFiltersBuilder_ != null) {
+          return objectFiltersBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(objectFilters_);
+        }
+      }
+      /**
+       * <code>repeated .Filter objectFilters = 6;</code>
+       *
+       * <pre>
+       * filters on the typed value of the object
+       * </pre>
+       */
+      public ProtobufJoinTree.Filter.Builder addObjectFiltersBuilder() {
+        return getObjectFiltersFieldBuilder().addBuilder(
+            ProtobufJoinTree.Filter.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .Filter objectFilters = 6;</code>
+       *
+       * <pre>
+       * filters on the typed value of the object
+       * </pre>
+       */
+      public ProtobufJoinTree.Filter.Builder addObjectFiltersBuilder(
+          int index) {
+        return getObjectFiltersFieldBuilder().addBuilder(
+            index, ProtobufJoinTree.Filter.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .Filter objectFilters = 6;</code>
+       *
+       * <pre>
+       * filters on the typed value of the object
+       * </pre>
+       */
+      public java.util.List<ProtobufJoinTree.Filter.Builder> 
+           getObjectFiltersBuilderList() {
+        return getObjectFiltersFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          ProtobufJoinTree.Filter, ProtobufJoinTree.Filter.Builder, ProtobufJoinTree.FilterOrBuilder> 
+          getObjectFiltersFieldBuilder() {
+        if (objectFiltersBuilder_ == null) {
+          objectFiltersBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              ProtobufJoinTree.Filter, ProtobufJoinTree.Filter.Builder, ProtobufJoinTree.FilterOrBuilder>(
+                  objectFilters_,
+                  ((bitField0_ & 0x00000020) == 0x00000020),
+                  getParentForChildren(),
+                  isClean());
+          objectFilters_ = null;
+        }
+        return objectFiltersBuilder_;
+      }
+
+      // optional .TableBloomFilters bloomFilters = 7;
+      private ProtobufStats.TableBloomFilters bloomFilters_ = ProtobufStats.TableBloomFilters.getDefaultInstance();
+      private com.google.protobuf.SingleFieldBuilder<
+          ProtobufStats.TableBloomFilters, ProtobufStats.TableBloomFilters.Builder, ProtobufStats.TableBloomFiltersOrBuilder> bloomFiltersBuilder_;
+      /**
+       * <code>optional .TableBloomFilters bloomFilters = 7;</code>
+       *
+       * <pre>
+       * Bloom filters of the table, to pre-filter the joins
+       * </pre>
+       */
+      public boolean hasBloomFilters() {
+        return ((bitField0_ & 0x00000040) == 0x00000040);
+      }
+      /**
+       * <code>optional .TableBloomFilters bloomFilters = 7;</code>
+       *
+       * <pre>
+       * Bloom filters of the table, to pre-filter the joins
+       * </pre>
+       */
+      public ProtobufStats.TableBloomFilters getBloomFilters() {
+        if (bloomFiltersBuilder_ == null) {
+          return bloomFilters_;
+        } else {
+          return bloomFiltersBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>optional .TableBloomFilters bloomFilters = 7;</code>
+       *
+       * <pre>
+       * Bloom filters of the table, to pre-filter the joins
+       * </pre>
+       */
+      public Builder setBloomFilters(ProtobufStats.TableBloomFilters value) {
+        if (bloomFiltersBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          bloomFilters_ = value;
+          onChanged();
+        } else {
+          bloomFiltersBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000040;
+        return this;
+      }
+      /**
+       * <code>optional .TableBloomFilters bloomFilters = 7;</code>
+       *
+       * <pre>
+       * Bloom filters of the table, to pre-filter the joins
+       * </pre>
+       */
+      public Builder setBloomFilters(
+          ProtobufStats.TableBloomFilters.Builder builderForValue) {
+        if (bloomFiltersBuilder_ == null) {
+          bloomFilters_ = builderForValue.build();
+          onChanged();
+        } else {
+          bloomFiltersBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000040;
+        return this;
+      }
+      /**
+       * <code>optional .TableBloomFilters bloomFilters = 7;</code>
+       *
+       * <pre>
+       * Bloom filters of the table, to pre-filter the joins
+       * </pre>
+       */
+      public Builder mergeBloomFilters(ProtobufStats.TableBloomFilters value) {
+        if (bloomFiltersBuilder_ == null) {
+          if (((bitField0_ & 0x00000040) == 0x00000040) &&
+              bloomFilters_ != ProtobufStats.TableBloomFilters.getDefaultInstance()) {
+            bloomFilters_ =
+              ProtobufStats.TableBloomFilters.newBuilder(bloomFilters_).mergeFrom(value).buildPartial();
+          } else {
+            bloomFilters_ = value;
+          }
+          onChanged();
+        } else {
+          bloomFiltersBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000040;
+        return this;
+      }
+      /**
+       * <code>optional .TableBloomFilters bloomFilters = 7;</code>
+       *
+       * <pre>
+       * Bloom filters of the table, to pre-filter the joins
+       * </pre>
+       */
+      public Builder clearBloomFilters() {
+        if (bloomFiltersBuilder_ == null) {
+          bloomFilters_ = ProtobufStats.TableBloomFilters.getDefaultInstance();
+          onChanged();
+        } else {
+          bloomFiltersBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000040);
+        return this;
+      }
+      /**
+       * <code>optional .TableBloomFilters bloomFilters = 7;</code>
+       *
+       * <pre>
+       * Bloom filters of the table, to pre-filter the joins
+       * </pre>
+       */
+      public ProtobufStats.TableBloomFilters.Builder getBloomFiltersBuilder() {
+        bitField0_ |= 0x00000040;
+        onChanged();
+        return getBloomFiltersFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .TableBloomFilters bloomFilters = 7;</code>
+       *
+       * <pre>
+       * Bloom filters of the table, to pre-filter the joins
+       * </pre>
+       */
+      public ProtobufStats.TableBloomFiltersOrBuilder getBloomFiltersOrBuilder() {
+        if (bloomFiltersBuilder_ != null) {
+          return bloomFiltersBuilder_.getMessageOrBuilder();
+        } else {
+          return bloomFilters_;
+        }
+      }
+      /**
+       * <code>optional .TableBloomFilters bloomFilters = 7;</code>
+       *
+       * <pre>
+       * Bloom filters of the table, to pre-filter the joins
+       * </pre>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          ProtobufStats.TableBloomFilters, ProtobufStats.TableBloomFilters.Builder, ProtobufStats.TableBloomFiltersOrBuilder> 
+          getBloomFiltersFieldBuilder() {
+        if (bloomFiltersBuilder_ == null) {
+          bloomFiltersBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              ProtobufStats.TableBloomFilters, ProtobufStats.TableBloomFilters.Builder, ProtobufStats.TableBloomFiltersOrBuilder>(
+                  bloomFilters_,
+                  getParentForChildren(),
+                  isClean());
+          bloomFilters_ = null;
+        }
+        return bloomFiltersBuilder_;
+      }
+
+      // @@protoc_insertion_point(builder_scope:Triple)
+    }
+
+    static {
+      defaultInstance = new Triple(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:Triple)
+  }
+
+  public interface FilterOrBuilder
+      extends com.google.protobuf.MessageOrBuilder {
+
+    // required .Filter.Type type = 1;
+    /**
+     * <code>required .Filter.Type type = 1;</code>
+     */
+    boolean hasType();
+    /**
+     * <code>required .Filter.Type type = 1;</code>
+     */
+    ProtobufJoinTree.Filter.Type getType();
+
+    // required string operator = 2;
+    /**
+     * <code>required string operator = 2;</code>
+     *
+     * <pre>
+     * =, !=, &lt;, &lt;=, &gt;, &gt;=, or langMatches for the language
+     * </pre>
+     */
+    boolean hasOperator();
+    /**
+     * <code>required string operator = 2;</code>
+     *
+     * <pre>
+     * =, !=, &lt;, &lt;=, &gt;, &gt;=, or langMatches for the language
+     * </pre>
+     */
+    java.lang.String getOperator();
+    /**
+     * <code>required string operator = 2;</code>
+     *
+     * <pre>
+     * =, !=, &lt;, &lt;=, &gt;, &gt;=, or langMatches for the language
+     * </pre>
+     */
+    com.google.protobuf.ByteString
+        getOperatorBytes();
+
+    // required string value = 3;
+    /**
+     * <code>required string value = 3;</code>
+     *
+     * <pre>
+     * lexical form of the constant
+     * </pre>
+     */
+    boolean hasValue();
+    /**
+     * <code>required string value = 3;</code>
+     *
+     * <pre>
+     * lexical form of the constant
+     * </pre>
+     */
+    java.lang.String getValue();
+    /**
+     * <code>required string value = 3;</code>
+     *
+     * <pre>
+     * lexical form of the constant
+     * </pre>
+     */
+    com.google.protobuf.ByteString
+        getValueBytes();
+  }
+  /**
+   * Protobuf type {@code Filter}
+   *
+   * <pre>
+   * comparison of the typed value of an object with a constant,
+   * pushed down to the typed columns of the VP tables
+   * </pre>
+   */
+  public static final class Filter extends
+      com.google.protobuf.GeneratedMessage
+      implements FilterOrBuilder {
+    // Use Filter.newBuilder() to construct.
+    private Filter(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private Filter(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final Filter defaultInstance;
+    public static Filter getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public Filter getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private Filter(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 8: {
+              int rawValue = input.readEnum();
+              ProtobufJoinTree.Filter.Type value = ProtobufJoinTree.Filter.Type.valueOf(rawValue);
+              if (value == null) {
+                unknownFields.mergeVarintField(1, rawValue);
+              } else {
+                bitField0_ |= 0x00000001;
+                type_ = value;
+              }
+              break;
+            }
+            case 18: {
+              bitField0_ |= 0x00000002;
+              operator_ = input.readBytes();
+              break;
+            }
+            case 26: {
+              bitField0_ |= 0x00000004;
+              value_ = input.readBytes();
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return ProtobufJoinTree.internal_static_Filter_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return ProtobufJoinTree.internal_static_Filter_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              ProtobufJoinTree.Filter.class, ProtobufJoinTree.Filter.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<Filter> PARSER =
+        new com.google.protobuf.AbstractParser<Filter>() {
+      public Filter parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new Filter(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<Filter> getParserForType() {
+      return PARSER;
+    }
+
+    /**
+     * Protobuf enum {@code Filter.Type}
+     */
+    public enum Type
+        implements com.google.protobuf.ProtocolMessageEnum {
+      /**
+       * <code>NUMERIC = 0;</code>
+       *
+       * <pre>
+       * the object is a number
+       * </pre>
+       */
+      NUMERIC(0, 0),
+      /**
+       * <code>TIME = 1;</code>
+       *
+       * <pre>
+       * the object is a xsd:date or xsd:dateTime
+       * </pre>
+       */
+      TIME(1, 1),
+      /**
+       * <code>LANGUAGE = 2;</code>
+       *
+       * <pre>
+       * the language tag of the object
+       * </pre>
+       */
+      LANGUAGE(2, 2),
+      ;
+
+      /**
+       * <code>NUMERIC = 0;</code>
+       *
+       * <pre>
+       * the object is a number
+       * </pre>
+       */
+      public static final int NUMERIC_VALUE = 0;
+      /**
+       * <code>TIME = 1;</code>
+       *
+       * <pre>
+       * the object is a xsd:date or xsd:dateTime
+       * </pre>
+       */
+      public static final int TIME_VALUE = 1;
+      /**
+       * <code>LANGUAGE = 2;</code>
+       *
+       * <pre>
+       * the language tag of the object
+       * </pre>
+       */
+      public static final int LANGUAGE_VALUE = 2;
+
+
+      public final int getNumber() { return value; }
+
+      public static Type valueOf(int value) {
+        switch (value) {
+          case 0: return NUMERIC;
+          case 1: return TIME;
+          case 2: return LANGUAGE;
+          default: return null;
+        }
+      }
+
+      public static com.google.protobuf.Internal.EnumLiteMap<Type>
+          internalGetValueMap() {
+        return internalValueMap;
+      }
+      private static com.google.protobuf.Internal.EnumLiteMap<Type>
+          internalValueMap =
+            new com.google.protobuf.Internal.EnumLiteMap<Type>() {
+              public Type findValueByNumber(int number) {
+                return Type.valueOf(number);
+              }
+            };
+
+      public final com.google.protobuf.Descriptors.EnumValueDescriptor
+          getValueDescriptor() {
+        return getDescriptor().getValues().get(index);
+      }
+      public final com.google.protobuf.Descriptors.EnumDescriptor
+          getDescriptorForType() {
+        return getDescriptor();
+      }
+      public static final com.google.protobuf.Descriptors.EnumDescriptor
+          getDescriptor() {
+        return ProtobufJoinTree.Filter.getDescriptor().getEnumTypes().get(0);
+      }
+
+      private static final Type[] VALUES = values();
+
+      public static Type valueOf(
+          com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
+        if (desc.getType() != getDescriptor()) {
+          throw new java.lang.IllegalArgumentException(
+            "EnumValueDescriptor is not for this type.");
+        }
+        return VALUES[desc.getIndex()];
+      }
+
+      private final int index;
+      private final int value;
+
+      private Type(int index, int value) {
+        this.index = index;
+        this.value = value;
+      }
+
+      // @@protoc_insertion_point(enum_scope:Filter.Type)
+    }
+
+    private int bitField0_;
+    // required .Filter.Type type = 1;
+    public static final int TYPE_FIELD_NUMBER = 1;
+    private ProtobufJoinTree.Filter.Type type_;
+    /**
+     * <code>required .Filter.Type type = 1;</code>
+     */
+    public boolean hasType() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>required .Filter.Type type = 1;</code>
+     */
+    public ProtobufJoinTree.Filter.Type getType() {
+      return type_;
+    }
+
+    // required string operator = 2;
+    public static final int OPERATOR_FIELD_NUMBER = 2;
+    private java.lang.Object operator_;
+    /**
+     * <code>required string operator = 2;</code>
+     *
+     * <pre>
+     * =, !=, &lt;, &lt;=, &gt;, &gt;=, or langMatches for the language
+     * </pre>
+     */
+    public boolean hasOperator() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>required string operator = 2;</code>
+     *
+     * <pre>
+     * =, !=, &lt;, &lt;=, &gt;, &gt;=, or langMatches for the language
+     * </pre>
+     */
+    public java.lang.String getOperator() {
+      java.lang.Object ref = operator_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          operator_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>required string operator = 2;</code>
+     *
+     * <pre>
+     * =, !=, &lt;, &lt;=, &gt;, &gt;=, or langMatches for the language
+     * </pre>
+     */
+    public com.google.protobuf.ByteString
+        getOperatorBytes() {
+      java.lang.Object ref = operator_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        operator_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    // required string value = 3;
+    public static final int VALUE_FIELD_NUMBER = 3;
+    private java.lang.Object value_;
+    /**
+     * <code>required string value = 3;</code>
+     *
+     * <pre>
+     * lexical form of the constant
+     * </pre>
+     */
+    public boolean hasValue() {
+      return ((bitField0_ & 0x00000004) == 0x00000004);
+    }
+    /**
+     * <code>required string value = 3;</code>
+     *
+     * <pre>
+     * lexical form of the constant
+     * </pre>
+     */
+    public java.lang.String getValue() {
+      java.lang.Object ref = value_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          value_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>required string value = 3;</code>
+     *
+     * <pre>
+     * lexical form of the constant
+     * </pre>
+     */
+    public com.google.protobuf.ByteString
+        getValueBytes() {
+      java.lang.Object ref = value_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        value_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    private void initFields() {
+      type_ = ProtobufJoinTree.Filter.Type.NUMERIC;
+      operator_ = "";
+      value_ = "";
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized != -1) return isInitialized == 1;
+
+      if (!hasType()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasOperator()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasValue()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeEnum(1, type_.getNumber());
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeBytes(2, getOperatorBytes());
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        output.writeBytes(3, getValueBytes());
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeEnumSize(1, type_.getNumber());
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(2, getOperatorBytes());
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(3, getValueBytes());
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static ProtobufJoinTree.Filter parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static ProtobufJoinTree.Filter parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static ProtobufJoinTree.Filter parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static ProtobufJoinTree.Filter parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static ProtobufJoinTree.Filter parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static ProtobufJoinTree.Filter parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static ProtobufJoinTree.Filter parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static ProtobufJoinTree.Filter parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static ProtobufJoinTree.Filter parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static ProtobufJoinTree.Filter parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(ProtobufJoinTree.Filter prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code Filter}
+     *
+     * <pre>
+     * comparison of the typed value of an object with a constant,
+     * pushed down to the typed columns of the VP tables
+     * </pre>
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder>
+       implements ProtobufJoinTree.FilterOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return ProtobufJoinTree.internal_static_Filter_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return ProtobufJoinTree.internal_static_Filter_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                ProtobufJoinTree.Filter.class, ProtobufJoinTree.Filter.Builder.class);
+      }
+
+      // Construct using ProtobufJoinTree.Filter.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        type_ = ProtobufJoinTree.Filter.Type.NUMERIC;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        operator_ = "";
+        bitField0_ = (bitField0_ & ~0x00000002);
+        value_ = "";
+        bitField0_ = (bitField0_ & ~0x00000004);
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return ProtobufJoinTree.internal_static_Filter_descriptor;
+      }
+
+      public ProtobufJoinTree.Filter getDefaultInstanceForType() {
+        return ProtobufJoinTree.Filter.getDefaultInstance();
+      }
+
+      public ProtobufJoinTree.Filter build() {
+        ProtobufJoinTree.Filter result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public ProtobufJoinTree.Filter buildPartial() {
+        ProtobufJoinTree.Filter result = new ProtobufJoinTree.Filter(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.type_ = type_;
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.operator_ = operator_;
+        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+          to_bitField0_ |= 0x00000004;
+        }
+        result.value_ = value_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof ProtobufJoinTree.Filter) {
+          return mergeFrom((ProtobufJoinTree.Filter)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(ProtobufJoinTree.Filter other) {
+        if (other == ProtobufJoinTree.Filter.getDefaultInstance()) return this;
+        if (other.hasType()) {
+          setType(other.getType());
+        }
+        if (other.hasOperator()) {
+          bitField0_ |= 0x00000002;
+          operator_ = other.operator_;
+          onChanged();
+        }
+        if (other.hasValue()) {
+          bitField0_ |= 0x00000004;
+          value_ = other.value_;
+          onChanged();
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        if (!hasType()) {
+          
+          return false;
+        }
+        if (!hasOperator()) {
+          
+          return false;
+        }
+        if (!hasValue()) {
+          
+          return false;
+        }
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        ProtobufJoinTree.Filter parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (ProtobufJoinTree.Filter) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      // required .Filter.Type type = 1;
+      private ProtobufJoinTree.Filter.Type type_ = ProtobufJoinTree.Filter.Type.NUMERIC;
+      /**
+       * <code>required .Filter.Type type = 1;</code>
+       */
+      public boolean hasType() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>required .Filter.Type type = 1;</code>
+       */
+      public ProtobufJoinTree.Filter.Type getType() {
+        return type_;
+      }
+      /**
+       * <code>required .Filter.Type type = 1;</code>
+       */
+      public Builder setType(ProtobufJoinTree.Filter.Type value) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        bitField0_ |= 0x00000001;
+        type_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required .Filter.Type type = 1;</code>
+       */
+      public Builder clearType() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        type_ = ProtobufJoinTree.Filter.Type.NUMERIC;
+        onChanged();
+        return this;
+      }
+
+      // required string operator = 2;
+      private java.lang.Object operator_ = "";
+      /**
+       * <code>required string operator = 2;</code>
+       *
+       * <pre>
+       * =, !=, &lt;, &lt;=, &gt;, &gt;=, or langMatches for the language
+       * </pre>
+       */
+      public boolean hasOperator() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>required string operator = 2;</code>
+       *
+       * <pre>
+       * =, !=, &lt;, &lt;=, &gt;, &gt;=, or langMatches for the language
+       * </pre>
+       */
+      public java.lang.String getOperator() {
+        java.lang.Object ref = operator_;
+        if (!(ref instanceof java.lang.String)) {
+          java.lang.String s = ((com.google.protobuf.ByteString) ref)
+              .toStringUtf8();
+          operator_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>required string operator = 2;</code>
+       *
+       * <pre>
+       * =, !=, &lt;, &lt;=, &gt;, &gt;=, or langMatches for the language
+       * </pre>
+       */
+      public com.google.protobuf.ByteString
+          getOperatorBytes() {
+        java.lang.Object ref = operator_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          operator_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>required string operator = 2;</code>
+       *
+       * <pre>
+       * =, !=, &lt;, &lt;=, &gt;, &gt;=, or langMatches for the language
+       * </pre>
+       */
+      public Builder setOperator(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+        operator_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required string operator = 2;</code>
+       *
+       * <pre>
+       * =, !=, &lt;, &lt;=, &gt;, &gt;=, or langMatches for the language
+       * </pre>
+       */
+      public Builder clearOperator() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        operator_ = getDefaultInstance().getOperator();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required string operator = 2;</code>
+       *
+       * <pre>
+       * =, !=, &lt;, &lt;=, &gt;, &gt;=, or langMatches for the language
+       * </pre>
+       */
+      public Builder setOperatorBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+        operator_ = value;
+        onChanged();
+        return this;
+      }
+
+      // required string value = 3;
+      private java.lang.Object value_ = "";
+      /**
+       * <code>required string value = 3;</code>
+       *
+       * <pre>
+       * lexical form of the constant
+       * </pre>
+       */
+      public boolean hasValue() {
+        return ((bitField0_ & 0x00000004) == 0x00000004);
+      }
+      /**
+       * <code>required string value = 3;</code>
+       *
+       * <pre>
+       * lexical form of the constant
+       * </pre>
+       */
+      public java.lang.String getValue() {
+        java.lang.Object ref = value_;
+        if (!(ref instanceof java.lang.String)) {
+          java.lang.String s = ((com.google.protobuf.ByteString) ref)
+              .toStringUtf8();
+          value_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>required string value = 3;</code>
+       *
+       * <pre>
+       * lexical form of the constant
+       * </pre>
+       */
+      public com.google.protobuf.ByteString
+          getValueBytes() {
+        java.lang.Object ref = value_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          value_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>required string value = 3;</code>
+       *
+       * <pre>
+       * lexical form of the constant
+       * </pre>
+       */
+      public Builder setValue(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000004;
+        value_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required string value = 3;</code>
+       *
+       * <pre>
+       * lexical form of the constant
+       * </pre>
+       */
+      public Builder clearValue() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        value_ = getDefaultInstance().getValue();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required string value = 3;</code>
+       *
+       * <pre>
+       * lexical form of the constant
+       * </pre>
+       */
+      public Builder setValueBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000004;
+        value_ = value;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:Filter)
+    }
+
+    static {
+      defaultInstance = new Filter(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:Filter)
+  }
+
+  public interface NodeOrBuilder
+      extends com.google.protobuf.MessageOrBuilder {
+
+    // optional .Triple triple = 1;
+    /**
+     * <code>optional .Triple triple = 1;</code>
+     */
+    boolean hasTriple();
+    /**
+     * <code>optional .Triple triple = 1;</code>
+     */
+    ProtobufJoinTree.Triple getTriple();
+    /**
+     * <code>optional .Triple triple = 1;</code>
+     */
+    ProtobufJoinTree.TripleOrBuilder getTripleOrBuilder();
+
+    // repeated .Node children = 2;
+    /**
+     * <code>repeated .Node children = 2;</code>
+     */
+    java.util.List<ProtobufJoinTree.Node> 
+        getChildrenList();
+    /**
+     * <code>repeated .Node children = 2;</code>
+     */
+    ProtobufJoinTree.Node getChildren(int index);
+    /**
+     * <code>repeated .Node children = 2;</code>
+     */
+    int getChildrenCount();
+    /**
+     * <code>repeated .Node children = 2;</code>
+     */
+    java.util.List<? extends ProtobufJoinTree.NodeOrBuilder> 
+        getChildrenOrBuilderList();
+    /**
+     * <code>repeated .Node children = 2;</code>
+     */
+    ProtobufJoinTree.NodeOrBuilder getChildrenOrBuilder(
+        int index);
+
+    // repeated string projection = 3;
+    /**
+     * <code>repeated string projection = 3;</code>
+     */
+    java.util.List<java.lang.String>
+    getProjectionList();
+    /**
+     * <code>repeated string projection = 3;</code>
+     */
+    int getProjectionCount();
+    /**
+     * <code>repeated string projection = 3;</code>
+     */
+    java.lang.String getProjection(int index);
+    /**
+     * <code>repeated string projection = 3;</code>
+     */
+    com.google.protobuf.ByteString
+        getProjectionBytes(int index);
+
+    // repeated .Triple tripleGroup = 4;
+    /**
+     * <code>repeated .Triple tripleGroup = 4;</code>
+     */
+    java.util.List<ProtobufJoinTree.Triple> 
+        getTripleGroupList();
+    /**
+     * <code>repeated .Triple tripleGroup = 4;</code>
+     */
+    ProtobufJoinTree.Triple getTripleGroup(int index);
+    /**
+     * <code>repeated .Triple tripleGroup = 4;</code>
+     */
     int getTripleGroupCount();
     /**
      * <code>repeated .Triple tripleGroup = 4;</code>
@@ -1895,6 +3811,96 @@ public final class ProtobufJoinTree {
      */
     ProtobufJoinTree.TripleOrBuilder getTripleGroupOrBuilder(
         int index);
+
+    // optional bool objectGroup = 5;
+    /**
+     * <code>optional bool objectGroup = 5;</code>
+     *
+     * <pre>
+     * the triple group shares the object, read from the inverse property table
+     * </pre>
+     */
+    boolean hasObjectGroup();
+    /**
+     * <code>optional bool objectGroup = 5;</code>
+     *
+     * <pre>
+     * the triple group shares the object, read from the inverse property table
+     * </pre>
+     */
+    boolean getObjectGroup();
+
+    // optional string propertyTable = 6;
+    /**
+     * <code>optional string propertyTable = 6;</code>
+     *
+     * <pre>
+     * the property table of the triple group, if not the default one
+     * </pre>
+     */
+    boolean hasPropertyTable();
+    /**
+     * <code>optional string propertyTable = 6;</code>
+     *
+     * <pre>
+     * the property table of the triple group, if not the default one
+     * </pre>
+     */
+    java.lang.String getPropertyTable();
+    /**
+     * <code>optional string propertyTable = 6;</code>
+     *
+     * <pre>
+     * the property table of the triple group, if not the default one
+     * </pre>
+     */
+    com.google.protobuf.ByteString
+        getPropertyTableBytes();
+
+    // optional bool emptyResult = 7;
+    /**
+     * <code>optional bool emptyResult = 7;</code>
+     *
+     * <pre>
+     * the query has no results, proven by the Bloom filters (set on the root)
+     * </pre>
+     */
+    boolean hasEmptyResult();
+    /**
+     * <code>optional bool emptyResult = 7;</code>
+     *
+     * <pre>
+     * the query has no results, proven by the Bloom filters (set on the root)
+     * </pre>
+     */
+    boolean getEmptyResult();
+
+    // optional string pathTable = 8;
+    /**
+     * <code>optional string pathTable = 8;</code>
+     *
+     * <pre>
+     * materialized table of the chain of the two triples of the group
+     * </pre>
+     */
+    boolean hasPathTable();
+    /**
+     * <code>optional string pathTable = 8;</code>
+     *
+     * <pre>
+     * materialized table of the chain of the two triples of the group
+     * </pre>
+     */
+    java.lang.String getPathTable();
+    /**
+     * <code>optional string pathTable = 8;</code>
+     *
+     * <pre>
+     * materialized table of the chain of the two triples of the group
+     * </pre>
+     */
+    com.google.protobuf.ByteString
+        getPathTableBytes();
   }
   /**
    * Protobuf type {@code Node}
@@ -1984,6 +3990,26 @@ public final class ProtobufJoinTree {
               tripleGroup_.add(input.readMessage(ProtobufJoinTree.Triple.PARSER, extensionRegistry));
               break;
             }
+            case 40: {
+              bitField0_ |= 0x00000002;
+              objectGroup_ = input.readBool();
+              break;
+            }
+            case 50: {
+              bitField0_ |= 0x00000004;
+              propertyTable_ = input.readBytes();
+              break;
+            }
+            case 56: {
+              bitField0_ |= 0x00000008;
+              emptyResult_ = input.readBool();
+              break;
+            }
+            case 66: {
+              bitField0_ |= 0x00000010;
+              pathTable_ = input.readBytes();
+              break;
+            }
           }
         }
       } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -2157,11 +4183,173 @@ public final class ProtobufJoinTree {
       return tripleGroup_.get(index);
     }
 
+    // optional bool objectGroup = 5;
+    public static final int OBJECTGROUP_FIELD_NUMBER = 5;
+    private boolean objectGroup_;
+    /**
+     * <code>optional bool objectGroup = 5;</code>
+     *
+     * <pre>
+     * the triple group shares the object, read from the inverse property table
+     * </pre>
+     */
+    public boolean hasObjectGroup() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>optional bool objectGroup = 5;</code>
+     *
+     * <pre>
+     * the triple group shares the object, read from the inverse property table
+     * </pre>
+     */
+    public boolean getObjectGroup() {
+      return objectGroup_;
+    }
+
+    // optional string propertyTable = 6;
+    public static final int PROPERTYTABLE_FIELD_NUMBER = 6;
+    private java.lang.Object propertyTable_;
+    /**
+     * <code>optional string propertyTable = 6;</code>
+     *
+     * <pre>
+     * the property table of the triple group, if not the default one
+     * </pre>
+     */
+    public boolean hasPropertyTable() {
+      return ((bitField0_ & 0x00000004) == 0x00000004);
+    }
+    /**
+     * <code>optional string propertyTable = 6;</code>
+     *
+     * <pre>
+     * the property table of the triple group, if not the default one
+     * </pre>
+     */
+    public java.lang.String getPropertyTable() {
+      java.lang.Object ref = propertyTable_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          propertyTable_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string propertyTable = 6;</code>
+     *
+     * <pre>
+     * the property table of the triple group, if not the default one
+     * </pre>
+     */
+    public com.google.protobuf.ByteString
+        getPropertyTableBytes() {
+      java.lang.Object ref = propertyTable_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        propertyTable_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    // optional bool emptyResult = 7;
+    public static final int EMPTYRESULT_FIELD_NUMBER = 7;
+    private boolean emptyResult_;
+    /**
+     * <code>optional bool emptyResult = 7;</code>
+     *
+     * <pre>
+     * the query has no results, proven by the Bloom filters (set on the root)
+     * </pre>
+     */
+    public boolean hasEmptyResult() {
+      return ((bitField0_ & 0x00000008) == 0x00000008);
+    }
+    /**
+     * <code>optional bool emptyResult = 7;</code>
+     *
+     * <pre>
+     * the query has no results, proven by the Bloom filters (set on the root)
+     * </pre>
+     */
+    public boolean getEmptyResult() {
+      return emptyResult_;
+    }
+
+    // optional string pathTable = 8;
+    public static final int PATHTABLE_FIELD_NUMBER = 8;
+    private java.lang.Object pathTable_;
+    /**
+     * <code>optional string pathTable = 8;</code>
+     *
+     * <pre>
+     * materialized table of the chain of the two triples of the group
+     * </pre>
+     */
+    public boolean hasPathTable() {
+      return ((bitField0_ & 0x00000010) == 0x00000010);
+    }
+    /**
+     * <code>optional string pathTable = 8;</code>
+     *
+     * <pre>
+     * materialized table of the chain of the two triples of the group
+     * </pre>
+     */
+    public java.lang.String getPathTable() {
+      java.lang.Object ref = pathTable_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          pathTable_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string pathTable = 8;</code>
+     *
+     * <pre>
+     * materialized table of the chain of the two triples of the group
+     * </pre>
+     */
+    public com.google.protobuf.ByteString
+        getPathTableBytes() {
+      java.lang.Object ref = pathTable_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        pathTable_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
     private void initFields() {
       triple_ = ProtobufJoinTree.Triple.getDefaultInstance();
       children_ = java.util.Collections.emptyList();
       projection_ = com.google.protobuf.LazyStringArrayList.EMPTY;
       tripleGroup_ = java.util.Collections.emptyList();
+      objectGroup_ = false;
+      propertyTable_ = "";
+      emptyResult_ = false;
+      pathTable_ = "";
     }
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
@@ -2205,6 +4393,18 @@ public final class ProtobufJoinTree {
       for (int i = 0; i < tripleGroup_.size(); i++) {
         output.writeMessage(4, tripleGroup_.get(i));
       }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeBool(5, objectGroup_);
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        output.writeBytes(6, getPropertyTableBytes());
+      }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        output.writeBool(7, emptyResult_);
+      }
+      if (((bitField0_ & 0x00000010) == 0x00000010)) {
+        output.writeBytes(8, getPathTableBytes());
+      }
       getUnknownFields().writeTo(output);
     }
 
@@ -2235,6 +4435,22 @@ public final class ProtobufJoinTree {
         size += com.google.protobuf.CodedOutputStream
           .computeMessageSize(4, tripleGroup_.get(i));
       }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(5, objectGroup_);
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(6, getPropertyTableBytes());
+      }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(7, emptyResult_);
+      }
+      if (((bitField0_ & 0x00000010) == 0x00000010)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(8, getPathTableBytes());
+      }
       size += getUnknownFields().getSerializedSize();
       memoizedSerializedSize = size;
       return size;
@@ -2374,6 +4590,14 @@ public final class ProtobufJoinTree {
         } else {
           tripleGroupBuilder_.clear();
         }
+        objectGroup_ = false;
+        bitField0_ = (bitField0_ & ~0x00000010);
+        propertyTable_ = "";
+        bitField0_ = (bitField0_ & ~0x00000020);
+        emptyResult_ = false;
+        bitField0_ = (bitField0_ & ~0x00000040);
+        pathTable_ = "";
+        bitField0_ = (bitField0_ & ~0x00000080);
         return this;
       }
 
@@ -2434,6 +4658,22 @@ public final class ProtobufJoinTree {
         } else {
           result.tripleGroup_ = tripleGroupBuilder_.build();
         }
+        if (((from_bitField0_ & 0x00000010) == 0x00000010)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.objectGroup_ = objectGroup_;
+        if (((from_bitField0_ & 0x00000020) == 0x00000020)) {
+          to_bitField0_ |= 0x00000004;
+        }
+        result.propertyTable_ = propertyTable_;
+        if (((from_bitField0_ & 0x00000040) == 0x00000040)) {
+          to_bitField0_ |= 0x00000008;
+        }
+        result.emptyResult_ = emptyResult_;
+        if (((from_bitField0_ & 0x00000080) == 0x00000080)) {
+          to_bitField0_ |= 0x00000010;
+        }
+        result.pathTable_ = pathTable_;
         result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
@@ -2515,6 +4755,22 @@ public final class ProtobufJoinTree {
             }
           }
         }
+        if (other.hasObjectGroup()) {
+          setObjectGroup(other.getObjectGroup());
+        }
+        if (other.hasPropertyTable()) {
+          bitField0_ |= 0x00000020;
+          propertyTable_ = other.propertyTable_;
+          onChanged();
+        }
+        if (other.hasEmptyResult()) {
+          setEmptyResult(other.getEmptyResult());
+        }
+        if (other.hasPathTable()) {
+          bitField0_ |= 0x00000080;
+          pathTable_ = other.pathTable_;
+          onChanged();
+        }
         this.mergeUnknownFields(other.getUnknownFields());
         return this;
       }
@@ -3250,6 +5506,300 @@ public final class ProtobufJoinTree {
         return tripleGroupBuilder_;
       }
 
+      // optional bool objectGroup = 5;
+      private boolean objectGroup_ ;
+      /**
+       * <code>optional bool objectGroup = 5;</code>
+       *
+       * <pre>
+       * the triple group shares the object, read from the inverse property table
+       * </pre>
+       */
+      public boolean hasObjectGroup() {
+        return ((bitField0_ & 0x00000010) == 0x00000010);
+      }
+      /**
+       * <code>optional bool objectGroup = 5;</code>
+       *
+       * <pre>
+       * the triple group shares the object, read from the inverse property table
+       * </pre>
+       */
+      public boolean getObjectGroup() {
+        return objectGroup_;
+      }
+      /**
+       * <code>optional bool objectGroup = 5;</code>
+       *
+       * <pre>
+       * the triple group shares the object, read from the inverse property table
+       * </pre>
+       */
+      public Builder setObjectGroup(boolean value) {
+        bitField0_ |= 0x00000010;
+        objectGroup_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional bool objectGroup = 5;</code>
+       *
+       * <pre>
+       * the triple group shares the object, read from the inverse property table
+       * </pre>
+       */
+      public Builder clearObjectGroup() {
+        bitField0_ = (bitField0_ & ~0x00000010);
+        objectGroup_ = false;
+        onChanged();
+        return this;
+      }
+
+      // optional string propertyTable = 6;
+      private java.lang.Object propertyTable_ = "";
+      /**
+       * <code>optional string propertyTable = 6;</code>
+       *
+       * <pre>
+       * the property table of the triple group, if not the default one
+       * </pre>
+       */
+      public boolean hasPropertyTable() {
+        return ((bitField0_ & 0x00000020) == 0x00000020);
+      }
+      /**
+       * <code>optional string propertyTable = 6;</code>
+       *
+       * <pre>
+       * the property table of the triple group, if not the default one
+       * </pre>
+       */
+      public java.lang.String getPropertyTable() {
+        java.lang.Object ref = propertyTable_;
+        if (!(ref instanceof java.lang.String)) {
+          java.lang.String s = ((com.google.protobuf.ByteString) ref)
+              .toStringUtf8();
+          propertyTable_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string propertyTable = 6;</code>
+       *
+       * <pre>
+       * the property table of the triple group, if not the default one
+       * </pre>
+       */
+      public com.google.protobuf.ByteString
+          getPropertyTableBytes() {
+        java.lang.Object ref = propertyTable_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          propertyTable_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string propertyTable = 6;</code>
+       *
+       * <pre>
+       * the property table of the triple group, if not the default one
+       * </pre>
+       */
+      public Builder setPropertyTable(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000020;
+        propertyTable_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string propertyTable = 6;</code>
+       *
+       * <pre>
+       * the property table of the triple group, if not the default one
+       * </pre>
+       */
+      public Builder clearPropertyTable() {
+        bitField0_ = (bitField0_ & ~0x00000020);
+        propertyTable_ = getDefaultInstance().getPropertyTable();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string propertyTable = 6;</code>
+       *
+       * <pre>
+       * the property table of the triple group, if not the default one
+       * </pre>
+       */
+      public Builder setPropertyTableBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000020;
+        propertyTable_ = value;
+        onChanged();
+        return this;
+      }
+
+      // optional bool emptyResult = 7;
+      private boolean emptyResult_ ;
+      /**
+       * <code>optional bool emptyResult = 7;</code>
+       *
+       * <pre>
+       * the query has no results, proven by the Bloom filters (set on the root)
+       * </pre>
+       */
+      public boolean hasEmptyResult() {
+        return ((bitField0_ & 0x00000040) == 0x00000040);
+      }
+      /**
+       * <code>optional bool emptyResult = 7;</code>
+       *
+       * <pre>
+       * the query has no results, proven by the Bloom filters (set on the root)
+       * </pre>
+       */
+      public boolean getEmptyResult() {
+        return emptyResult_;
+      }
+      /**
+       * <code>optional bool emptyResult = 7;</code>
+       *
+       * <pre>
+       * the query has no results, proven by the Bloom filters (set on the root)
+       * </pre>
+       */
+      public Builder setEmptyResult(boolean value) {
+        bitField0_ |= 0x00000040;
+        emptyResult_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional bool emptyResult = 7;</code>
+       *
+       * <pre>
+       * the query has no results, proven by the Bloom filters (set on the root)
+       * </pre>
+       */
+      public Builder clearEmptyResult() {
+        bitField0_ = (bitField0_ & ~0x00000040);
+        emptyResult_ = false;
+        onChanged();
+        return this;
+      }
+
+      // optional string pathTable = 8;
+      private java.lang.Object pathTable_ = "";
+      /**
+       * <code>optional string pathTable = 8;</code>
+       *
+       * <pre>
+       * materialized table of the chain of the two triples of the group
+       * </pre>
+       */
+      public boolean hasPathTable() {
+        return ((bitField0_ & 0x00000080) == 0x00000080);
+      }
+      /**
+       * <code>optional string pathTable = 8;</code>
+       *
+       * <pre>
+       * materialized table of the chain of the two triples of the group
+       * </pre>
+       */
+      public java.lang.String getPathTable() {
+        java.lang.Object ref = pathTable_;
+        if (!(ref instanceof java.lang.String)) {
+          java.lang.String s = ((com.google.protobuf.ByteString) ref)
+              .toStringUtf8();
+          pathTable_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string pathTable = 8;</code>
+       *
+       * <pre>
+       * materialized table of the chain of the two triples of the group
+       * </pre>
+       */
+      public com.google.protobuf.ByteString
+          getPathTableBytes() {
+        java.lang.Object ref = pathTable_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          pathTable_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string pathTable = 8;</code>
+       *
+       * <pre>
+       * materialized table of the chain of the two triples of the group
+       * </pre>
+       */
+      public Builder setPathTable(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000080;
+        pathTable_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string pathTable = 8;</code>
+       *
+       * <pre>
+       * materialized table of the chain of the two triples of the group
+       * </pre>
+       */
+      public Builder clearPathTable() {
+        bitField0_ = (bitField0_ & ~0x00000080);
+        pathTable_ = getDefaultInstance().getPathTable();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string pathTable = 8;</code>
+       *
+       * <pre>
+       * materialized table of the chain of the two triples of the group
+       * </pre>
+       */
+      public Builder setPathTableBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000080;
+        pathTable_ = value;
+        onChanged();
+        return this;
+      }
+
       // @@protoc_insertion_point(builder_scope:Node)
     }
 
@@ -3271,6 +5821,11 @@ public final class ProtobufJoinTree {
   private static
     com.google.protobuf.GeneratedMessage.FieldAccessorTable
       internal_static_Triple_Element_fieldAccessorTable;
+  private static com.google.protobuf.Descriptors.Descriptor
+    internal_static_Filter_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_Filter_fieldAccessorTable;
   private static com.google.protobuf.Descriptors.Descriptor
     internal_static_Node_descriptor;
   private static
@@ -3286,15 +5841,23 @@ public final class ProtobufJoinTree {
   static {
     java.lang.String[] descriptorData = {
       "\n\026ProtobufJoinTree.proto\032\023ProtobufStats." +
-      "proto\"\355\001\n\006Triple\022 \n\007subject\030\001 \002(\0132\017.Trip" +
+      "proto\"\313\002\n\006Triple\022 \n\007subject\030\001 \002(\0132\017.Trip" +
       "le.Element\022\"\n\tpredicate\030\002 \002(\0132\017.Triple.E" +
       "lement\022\037\n\006object\030\003 \002(\0132\017.Triple.Element\022" +
-      "\025\n\005stats\030\004 \001(\0132\006.Table\032:\n\007Element\022\014\n\004nam" +
-      "e\030\001 \002(\t\022!\n\004type\030\002 \002(\0162\023.Triple.ElementTy" +
-      "pe\")\n\013ElementType\022\014\n\010VARIABLE\020\000\022\014\n\010CONST" +
-      "ANT\020\001\"j\n\004Node\022\027\n\006triple\030\001 \001(\0132\007.Triple\022\027" +
-      "\n\010children\030\002 \003(\0132\005.Node\022\022\n\nprojection\030\003 " +
-      "\003(\t\022\034\n\013tripleGroup\030\004 \003(\0132\007.Triple"
+      "\025\n\005stats\030\004 \001(\0132\006.Table\022\022\n\nextVPTable\030\005 \001" +
+      "(\t\022\036\n\robjectFilters\030\006 \003(\0132\007.Filter\022(\n\014bl" +
+      "oomFilters\030\007 \001(\0132\022.TableBloomFilters\032:\n\007" +
+      "Element\022\014\n\004name\030\001 \002(\t\022!\n\004type\030\002 \002(\0162\023.Tr" +
+      "iple.ElementType\")\n\013ElementType\022\014\n\010VARIA" +
+      "BLE\020\000\022\014\n\010CONSTANT\020\001\"r\n\006Filter\022\032\n\004type\030\001 ",
+      "\002(\0162\014.Filter.Type\022\020\n\010operator\030\002 \002(\t\022\r\n\005v" +
+      "alue\030\003 \002(\t\"+\n\004Type\022\013\n\007NUMERIC\020\000\022\010\n\004TIME\020" +
+      "\001\022\014\n\010LANGUAGE\020\002\"\276\001\n\004Node\022\027\n\006triple\030\001 \001(\013" +
+      "2\007.Triple\022\027\n\010children\030\002 \003(\0132\005.Node\022\022\n\npr" +
+      "ojection\030\003 \003(\t\022\034\n\013tripleGroup\030\004 \003(\0132\007.Tr" +
+      "iple\022\023\n\013objectGroup\030\005 \001(\010\022\025\n\rpropertyTab" +
+      "le\030\006 \001(\t\022\023\n\013emptyResult\030\007 \001(\010\022\021\n\tpathTab" +
+      "le\030\010 \001(\t"
     };
     com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner assigner =
       new com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner() {
@@ -3306,19 +5869,25 @@ public final class ProtobufJoinTree {
           internal_static_Triple_fieldAccessorTable = new
             com.google.protobuf.GeneratedMessage.FieldAccessorTable(
               internal_static_Triple_descriptor,
-              new java.lang.String[] { "Subject", "Predicate", "Object", "Stats", });
+              new java.lang.String[] { "Subject", "Predicate", "Object", "Stats", "ExtVPTable", "ObjectFilters", "BloomFilters", });
           internal_static_Triple_Element_descriptor =
             internal_static_Triple_descriptor.getNestedTypes().get(0);
           internal_static_Triple_Element_fieldAccessorTable = new
             com.google.protobuf.GeneratedMessage.FieldAccessorTable(
               internal_static_Triple_Element_descriptor,
               new java.lang.String[] { "Name", "Type", });
-          internal_static_Node_descriptor =
+          internal_static_Filter_descriptor =
             getDescriptor().getMessageTypes().get(1);
+          internal_static_Filter_fieldAccessorTable = new
+            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+              internal_static_Filter_descriptor,
+              new java.lang.String[] { "Type", "Operator", "Value", });
+          internal_static_Node_descriptor =
+            getDescriptor().getMessageTypes().get(2);
           internal_static_Node_fieldAccessorTable = new
             com.google.protobuf.GeneratedMessage.FieldAccessorTable(
               internal_static_Node_descriptor,
-              new java.lang.String[] { "Triple", "Children", "Projection", "TripleGroup", });
+              new java.lang.String[] { "Triple", "Children", "Projection", "TripleGroup", "ObjectGroup", "PropertyTable", "EmptyResult", "PathTable", });
           return null;
         }
       };
@@ -0,0 +1,178 @@
+package tree;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+
+import org.apache.log4j.Logger;
+
+import run.Main;
+import tree.ProtobufJoinTree.Triple;
+import tree.ProtobufJoinTree.Triple.Element;
+import tree.ProtobufStats.Sample;
+
+/**
+ * SampleStore contains the samples of the tables saved by the loader next to
+ * the statistics. The samples are correlated on the subjects: a subject is in
+ * the samples of all the tables or in none (up to the rate of each table), so
+ * that the join of the samples is a sample of the join. The store evaluates
+ * small conjunctive queries on the samples to estimate their results.
+ */
+public class SampleStore {
+	// the evaluation is abandoned when the partial results are too many
+	private static final int MAX_BINDINGS = 100000;
+
+	private HashMap<String, Sample> samples = new HashMap<String, Sample>();
+	private HashMap<String, HashMap<String, List<Integer>>> subjectIndexes =
+			new HashMap<String, HashMap<String, List<Integer>>>();
+	private HashMap<String, HashMap<String, List<Integer>>> objectIndexes =
+			new HashMap<String, HashMap<String, List<Integer>>>();
+
+	private static final Logger logger = Logger.getLogger(Main.class);
+
+	public SampleStore(String fileName){
+		try {
+			ProtobufStats.Samples allSamples = ProtobufStats.Samples.parseFrom(new FileInputStream(fileName));
+			for(Sample sample : allSamples.getSamplesList())
+				samples.put(sample.getProperty(), sample);
+			logger.info("Samples correctly parsed");
+		} catch (IOException e) {
+			logger.error("Samples file cannot be read: " + fileName);
+		}
+	}
+
+	/**
+	 * hash returns the uniform value in [0, 1) of a term, the same used by the loader
+	 */
+	public static double hash(String term){
+		try {
+			byte[] digest = MessageDigest.getInstance("MD5").digest(term.getBytes(StandardCharsets.UTF_8));
+			long value = 0;
+			for (int i = 7; i >= 0; i--)
+				value = (value << 8) | (digest[i] & 0xff);
+			return (value >>> 11) * 0x1.0p-53;
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * estimate returns the expected number of results of the triples,
+	 * or -1 if the samples are not enough to estimate it
+	 */
+	public double estimate(List<Triple> triples){
+		// a result is in the join of the samples if every subject is sampled
+		// in all its tables, so with the lowest rate among them
+		HashMap<String, Double> subjectRates = new HashMap<String, Double>();
+		HashMap<String, Boolean> isConstant = new HashMap<String, Boolean>();
+		for(Triple triple : triples){
+			Sample sample = samples.get(triple.getPredicate().getName());
+			if(sample == null) return -1;
+			String subject = triple.getSubject().getName();
+			Double rate = subjectRates.get(subject);
+			subjectRates.put(subject, rate == null ? sample.getRate() : Math.min(rate, sample.getRate()));
+			isConstant.put(subject, triple.getSubject().getType() == Triple.ElementType.CONSTANT);
+		}
+		double probability = 1;
+		for(String subject : subjectRates.keySet()){
+			if(!isConstant.get(subject))
+				probability *= subjectRates.get(subject);
+			else if(hash(subject) >= subjectRates.get(subject))
+				// the triples of a constant subject are all in the sample or none
+				return -1;
+		}
+
+		// evaluate the join on the samples, adding every time a triple connected to the previous ones
+		List<HashMap<String, String>> bindings = new ArrayList<HashMap<String, String>>();
+		bindings.add(new HashMap<String, String>());
+		List<Triple> remaining = new ArrayList<Triple>(triples);
+		while(!remaining.isEmpty()){
+			Triple triple = remaining.get(0);
+			for(Triple candidate : remaining)
+				if(isBound(candidate.getSubject(), bindings.get(0)) || isBound(candidate.getObject(), bindings.get(0))){
+					triple = candidate;
+					break;
+				}
+			remaining.remove(triple);
+			bindings = extend(bindings, triple);
+			if(bindings == null) return -1;
+			if(bindings.isEmpty()) return 0;
+		}
+		return bindings.size() / probability;
+	}
+
+	// join the partial results with the sample of the triple
+	private List<HashMap<String, String>> extend(List<HashMap<String, String>> bindings, Triple triple){
+		String property = triple.getPredicate().getName();
+		Sample sample = samples.get(property);
+		List<HashMap<String, String>> extended = new ArrayList<HashMap<String, String>>();
+		for(HashMap<String, String> binding : bindings){
+			String subject = getValue(triple.getSubject(), binding);
+			String object = getValue(triple.getObject(), binding);
+			for(int row : getRows(property, subject, object)){
+				String rowSubject = sample.getSubjects(row);
+				String rowObject = sample.getObjects(row);
+				if((subject != null && !subject.equals(rowSubject)) || (object != null && !object.equals(rowObject)))
+					continue;
+				// the same variable as subject and object
+				if(subject == null && object == null && triple.getSubject().equals(triple.getObject())
+						&& !rowSubject.equals(rowObject))
+					continue;
+				HashMap<String, String> newBinding = new HashMap<String, String>(binding);
+				if(subject == null) newBinding.put(triple.getSubject().getName(), rowSubject);
+				if(object == null) newBinding.put(triple.getObject().getName(), rowObject);
+				extended.add(newBinding);
+			}
+			if(extended.size() > MAX_BINDINGS) return null;
+		}
+		return extended;
+	}
+
+	// rows of the sample that can match the given subject and object (null if unknown)
+	private List<Integer> getRows(String property, String subject, String object){
+		List<Integer> rows = null;
+		if(subject != null)
+			rows = getIndex(subjectIndexes, property, true).get(subject);
+		else if(object != null)
+			rows = getIndex(objectIndexes, property, false).get(object);
+		else {
+			rows = new ArrayList<Integer>();
+			for(int i = 0; i < samples.get(property).getSubjectsCount(); i++)
+				rows.add(i);
+		}
+		return rows == null ? Collections.<Integer> emptyList() : rows;
+	}
+
+	// index of the rows of the sample by subject or by object, built the first time it is used
+	private HashMap<String, List<Integer>> getIndex(HashMap<String, HashMap<String, List<Integer>>> indexes,
+			String property, boolean bySubject){
+		if(!indexes.containsKey(property)){
+			Sample sample = samples.get(property);
+			HashMap<String, List<Integer>> index = new HashMap<String, List<Integer>>();
+			for(int i = 0; i < sample.getSubjectsCount(); i++){
+				String key = bySubject ? sample.getSubjects(i) : sample.getObjects(i);
+				if(!index.containsKey(key)) index.put(key, new ArrayList<Integer>());
+				index.get(key).add(i);
+			}
+			indexes.put(property, index);
+		}
+		return indexes.get(property);
+	}
+
+	// the value of a constant or of a bound variable, null for unbound variables
+	private static String getValue(Element element, HashMap<String, String> binding){
+		if(element.getType() == Triple.ElementType.CONSTANT)
+			return element.getName();
+		return binding.get(element.getName());
+	}
+
+	private static boolean isBound(Element element, HashMap<String, String> binding){
+		return element.getType() == Triple.ElementType.VARIABLE && binding.containsKey(element.getName());
+	}
+}
@@ -4,35 +4,53 @@ package tree;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 
 import org.apache.log4j.Logger;
 
 import run.Main;
+import tree.ProtobufStats.CharacteristicSet;
+import tree.ProtobufStats.ExtVPTable;
+import tree.ProtobufStats.JoinStat;
+import tree.ProtobufStats.PathTable;
 import tree.ProtobufStats.Table;
+import tree.ProtobufStats.TermFrequency;
 
 
 /**
  * This class is used to parse statistics from a Protobuf file and 
  * it exposes methods to retrieve singular entries.
- * TODO: implement whole graph statistics
+ * The totals of the whole graph are read from the file or, for the files
+ * written before they were available, derived from the tables.
  * @author Matteo Cossu
  *
  */
 public class Stats {
 	String fileName;
 	private HashMap<String, Table> tableStats;
-	private HashMap<String, Integer> tableSize;
-	private HashMap<String, Integer> tableDistinctSubjects;
+	private HashMap<String, Long> tableSize;
+	private HashMap<String, Long> tableDistinctSubjects;
+	private List<CharacteristicSet> characteristicSets = new ArrayList<CharacteristicSet>();
+	private HashMap<String, Long> joinSizes = new HashMap<String, Long>();
+	// the path tables by chain of properties and by name
+	private HashMap<String, PathTable> pathTables = new HashMap<String, PathTable>();
+	private HashMap<String, PathTable> pathTableNames = new HashMap<String, PathTable>();
 	public String [] tableNames;
+	private long graphSize;
+	private long graphDistinctSubjects;
+	private long graphDistinctObjects;
+	private int graphProperties;
 
 	
 	private static final Logger logger = Logger.getLogger(Main.class);
 	
 	public Stats(String fileName){
 		this.fileName = fileName;
-		tableSize  = new HashMap<String, Integer>();
-		tableDistinctSubjects = new HashMap<String, Integer>();
+		tableSize  = new HashMap<String, Long>();
+		tableDistinctSubjects = new HashMap<String, Long>();
 		tableStats = new HashMap<String, Table>();
 		this.parseStats();
 	}
@@ -56,17 +74,66 @@ public class Stats {
 			tableStats.put(tableNames[i], table);
 			tableSize.put(tableNames[i], table.getSize());
 			tableDistinctSubjects.put(tableNames[i], table.getDistinctSubjects());
+			for(JoinStat joinStat : table.getJoinStatsList())
+				joinSizes.put(getJoinKey(tableNames[i], joinStat.getOtherProperty(), joinStat.getType()),
+						joinStat.getSize());
 			i++;
 		}
+		characteristicSets = graph.getCharacteristicSetsList();
+		for(PathTable pathTable : graph.getPathTablesList()){
+			pathTables.put(String.join(" ", pathTable.getPropertiesList()), pathTable);
+			pathTableNames.put(pathTable.getName(), pathTable);
+		}
+		
+		// totals of the graph
+		if(graph.hasSize()){
+			graphSize = graph.getSize();
+			graphDistinctSubjects = graph.getDistinctSubjects();
+			graphDistinctObjects = graph.getDistinctObjects();
+			graphProperties = graph.getProperties();
+		} else {
+			// the distinct terms of the largest table are a lower bound
+			graphProperties = graph.getTablesCount();
+			for(Table table : graph.getTablesList()){
+				graphSize += table.getSize();
+				graphDistinctSubjects = Math.max(graphDistinctSubjects, table.getDistinctSubjects());
+				graphDistinctObjects = Math.max(graphDistinctObjects, table.getDistinctObjects());
+			}
+		}
 		logger.info("Statistics correctly parsed");
 	}
 	
-	public int getTableSize(String table){
+	public long getGraphSize(){
+		return graphSize;
+	}
+	
+	public long getGraphDistinctSubjects(){
+		return graphDistinctSubjects;
+	}
+	
+	public long getGraphDistinctObjects(){
+		return graphDistinctObjects;
+	}
+	
+	public int getGraphProperties(){
+		return graphProperties;
+	}
+	
+	/**
+	 * normalize returns a number of triples as a fraction of the whole graph,
+	 * so that the selectivities of different tables are comparable
+	 */
+	public double normalize(double triples){
+		if(graphSize <= 0) return triples;
+		return triples / graphSize;
+	}
+	
+	public long getTableSize(String table){
 		if(!tableSize.containsKey(table)) return -1;
 		return tableSize.get(table);
 	}
 	
-	public int getTableDistinctSubjects(String table){
+	public long getTableDistinctSubjects(String table){
 		if(!tableDistinctSubjects.containsKey(table)) return -1;
 		return tableDistinctSubjects.get(table);
 	}
@@ -76,5 +143,215 @@ public class Stats {
 		return tableStats.get(table);
 	}
 	
+	public List<ExtVPTable> getExtVPTables(String table){
+		if(!tableStats.containsKey(table)) return Collections.emptyList();
+		return tableStats.get(table).getExtVPTablesList();
+	}
+	
+	/**
+	 * getJoinSize returns the number of results of the join between the tables
+	 * of two properties, or -1 if it is not known
+	 */
+	public long getJoinSize(String table, String otherTable, ExtVPTable.JoinType type){
+		String key = getJoinKey(table, otherTable, type);
+		// the symmetric joins are saved only once, for one order of the tables
+		if(!joinSizes.containsKey(key) && (type == ExtVPTable.JoinType.SS || type == ExtVPTable.JoinType.OO))
+			key = getJoinKey(otherTable, table, type);
+		if(!joinSizes.containsKey(key)) return -1;
+		return joinSizes.get(key);
+	}
+	
+	private static String getJoinKey(String table, String otherTable, ExtVPTable.JoinType type){
+		return table + " " + type.name() + " " + otherTable;
+	}
+	
+	public long getTableDistinctObjects(String table){
+		if(!tableStats.containsKey(table)) return -1;
+		return tableStats.get(table).getDistinctObjects();
+	}
+	
+	public float getAvgObjectsPerSubject(String table){
+		if(!tableStats.containsKey(table)) return -1;
+		return tableStats.get(table).getAvgObjectsPerSubject();
+	}
+	
+	public long getMaxObjectsPerSubject(String table){
+		if(!tableStats.containsKey(table)) return -1;
+		return tableStats.get(table).getMaxObjectsPerSubject();
+	}
+	
+	public float getAvgSubjectsPerObject(String table){
+		if(!tableStats.containsKey(table)) return -1;
+		return tableStats.get(table).getAvgSubjectsPerObject();
+	}
+	
+	public long getMaxSubjectsPerObject(String table){
+		if(!tableStats.containsKey(table)) return -1;
+		return tableStats.get(table).getMaxSubjectsPerObject();
+	}
+	
+	/**
+	 * getPathTable returns the name of the table materializing the chain
+	 * of the two properties, or null if it does not exist
+	 */
+	public String getPathTable(String table, String otherTable){
+		PathTable pathTable = pathTables.get(table + " " + otherTable);
+		if(pathTable == null) return null;
+		return pathTable.getName();
+	}
+	
+	public long getPathTableSize(String pathTable){
+		if(!pathTableNames.containsKey(pathTable)) return -1;
+		return pathTableNames.get(pathTable).getSize();
+	}
+	
+	/**
+	 * isPartitionedByObject returns true if the table is partitioned by object,
+	 * so that only the partition of a constant object is read (rdf:type by class)
+	 */
+	public boolean isPartitionedByObject(String table){
+		return tableStats.containsKey(table) && tableStats.get(table).getClassesCount() > 0;
+	}
+	
+	/**
+	 * getPropertyTable returns the property table with the column of the table,
+	 * or null if the properties are all in the same property table
+	 */
+	public String getPropertyTable(String table){
+		if(!tableStats.containsKey(table) || !tableStats.get(table).hasPropertyTable()) return null;
+		return tableStats.get(table).getPropertyTable();
+	}
+	
+	/**
+	 * estimateBoundSubjectSize returns the expected number of triples
+	 * of the table with the given subject
+	 */
+	public float estimateBoundSubjectSize(String table, String subject){
+		if(!tableStats.containsKey(table)) return -1;
+		Table stats = tableStats.get(table);
+		return estimateBoundSize(stats.getTopSubjectsList(), subject, stats.getSize(), stats.getDistinctSubjects());
+	}
+	
+	/**
+	 * estimateBoundObjectSize returns the expected number of triples
+	 * of the table with the given object
+	 */
+	public float estimateBoundObjectSize(String table, String object){
+		if(!tableStats.containsKey(table)) return -1;
+		Table stats = tableStats.get(table);
+		// the sizes of all the classes are known
+		if(stats.getClassesCount() > 0)
+			return estimateBoundSize(stats.getClassesList(), object, stats.getSize(), stats.getClassesCount());
+		return estimateBoundSize(stats.getTopObjectsList(), object, stats.getSize(), stats.getDistinctObjects());
+	}
+	
+	/**
+	 * getSubjectsSketch returns the sketch of the subjects of the table,
+	 * or null if the statistics are not approximate
+	 */
+	public HyperLogLog getSubjectsSketch(String table){
+		if(!tableStats.containsKey(table) || !tableStats.get(table).hasSubjectsSketch()) return null;
+		return new HyperLogLog(tableStats.get(table).getSubjectsSketch());
+	}
+	
+	/**
+	 * getObjectsSketch returns the sketch of the objects of the table,
+	 * or null if the statistics are not approximate
+	 */
+	public HyperLogLog getObjectsSketch(String table){
+		if(!tableStats.containsKey(table) || !tableStats.get(table).hasObjectsSketch()) return null;
+		return new HyperLogLog(tableStats.get(table).getObjectsSketch());
+	}
+	
+	/**
+	 * estimateDistinctSubjectsUnion returns the approximate number of distinct
+	 * subjects of all the tables together, -1 if some sketch is missing
+	 */
+	public long estimateDistinctSubjectsUnion(String... tables){
+		HyperLogLog union = null;
+		for(String table : tables){
+			HyperLogLog sketch = getSubjectsSketch(table);
+			if(sketch == null) return -1;
+			union = union == null ? sketch : union.union(sketch);
+		}
+		return union == null ? 0 : union.estimate();
+	}
+	
+	/**
+	 * estimateSharedSubjects returns the approximate number of subjects in common
+	 * between two tables, -1 if a sketch is missing
+	 */
+	public long estimateSharedSubjects(String table, String otherTable){
+		HyperLogLog sketch = getSubjectsSketch(table);
+		HyperLogLog otherSketch = getSubjectsSketch(otherTable);
+		if(sketch == null || otherSketch == null) return -1;
+		return sketch.estimateIntersection(otherSketch);
+	}
+	
+	/**
+	 * estimateObjectsSharedWithSubjects returns the approximate number of objects of a table
+	 * that are subjects of the other one, -1 if a sketch is missing
+	 */
+	public long estimateObjectsSharedWithSubjects(String table, String otherTable){
+		HyperLogLog sketch = getObjectsSketch(table);
+		HyperLogLog otherSketch = getSubjectsSketch(otherTable);
+		if(sketch == null || otherSketch == null) return -1;
+		return sketch.estimateIntersection(otherSketch);
+	}
+	
+	/**
+	 * estimateStarSize returns the expected number of results of a subject star
+	 * with the given properties (repeated if used by more triples), or -1 without
+	 * the characteristic sets. Only the subjects whose characteristic set contains
+	 * all the properties contribute, each with the average number of triples
+	 * of every property in its set.
+	 */
+	public float estimateStarSize(List<String> properties){
+		if(characteristicSets.isEmpty()) return -1;
+		float estimate = 0;
+		for(CharacteristicSet characteristicSet : characteristicSets){
+			float setEstimate = characteristicSet.getDistinctSubjects();
+			for(String property : properties){
+				int position = characteristicSet.getPropertiesList().indexOf(property);
+				if(position < 0){
+					setEstimate = 0;
+					break;
+				}
+				setEstimate *= (float) characteristicSet.getOccurrences(position) / characteristicSet.getDistinctSubjects();
+			}
+			estimate += setEstimate;
+		}
+		return estimate;
+	}
+	
+	/**
+	 * estimateStarSubjects returns the expected number of subjects having all
+	 * the properties, or -1 without the characteristic sets
+	 */
+	public long estimateStarSubjects(List<String> properties){
+		if(characteristicSets.isEmpty()) return -1;
+		long subjects = 0;
+		for(CharacteristicSet characteristicSet : characteristicSets)
+			if(characteristicSet.getPropertiesList().containsAll(properties))
+				subjects += characteristicSet.getDistinctSubjects();
+		return subjects;
+	}
+	
+	/*
+	 * the frequency of a heavy hitter is known, the other terms
+	 * share uniformly the remaining triples
+	 */
+	private static float estimateBoundSize(List<TermFrequency> topTerms, String term, long size, long distinctTerms){
+		long topSize = 0;
+		for(TermFrequency topTerm : topTerms){
+			if(topTerm.getTerm().equals(term))
+				return topTerm.getCount();
+			topSize += topTerm.getCount();
+		}
+		long otherTerms = distinctTerms - topTerms.size();
+		if(otherTerms <= 0) return 0;
+		return (float) (size - topSize) / otherTerms;
+	}
+	
 
 }